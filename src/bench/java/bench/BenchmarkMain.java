@@ -0,0 +1,22 @@
+package bench;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Runs the benchmarks whose names match the first argument (every benchmark if there isn't one)
+ *   with JMH's GC profiler, so every result reports allocations per operation
+ *   ('gc.alloc.rate.norm') next to its time.
+ */
+public class BenchmarkMain {
+  public static void main(String[] args) throws RunnerException {
+    Options options = new OptionsBuilder()
+            .include(args.length > 0 ? args[0] : ".*")
+            .addProfiler(GCProfiler.class)
+            .build();
+    new Runner(options).run();
+  }
+}
@@ -0,0 +1,73 @@
+package bench;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import game.deck.card.Card;
+import game.deck.card.SCard;
+import utility.Utility;
+
+/**
+ * Reproducible random table states for benchmarks: a 5 card hand (before discarding), the same
+ *   hand without its last card (before choosing), a well, and a pond, all dealt from one shuffled
+ *   standard deck. Hands are never blues, since a blues hand ends the round before its player
+ *   discards. Benchmarks cycle through arrays of deals so results aren't specific to one hand.
+ */
+class Deals {
+  static final long SEED = 0x5EEDL;
+
+  final List<Card> hand5;
+  final List<Card> hand4;
+  final ArrayList<Card> well;
+  final ArrayList<Card> pond;
+
+  private Deals(List<Card> cards) {
+    this.hand5 = List.copyOf(cards.subList(0, 5));
+    this.hand4 = List.copyOf(cards.subList(0, 4));
+    this.well = new ArrayList<>(cards.subList(5, 9));
+    this.pond = new ArrayList<>(cards.subList(9, 13));
+  }
+
+  /**
+   * Returns 'n' random deals.
+   * @param n the amount of deals (a power of two, so benchmarks can cycle with a mask)
+   * @param seed the seed of the shuffles
+   * @return the deals
+   */
+  static Deals[] random(int n, long seed) {
+    SplittableRandom random = new SplittableRandom(seed);
+    Deals[] deals = new Deals[n];
+    for (int i = 0; i < n; ) {
+      Deals d = new Deals(shuffled(random));
+      if (!Utility.isBlues(d.hand5)) deals[i++] = d;
+    }
+    return deals;
+  }
+
+  /**
+   * Returns 'n' random deals whose 4 card hand is 'No Blues' with their pond and well.
+   * @param n the amount of deals (a power of two, so benchmarks can cycle with a mask)
+   * @param seed the seed of the shuffles
+   * @return the deals
+   */
+  static Deals[] noBlues(int n, long seed) {
+    SplittableRandom random = new SplittableRandom(seed);
+    Deals[] deals = new Deals[n];
+    for (int i = 0; i < n; ) {
+      Deals d = new Deals(shuffled(random));
+      if (!Utility.isBlues(d.hand5) && Utility.isNoBlues(d.pond, d.well, d.hand4)) deals[i++] = d;
+    }
+    return deals;
+  }
+
+  private static List<Card> shuffled(SplittableRandom random) {
+    List<Card> cards = new ArrayList<>();
+    for (SCard c : SCard.values()) cards.add(Card.of(c));
+    for (int i = cards.size() - 1; i > 0; i--) {
+      int j = random.nextInt(i + 1);
+      cards.set(i, cards.set(j, cards.get(i)));
+    }
+    return cards;
+  }
+}
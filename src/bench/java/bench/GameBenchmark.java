@@ -0,0 +1,61 @@
+package bench;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import game.IGame;
+import game.StandardGame;
+import game.deck.DeckType;
+import game.deck.TypeDeck;
+import player.AIPlayer;
+import player.IPlayer;
+import simulation.Simulation;
+import simulation.StrategyConfig;
+
+/**
+ * Benchmark of a full headless StandardGame, from the first 'startRound()' to 'gameOver()'. The
+ *   game, deck, and players are reused between games, as in a Simulation.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class GameBenchmark {
+  @Param({"minE,minE,minE,minE", "minW,maxW,minWP,minWPM100", "ranW,ranWP,ranWPM10,ranE"})
+  public String seats;
+
+  private IGame game;
+
+  @Setup
+  public void setup() {
+    SplittableRandom random = new SplittableRandom(Deals.SEED);
+    List<IPlayer> players = new ArrayList<>();
+    for (String code : seats.split(",")) {
+      players.add(new AIPlayer(code, StrategyConfig.parse(code).create(random.split())));
+    }
+    game = new StandardGame(players, new TypeDeck(DeckType.STANDARD, random.split()));
+  }
+
+  @Benchmark
+  public IPlayer fullGame() {
+    game.resetNewGame();
+    while (!game.gameOver()) Simulation.playRound(game);
+    return game.getGameWinner();
+  }
+}
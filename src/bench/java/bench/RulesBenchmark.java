@@ -0,0 +1,76 @@
+package bench;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import game.deck.card.Card;
+import player.IPlayer;
+import player.TstPlayer;
+import player.strategy.WinningHand;
+import utility.Utility;
+
+/**
+ * Benchmarks of the rule checks and sorts the game and strategies call on every turn.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RulesBenchmark {
+  private Deals[] deals;
+  private Deals[] noBlues;
+  private ArrayList<IPlayer> players;
+  private int i;
+
+  @Setup
+  public void setup() {
+    deals = Deals.random(1024, Deals.SEED);
+    noBlues = Deals.noBlues(256, Deals.SEED);
+    players = new ArrayList<>();
+    for (int p = 1; p <= 4; p++) players.add(new TstPlayer("Player " + p));
+  }
+
+  @Benchmark
+  public boolean isBlues() {
+    return Utility.isBlues(next().hand5);
+  }
+
+  @Benchmark
+  public Card noBlues5thCard() {
+    Deals d = noBlues[i++ & (noBlues.length - 1)];
+    return Utility.noBlues5thCard(d.pond, d.well, d.hand4);
+  }
+
+  @Benchmark
+  public List<Card> sortHandByRank() {
+    return Utility.sortHandByRank(next().hand5);
+  }
+
+  @Benchmark
+  public List<IPlayer> playerChoiceOrder() {
+    return Utility.playerChoiceOrder(next().pond, players);
+  }
+
+  @Benchmark
+  public List<WinningHand> closestTo() {
+    return WinningHand.closestTo(next().hand5);
+  }
+
+  private Deals next() {
+    return deals[i++ & (deals.length - 1)];
+  }
+}
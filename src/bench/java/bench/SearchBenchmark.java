@@ -0,0 +1,131 @@
+package bench;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import game.StandardGame;
+import game.deck.DeckType;
+import game.deck.TypeDeck;
+import game.deck.card.Card;
+import player.AIPlayer;
+import player.IPlayer;
+import player.strategy.Approach;
+import player.strategy.DecisionCache;
+import player.strategy.EndgameSolver;
+import player.strategy.TranspositionTable;
+import player.strategy.strategies.IStrategy;
+import player.strategy.strategies.StrategyCached;
+import player.strategy.strategies.StrategyEmpty;
+import player.strategy.strategies.StrategyEndgame;
+import player.strategy.strategies.StrategyISMCTS;
+import player.strategy.strategies.StrategyMonteCarlo;
+import player.strategy.strategies.StrategyWin;
+
+/**
+ * Benchmarks of one discard by the strategies that look at the whole game, which can't be given
+ *   random hands like 'StrategyBenchmark's: each is seated in a seeded game against StrategyEmpty
+ *   bots, and the game is played up to a discard of theirs that's then made over and over.
+ *   Searches run on one thread so results are the cost of a decision, not of the machine's cores.
+ * - monteCarlo: StrategyMonteCarlo with ROLLOUTS samples, at the first discard of a round.
+ * - ismcts: StrategyISMCTS with ITERATIONS iterations, at the first discard of a round. Its table
+ *   is cleared before every decision, so each one searches from scratch.
+ * - endgame: StrategyEndgame with a default EndgameSolver, at the first discard it solves.
+ * - cached: StrategyCached around StrategyWin(MIN_POINTS), at the first discard of a round. Every
+ *   decision after the first is a cache hit; a miss costs a 'minW' decision in 'StrategyBenchmark'
+ *   and a put.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SearchBenchmark {
+  public static final int ROLLOUTS = 64;
+  public static final int ITERATIONS = 256;
+
+  @Param({"monteCarlo", "ismcts", "endgame", "cached"})
+  public String strategy;
+
+  private IStrategy s;
+  private TranspositionTable table; // null unless benchmarking 'ismcts'
+  private List<Card> hand;
+  private List<Card> well;
+
+  @Setup
+  public void setup() {
+    SplittableRandom random = new SplittableRandom(Deals.SEED);
+    s = create(random.split());
+    List<IPlayer> players = new ArrayList<>();
+    players.add(new AIPlayer(strategy, s));
+    for (int i = 0; i < 3; i++) {
+      players.add(new AIPlayer("ranE", new StrategyEmpty(Approach.RANDOM, random.split())));
+    }
+    StandardGame game = new StandardGame(players, new TypeDeck(DeckType.STANDARD, random.split()));
+    if (s instanceof StrategyEndgame endgame) {
+      toEndgame(game, endgame.getSolver());
+    } else {
+      game.startRound();
+      game.flipWell();
+    }
+    hand = players.getFirst().getHand();
+    well = game.getWell();
+  }
+
+  @Benchmark
+  public Card recommendedDiscard() {
+    if (table != null) table.clear();
+    return s.recommendedDiscard(hand, well);
+  }
+
+  private IStrategy create(SplittableRandom random) {
+    return switch (strategy) {
+      case "monteCarlo" -> new StrategyMonteCarlo(ROLLOUTS, 0, ForkJoinPool.commonPool(), 1,
+              r -> new StrategyWin(Approach.MIN_POINTS, r), random);
+      case "ismcts" -> {
+        table = new TranspositionTable(1 << 14);
+        yield new StrategyISMCTS(ITERATIONS, 0, ForkJoinPool.commonPool(), 1, table,
+                r -> new StrategyWin(Approach.MIN_POINTS, r), random);
+      }
+      case "endgame" -> new StrategyEndgame(new StrategyEmpty(Approach.RANDOM, random.split()),
+              new EndgameSolver(EndgameSolver.DEFAULT_THRESHOLD, EndgameSolver.DEFAULT_SAMPLES,
+                      random));
+      case "cached" -> new StrategyCached(new StrategyWin(Approach.MIN_POINTS),
+              new DecisionCache(1 << 10));
+      default -> throw new IllegalArgumentException("Unknown strategy: " + strategy);
+    };
+  }
+
+  /**
+   * Plays 'game' until its players are about to discard and 'solver' applies.
+   */
+  private static void toEndgame(StandardGame game, EndgameSolver solver) {
+    while (true) {
+      if (game.gameOver()) game.resetNewGame();
+      game.startRound();
+      while (!game.roundOver()) {
+        game.flipWell();
+        if (solver.applies(game)) return;
+        game.collectPond();
+        if (game.collectNBCs().isPresent()) break;
+        game.flipPond();
+        game.allowChoices();
+      }
+    }
+  }
+}
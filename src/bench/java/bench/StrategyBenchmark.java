@@ -0,0 +1,65 @@
+package bench;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import game.deck.card.Card;
+import player.strategy.strategies.IStrategy;
+import simulation.StrategyConfig;
+
+/**
+ * Benchmarks of every configurable IStrategy's discard and choice on random hands. Strategies are
+ *   reset before every decision, so each one is made from scratch as on a strategy's first turn of
+ *   a round. Strategies that look at the whole game (searches, the endgame solver) or wrap another
+ *   strategy (the decision cache) are benchmarked in a game by 'SearchBenchmark'.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class StrategyBenchmark {
+  @Param({"minE", "ranE", "minW", "maxW", "ranW", "minWP", "maxWP", "minWPM100", "ranWPM10"})
+  public String strategy;
+
+  private IStrategy s;
+  private Deals[] deals;
+  private int i;
+
+  @Setup
+  public void setup() {
+    s = StrategyConfig.parse(strategy).create(new SplittableRandom(Deals.SEED));
+    deals = Deals.random(1024, Deals.SEED);
+  }
+
+  @Benchmark
+  public Card recommendedDiscard() {
+    Deals d = next();
+    s.resetNewRound();
+    return s.recommendedDiscard(d.hand5, d.well);
+  }
+
+  @Benchmark
+  public Card recommendedChoose() {
+    Deals d = next();
+    s.resetNewRound();
+    return s.recommendedChoose(d.hand4, d.well, d.pond);
+  }
+
+  private Deals next() {
+    return deals[i++ & (deals.length - 1)];
+  }
+}
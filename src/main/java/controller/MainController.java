@@ -42,7 +42,9 @@ public class MainController implements IController {
   private void start() {
     this.display = new TextDisplay();
     List<IPlayer> players = createPlayers(display.askDifficulty());
-    this.game = new StandardGame(players, new TypeDeck(DeckType.STANDARD));
+    StandardGame game = new StandardGame(players, new TypeDeck(DeckType.STANDARD));
+    game.setConcurrentDecisions(true);
+    this.game = game;
     display.setGame(game, players);
     display.renderWelcome();
   }
@@ -5,6 +5,7 @@ import java.util.List;
 import java.util.Objects;
 
 import display.IDisplay;
+import display.RenderQueue;
 import display.TerminalDisplay;
 import game.IGame;
 import game.StandardGame;
@@ -158,7 +159,7 @@ public class TstController {
     }
 
     IGame g = new StandardGame(players, new TypeDeck(DeckType.STANDARD));
-    IDisplay d = new TerminalDisplay(g, players);
+    IDisplay d = new TerminalDisplay(g, players, new RenderQueue(System.out));
     TstController c = new TstController(g, d);
     System.setIn(System.in);
 
@@ -0,0 +1,189 @@
+package display;
+
+import java.io.PrintStream;
+import java.util.ArrayDeque;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * A bounded queue of text that a dedicated daemon thread prints in order, so a game thread that
+ *   renders never waits on the terminal. Text is built by the caller (the game state may change as
+ *   soon as the caller returns), only the printing happens on the render thread. A redraw that
+ *   hasn't been printed yet is replaced by the next redraw if nothing was queued between them, so a
+ *   table that's redrawn several times in a row is only printed once. When the queue is full, the
+ *   caller waits for the render thread to catch up.
+ */
+public class RenderQueue implements AutoCloseable {
+  public static final int DEFAULT_CAPACITY = 64;
+
+  private final PrintStream out;
+  private final int capacity;
+  private final ArrayDeque<String> pending;
+  private final ReentrantLock lock;
+  private final Condition notEmpty;
+  private final Condition notFull;
+  private final Condition drained;
+  private final Thread thread;
+
+  private boolean tailIsRedraw;
+  private boolean printing;
+  private boolean closed;
+  private long coalesced;
+
+  /**
+   * Creates a RenderQueue that prints to 'out' and holds up to DEFAULT_CAPACITY texts.
+   * @param out where text is printed
+   */
+  public RenderQueue(PrintStream out) {
+    this(out, DEFAULT_CAPACITY);
+  }
+
+  /**
+   * Creates a RenderQueue that prints to 'out' and holds up to 'capacity' texts, and starts its
+   *   render thread.
+   * @param out where text is printed
+   * @param capacity the most texts waiting to be printed before callers wait
+   * @throws IllegalArgumentException if capacity is less than 1
+   */
+  public RenderQueue(PrintStream out, int capacity) {
+    if (capacity < 1) throw new IllegalArgumentException("Capacity must be at least 1");
+    this.out = out;
+    this.capacity = capacity;
+    this.pending = new ArrayDeque<>(capacity);
+    this.lock = new ReentrantLock();
+    this.notEmpty = lock.newCondition();
+    this.notFull = lock.newCondition();
+    this.drained = lock.newCondition();
+    this.thread = Thread.ofPlatform().daemon().name("render").start(this::render);
+  }
+
+  //************************************************************************************* SUBMITTING
+  /**
+   * Queues 'text' to be printed on its own line after everything queued before it.
+   * @param text the text
+   * @throws IllegalStateException if this RenderQueue is closed or the caller is interrupted
+   */
+  public void print(String text) {
+    submit(text, false);
+  }
+
+  /**
+   * Queues 'text', a redraw of something that was drawn before (e.g. the table). Replaces the last
+   *   queued text instead if it's a redraw that hasn't been printed yet.
+   * @param text the redrawn text
+   * @throws IllegalStateException if this RenderQueue is closed or the caller is interrupted
+   */
+  public void redraw(String text) {
+    submit(text, true);
+  }
+
+  /**
+   * Waits until everything queued so far has been printed, e.g. before reading input that answers
+   *   a queued prompt.
+   * @throws IllegalStateException if the caller is interrupted
+   */
+  public void flush() {
+    lock.lock();
+    try {
+      while (!pending.isEmpty() || printing) drained.await();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Interrupted while waiting for render queue", e);
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * Prints everything queued so far, then stops the render thread. Text can't be queued after
+   *   this RenderQueue is closed.
+   */
+  @Override
+  public void close() {
+    lock.lock();
+    try {
+      closed = true;
+      notEmpty.signal();
+      notFull.signalAll();
+    } finally {
+      lock.unlock();
+    }
+    try {
+      thread.join();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  /**
+   * Returns the number of redraws that replaced an unprinted redraw instead of being queued.
+   * @return the number of coalesced redraws
+   */
+  public long getCoalesced() {
+    lock.lock();
+    try {
+      return coalesced;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  //**************************************************************************************** HELPERS
+  private void submit(String text, boolean redraw) {
+    lock.lock();
+    try {
+      if (closed) throw new IllegalStateException("Render queue is closed");
+      if (redraw && tailIsRedraw) {
+        pending.pollLast();
+        coalesced++;
+      } else {
+        while (pending.size() == capacity && !closed) notFull.await();
+        if (closed) throw new IllegalStateException("Render queue is closed");
+      }
+      pending.addLast(text);
+      tailIsRedraw = redraw;
+      notEmpty.signal();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Interrupted while waiting for render queue", e);
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * The render thread's loop: takes the oldest text, prints it without holding the lock, and
+   *   signals waiting callers, until this RenderQueue is closed and empty.
+   */
+  private void render() {
+    while (true) {
+      String text;
+      lock.lock();
+      try {
+        while (pending.isEmpty() && !closed) notEmpty.awaitUninterruptibly();
+        if (pending.isEmpty()) return;
+        text = pending.pollFirst();
+        if (pending.isEmpty()) tailIsRedraw = false;
+        printing = true;
+        notFull.signal();
+      } finally {
+        lock.unlock();
+      }
+
+      try {
+        out.println(text);
+      } finally {
+        lock.lock();
+        try {
+          printing = false;
+          if (pending.isEmpty()) {
+            out.flush();
+            drained.signalAll();
+          }
+        } finally {
+          lock.unlock();
+        }
+      }
+    }
+  }
+}
@@ -1,9 +1,11 @@
 package display;
 
 import java.util.ArrayList;
+import java.util.EnumSet;
 import java.util.List;
 import java.util.Optional;
 import java.util.Scanner;
+import java.util.Set;
 
 import game.IGame;
 import game.deck.card.Card;
@@ -11,6 +13,7 @@ import game.deck.card.properties.Position;
 import game.observer.Observer;
 import game.rends.REndState;
 import game.observer.EventType;
+import game.observer.GameEvent;
 import player.IPlayer;
 import utility.Utility;
 
@@ -24,6 +27,7 @@ public class TerminalDisplay implements IDisplay, Observer {
   private ArrayList<IPlayer> allPlayers;
   private IGame game;
   private Scanner scanner;
+  private final RenderQueue renderer;
 
   /**
    * Creates an empty String display for a game of Blues. Fields must be set using 'setGame' before
@@ -31,6 +35,7 @@ public class TerminalDisplay implements IDisplay, Observer {
    */
   public TerminalDisplay() {
     this.scanner = new Scanner(System.in);
+    this.renderer = null;
   }
 
   /**
@@ -40,7 +45,20 @@ public class TerminalDisplay implements IDisplay, Observer {
    * @param players the players
    */
   public TerminalDisplay(IGame game, List<IPlayer> players) {
+    this(game, players, null);
+  }
+
+  /**
+   * Creates a new String display for a game of Blues that prints through 'renderer', so the game
+   *   thread doesn't wait on the terminal. Input is only read once everything queued before it has
+   *   been printed. If 'renderer' is null, prints directly to System.out.
+   * @param game the game to display
+   * @param players the players
+   * @param renderer the queue this display prints through
+   */
+  public TerminalDisplay(IGame game, List<IPlayer> players, RenderQueue renderer) {
     this.scanner = new Scanner(System.in);
+    this.renderer = renderer;
     setGame(game, players);
   }
 
@@ -69,7 +87,7 @@ public class TerminalDisplay implements IDisplay, Observer {
             2. NORMAL
             3. HARD
             """;
-    System.out.println(ogMessage);
+    print(ogMessage);
     char answer = getValidInput(charIdx, ogMessage, "Your entry must be one of the "
             + "corresponding numbers listed: ");
 
@@ -82,7 +100,7 @@ public class TerminalDisplay implements IDisplay, Observer {
     List<Character> charIdx = List.of('A', 'B', 'C', 'D', 'E');
     String ogMessage = "Choose a card to discard from your hand by entering its corresponding "
             + "letter\n" + cardChoiceString(player.getHand(), charIdx);
-    System.out.println(ogMessage);
+    print(ogMessage);
 
     char answer = getValidInput(charIdx, ogMessage,
             "Your entry must be one of the corresponding letters listed: ");
@@ -109,7 +127,7 @@ public class TerminalDisplay implements IDisplay, Observer {
     }
 
     String ogMessage = sb.toString();
-    System.out.println(ogMessage);
+    print(ogMessage);
     char answer = getValidInput(full.subList(0, pSize + game.getWell().size()), ogMessage,
             "Your entry must be one of the corresponding letters listed:");
 
@@ -130,7 +148,7 @@ public class TerminalDisplay implements IDisplay, Observer {
     }
     String ogMessage = "Would you like to call 'No Blues' on an opponent?\nEnter 'N' to pass or "
             + "enter the intended receiver's corresponding letter" + sb;
-    System.out.println(ogMessage);
+    print(ogMessage);
     char answer = getValidInput(validAnswers, ogMessage,
             "Your entry must be one of the corresponding letters listed:");
 
@@ -145,7 +163,7 @@ public class TerminalDisplay implements IDisplay, Observer {
   public boolean askPlayAgain() {
     throwIfNullFields();
     String ogMessage = "Would you like to play another game?\nEnter 'Y' to accept, or 'N' to quit";
-    System.out.println(ogMessage);
+    print(ogMessage);
 
     char answer = getValidInput(List.of('Y', 'N'), ogMessage, "Invalid input - enter "
             + "Y if you would like to play another game, N otherwise:");
@@ -170,13 +188,13 @@ public class TerminalDisplay implements IDisplay, Observer {
     }
     sb.append("\nTo see the command menu, enter 'help'\n");
 
-    System.out.println(sb);
+    print(sb);
   }
 
   @Override
   public void renderTable() {
     throwIfNullFields();
-    System.out.println(this);
+    redraw(toString());
   }
 
   @Override
@@ -198,7 +216,7 @@ public class TerminalDisplay implements IDisplay, Observer {
 
     sb.append("\n\n");
     sb.append(game);
-    System.out.println(sb);
+    print(sb);
   }
 
   @Override
@@ -214,37 +232,44 @@ public class TerminalDisplay implements IDisplay, Observer {
     sb.append(dName(winner, true)).append(" won the game with ").append(winner.getPoints())
             .append(" points.");
 
-    System.out.println(sb);
+    print(sb);
+    if (renderer != null) renderer.flush(); // the program may exit before anything else is read
   }
 
   //*************************************************************************************** OBSERVER
   @Override
-  public void update(EventType event, List<Object> data) {
+  public void update(GameEvent event) {
     throwIfNullFields();
     switch (event) {
-      case PLAYER_CHOICE -> {
-        System.out.println("\033[33m" + ((IPlayer) data.getFirst()).name() + " chose " +
-                ((Card) data.get(1)).ansiTS() + "\033[33m from the " + data.get(2) + "\033[0m");
-        if (data.size() > 5 && data.get(5).equals(player)) renderTable();
+      case GameEvent.PlayerChoice e -> {
+        print("\033[33m" + e.player().name() + " chose " + e.card().ansiTS()
+                + "\033[33m from the " + e.location() + "\033[0m");
+        if (e.next().isPresent() && e.next().get().equals(player)) renderTable();
       }
-      case PLAYER_DISCARD -> System.out.println("\033[33m" + ((IPlayer) data.getFirst()).name()
-              + " threw the " + ((Card) data.get(1)).ansiTS() + "\033[33m into the pond\033[0m");
-      case CARDS_CLEARED -> {
+      case GameEvent.PlayerDiscard e -> print("\033[33m" + e.player().name()
+              + " threw the " + e.card().ansiTS() + "\033[33m into the pond\033[0m");
+      case GameEvent.CardsCleared e -> {
         StringBuilder sb = new StringBuilder();
-        if (data.isEmpty()) break;
-        for (Object o : data) {
-          Card c = (Card) o;
+        if (e.cards().isEmpty()) break;
+        for (Card c : e.cards()) {
           sb.append(c.ansiTS()).append(" ");
         }
         String verb = "\033[33mwere";
-        if (data.size() == 1) verb = "\033[33mwas";
-        System.out.println(sb + verb + " thrown into the sea\033[0m");
+        if (e.cards().size() == 1) verb = "\033[33mwas";
+        print(sb + verb + " thrown into the sea\033[0m");
       }
-      case ROUND_OVER -> renderRoundOver();
-      case GAME_OVER -> renderGameOver();
+      case GameEvent.RoundOver e -> renderRoundOver();
+      case GameEvent.GameOver e -> renderGameOver();
+      default -> { }
     }
   }
 
+  @Override
+  public Set<EventType> subscriptions() {
+    return EnumSet.of(EventType.PLAYER_CHOICE, EventType.PLAYER_DISCARD, EventType.CARDS_CLEARED,
+            EventType.ROUND_OVER, EventType.GAME_OVER);
+  }
+
   //*********************************************************************************** REND HELPERS
   /**
    * Formulates a String to display to player if the round ends with a 'Blues' call - changes based
@@ -381,10 +406,10 @@ public class TerminalDisplay implements IDisplay, Observer {
    */
   private char getValidInput(List<Character> validAns, String ogMessage, String invalidMessage) {
     // resetScanner();
-    String nl = scanner.nextLine().trim();
+    String nl = readLine().trim();
     while (handleCommand(nl)) {
-      System.out.println(ogMessage);
-      nl = scanner.nextLine().trim();
+      print(ogMessage);
+      nl = readLine().trim();
     }
     // placeholder in case nl is empty - no callers will pass a 'validAnswers' list containing 'Q'
     char answer = 'Q';
@@ -392,10 +417,10 @@ public class TerminalDisplay implements IDisplay, Observer {
 
     while (!(validAns.contains(answer) && nl.length() == 1)) {
       boolean nlHandled = handleCommand(nl);
-      if (!nlHandled) System.out.println(invalidMessage);
-      else System.out.println(ogMessage);
+      if (!nlHandled) print(invalidMessage);
+      else print(ogMessage);
 
-      nl = scanner.nextLine().trim();
+      nl = readLine().trim();
       answer = 'Q';
       if (!nl.isEmpty()) answer = Character.toUpperCase(nl.toCharArray()[0]);
     }
@@ -428,7 +453,7 @@ public class TerminalDisplay implements IDisplay, Observer {
     }
 
     switch (c) {
-      case "help", "commands", "command" -> System.out.println("""
+      case "help", "commands", "command" -> print("""
               
               VALID COMMANDS:
               'help' -> display valid commands
@@ -436,17 +461,17 @@ public class TerminalDisplay implements IDisplay, Observer {
               'scores' -> display current scores
               'name' -> change your display name
               """);
-      case "rule", "rules" -> System.out.println("\n" + Utility.gameRulesAnsi);
+      case "rule", "rules" -> print("\n" + Utility.gameRulesAnsi);
       case "scores", "score", "scoresheet", "score sheet" -> {
         if (game.getScoreSheet().getCurrentRound() == 1)
-          System.out.println("\nNo scores to display yet!\n");
-        else System.out.println("\nCURRENT SCORES:\n" + game.getScoreSheet().toString() + "\n");
+          print("\nNo scores to display yet!\n");
+        else print("\nCURRENT SCORES:\n" + game.getScoreSheet().toString() + "\n");
       }
       case "change name", "name", "change", "edit name", "edit" -> {
-        System.out.println("\nEnter new display name:");
-        String newName = scanner.nextLine();
+        print("\nEnter new display name:");
+        String newName = readLine();
         player.editName(newName);
-        System.out.println("Display name is now '" + player.name() + "'\n");
+        print("Display name is now '" + player.name() + "'\n");
       }
       default -> throw new IllegalStateException("handleCommand didn't return false even though "
               + "entry isn't in list of valid commands");
@@ -455,6 +480,35 @@ public class TerminalDisplay implements IDisplay, Observer {
     return true;
   }
 
+  /**
+   * Prints 'text' on its own line, through the RenderQueue if this display has one.
+   * @param text the text to print
+   */
+  private void print(Object text) {
+    if (renderer == null) System.out.println(text);
+    else renderer.print(String.valueOf(text));
+  }
+
+  /**
+   * Prints 'text', a redraw of the table, through the RenderQueue if this display has one - an
+   *   unprinted redraw is replaced rather than printed twice.
+   * @param text the redrawn table
+   */
+  private void redraw(String text) {
+    if (renderer == null) System.out.println(text);
+    else renderer.redraw(text);
+  }
+
+  /**
+   * Waits until everything this display queued has been printed, then blocks until player enters
+   *   a line.
+   * @return the line player entered
+   */
+  private String readLine() {
+    if (renderer != null) renderer.flush();
+    return scanner.nextLine();
+  }
+
   /**
    * SOLELY FOR TESTING PURPOSES - resets the scanner so test methods can redirect system input.
    *   * If this method isn't commented out from 'getValidInput' after tests are finished, the
@@ -514,7 +568,7 @@ public class TerminalDisplay implements IDisplay, Observer {
       IPlayer p = allPlayers.get(i);
       if (p.getPondCard().isPresent()) {
         Card c = p.getPondCard().get();
-        if (c.getPosition().equals(Position.POND_F)) {
+        if (game.getPosition(c) == Position.POND_F) {
           if (i != 1) {
             pondStrings[i] = c.ansiTS() + " ";
           } else pondStrings[i] = " " + c.ansiTS();
@@ -4,8 +4,13 @@ import java.awt.*;
 import java.awt.event.ActionEvent;
 import java.awt.event.ActionListener;
 import java.util.ArrayList;
+import java.util.EnumSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.atomic.AtomicReference;
 
 import javax.swing.*;
 
@@ -15,6 +20,7 @@ import game.deck.card.properties.Position;
 import game.observer.Observer;
 import game.rends.REndState;
 import game.observer.EventType;
+import game.observer.GameEvent;
 import player.IPlayer;
 import utility.Utility;
 
@@ -34,15 +40,14 @@ public class TextDisplay implements IDisplay, Observer {
   private JLabel directionText;
   private JTextField inputField;
 
-  private String userInput;
+  private final BlockingQueue<String> inputs = new LinkedBlockingQueue<>();
+  private final AtomicReference<String> pendingTable = new AtomicReference<>();
 
   /**
    * Creates an empty String display for a game of Blues. Fields must be set using 'setGame' before
    *   a game can be played.
    */
   public TextDisplay() {
-    userInput = "";
-
     frame = new JFrame("BLUES");
     frame.setLayout(new BorderLayout());
     gameText = new JLabel();
@@ -63,7 +68,7 @@ public class TextDisplay implements IDisplay, Observer {
     inputField.addActionListener(new ActionListener() {
       @Override
       public void actionPerformed(ActionEvent e) {
-        userInput = inputField.getText();
+        inputs.offer(inputField.getText());
         inputField.setText("");
       }
     });
@@ -119,7 +124,7 @@ public class TextDisplay implements IDisplay, Observer {
       opponents.add(players.get(i));
     }
 
-    scoreText.setText(game.getScoreSheet().htmlToString());
+    setLabel(scoreText, game.getScoreSheet().htmlToString());
   }
 
   //************************************************************************************* USER INPUT
@@ -133,7 +138,7 @@ public class TextDisplay implements IDisplay, Observer {
             2. NORMAL<br>
             3. HARD<br>
             """;
-    directionText.setText(ogMessage);
+    setLabel(directionText, ogMessage);
     char answer = getValidInput(charIdx);
 
     return Character.getNumericValue(answer);
@@ -145,11 +150,11 @@ public class TextDisplay implements IDisplay, Observer {
     List<Character> charIdx = List.of('A', 'B', 'C', 'D', 'E');
     String ogMessage = "<html>Choose a card to discard from your hand by entering its<br>corresponding "
             + "letter<br><br>" + cardChoiceString(player.getHand(), charIdx);
-    directionText.setText(ogMessage);
+    setLabel(directionText, ogMessage);
 
     char answer = getValidInput(charIdx);
-    gameText.setText(this.toString());
-    scoreText.setText(game.getScoreSheet().htmlToString());
+    redrawTable();
+    setLabel(scoreText, game.getScoreSheet().htmlToString());
 
     return player.getHand().get(charIdx.indexOf(answer));
   }
@@ -175,13 +180,13 @@ public class TextDisplay implements IDisplay, Observer {
     sb.append("</html>");
 
     String ogMessage = sb.toString();
-    directionText.setText(ogMessage);
+    setLabel(directionText, ogMessage);
     char answer = getValidInput(full.subList(0, pSize + game.getWell().size()));
 
     if (pCharIdx.contains(answer)) {
       return game.getPond().get(pCharIdx.indexOf(answer));
     }
-    gameText.setText(this.toString());
+    redrawTable();
 
     return game.getWell().get(wCharIdx.indexOf(answer));
   }
@@ -197,13 +202,13 @@ public class TextDisplay implements IDisplay, Observer {
     }
     String ogMessage = "<html>Would you like to call 'No Blues' on an opponent?<br>Enter 'N' to pass or "
             + "enter the intended receiver's corresponding letter:<br>" + sb;
-    directionText.setText(ogMessage);
+    setLabel(directionText, ogMessage);
     char answer = getValidInput(validAnswers);
 
     if (answer == 'N') {
       return Optional.empty();
     }
-    gameText.setText(this.toString());
+    redrawTable();
 
     return Optional.of(opponents.get(charIdx.indexOf(answer)));
   }
@@ -213,10 +218,10 @@ public class TextDisplay implements IDisplay, Observer {
     throwIfNullFields();
     String ogMessage = "<html>Would you like to play another game?<br>Enter 'Y' to accept, or 'N' "
             + "to quit</html>";
-    directionText.setText(ogMessage);
+    setLabel(directionText, ogMessage);
 
     char answer = getValidInput(List.of('Y', 'N'));
-    gameText.setText(this.toString());
+    redrawTable();
 
     return answer == 'Y';
   }
@@ -229,12 +234,12 @@ public class TextDisplay implements IDisplay, Observer {
   @Override
   public void renderTable() {
     throwIfNullFields();
-    gameText.setText(this.toString());
+    redrawTable();
   }
 
   @Override
   public void renderRoundOver() {
-    scoreText.setText(game.getScoreSheet().htmlToString());
+    setLabel(scoreText, game.getScoreSheet().htmlToString());
 
     throwIfNullFields();
     if (game.getRendState().isEmpty()) {
@@ -251,7 +256,7 @@ public class TextDisplay implements IDisplay, Observer {
               + "All players gain the points in their current hand</html>"); break;
     }
 
-    JOptionPane.showMessageDialog(frame, sb.toString(), "ROUND OVER", JOptionPane.INFORMATION_MESSAGE);
+    showMessage(sb.toString(), "ROUND OVER");
   }
 
   @Override
@@ -267,19 +272,25 @@ public class TextDisplay implements IDisplay, Observer {
     sb.append(dName(winner, true)).append(" won the game with ").append(winner.getPoints())
             .append(" points.");
 
-    JOptionPane.showMessageDialog(frame, sb.toString(), "GAME OVER", JOptionPane.INFORMATION_MESSAGE);
+    showMessage(sb.toString(), "GAME OVER");
   }
 
   //*************************************************************************************** OBSERVER
   @Override
-  public void update(EventType event, List<Object> data) {
+  public void update(GameEvent event) {
     throwIfNullFields();
     switch (event) {
-      case ROUND_OVER -> renderRoundOver();
-      case GAME_OVER -> renderGameOver();
+      case GameEvent.RoundOver e -> renderRoundOver();
+      case GameEvent.GameOver e -> renderGameOver();
+      default -> { }
     }
   }
 
+  @Override
+  public Set<EventType> subscriptions() {
+    return EnumSet.of(EventType.ROUND_OVER, EventType.GAME_OVER);
+  }
+
   //*********************************************************************************** REND HELPERS
   /**
    * Formulates a String to display to player if the round ends with a 'Blues' call - changes based
@@ -407,34 +418,59 @@ public class TextDisplay implements IDisplay, Observer {
 
   //*************************************************************************** PLAYER INPUT HELPERS
   /**
-   * Returns input from player (expected input is a char). Repeats this loop until valid input is
-   *   given: gets input from player via scanner and passes it to 'handleCommand' - if
-   *   'handleCommand' returns true (meaning the input was a valid command), prints parameter
-   *   'ogMessage' and restarts the loop - if not, checks if parameter 'validAnswers' contains
-   *   their choice - if it does, breaks loop and returns choice, if not, prints parameter
-   *   'invalidMessage' and continues loop.
+   * Returns input from player (expected input is a char). Blocks until player enters a line in
+   *   'inputField' - the ActionListener hands each line over through 'inputs' - and repeats until
+   *   the line's first character is one of 'validAns'.
    * @param validAns valid answers a player could give
+   * @throws IllegalStateException if the game thread is interrupted while waiting
    */
   private char getValidInput(List<Character> validAns) {
-    char answer = 'Q';
-
-    while (answer == 'Q') {
-      if (!userInput.isEmpty()) {
-        answer = Character.toUpperCase(userInput.charAt(0));
-
-        if (validAns.contains(answer)) break;
-        else answer = 'Q';
-      }
-
+    while (true) {
+      String input;
       try {
-        Thread.sleep(100);
+        input = inputs.take();
       } catch (InterruptedException e) {
-        e.printStackTrace();
+        Thread.currentThread().interrupt();
+        throw new IllegalStateException("Interrupted while waiting for input", e);
       }
+      if (input.isEmpty()) continue;
+
+      char answer = Character.toUpperCase(input.charAt(0));
+      if (validAns.contains(answer)) return answer;
     }
-    userInput = "";
+  }
 
-    return answer;
+  //********************************************************************************** SWING HELPERS
+  /**
+   * Sets 'label's text on the event dispatch thread, the only thread Swing components may be
+   *   changed on, without waiting for it to repaint.
+   * @param label the label
+   * @param text the label's new text
+   */
+  private static void setLabel(JLabel label, String text) {
+    SwingUtilities.invokeLater(() -> label.setText(text));
+  }
+
+  /**
+   * Redraws the table on the event dispatch thread. The table's text is built now, since the game
+   *   may change as soon as this returns - if an earlier redraw hasn't run yet, it's given the new
+   *   text instead of a second redraw being queued.
+   */
+  private void redrawTable() {
+    if (pendingTable.getAndSet(this.toString()) == null) {
+      SwingUtilities.invokeLater(() -> gameText.setText(pendingTable.getAndSet(null)));
+    }
+  }
+
+  /**
+   * Shows a message dialog on the event dispatch thread. The dialog is modal, so player can't
+   *   enter input until they've closed it, but the game thread doesn't wait for them to.
+   * @param message the message
+   * @param title the dialog's title
+   */
+  private void showMessage(String message, String title) {
+    SwingUtilities.invokeLater(() -> JOptionPane.showMessageDialog(frame, message, title,
+            JOptionPane.INFORMATION_MESSAGE));
   }
 
   //****************************************************************************** TO STRING HELPERS
@@ -484,7 +520,7 @@ public class TextDisplay implements IDisplay, Observer {
       IPlayer p = allPlayers.get(i);
       if (p.getPondCard().isPresent()) {
         Card c = p.getPondCard().get();
-        if (c.getPosition().equals(Position.POND_F)) {
+        if (game.getPosition(c) == Position.POND_F) {
           if (i != 1) {
             pondStrings[i] = c.htmlTS() + " ";
           } else pondStrings[i] = " " + c.htmlTS();
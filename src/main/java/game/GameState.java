@@ -0,0 +1,377 @@
+package game;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.random.RandomGenerator;
+
+import game.deck.card.Card;
+import game.deck.card.CardSet;
+import game.deck.card.SCard;
+import game.deck.card.properties.Position;
+import utility.BluesTable;
+
+/**
+ * A compact, immutable copy of a round in progress: the deck's order, every hand, pond card, the
+ *   well and pond, every card's position, the scores, the turn, and who's choosing (if a player
+ *   is). Cards are stored as SCard ordinals and hands as CardSet masks (hands are always sorted by
+ *   rank, so the mask is enough to rebuild them), so a state takes a few hundred bytes. Seats are
+ *   indices into the game's players. Returned by 'IGame.snapshot()' and restored by
+ *   'IGame.fork(...)'.
+ */
+public final class GameState {
+  static final byte NONE = -1; // no pond card
+
+  private static final SCard[] SCARDS = SCard.values(); // 'values()' copies the array every call
+  private static final Position[] POSITIONS = Position.values();
+  private static final byte DECK = (byte) Position.DECK.ordinal();
+  private static final byte HAND = (byte) Position.HAND.ordinal();
+  private static final byte POND_H = (byte) Position.POND_H.ordinal();
+
+  private final byte[] deck; // cards left in the deck, top first
+  private final long[] hands; // each seat's hand
+  private final byte[] pondCards; // each seat's pond card, or NONE
+  private final byte[] well;
+  private final byte[] pond;
+  private final byte[] positions; // indexed by SCard ordinal, as in CardPositions
+  private final int[] points; // each seat's points
+  private final int gamePoints;
+  private final int round; // the score sheet's current round
+  private final int turn;
+  private final byte[] choiceOrder; // seats in order of this turn's choices, empty if not choosing
+  private final int chooser; // index in 'choiceOrder' of the seat choosing
+
+  GameState(byte[] deck, long[] hands, byte[] pondCards, byte[] well, byte[] pond,
+            byte[] positions, int[] points, int gamePoints, int round, int turn,
+            byte[] choiceOrder, int chooser) {
+    this.deck = deck;
+    this.hands = hands;
+    this.pondCards = pondCards;
+    this.well = well;
+    this.pond = pond;
+    this.positions = positions;
+    this.points = points;
+    this.gamePoints = gamePoints;
+    this.round = round;
+    this.turn = turn;
+    this.choiceOrder = choiceOrder;
+    this.chooser = chooser;
+  }
+
+  //********************************************************************************** DETERMINIZING
+  /**
+   * Returns a copy of this state with the cards 'seat' can't see dealt again at random. Hidden
+   *   cards are the cards in opponents' hands, opponents' face-down pond cards, and the deck - they
+   *   are shuffled among those places, so every hand keeps its size and the deck its length. No
+   *   hand is blues while a round is in progress, so the cards are shuffled again until no
+   *   opponent's hand is.
+   * @param seat the seat whose point of view is kept
+   * @param random the generator to shuffle with
+   * @return a state that 'seat' can't tell apart from this one
+   * @throws IllegalArgumentException if seat isn't a seat in this state
+   */
+  public GameState redeterminize(int seat, RandomGenerator random) {
+    return redeterminize(seat, 0L, random);
+  }
+
+  /**
+   * Returns a copy of this state with the cards 'seat' can't see dealt again at random, except the
+   *   cards in 'known' (e.g. cards a memory strategy saw an opponent choose), which stay where they
+   *   are. Hidden cards are the cards in opponents' hands, opponents' face-down pond cards, and the
+   *   deck - they are shuffled among those places, so every hand keeps its size and the deck its
+   *   length. No hand is blues while a round is in progress, so the cards are shuffled again until
+   *   no opponent's hand is.
+   * @param seat the seat whose point of view is kept
+   * @param known a mask of hidden cards whose places 'seat' knows anyway
+   * @param random the generator to shuffle with
+   * @return a state that 'seat' can't tell apart from this one
+   * @throws IllegalArgumentException if seat isn't a seat in this state
+   */
+  public GameState redeterminize(int seat, long known, RandomGenerator random) {
+    throwIfInvalidSeat(seat);
+    byte[] pool = new byte[SCARDS.length];
+    int size = 0;
+
+    long[] newHands = hands.clone();
+    for (int s = 0; s < hands.length; s++) {
+      if (s == seat) continue;
+      long hidden = hands[s] & ~known;
+      newHands[s] &= ~hidden;
+      for (; hidden != 0; hidden &= hidden - 1) {
+        pool[size++] = (byte) Long.numberOfTrailingZeros(hidden);
+      }
+    }
+    for (int s = 0; s < pondCards.length; s++) {
+      if (s != seat && isHiddenPondCard(s, known)) pool[size++] = pondCards[s];
+    }
+    for (byte c : deck) {
+      if ((known & (1L << c)) == 0) pool[size++] = c;
+    }
+
+    // deal the pool back out in the order it was collected
+    int next;
+    long[] dealt = new long[hands.length];
+    do {
+      shuffle(pool, size, random);
+      next = 0;
+      for (int s = 0; s < hands.length; s++) {
+        if (s == seat) continue;
+        dealt[s] = newHands[s];
+        for (int n = Long.bitCount(hands[s] & ~known); n > 0; n--) dealt[s] |= 1L << pool[next++];
+      }
+    } while (anyBlues(dealt, seat));
+
+    byte[] newPositions = positions.clone();
+    for (int s = 0; s < hands.length; s++) {
+      if (s == seat) continue;
+      newHands[s] = dealt[s];
+      for (long h = dealt[s]; h != 0; h &= h - 1) {
+        newPositions[Long.numberOfTrailingZeros(h)] = HAND;
+      }
+    }
+    byte[] newPondCards = pondCards.clone();
+    byte[] newPond = pond.clone();
+    for (int s = 0; s < pondCards.length; s++) {
+      if (s == seat || !isHiddenPondCard(s, known)) continue;
+      byte c = pool[next++];
+      for (int i = 0; i < pond.length; i++) {
+        if (pond[i] == pondCards[s]) newPond[i] = c;
+      }
+      newPondCards[s] = c;
+      newPositions[c] = POND_H;
+    }
+    byte[] newDeck = deck.clone();
+    for (int i = 0; i < newDeck.length; i++) {
+      if ((known & (1L << newDeck[i])) != 0) continue;
+      newDeck[i] = pool[next++];
+      newPositions[newDeck[i]] = DECK;
+    }
+
+    return new GameState(newDeck, newHands, newPondCards, well, newPond, newPositions, points,
+            gamePoints, round, turn, choiceOrder, chooser);
+  }
+
+  //**************************************************************************************** GETTERS
+  /**
+   * Returns the amount of seats in this state.
+   * @return the amount of seats
+   */
+  public int getSeats() {
+    return hands.length;
+  }
+
+  /**
+   * Returns the cards left in the deck, top first.
+   * @return the cards left in the deck
+   */
+  public List<Card> getDeck() {
+    return cards(deck);
+  }
+
+  /**
+   * Returns the hand of the player in 'seat'.
+   * @param seat the seat
+   * @return the seat's hand
+   * @throws IllegalArgumentException if seat isn't a seat in this state
+   */
+  public CardSet getHand(int seat) {
+    throwIfInvalidSeat(seat);
+    return new CardSet(hands[seat]);
+  }
+
+  /**
+   * Returns the pond card of the player in 'seat', or an empty Optional if they don't have one.
+   * @param seat the seat
+   * @return the seat's pond card
+   * @throws IllegalArgumentException if seat isn't a seat in this state
+   */
+  public Optional<Card> getPondCard(int seat) {
+    throwIfInvalidSeat(seat);
+    if (pondCards[seat] == NONE) return Optional.empty();
+    return Optional.of(Card.of(SCARDS[pondCards[seat]]));
+  }
+
+  /**
+   * Returns the well, in order.
+   * @return the well
+   */
+  public List<Card> getWell() {
+    return cards(well);
+  }
+
+  /**
+   * Returns the pond, in order.
+   * @return the pond
+   */
+  public List<Card> getPond() {
+    return cards(pond);
+  }
+
+  /**
+   * Returns Card c's position.
+   * @param c the card
+   * @return c's position
+   */
+  public Position getPosition(Card c) {
+    return POSITIONS[positions[c.getSCard().ordinal()]];
+  }
+
+  /**
+   * Returns the points of the player in 'seat'.
+   * @param seat the seat
+   * @return the seat's points
+   * @throws IllegalArgumentException if seat isn't a seat in this state
+   */
+  public int getPoints(int seat) {
+    throwIfInvalidSeat(seat);
+    return points[seat];
+  }
+
+  /**
+   * Returns the game points (the sum of every seat's points).
+   * @return the game points
+   */
+  public int getGamePoints() {
+    return gamePoints;
+  }
+
+  /**
+   * Returns the round being played.
+   * @return the round being played
+   */
+  public int getRound() {
+    return round;
+  }
+
+  /**
+   * Returns the turn being played.
+   * @return the turn being played
+   */
+  public int getTurn() {
+    return turn;
+  }
+
+  /**
+   * Returns true if this state was taken while players were choosing cards, so a fork resumes
+   *   'allowChoices' with the seat that was choosing.
+   * @return true if players were choosing cards
+   */
+  public boolean isChoosing() {
+    return choiceOrder.length > 0;
+  }
+
+  /**
+   * Returns the seats in the order they choose cards this turn, or an empty array if this state
+   *   wasn't taken while players were choosing.
+   * @return the seats in choosing order
+   */
+  public int[] getChoiceOrder() {
+    int[] seats = new int[choiceOrder.length];
+    for (int i = 0; i < seats.length; i++) seats[i] = choiceOrder[i];
+    return seats;
+  }
+
+  /**
+   * Returns the index in 'getChoiceOrder()' of the seat that was choosing, 0 if players weren't
+   *   choosing cards.
+   * @return the index of the choosing seat
+   */
+  public int getChooser() {
+    return isChoosing() ? chooser : 0;
+  }
+
+  //************************************************************************ PACKAGE-PRIVATE GETTERS
+  long handBits(int seat) {
+    return hands[seat];
+  }
+
+  byte pondCardOrdinal(int seat) {
+    return pondCards[seat];
+  }
+
+  byte[] positions() {
+    return positions;
+  }
+
+  int[] points() {
+    return points;
+  }
+
+  //**************************************************************************************** HELPERS
+  private static void shuffle(byte[] pool, int size, RandomGenerator random) {
+    for (int i = size - 1; i > 0; i--) {
+      int j = random.nextInt(i + 1);
+      byte temp = pool[i];
+      pool[i] = pool[j];
+      pool[j] = temp;
+    }
+  }
+
+  private static boolean anyBlues(long[] dealt, int seat) {
+    for (int s = 0; s < dealt.length; s++) {
+      if (s != seat && Long.bitCount(dealt[s]) == 5 && BluesTable.get().isBlues(dealt[s])) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private boolean isHiddenPondCard(int s, long known) {
+    return pondCards[s] != NONE && positions[pondCards[s]] == POND_H
+            && (known & (1L << pondCards[s])) == 0;
+  }
+
+  private static List<Card> cards(byte[] ordinals) {
+    List<Card> cards = new ArrayList<>(ordinals.length);
+    for (byte c : ordinals) cards.add(Card.of(SCARDS[c]));
+    return cards;
+  }
+
+  private void throwIfInvalidSeat(int seat) {
+    if (seat < 0 || seat >= hands.length) {
+      throw new IllegalArgumentException("Seat " + seat + " doesn't exist");
+    }
+  }
+
+  //*************************************************************************** GOOD CLASS OVERRIDES
+  @Override
+  public String toString() {
+    StringBuilder sb = new StringBuilder("Round ").append(round).append(", turn ").append(turn);
+    for (int s = 0; s < hands.length; s++) {
+      sb.append("\nSeat ").append(s).append(" (").append(points[s]).append(" points): ")
+              .append(getHand(s)).append(", pond card ").append(getPondCard(s));
+    }
+    sb.append("\nWell: ").append(getWell()).append("\nPond: ").append(getPond())
+            .append("\nDeck: ").append(getDeck());
+    return sb.toString();
+  }
+
+  @Override
+  public boolean equals(Object other) {
+    if (this == other) return true;
+    if (other == null || getClass() != other.getClass()) {
+      return false;
+    }
+    GameState o = (GameState) other;
+    return Arrays.equals(deck, o.deck) && Arrays.equals(hands, o.hands)
+            && Arrays.equals(pondCards, o.pondCards) && Arrays.equals(well, o.well)
+            && Arrays.equals(pond, o.pond) && Arrays.equals(positions, o.positions)
+            && Arrays.equals(points, o.points) && gamePoints == o.gamePoints && round == o.round
+            && turn == o.turn && Arrays.equals(choiceOrder, o.choiceOrder)
+            && getChooser() == o.getChooser();
+  }
+
+  @Override
+  public int hashCode() {
+    int result = Arrays.hashCode(deck);
+    result = 31 * result + Arrays.hashCode(hands);
+    result = 31 * result + Arrays.hashCode(pondCards);
+    result = 31 * result + Arrays.hashCode(well);
+    result = 31 * result + Arrays.hashCode(pond);
+    result = 31 * result + Arrays.hashCode(positions);
+    result = 31 * result + Arrays.hashCode(points);
+    result = 31 * (31 * (31 * result + gamePoints) + round) + turn;
+    return 31 * (31 * result + Arrays.hashCode(choiceOrder)) + getChooser();
+  }
+}
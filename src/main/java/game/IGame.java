@@ -2,10 +2,14 @@ package game;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.random.RandomGenerator;
 
 import game.deck.IDeck;
 import game.deck.card.Card;
+import game.deck.card.CardSet;
+import game.deck.card.properties.Position;
 import game.observer.EventType;
+import game.observer.GameEvent;
 import game.observer.Observer;
 import game.rends.REndState;
 import game.rends.NBCall;
@@ -75,6 +79,43 @@ public interface IGame {
    */
   void allowChoices();
 
+  //**************************************************************************************** FORKING
+  /**
+   * Returns a compact copy of the state of the round in progress: the deck's order, every player's
+   *   hand, pond card and points, the well, the pond, every card's position, and the turn. Players
+   *   are referred to by seat (their index in 'getPlayers()').
+   * @return the state of this game
+   * @throws IllegalStateException if the round is over
+   */
+  GameState snapshot();
+
+  /**
+   * Returns a new, independent game in 'state' with 'players' in its seats. The players are reset
+   *   and given their seat's hand, pond card, and points. Its deck is of the same kind as this
+   *   game's and shuffles with 'random' in later rounds. The fork's score-sheet starts at the
+   *   state's round, without the rounds before it. Search strategies fork with their own policy
+   *   players, often from a state redeterminized from their point of view.
+   * @param state the state to fork from, usually returned by 'snapshot()'
+   * @param players the fork's players, one per seat
+   * @param random the generator the fork's deck shuffles with
+   * @return the fork
+   * @throws IllegalArgumentException if the amount of players doesn't match the state's seats
+   */
+  IGame fork(GameState state, List<IPlayer> players, RandomGenerator random);
+
+  /**
+   * Returns a new, independent copy of this game's round in progress with 'players' in its seats,
+   *   as 'fork(snapshot(), players, random)' does.
+   * @param players the fork's players, one per seat
+   * @param random the generator the fork's deck shuffles with
+   * @return the fork
+   * @throws IllegalStateException if the round is over
+   * @throws IllegalArgumentException if the amount of players doesn't match this game's
+   */
+  default IGame fork(List<IPlayer> players, RandomGenerator random) {
+    return fork(snapshot(), players, random);
+  }
+
   //**************************************************************************************** GETTERS
   /**
    * Returns true if game points are greater or equal to amount of players * 25, false otherwise.
@@ -100,6 +141,28 @@ public interface IGame {
    */
   List<Card> getWell();
 
+  /**
+   * Returns this game's pond as a CardSet. The returned set is backed by the pond and must not be
+   *   modified by the caller.
+   * @return this game's pond as a CardSet
+   */
+  CardSet getPondSet();
+
+  /**
+   * Returns this game's well as a CardSet. The returned set is backed by the well and must not be
+   *   modified by the caller.
+   * @return this game's well as a CardSet
+   */
+  CardSet getWellSet();
+
+  /**
+   * Returns Card c's position in this game. Cards are shared between games, so their positions are
+   *   tracked by each game rather than by the cards.
+   * @param c the card
+   * @return c's position in this game
+   */
+  Position getPosition(Card c);
+
   /**
    * Returns this game's deck.
    * @return this game's deck
@@ -141,17 +204,24 @@ public interface IGame {
 
   //************************************************************************** OBSERVER INTERACTIONS
   /**
-   * Subscribes Observer 'o' to EventType notifications from the game.
+   * Subscribes Observer 'o' to notifications of the EventTypes returned by 'o.subscriptions()'.
    * @param o the Observer to be added
    */
   void addObserver(Observer o);
 
   /**
-   * Notifies all subscribed Observers of the EventType and its associated data.
-   * @param event the EventType
-   * @param data the associated data
+   * Returns true if any Observer subscribes to EventType 'type'. Events nobody subscribes to don't
+   *   need to be built.
+   * @param type the EventType
+   * @return true if 'type' has subscribers
+   */
+  boolean isObserved(EventType type);
+
+  /**
+   * Notifies the Observers subscribed to the event's type of the event.
+   * @param event the event
    */
-  void updateObservers(EventType event, List<Object> data);
+  void updateObservers(GameEvent event);
 
   //*************************************************************************** GOOD CLASS OVERRIDES
   String toString();
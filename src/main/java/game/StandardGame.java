@@ -2,13 +2,23 @@ package game;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Comparator;
+import java.util.EnumMap;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Function;
+import java.util.random.RandomGenerator;
 
 import game.deck.IDeck;
 import game.deck.card.Card;
+import game.deck.card.CardPositions;
+import game.deck.card.CardSet;
 import game.deck.card.properties.Position;
 import game.deck.card.SCard;
 import game.rends.REnd;
@@ -16,6 +26,7 @@ import game.rends.REndState;
 import game.rends.NBCall;
 import game.score.ScoreSheet;
 import game.observer.EventType;
+import game.observer.GameEvent;
 import game.observer.Observer;
 import player.IPlayer;
 import utility.Utility;
@@ -23,16 +34,22 @@ import utility.Utility;
 /**
  * A standard game of Blues with 4 players.
  */
-public class StandardGame implements IGame {
+public final class StandardGame implements IGame {
   private final IDeck deck;
   private final ArrayList<IPlayer> players;
   private ArrayList<Card> well;
   private ArrayList<Card> pond;
+  private final CardSet wellSet; // mirrors 'well'
+  private final CardSet pondSet; // mirrors 'pond'
+  private final CardPositions positions;
   private ScoreSheet scoreSheet;
   private int totalGamePoints;
   private Optional<REndState> rendState;
   private IPlayer gameWinner;
-  private List<Observer> observers;
+  private final EnumMap<EventType, List<Observer>> observers; // subscribers by event type
+  private boolean concurrentDecisions; // ask players for discards and calls concurrently
+  private List<IPlayer> choiceOrder; // order of this turn's choices, null outside 'allowChoices'
+  private int chooser; // index in 'choiceOrder' of the player choosing
   private boolean bluesBroken; // TODO: implement
   public int turn;
 
@@ -40,23 +57,49 @@ public class StandardGame implements IGame {
    * Constructs a new game with the passed players.
    */
   public StandardGame(List<IPlayer> players, IDeck deck) {
+    this(players, deck, true);
+  }
+
+  /**
+   * Constructs a new game with the passed players, shuffling the deck only if 'shuffle' is true -
+   *   forks restore their deck's order instead.
+   */
+  private StandardGame(List<IPlayer> players, IDeck deck, boolean shuffle) {
     this.deck = deck;
-    deck.shuffle();
+    if (shuffle) deck.shuffle();
     this.players = new ArrayList<>(players);
     this.well = new ArrayList<>();
     this.pond = new ArrayList<>();
+    this.wellSet = new CardSet();
+    this.pondSet = new CardSet();
+    this.positions = new CardPositions();
     this.scoreSheet = new ScoreSheet(this.players);
     this.totalGamePoints = 0;
     this.rendState = Optional.empty();
     this.gameWinner = null;
     this.turn = 0;
-    this.observers = new ArrayList<>();
-    for (IPlayer p : players) {
-      observers.add(p);
-      if (p.getDisplay() != null) observers.add(p.getDisplay());
+    this.observers = new EnumMap<>(EventType.class);
+    for (EventType t : EventType.values()) observers.put(t, new ArrayList<>());
+    for (int i = 0; i < this.players.size(); i++) {
+      IPlayer p = this.players.get(i);
+      addObserver(p);
+      if (p.getDisplay() != null) addObserver(p.getDisplay());
+      p.joinGame(this, i);
     }
   }
 
+  /**
+   * Sets whether 'collectPond' and 'collectNBCs' ask every player for their decision at once, each
+   *   on its own virtual thread, instead of one after another. Players' discards and calls don't
+   *   depend on each other, and the decisions are still applied in seat order, so the game plays
+   *   out the same way either way - a turn just waits for the slowest player instead of all of
+   *   them. Off by default.
+   * @param concurrent whether to ask players for decisions concurrently
+   */
+  public void setConcurrentDecisions(boolean concurrent) {
+    this.concurrentDecisions = concurrent;
+  }
+
   //************************************************************************************ SELF MODIFY
   @Override
   public void startRound() {
@@ -65,9 +108,12 @@ public class StandardGame implements IGame {
 
     for (int i = 0; i < 5; i++) {
       for (IPlayer p : players) {
-        p.dealCard(deck.popCard());
+        Card c = deck.popCard();
+        p.dealCard(c);
+        positions.set(c, Position.HAND);
       }
     }
+    if (isObserved(EventType.ROUND_STARTED)) updateObservers(GameEvent.ROUND_STARTED);
 
     for (IPlayer p : players) {
       if (Utility.isBlues(p.getHand())) {
@@ -86,8 +132,10 @@ public class StandardGame implements IGame {
     for (int i = 0; i < 4; i++) {
       Card toAdd = deck.popCard();
       well.add(toAdd);
-      toAdd.setPosition(Position.WELL);
+      wellSet.add(toAdd);
+      positions.set(toAdd, Position.WELL);
     }
+    if (isObserved(EventType.WELL_FLIPPED)) updateObservers(GameEvent.WELL_FLIPPED);
   }
 
   @Override
@@ -95,20 +143,23 @@ public class StandardGame implements IGame {
     if (pond.size() != 4) {
       throw new IllegalStateException("Pond must have 4 cards");
     }
+    boolean observed = isObserved(EventType.PLAYER_DISCARD);
     for (IPlayer p : players) {
       Card c = p.getPondCard().get();
-      c.setPosition(Position.POND_F);
-      updateObservers(EventType.PLAYER_DISCARD, List.of(p, c, well));
+      positions.set(c, Position.POND_F);
+      if (observed) updateObservers(new GameEvent.PlayerDiscard(p, c, well));
     }
-    updateObservers(EventType.POND_FLIPPED, List.of());
+    if (isObserved(EventType.POND_FLIPPED)) updateObservers(GameEvent.POND_FLIPPED);
   }
 
   @Override
   public void resetNewRound() {
     rendState = Optional.empty();
+    choiceOrder = null;
     deck.resetDeck();
     deck.shuffle();
     clearWater();
+    positions.reset();
 
     for (IPlayer p : players) {
       p.resetNewRound();
@@ -123,10 +174,12 @@ public class StandardGame implements IGame {
     totalGamePoints = 0;
     scoreSheet = new ScoreSheet(players);
     rendState = Optional.empty();
+    choiceOrder = null;
     gameWinner = null;
     deck.resetDeck();
     deck.shuffle();
     clearWater();
+    positions.reset();
   }
 
   //*********************************************************************** SELF +/ PLAYER(S) MODIFY
@@ -138,12 +191,15 @@ public class StandardGame implements IGame {
     if (!pond.isEmpty()) {
       throw new IllegalStateException("Cannot collect pond because it isn't empty");
     }
-    for (IPlayer p : players) {
-      Card c = p.discard(well);
+    List<Card> discards = askPlayers(p -> p.discard(well));
+    for (int i = 0; i < players.size(); i++) {
+      IPlayer p = players.get(i);
+      Card c = discards.get(i);
       p.setPondCard(c);
       p.throwCard(c);
-      c.setPosition(Position.POND_H);
+      positions.set(c, Position.POND_H);
       pond.add(c);
+      pondSet.add(c);
     }
   }
 
@@ -163,10 +219,14 @@ public class StandardGame implements IGame {
     List<IPlayer> callers = new ArrayList<>();
     NBCall call;
 
-    for (IPlayer p : players) {
+    List<Optional<IPlayer>> receivers = askPlayers(p -> {
       ArrayList<IPlayer> withoutP = new ArrayList<>(players);
       withoutP.remove(p);
-      Optional<IPlayer> receiver = p.callNo(withoutP, well);
+      return p.callNo(withoutP, well);
+    });
+    for (int i = 0; i < players.size(); i++) {
+      IPlayer p = players.get(i);
+      Optional<IPlayer> receiver = receivers.get(i);
       if (receiver.isPresent()) {
         calls.add(new NBCall(p, receiver.get()));
         callers.add(p);
@@ -191,58 +251,119 @@ public class StandardGame implements IGame {
 
   @Override
   public void allowChoices() {
-    if (pond.size() != 4 || well.size() != 4) {
-      throw new IllegalStateException("Pond and well must have 4 cards each");
-    }
-    for (Card c : pond) {
-      if (!c.getPosition().equals(Position.POND_F)) {
-        throw new IllegalStateException("Pond hasn't been flipped");
+    if (choiceOrder == null) { // else this is a fork resuming choices
+      if (pond.size() != 4 || well.size() != 4) {
+        throw new IllegalStateException("Pond and well must have 4 cards each");
+      }
+      for (Card c : pond) {
+        if (positions.get(c) != Position.POND_F) {
+          throw new IllegalStateException("Pond hasn't been flipped");
+        }
       }
+      choiceOrder = Utility.playerChoiceOrder(pond, players);
+      chooser = 0;
     }
 
-    List<IPlayer> order = Utility.playerChoiceOrder(pond, players);
-
-    for (int i = 0; i < order.size(); i++) {
-      if (i == 2 && !well.isEmpty()) { // clear well for 3rd and 4th trump
-        List<Object> data = new ArrayList<>(well);
-        updateObservers(EventType.CARDS_CLEARED, data);
-        for (Card c : well) {
-          c.setPosition(Position.DISCARDED);
+    for (; chooser < choiceOrder.size(); chooser++) {
+      if (chooser == 2 && !well.isEmpty()) { // clear well for 3rd and 4th trump
+        if (isObserved(EventType.CARDS_CLEARED)) {
+          updateObservers(new GameEvent.CardsCleared(new ArrayList<>(well)));
         }
+        positions.setAll(well, Position.DISCARDED);
         well = new ArrayList<>();
+        wellSet.clear();
       }
 
-      IPlayer p = order.get(i);
+      IPlayer p = choiceOrder.get(chooser);
       Card c = p.chooseCard(pond, well);
       String location = "pond";
-      if (well.contains(c)) location = "well";
+      if (wellSet.contains(c)) location = "well";
       handleSelection(p, c);
 
-      if (i != order.size() - 1) {
-        updateObservers(EventType.PLAYER_CHOICE, List.of(p, c, location, well, pond,
-                order.get(i + 1)));
-      } else updateObservers(EventType.PLAYER_CHOICE, List.of(p, c, location, well, pond));
+      if (isObserved(EventType.PLAYER_CHOICE)) {
+        Optional<IPlayer> next = chooser != choiceOrder.size() - 1
+                ? Optional.of(choiceOrder.get(chooser + 1)) : Optional.empty();
+        updateObservers(new GameEvent.PlayerChoice(p, c, location, well, pond, next));
+      }
 
       if (Utility.isBlues(p.getHand())) {
+        choiceOrder = null;
         rendState = Optional.of(new REndState(REnd.BLUES, p));
         bluesEnd();
         return;
       }
     }
-    List<Object> data = new ArrayList<>(well);
+    choiceOrder = null;
+    List<Card> cleared = isObserved(EventType.CARDS_CLEARED) ? new ArrayList<>(well) : null;
     clearWater();
     // TODO: figure this out, maybe should be included in clear water?
     for (IPlayer p : players) {
       p.setPondCard();
     }
-    updateObservers(EventType.CARDS_CLEARED, data);
-    updateObservers(EventType.TURN_OVER, List.of());
+    if (cleared != null) updateObservers(new GameEvent.CardsCleared(cleared));
+    if (isObserved(EventType.TURN_OVER)) updateObservers(GameEvent.TURN_OVER);
 
     if (deck.getCards().size() < 4) {
       deckEmptyEnd(); // rendState set in this method
     }
   }
 
+  //**************************************************************************************** FORKING
+  @Override
+  public GameState snapshot() {
+    if (roundOver()) throw new IllegalStateException("Cannot snapshot a game whose round is over");
+    int seats = players.size();
+    long[] hands = new long[seats];
+    byte[] pondCards = new byte[seats];
+    int[] points = new int[seats];
+    for (int i = 0; i < seats; i++) {
+      IPlayer p = players.get(i);
+      hands[i] = p.getHandSet().bits();
+      pondCards[i] = p.getPondCard().map(c -> (byte) c.getSCard().ordinal()).orElse(GameState.NONE);
+      points[i] = p.getPoints();
+    }
+    byte[] choosers = new byte[choiceOrder == null ? 0 : choiceOrder.size()];
+    for (int i = 0; i < choosers.length; i++) {
+      choosers[i] = (byte) seatOf(choiceOrder.get(i));
+    }
+    return new GameState(ordinals(deck.getCards()), hands, pondCards, ordinals(well),
+            ordinals(pond), positions.toArray(), points, totalGamePoints,
+            scoreSheet.getCurrentRound(), turn, choosers, chooser);
+  }
+
+  @Override
+  public IGame fork(GameState state, List<IPlayer> players, RandomGenerator random) {
+    if (players.size() != state.getSeats()) {
+      throw new IllegalArgumentException("Fork has " + players.size() + " players, but state has "
+              + state.getSeats() + " seats");
+    }
+    StandardGame fork = new StandardGame(players, deck.fork(state.getDeck(), random), false);
+    int[] totals = new int[players.size() + 1];
+    for (int i = 0; i < players.size(); i++) {
+      IPlayer p = players.get(i);
+      p.resetNewGame();
+      for (Card c : state.getHand(i)) p.dealCard(c);
+      state.getPondCard(i).ifPresent(p::setPondCard);
+      p.addPoints(state.getPoints(i));
+      totals[i] = state.getPoints(i);
+    }
+    totals[players.size()] = state.getGamePoints();
+    fork.well.addAll(state.getWell());
+    fork.wellSet.addAll(CardSet.of(fork.well));
+    fork.pond.addAll(state.getPond());
+    fork.pondSet.addAll(CardSet.of(fork.pond));
+    fork.positions.copyFrom(state.positions());
+    fork.totalGamePoints = state.getGamePoints();
+    fork.scoreSheet = new ScoreSheet(fork.players, state.getRound(), totals);
+    fork.turn = state.getTurn();
+    if (state.isChoosing()) {
+      fork.choiceOrder = new ArrayList<>();
+      for (int seat : state.getChoiceOrder()) fork.choiceOrder.add(players.get(seat));
+      fork.chooser = state.getChooser();
+    }
+    return fork;
+  }
+
   //**************************************************************************************** GETTERS
   @Override
   public boolean gameOver() {
@@ -264,6 +385,21 @@ public class StandardGame implements IGame {
     return well;
   }
 
+  @Override
+  public CardSet getPondSet() {
+    return pondSet;
+  }
+
+  @Override
+  public CardSet getWellSet() {
+    return wellSet;
+  }
+
+  @Override
+  public Position getPosition(Card c) {
+    return positions.get(c);
+  }
+
   @Override
   public IDeck getDeck() {
     return deck;
@@ -295,12 +431,17 @@ public class StandardGame implements IGame {
   //************************************************************************************** OBSERVERS
   @Override
   public void addObserver(Observer o) {
-    observers.add(o);
+    for (EventType t : o.subscriptions()) observers.get(t).add(o);
+  }
+
+  @Override
+  public boolean isObserved(EventType type) {
+    return !observers.get(type).isEmpty();
   }
 
   @Override
-  public void updateObservers(EventType event, List<Object> data) {
-    for (Observer o : observers) o.update(event, data);
+  public void updateObservers(GameEvent event) {
+    for (Observer o : observers.get(event.type())) o.update(event);
   }
 
   //**************************************************************************************** ENDINGS
@@ -321,7 +462,7 @@ public class StandardGame implements IGame {
       int points;
       IPlayer p = players.get(i);
       if (!p.equals(rendState.get().getWinner())) {
-        points = Utility.points(p.getHand());
+        points = Utility.points(p.getHandSet());
       } else {
         points = Utility.bluesPoints(p.getHand());
       }
@@ -330,6 +471,9 @@ public class StandardGame implements IGame {
       deltas[i] = points;
     }
     deltas[players.size()] = Arrays.stream(deltas).sum();
+    for (IPlayer p : players) {
+      p.setPondCard(); // the round is over, like a turn's end (the winner's card stays in the pond)
+    }
 
     finishRound(deltas);
   }
@@ -362,11 +506,10 @@ public class StandardGame implements IGame {
           pondCard = p.getPondCard().get();
           p.dealCard(p.getPondCard().get());
         }
-        points = Utility.points(p.getHand());
+        points = Utility.points(p.getHandSet());
         if (pondCard != null) {
           p.throwCard(pondCard);
           p.setPondCard(pondCard);
-          pondCard.setPosition(Position.POND_F);
         }
       }
       totalGamePoints += points;
@@ -416,7 +559,7 @@ public class StandardGame implements IGame {
 
     for (int i = 0; i < players.size(); i++) {
       IPlayer p = players.get(i);
-      int points = Utility.points(p.getHand());
+      int points = Utility.points(p.getHandSet());
       p.addPoints(points);
       totalGamePoints += points;
       deltas[i] = points;
@@ -451,19 +594,73 @@ public class StandardGame implements IGame {
   }
 
   //**************************************************************************************** HELPERS
+  /**
+   * Returns every player's 'decision', in seat order. If 'concurrentDecisions' is true, each
+   *   decision is made on its own virtual thread and this waits for all of them, else they're made
+   *   one after another on this thread.
+   * @param decision the decision to ask each player for
+   * @return the decisions, in the same order as 'players'
+   * @throws IllegalStateException if interrupted while waiting for a decision
+   */
+  private <T> List<T> askPlayers(Function<IPlayer, T> decision) {
+    List<T> decisions = new ArrayList<>(players.size());
+    if (!concurrentDecisions) {
+      for (IPlayer p : players) decisions.add(decision.apply(p));
+      return decisions;
+    }
+
+    try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+      List<Future<T>> futures = new ArrayList<>(players.size());
+      for (IPlayer p : players) futures.add(executor.submit(() -> decision.apply(p)));
+      for (Future<T> f : futures) decisions.add(f.get());
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Interrupted while waiting for player decisions", e);
+    } catch (ExecutionException e) {
+      if (e.getCause() instanceof RuntimeException r) throw r;
+      throw new IllegalStateException("Player decision failed", e.getCause());
+    }
+    return decisions;
+  }
+
+  /**
+   * Returns the index of player 'p' in 'players', comparing by identity.
+   * @param p the player
+   * @return p's seat
+   */
+  private int seatOf(IPlayer p) {
+    for (int i = 0; i < players.size(); i++) {
+      if (players.get(i) == p) return i;
+    }
+    throw new IllegalArgumentException("Player " + p + " isn't in this game");
+  }
+
+  /**
+   * Returns the SCard ordinals of 'cards', in order.
+   * @param cards the cards
+   * @return the cards' ordinals
+   */
+  private static byte[] ordinals(Collection<Card> cards) {
+    byte[] ordinals = new byte[cards.size()];
+    int i = 0;
+    for (Card c : cards) ordinals[i++] = (byte) c.getSCard().ordinal();
+    return ordinals;
+  }
+
   /**
    * Gets chosen card from player and deals them the card, reassigns its position to
-   *     Position.DISCARDED, and removes it from the well/pond.
+   *     Position.HAND, and removes it from the well/pond.
    * @param p player
    */
   private void handleSelection(IPlayer p, Card c) {
-    p.dealCard(c);                        // gives player chosen card
-    well.remove(c);                       // removes chosen card from well/pond
-    pond.remove(c);
+    p.dealCard(c);                          // gives player chosen card
+    positions.set(c, Position.HAND);
+    if (wellSet.remove(c)) well.remove(c);  // removes chosen card from well/pond
+    if (pondSet.remove(c)) pond.remove(c);
 
     for (IPlayer pl : players) {
       if (pl.getPondCard().isPresent()) {
-        if (pl.getPondCard().get().getPosition().equals(Position.HAND)) {
+        if (positions.get(pl.getPondCard().get()) == Position.HAND) {
           pl.setPondCard();
         }
       }
@@ -478,10 +675,12 @@ public class StandardGame implements IGame {
     for (IPlayer p : players) {
 
       if (p.getHand().size() == 4 && p.getPondCard().isPresent()
-              && (p.getPondCard().get().getPosition() == Position.POND_F
-              || p.getPondCard().get().getPosition() == Position.POND_H)) {
+              && (positions.get(p.getPondCard().get()) == Position.POND_F
+              || positions.get(p.getPondCard().get()) == Position.POND_H)) {
         pond.remove(p.getPondCard().get());
+        pondSet.remove(p.getPondCard().get());
         p.dealCard(p.getPondCard().get());
+        positions.set(p.getPondCard().get(), Position.HAND);
       }
     }
   }
@@ -490,13 +689,12 @@ public class StandardGame implements IGame {
    * Sets pond and well equal to empty lists and sets their former cards' Positions to DISCARDED.
    */
   private void clearWater() {
-    List<Card> pondAndWell = new ArrayList<>(pond);
-    pondAndWell.addAll(well);
-    for (Card c : pondAndWell) {
-      c.setPosition(Position.DISCARDED);
-    }
+    positions.setAll(pond, Position.DISCARDED);
+    positions.setAll(well, Position.DISCARDED);
     pond = new ArrayList<>();
     well = new ArrayList<>();
+    pondSet.clear();
+    wellSet.clear();
   }
 
   /**
@@ -506,15 +704,10 @@ public class StandardGame implements IGame {
    * @return the player with the best card in their hand
    */
   private IPlayer breakTie(List<IPlayer> tied) {
-    ArrayList<Card> bestCards = new ArrayList<>();
-    Card best;
+    ArrayList<Card> bestCards = new ArrayList<>(tied.size());
 
     for (IPlayer p : tied) {
-      if (p.getPondCard().isPresent()) {
-        best = p.getPondCard().get();
-      } else {
-        best = new Card(SCard.STAR_7); // the worst card in the deck
-      }
+      Card best = p.getPondCard().orElse(Card.of(SCard.STAR_7)); // STAR_7 is the worst card
       for (Card c : p.getHand()) {
         if (Utility.trumps(c, best)) {
           best = c;
@@ -523,12 +716,7 @@ public class StandardGame implements IGame {
       bestCards.add(best);
     }
 
-    best = bestCards.getFirst();
-    for (int i = 1; i < bestCards.size(); i++) {
-      if (Utility.trumps(bestCards.get(i), best)) best = bestCards.get(i);
-    }
-
-    return tied.get(bestCards.indexOf(best));
+    return tied.get(Utility.bestCardIndex(bestCards));
   }
 
   /**
@@ -539,10 +727,12 @@ public class StandardGame implements IGame {
   private void finishRound(int[] deltas) {
     // rendState is always present because method is only called by end handlers
     scoreSheet.addRound(deltas, rendState.get());
-    updateObservers(EventType.ROUND_OVER, List.of(rendState.get()));
+    if (isObserved(EventType.ROUND_OVER)) updateObservers(new GameEvent.RoundOver(rendState.get()));
     if (gameOver()) {
       setGameWinner();
-      updateObservers(EventType.GAME_OVER, List.of(gameWinner, gameWinner.getPoints()));
+      if (isObserved(EventType.GAME_OVER)) {
+        updateObservers(new GameEvent.GameOver(gameWinner, gameWinner.getPoints()));
+      }
 
     }
   }
@@ -570,7 +760,7 @@ public class StandardGame implements IGame {
       gameWinner = sorted.getFirst();
       return;
     } else { // tie goes to player who won a round most recently
-      for (int i = scoreSheet.getCurrentRound() - 1; i > 0; i--) {
+      for (int i = scoreSheet.getCurrentRound() - 1; i >= scoreSheet.getFirstRound(); i--) {
         IPlayer winner = scoreSheet.getRound(i).getWinner();
         for (IPlayer p : tied) {
           if (winner.equals(p)) {
@@ -581,7 +771,7 @@ public class StandardGame implements IGame {
       }
     }
 
-    for (int i = scoreSheet.getCurrentRound() - 1; i > 0; i--) {
+    for (int i = scoreSheet.getCurrentRound() - 1; i >= scoreSheet.getFirstRound(); i--) {
       for (IPlayer p1 : tied) {
         int hasLessPtsThan = 0;
         for (IPlayer p2 : tied) {
@@ -598,6 +788,10 @@ public class StandardGame implements IGame {
       }
     }
 
+    if (scoreSheet.getFirstRound() > 1) { // a fork doesn't know the rounds that would break the tie
+      gameWinner = tied.getFirst();
+      return;
+    }
     if (gameWinner == null) {
       throw new IllegalStateException("Set game winner unsuccessful");
     }
@@ -2,8 +2,11 @@ package game.deck;
 
 import java.util.ArrayList;
 import java.util.Deque;
+import java.util.List;
+import java.util.random.RandomGenerator;
 
 import game.deck.card.Card;
+import game.deck.card.CardSet;
 
 /**
  * A deck of cards.
@@ -27,6 +30,15 @@ public interface IDeck {
    */
   void resetDeck();
 
+  /**
+   * Returns a new deck of the same kind as this one whose remaining cards are 'cards', top first.
+   *   The new deck shuffles with 'random' when it's reset for a new round.
+   * @param cards the new deck's remaining cards, top first
+   * @param random the new deck's generator
+   * @return the new deck
+   */
+  IDeck fork(List<Card> cards, RandomGenerator random);
+
   //**************************************************************************************** GETTERS
   /**
    * Returns the top card, does not remove it from 'cards' or add it to 'dealt'.
@@ -53,6 +65,13 @@ public interface IDeck {
    */
   Deque<Card> getCards();
 
+  /**
+   * Returns the cards in the deck as a CardSet (this does not include the dealt cards). The
+   *   returned set is backed by the deck and must not be modified by the caller.
+   * @return the cards in the deck as a CardSet
+   */
+  CardSet getCardSet();
+
   /**
    * Returns the amount of cards that have been dealt.
    * @return the amount of cards that have been dealt
@@ -5,8 +5,10 @@ import java.util.ArrayList;
 import java.util.Deque;
 import java.util.List;
 import java.util.Objects;
+import java.util.random.RandomGenerator;
 
 import game.deck.card.Card;
+import game.deck.card.CardSet;
 import game.deck.card.SCard;
 
 /**
@@ -16,6 +18,7 @@ import game.deck.card.SCard;
 public class TstDeck implements IDeck {
   Deque<Card> cards;
   ArrayList<Card> dealt;
+  final CardSet cardSet; // mirrors 'cards'
   Deque<Card> ogCards;
 
   /**
@@ -26,9 +29,10 @@ public class TstDeck implements IDeck {
     cards = new ArrayDeque<>();
     dealt = new ArrayList<>();
     for (SCard c : SCard.values()) {
-      cards.add(new Card(c));
+      cards.add(Card.of(c));
     }
     this.ogCards = cards;
+    this.cardSet = CardSet.of(cards);
   }
 
   /**
@@ -39,6 +43,7 @@ public class TstDeck implements IDeck {
     this.cards = new ArrayDeque<>(cards);
     this.dealt = new ArrayList<>();
     this.ogCards = this.cards;
+    this.cardSet = CardSet.of(this.cards);
   }
 
   /**
@@ -54,6 +59,7 @@ public class TstDeck implements IDeck {
       throw new IllegalArgumentException("Deck empty");
     }
     dealt.add(cards.peek());
+    cardSet.remove(cards.peek());
     return cards.pop();
   }
 
@@ -64,9 +70,20 @@ public class TstDeck implements IDeck {
   @Override
   public void resetDeck() {
     cards = new ArrayDeque<>(ogCards);
+    cardSet.clear();
+    cardSet.addAll(CardSet.of(cards));
     dealt = new ArrayList<>();
   }
 
+  /**
+   * Returns a new TstDeck with custom card order 'cards' - 'random' is ignored, since TstDecks
+   *   don't shuffle.
+   */
+  @Override
+  public IDeck fork(List<Card> cards, RandomGenerator random) {
+    return new TstDeck(cards);
+  }
+
   @Override
   public Card peekCard() {
     if (cards.isEmpty()) {
@@ -90,6 +107,11 @@ public class TstDeck implements IDeck {
     return cards;
   }
 
+  @Override
+  public CardSet getCardSet() {
+    return cardSet;
+  }
+
   @Override
   public int dealtSize() {
     return dealt.size();
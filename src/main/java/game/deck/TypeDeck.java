@@ -6,8 +6,11 @@ import java.util.Collections;
 import java.util.Deque;
 import java.util.List;
 import java.util.Objects;
+import java.util.SplittableRandom;
+import java.util.random.RandomGenerator;
 
 import game.deck.card.Card;
+import game.deck.card.CardSet;
 import game.deck.card.SCard;
 
 /**
@@ -16,7 +19,9 @@ import game.deck.card.SCard;
 public class TypeDeck implements IDeck {
   Deque<Card> cards;
   ArrayList<Card> dealt;
+  final CardSet cardSet; // mirrors 'cards'
   DeckType type;
+  final RandomGenerator random;
 
   /**
    * Creates an un-shuffled deck. If parameter dt is 'STANDARD', the deck will contain 56 cards
@@ -24,28 +29,27 @@ public class TypeDeck implements IDeck {
    *   deck will contain 49 cards (7 cards with ranks 1 - 7 for all suits except for Suit.STAR).
    */
   public TypeDeck(DeckType dt) {
+    this(dt, new SplittableRandom());
+  }
+
+  /**
+   * Creates an un-shuffled deck of type 'dt' that shuffles with 'random', so that a seeded
+   *   generator deals the same cards every time.
+   */
+  public TypeDeck(DeckType dt, RandomGenerator random) {
+    this.random = random;
     cards = new ArrayDeque<>();
     dealt = new ArrayList<>();
+    cardSet = new CardSet();
     type = dt;
-    switch (dt) {
-      case STANDARD -> {
-        for (SCard c : SCard.values()) {
-          cards.add(new Card(c));
-        }
-      }
-      case SUPERSTITIOUS -> {
-        for (int i = 0; i < 49; i++) {
-          cards.add(new Card(SCard.values()[i]));
-        }
-      }
-    }
+    fill();
   }
 
   //************************************************************************************** MODIFIERS
   @Override
   public void shuffle() {
     List<Card> cardList = new ArrayList<>(cards.stream().toList());
-    Collections.shuffle(cardList);
+    Collections.shuffle(cardList, random);
     cards = new ArrayDeque<>(cardList);
   }
 
@@ -55,14 +59,33 @@ public class TypeDeck implements IDeck {
       throw new IllegalArgumentException("Deck empty");
     }
     dealt.add(cards.peek());
+    cardSet.remove(cards.peek());
     return cards.pop();
   }
 
   @Override
   public void resetDeck() {
-    TypeDeck dummy = new TypeDeck(type);
-    cards = dummy.getCards();
-    dealt = new ArrayList<>();
+    cards.clear();
+    cardSet.clear();
+    dealt.clear();
+    fill();
+  }
+
+  /**
+   * Returns a new TypeDeck of this deck's type whose remaining cards are 'cards', top first, and
+   *   whose dealt cards are the rest of its type's cards, in SCard order.
+   */
+  @Override
+  public IDeck fork(List<Card> cards, RandomGenerator random) {
+    TypeDeck fork = new TypeDeck(type, random);
+    CardSet remaining = CardSet.of(cards);
+    for (Card c : fork.cards) {
+      if (!remaining.contains(c)) fork.dealt.add(c);
+    }
+    fork.cards = new ArrayDeque<>(cards);
+    fork.cardSet.clear();
+    fork.cardSet.addAll(remaining);
+    return fork;
   }
 
   //**************************************************************************************** GETTERS
@@ -79,6 +102,11 @@ public class TypeDeck implements IDeck {
     return cards;
   }
 
+  @Override
+  public CardSet getCardSet() {
+    return cardSet;
+  }
+
   @Override
   public ArrayList<Card> getDealt() {
     return dealt;
@@ -94,6 +122,23 @@ public class TypeDeck implements IDeck {
     return dealt.size();
   }
 
+  //**************************************************************************************** HELPERS
+  /**
+   * Adds this deck's type's cards to 'cards' and 'cardSet' in SCard order. Cards are canonical, so
+   *   refilling the deck doesn't allocate any.
+   */
+  private void fill() {
+    int size = switch (type) {
+      case STANDARD -> 56;
+      case SUPERSTITIOUS -> 49;
+    };
+    SCard[] all = SCard.values();
+    for (int i = 0; i < size; i++) {
+      cards.add(Card.of(all[i]));
+      cardSet.add(all[i]);
+    }
+  }
+
   //*************************************************************************** GOOD CLASS OVERRIDES
   @Override
   public String toString() {
@@ -1,37 +1,36 @@
 package game.deck.card;
 
-import java.util.Arrays;
 import java.util.Objects;
 
 import game.deck.card.properties.Color;
-import game.deck.card.properties.Position;
 import game.deck.card.properties.Rank;
 import game.deck.card.properties.Suit;
 
 /**
- * A Card in a standard 56 card deck - a wrapper around an 'SCard' enum value. Allows classes to
- *   monitor a card's position in a game and multiple instances of the "same" card at once.
+ * A Card in a standard 56 card deck - an immutable wrapper around an 'SCard' enum value. There is
+ *   exactly one Card per SCard (see 'of()'), so cards can be shared between any number of games
+ *   running at once. A card's position in a game is tracked by that game (see CardPositions).
  */
 public class Card {
-  SCard card; // the associated enum value
-  Position p; // pond hidden, pond flipped, well, deck, hand, or discarded
+  private static final Card[] CANONICAL = new Card[SCard.values().length];
 
-  /**
-   * Creates a card for gameplay. Position is set to card.Position.DECK by default.
-   * @param card the wrapped enum value
-   */
-  public Card(SCard card) {
+  static {
+    for (SCard c : SCard.values()) CANONICAL[c.ordinal()] = new Card(c);
+  }
+
+  private final SCard card; // the associated enum value
+
+  private Card(SCard card) {
     this.card = card;
-    this.p = Position.DECK;
   }
 
-  //**************************************************************************************** SETTERS
   /**
-   * Sets p to newPosition.
-   * @param newPosition the new position
+   * Returns the canonical Card that wraps 'card'.
+   * @param card the wrapped enum value
+   * @return the Card that wraps 'card'
    */
-  public void setPosition(Position newPosition) {
-    this.p = newPosition;
+  public static Card of(SCard card) {
+    return CANONICAL[card.ordinal()];
   }
 
   //**************************************************************************************** GETTERS
@@ -60,11 +59,11 @@ public class Card {
   }
 
   /**
-   * Returns this Card's position.
-   * @return this Card's position
+   * Returns the SCard this Card wraps.
+   * @return the SCard this Card wraps
    */
-  public Position getPosition() {
-    return p;
+  public SCard getSCard() {
+    return card;
   }
 
   /**
@@ -88,18 +87,11 @@ public class Card {
   }
 
   /**
-   * Returns the amount of cards in a StandardDeck this card trumps.
+   * Returns the amount of cards in a StandardDeck this card trumps (see 'SCard.trumpStrength()').
    * @return the amount of cards in a StandardDeck this card trumps
    */
   public int trumpsAmount() {
-    int trumpsAmount = 0;
-    if (this.getColor() != Color.BLUE) {
-      trumpsAmount += 7 * (7 - this.getRank().number());
-      trumpsAmount += 7 - Arrays.stream(Suit.values()).toList().indexOf(this.getSuit());
-      return trumpsAmount;
-    }
-    trumpsAmount += 56 - this.getRank().number();
-    return trumpsAmount;
+    return card.trumpStrength();
   }
 
   //*************************************************************************** GOOD CLASS OVERRIDES
@@ -108,10 +100,6 @@ public class Card {
     return card.getRank().number() + card.getSuit().symbol();
   }
 
-  /**
-   * Does NOT take into account Position. Two cards with identical rank and suit but different
-   *   positions are equal according to this method.
-   */
   @Override
   public boolean equals(Object other) {
     if (this == other) return true;
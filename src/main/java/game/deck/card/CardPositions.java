@@ -0,0 +1,107 @@
+package game.deck.card;
+
+import java.util.Arrays;
+
+import game.deck.card.properties.Position;
+
+/**
+ * The position of every card in one game, stored as one byte per card indexed by SCard ordinal.
+ *   Cards are shared between games, so each game keeps its own CardPositions instead of setting
+ *   positions on the cards themselves. Every card starts in Position.DECK.
+ */
+public class CardPositions {
+  private static final Position[] POSITIONS = Position.values(); // 'values()' copies every call
+  private static final byte DECK = (byte) Position.DECK.ordinal();
+  private final byte[] positions;
+
+  /**
+   * Creates a table with every card in Position.DECK.
+   */
+  public CardPositions() {
+    this.positions = new byte[SCard.values().length];
+    Arrays.fill(positions, DECK);
+  }
+
+  //************************************************************************************** MODIFIERS
+  /**
+   * Sets Card c's position to 'p'.
+   * @param c the card to move
+   * @param p the card's new position
+   */
+  public void set(Card c, Position p) {
+    positions[c.getSCard().ordinal()] = (byte) p.ordinal();
+  }
+
+  /**
+   * Sets the position of every card in 'cards' to 'p'.
+   * @param cards the cards to move
+   * @param p the cards' new position
+   */
+  public void setAll(Iterable<Card> cards, Position p) {
+    for (Card c : cards) set(c, p);
+  }
+
+  /**
+   * Copies every card's position from 'ordinals', an array returned by 'toArray()'.
+   * @param ordinals the Position ordinal of every card, indexed by SCard ordinal
+   * @throws IllegalArgumentException if ordinals doesn't have one entry per card
+   */
+  public void copyFrom(byte[] ordinals) {
+    if (ordinals.length != positions.length) {
+      throw new IllegalArgumentException("Expected " + positions.length + " positions, got "
+              + ordinals.length);
+    }
+    System.arraycopy(ordinals, 0, positions, 0, positions.length);
+  }
+
+  /**
+   * Moves every card back to Position.DECK.
+   */
+  public void reset() {
+    Arrays.fill(positions, DECK);
+  }
+
+  //**************************************************************************************** GETTERS
+  /**
+   * Returns Card c's position.
+   * @param c the card
+   * @return c's position
+   */
+  public Position get(Card c) {
+    return POSITIONS[positions[c.getSCard().ordinal()]];
+  }
+
+  /**
+   * Returns a copy of the Position ordinal of every card, indexed by SCard ordinal.
+   * @return every card's Position ordinal
+   */
+  public byte[] toArray() {
+    return positions.clone();
+  }
+
+  //*************************************************************************** GOOD CLASS OVERRIDES
+  @Override
+  public String toString() {
+    StringBuilder sb = new StringBuilder("{");
+    for (SCard c : SCard.values()) {
+      if (sb.length() > 1) sb.append(", ");
+      sb.append(Card.of(c)).append('=').append(get(Card.of(c)));
+    }
+    return sb.append('}').toString();
+  }
+
+  @Override
+  public boolean equals(Object other) {
+    if (this == other) return true;
+    if (other == null || getClass() != other.getClass()) {
+      return false;
+    }
+    CardPositions o = (CardPositions) other;
+    return Arrays.equals(this.positions, o.positions);
+  }
+
+  @Override
+  public int hashCode() {
+    return Arrays.hashCode(positions);
+  }
+}
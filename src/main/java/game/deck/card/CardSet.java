@@ -0,0 +1,289 @@
+package game.deck.card;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * A set of cards backed by a single 64-bit mask. Bit i is set if the set contains the card that
+ *   wraps 'SCard.values()[i]' - all 56 cards fit in one long, so adding, removing, checking,
+ *   combining, and counting cards never allocates or scans a list.
+ */
+public class CardSet implements Iterable<Card> {
+  /**
+   * The mask with a bit set for every card in a standard 56 card deck.
+   */
+  public static final long ALL = (1L << SCard.values().length) - 1;
+
+  private static final SCard[] SCARDS = SCard.values(); // 'values()' copies the array every call
+  private long bits;
+
+  /**
+   * Creates an empty CardSet.
+   */
+  public CardSet() {
+    this.bits = 0L;
+  }
+
+  /**
+   * Creates a CardSet containing the cards whose bits are set in 'bits'.
+   * @param bits the mask to wrap
+   * @throws IllegalArgumentException if a bit outside of 'ALL' is set
+   */
+  public CardSet(long bits) {
+    if ((bits & ~ALL) != 0) {
+      throw new IllegalArgumentException("Mask contains bits that don't correspond to a card");
+    }
+    this.bits = bits;
+  }
+
+  /**
+   * Returns a new CardSet containing every card in 'cards'.
+   * @param cards the cards to add
+   * @return a new CardSet containing 'cards'
+   */
+  public static CardSet of(Collection<Card> cards) {
+    return new CardSet(mask(cards));
+  }
+
+  /**
+   * Returns a new CardSet containing the cards that wrap each SCard in 'cards'.
+   * @param cards the SCards to add
+   * @return a new CardSet containing 'cards'
+   */
+  public static CardSet ofSCards(Collection<SCard> cards) {
+    long bits = 0L;
+    for (SCard c : cards) bits |= bit(c);
+    return new CardSet(bits);
+  }
+
+  //**************************************************************************** STATIC MASK HELPERS
+  /**
+   * Returns the mask bit of SCard c.
+   * @param c the SCard
+   * @return the mask bit of c
+   */
+  public static long bit(SCard c) {
+    return 1L << c.ordinal();
+  }
+
+  /**
+   * Returns the mask bit of Card c.
+   * @param c the Card
+   * @return the mask bit of c
+   */
+  public static long bit(Card c) {
+    return 1L << c.getSCard().ordinal();
+  }
+
+  /**
+   * Returns the mask with a bit set for every card in 'cards'.
+   * @param cards the cards
+   * @return the mask of 'cards'
+   */
+  public static long mask(Collection<Card> cards) {
+    long bits = 0L;
+    for (Card c : cards) bits |= bit(c);
+    return bits;
+  }
+
+  /**
+   * Returns the SCard that corresponds with the lowest bit set in 'bits'.
+   * @param bits the mask
+   * @return the SCard corresponding with the lowest set bit
+   * @throws NoSuchElementException if 'bits' is empty
+   */
+  public static SCard lowest(long bits) {
+    if (bits == 0) throw new NoSuchElementException("Mask is empty");
+    return SCARDS[Long.numberOfTrailingZeros(bits)];
+  }
+
+  //************************************************************************************** MODIFIERS
+  /**
+   * Adds Card c to this set.
+   * @param c the card to add
+   * @return true if this set didn't already contain c
+   */
+  public boolean add(Card c) {
+    return add(c.getSCard());
+  }
+
+  /**
+   * Adds the card that wraps SCard c to this set.
+   * @param c the card to add
+   * @return true if this set didn't already contain c
+   */
+  public boolean add(SCard c) {
+    long before = bits;
+    bits |= bit(c);
+    return before != bits;
+  }
+
+  /**
+   * Removes Card c from this set.
+   * @param c the card to remove
+   * @return true if this set contained c
+   */
+  public boolean remove(Card c) {
+    return remove(c.getSCard());
+  }
+
+  /**
+   * Removes the card that wraps SCard c from this set.
+   * @param c the card to remove
+   * @return true if this set contained c
+   */
+  public boolean remove(SCard c) {
+    long before = bits;
+    bits &= ~bit(c);
+    return before != bits;
+  }
+
+  /**
+   * Adds every card in 'other' to this set (in-place union).
+   * @param other the cards to add
+   */
+  public void addAll(CardSet other) {
+    bits |= other.bits;
+  }
+
+  /**
+   * Removes every card in 'other' from this set (in-place difference).
+   * @param other the cards to remove
+   */
+  public void removeAll(CardSet other) {
+    bits &= ~other.bits;
+  }
+
+  /**
+   * Removes every card from this set.
+   */
+  public void clear() {
+    bits = 0L;
+  }
+
+  //**************************************************************************************** GETTERS
+  /**
+   * Returns true if this set contains Card c.
+   * @param c the card to check
+   * @return true if this set contains c
+   */
+  public boolean contains(Card c) {
+    return (bits & bit(c)) != 0;
+  }
+
+  /**
+   * Returns true if this set contains the card that wraps SCard c.
+   * @param c the card to check
+   * @return true if this set contains c
+   */
+  public boolean contains(SCard c) {
+    return (bits & bit(c)) != 0;
+  }
+
+  /**
+   * Returns true if this set contains every card in 'other'.
+   * @param other the cards to check
+   * @return true if this set contains every card in 'other'
+   */
+  public boolean containsAll(CardSet other) {
+    return (other.bits & ~bits) == 0;
+  }
+
+  /**
+   * Returns true if this set and 'other' have at least one card in common.
+   * @param other the cards to check
+   * @return true if this set and 'other' intersect
+   */
+  public boolean intersects(CardSet other) {
+    return (bits & other.bits) != 0;
+  }
+
+  /**
+   * Returns a new CardSet containing the cards in this set and the cards in 'other'.
+   * @param other the other set
+   * @return the union of this set and 'other'
+   */
+  public CardSet union(CardSet other) {
+    return new CardSet(bits | other.bits);
+  }
+
+  /**
+   * Returns the amount of cards in this set (the population count of its mask).
+   * @return the amount of cards in this set
+   */
+  public int size() {
+    return Long.bitCount(bits);
+  }
+
+  /**
+   * Returns true if this set contains no cards.
+   * @return true if this set is empty
+   */
+  public boolean isEmpty() {
+    return bits == 0;
+  }
+
+  /**
+   * Returns the mask backing this set.
+   * @return the mask backing this set
+   */
+  public long bits() {
+    return bits;
+  }
+
+  /**
+   * Returns a new list of the cards in this set ordered by SCard ordinal.
+   * @return the cards in this set
+   */
+  public List<Card> toList() {
+    List<Card> cards = new ArrayList<>(size());
+    for (Card c : this) cards.add(c);
+    return cards;
+  }
+
+  /**
+   * Iterates over the cards in this set by SCard ordinal.
+   */
+  @Override
+  public Iterator<Card> iterator() {
+    return new Iterator<>() {
+      private long remaining = bits;
+
+      @Override
+      public boolean hasNext() {
+        return remaining != 0;
+      }
+
+      @Override
+      public Card next() {
+        SCard next = lowest(remaining);
+        remaining &= remaining - 1;
+        return Card.of(next);
+      }
+    };
+  }
+
+  //*************************************************************************** GOOD CLASS OVERRIDES
+  @Override
+  public String toString() {
+    return toList().toString();
+  }
+
+  @Override
+  public boolean equals(Object other) {
+    if (this == other) return true;
+    if (other == null || getClass() != other.getClass()) {
+      return false;
+    }
+    CardSet o = (CardSet) other;
+    return this.bits == o.bits;
+  }
+
+  @Override
+  public int hashCode() {
+    return Long.hashCode(bits);
+  }
+}
@@ -85,11 +85,34 @@ public enum SCard {
     return rank;
   }
 
+  /**
+   * Returns this card's trump strength: the amount of cards in a standard deck this card trumps,
+   *   from 0 (STAR_7) to 55 (BLUE_1). Card a trumps card b if and only if a's trump strength is
+   *   greater than b's, so every card has a distinct strength.
+   * @return this card's trump strength
+   */
+  public int trumpStrength() {
+    return trumpStrength;
+  }
+
+  /**
+   * Returns this card's index when cards are ordered by increasing rank and then by suit (see
+   *   Suit enum for Suit order), from 0 (BLUE_1) to 55 (STAR_7).
+   * @return this card's rank order index
+   */
+  public int rankOrder() {
+    return rankOrder;
+  }
+
   private final Suit suit;
   private final Rank rank;
+  private final int trumpStrength;
+  private final int rankOrder;
 
   SCard(Suit s, Rank r) {
     this.suit = s;
     this.rank = r;
+    this.trumpStrength = s == Suit.BLUE ? 56 - r.number() : 7 * (7 - r.number()) + 7 - s.ordinal();
+    this.rankOrder = (r.number() - 1) * 8 + s.ordinal();
   }
 }
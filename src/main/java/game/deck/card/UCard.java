@@ -87,30 +87,25 @@ public enum UCard {
    * @return the UCard with the same Rank and Color as c
    */
   public static UCard toUCard(Card c) {
-    switch (c.getRank()) {
-      case ONE -> {
-        for (UCard u : List.of(A1, B1, R1)) if (c.getColor().equals(u.color)) return u;
-      }
-      case TWO -> {
-        for (UCard u : List.of(A2, B2, R2)) if (c.getColor().equals(u.color)) return u;
-      }
-      case THREE -> {
-        for (UCard u : List.of(A3, B3, R3)) if (c.getColor().equals(u.color)) return u;
-      }
-      case FOUR -> {
-        for (UCard u : List.of(A4, B4, R4)) if (c.getColor().equals(u.color)) return u;
-      }
-      case FIVE -> {
-        for (UCard u : List.of(A5, B5, R5)) if (c.getColor().equals(u.color)) return u;
-      }
-      case SIX -> {
-        for (UCard u : List.of(A6, B6, R6)) if (c.getColor().equals(u.color)) return u;
-      }
-      case SEVEN -> {
-        for (UCard u : List.of(A7, B7, R7)) if (c.getColor().equals(u.color)) return u;
-      }
-    }
-    throw new IllegalStateException("No corresponding UCard");
+    return BY_SCARD[c.getSCard().ordinal()];
+  }
+
+  /**
+   * Returns the UCard with the same Rank and Color as SCard c.
+   * @param c the SCard to convert
+   * @return the UCard with the same Rank and Color as c
+   */
+  public static UCard of(SCard c) {
+    return BY_SCARD[c.ordinal()];
+  }
+
+  /**
+   * Returns this UCard's bit in a UCard mask: bit i is set for the UCard with ordinal i, so any set
+   *   of the 21 UCards fits in an int.
+   * @return this UCard's mask bit
+   */
+  public int bit() {
+    return 1 << ordinal();
   }
 
   /**
@@ -149,6 +144,14 @@ public enum UCard {
     return cards;
   }
 
+  private static final UCard[] BY_SCARD = new UCard[SCard.values().length];
+
+  static {
+    for (UCard u : values()) {
+      for (SCard c : u.cards) BY_SCARD[c.ordinal()] = u;
+    }
+  }
+
   private final Rank rank;
   private final Color color;
   private final List<SCard> cards;
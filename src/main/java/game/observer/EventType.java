@@ -1,15 +1,17 @@
 package game.observer;
 
 /**
- * Game events that implementations of 'Observer' are notified of.
+ * Game events that implementations of 'Observer' are notified of. Each type's data is carried by
+ *   the 'GameEvent' record of the same name.
  */
 public enum EventType {
-  PLAYER_CHOICE, // data list = player, card, location, well, pond, next player
-  PLAYER_DISCARD, // data list = player, card, well
-  CARDS_CLEARED, // data list = cards discarded
-  WELL_FLIPPED, // data list = empty
-  POND_FLIPPED, // data list = empty
-  TURN_OVER, // data list = empty
-  ROUND_OVER, // data list = rendState
-  GAME_OVER // data list = winner, points
+  PLAYER_CHOICE, // GameEvent.PlayerChoice: player, card, location, well, pond, next player
+  PLAYER_DISCARD, // GameEvent.PlayerDiscard: player, card, well
+  CARDS_CLEARED, // GameEvent.CardsCleared: cards discarded
+  ROUND_STARTED, // GameEvent.RoundStarted: no data
+  WELL_FLIPPED, // GameEvent.WellFlipped: no data
+  POND_FLIPPED, // GameEvent.PondFlipped: no data
+  TURN_OVER, // GameEvent.TurnOver: no data
+  ROUND_OVER, // GameEvent.RoundOver: rendState
+  GAME_OVER // GameEvent.GameOver: winner, points
 }
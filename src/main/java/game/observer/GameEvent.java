@@ -0,0 +1,125 @@
+package game.observer;
+
+import java.util.List;
+import java.util.Optional;
+
+import game.deck.card.Card;
+import game.rends.REndState;
+import player.IPlayer;
+
+/**
+ * A game event that implementations of 'Observer' are notified of, with its typed data. Every
+ *   event has one EventType, which is what 'Observer's subscribe to. Events are only built when at
+ *   least one 'Observer' subscribes to their type.
+ */
+public sealed interface GameEvent {
+  /**
+   * The 'RoundStarted', 'WellFlipped', 'PondFlipped', and 'TurnOver' events, which have no data and
+   *   are shared.
+   */
+  RoundStarted ROUND_STARTED = new RoundStarted();
+  WellFlipped WELL_FLIPPED = new WellFlipped();
+  PondFlipped POND_FLIPPED = new PondFlipped();
+  TurnOver TURN_OVER = new TurnOver();
+
+  /**
+   * Returns this event's type.
+   * @return this event's type
+   */
+  EventType type();
+
+  /**
+   * A player chose a card from the pond or well.
+   * @param player the player who chose 'card'
+   * @param card the chosen card
+   * @param location where 'card' was chosen from ("pond" or "well")
+   * @param well the current well
+   * @param pond the current pond
+   * @param next the player who chooses next, empty if 'player' was the last to choose
+   */
+  record PlayerChoice(IPlayer player, Card card, String location, List<Card> well, List<Card> pond,
+                      Optional<IPlayer> next) implements GameEvent {
+    @Override
+    public EventType type() {
+      return EventType.PLAYER_CHOICE;
+    }
+  }
+
+  /**
+   * A player's discard was flipped over in the pond.
+   * @param player the player who discarded 'card'
+   * @param card the discarded card
+   * @param well the current well
+   */
+  record PlayerDiscard(IPlayer player, Card card, List<Card> well) implements GameEvent {
+    @Override
+    public EventType type() {
+      return EventType.PLAYER_DISCARD;
+    }
+  }
+
+  /**
+   * Cards were thrown into the sea.
+   * @param cards the cleared cards
+   */
+  record CardsCleared(List<Card> cards) implements GameEvent {
+    @Override
+    public EventType type() {
+      return EventType.CARDS_CLEARED;
+    }
+  }
+
+  /**
+   * Every player was dealt their hand for a new round.
+   */
+  record RoundStarted() implements GameEvent {
+    @Override
+    public EventType type() {
+      return EventType.ROUND_STARTED;
+    }
+  }
+
+  record WellFlipped() implements GameEvent {
+    @Override
+    public EventType type() {
+      return EventType.WELL_FLIPPED;
+    }
+  }
+
+  record PondFlipped() implements GameEvent {
+    @Override
+    public EventType type() {
+      return EventType.POND_FLIPPED;
+    }
+  }
+
+  record TurnOver() implements GameEvent {
+    @Override
+    public EventType type() {
+      return EventType.TURN_OVER;
+    }
+  }
+
+  /**
+   * A round ended.
+   * @param rendState how the round ended
+   */
+  record RoundOver(REndState rendState) implements GameEvent {
+    @Override
+    public EventType type() {
+      return EventType.ROUND_OVER;
+    }
+  }
+
+  /**
+   * The game ended.
+   * @param winner the game's winner
+   * @param points the winner's points
+   */
+  record GameOver(IPlayer winner, int points) implements GameEvent {
+    @Override
+    public EventType type() {
+      return EventType.GAME_OVER;
+    }
+  }
+}
@@ -1,11 +1,26 @@
 package game.observer;
 
-import java.util.List;
+import java.util.EnumSet;
+import java.util.Set;
 
 /**
  * Implementations of this interface subscribe to notifications about 'EventType's from the 'IGame'
- *   instance they're associated with.
+ *   instance they're associated with. The game reads 'subscriptions()' once, when the 'Observer' is
+ *   added, and only notifies it of events of those types.
  */
 public interface Observer {
-  void update(EventType event, List<Object> data);
+  /**
+   * Notifies this 'Observer' of a game event whose type it subscribes to.
+   * @param event the event
+   */
+  void update(GameEvent event);
+
+  /**
+   * Returns the types of the events this 'Observer' is notified of. Subscribes to every type
+   *   unless overridden.
+   * @return the subscribed event types
+   */
+  default Set<EventType> subscriptions() {
+    return EnumSet.allOf(EventType.class);
+  }
 }
@@ -15,6 +15,8 @@ import player.IPlayer;
 public class ScoreSheet {
   ArrayList<RScore> sheet;
   int currentRound;
+  int firstRound; // the first round this score-sheet can record
+  int[] startTotals; // totals before 'firstRound'
   int size; // amount of players
   IPlayer[] order; // order of players
 
@@ -23,8 +25,29 @@ public class ScoreSheet {
    * @param players the players in order
    */
   public ScoreSheet(List<IPlayer> players) {
+    this(players, 1, new int[players.size() + 1]);
+  }
+
+  /**
+   * Creates a score-sheet that continues a game from round 'round', when the players' totals are
+   *   'totals' (one per player and the sum, as in 'addRound'). Rounds before 'round' aren't
+   *   recorded. Used by forked games, which copy a game's scores but not its history.
+   * @param players the players in order
+   * @param round the round being played
+   * @param totals each player's total and the sum of all totals (last index)
+   * @throws IllegalArgumentException if totals.length doesn't equal the amount of players + 1 or
+   *                                  round is less than 1
+   */
+  public ScoreSheet(List<IPlayer> players, int round, int[] totals) {
+    if (totals.length != players.size() + 1) {
+      throw new IllegalArgumentException(totals.length + " totals passed to ScoreSheet - "
+              + (players.size() + 1) + " should be passed");
+    }
+    if (round < 1) throw new IllegalArgumentException("Round " + round + " doesn't exist");
     sheet = new ArrayList<>();
-    currentRound = 1;
+    currentRound = round;
+    firstRound = round;
+    startTotals = totals.clone();
     size = players.size();
     order = players.toArray(new IPlayer[0]);
   }
@@ -52,8 +75,8 @@ public class ScoreSheet {
 
     int[] totals = new int[size + 1];
     int[] previousTotals;
-    if (!sheet.isEmpty()) previousTotals = sheet.get(currentRound - 2).getTotals();
-    else previousTotals = new int[size + 1];
+    if (!sheet.isEmpty()) previousTotals = sheet.getLast().getTotals();
+    else previousTotals = startTotals;
 
     for (int i = 0; i < size + 1; i++) totals[i] = previousTotals[i] + deltas[i];
 
@@ -70,10 +93,10 @@ public class ScoreSheet {
    * @throws IllegalArgumentException if roundNum-th round doesn't exist
    */
   public RScore getRound(int roundNum) {
-    if (roundNum < 1 || roundNum > sheet.size()) {
+    if (roundNum < firstRound || roundNum >= currentRound) {
       throw new IllegalArgumentException("Round " + roundNum + " doesn't exist");
     }
-    return sheet.get(roundNum - 1);
+    return sheet.get(roundNum - firstRound);
   }
 
   /**
@@ -85,6 +108,14 @@ public class ScoreSheet {
     return currentRound;
   }
 
+  /**
+   * Returns the first round this score-sheet records - 1, unless it continues a forked game.
+   * @return the first round this score-sheet records
+   */
+  public int getFirstRound() {
+    return firstRound;
+  }
+
   /**
    * Returns the last (most recent) round recorded in this ScoreSheet.
    * @return the last round in this ScoreSheet
@@ -133,7 +164,7 @@ public class ScoreSheet {
   private void throwIfDiscrepancy(int[] totals) {
     for (int i = 0; i < order.length; i++) {
       if (totals[i] != order[i].getPoints()) {
-        sheet.remove(currentRound - 2);
+        sheet.removeLast();
         currentRound--;
         throw new IllegalStateException("Discrepancy between score sheet and player score! "
                 + order[i].name() + " has " + totals[i] + " points according to score sheet, but "
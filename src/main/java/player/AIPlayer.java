@@ -1,12 +1,16 @@
 package player;
 
-import java.util.ArrayList;
+import java.util.EnumSet;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 
+import game.IGame;
 import game.deck.card.Card;
 import game.observer.EventType;
+import game.observer.GameEvent;
+import player.strategy.IGameAware;
 import player.strategy.IMemory;
 import player.strategy.strategies.IStrategy;
 
@@ -15,15 +19,18 @@ import player.strategy.strategies.IStrategy;
  */
 public class AIPlayer extends APlayer {
   protected final IStrategy strategy;
+  private final IMemory memory; // null if 'strategy' has no memory
 
   public AIPlayer(String n, IStrategy s) {
     super(n);
     this.strategy = s;
+    this.memory = s.getMemory().orElse(null);
   }
 
   public AIPlayer(IStrategy s) {
     super();
     this.strategy = s;
+    this.memory = s.getMemory().orElse(null);
   }
 
   //************************************************************************************ SELF MODIFY
@@ -59,6 +66,16 @@ public class AIPlayer extends APlayer {
     return strategy.recommendedCall(opponents, well);
   }
 
+  /**
+   * Passes 'game' and 'seat' on to 'strategy' if it's an instance of 'IGameAware'.
+   * @param game the game this player joined
+   * @param seat this player's seat
+   */
+  @Override
+  public void joinGame(IGame game, int seat) {
+    if (strategy instanceof IGameAware aware) aware.joinGame(game, seat);
+  }
+
   @Override
   public void resetNewRound() {
     super.resetNewRound();
@@ -68,34 +85,39 @@ public class AIPlayer extends APlayer {
   //*************************************************************************************** OBSERVER
   /**
    * This method is called by instances of 'IGame' to notify this 'IPlayer' of game events. If
-   *   'strategy' is not an instance of 'IMemory', returns. Else calls 'IMemory's methods to inform
-   *   'strategy' if the EventType is 'EventType.PLAYER_CHOICE', 'EventType.PLAYER_DISCARD', or
-   *   'EventType.CARDS_CLEARED'. All other EventTypes are ignored.
-   * @param event the 'EventType'
-   * @param data the event's data
+   *   'strategy' has no memory ('IStrategy.getMemory()'), returns. Else calls 'IMemory's methods to
+   *   inform its memory of 'GameEvent.PlayerChoice', 'GameEvent.PlayerDiscard', and
+   *   'GameEvent.CardsCleared' events. All other events are ignored.
+   * @param event the event
    */
   @Override
-  public void update(EventType event, List<Object> data) {
-    if (!(strategy instanceof IMemory)) return;
+  public void update(GameEvent event) {
+    if (memory == null) return;
     switch (event) {
-      case PLAYER_CHOICE -> {
-        if (data.getFirst() != this) ((IMemory) strategy)
-                .notifyOfPlayerChoice((IPlayer) data.get(0), (Card) data.get(1),
-                        (String) data.get(2), (List<Card>) data.get(3), (List<Card>) data.get(4));
-      }
-      case PLAYER_DISCARD -> {
-        if (data.getFirst() != this) ((IMemory) strategy)
-                .notifyOfPlayerDiscard((IPlayer) data.get(0), (Card) data.get(1),
-                        (List<Card>) data.get(2));
+      case GameEvent.PlayerChoice e -> {
+        if (e.player() != this) {
+          memory.notifyOfPlayerChoice(e.player(), e.card(), e.location(), e.well(), e.pond());
+        }
       }
-      case CARDS_CLEARED -> {
-        List<Card> cardList = new ArrayList<>();
-        for (Object o : data) cardList.add((Card) o);
-        ((IMemory) strategy).notifyOfCardsCleared(cardList);
+      case GameEvent.PlayerDiscard e -> {
+        if (e.player() != this) memory.notifyOfPlayerDiscard(e.player(), e.card(), e.well());
       }
+      case GameEvent.CardsCleared e -> memory.notifyOfCardsCleared(e.cards());
+      default -> { }
     }
   }
 
+  /**
+   * Subscribes to the events 'IMemory' strategies are notified of, or to none if 'strategy' has no
+   *   memory.
+   * @return the subscribed event types
+   */
+  @Override
+  public Set<EventType> subscriptions() {
+    if (memory == null) return EnumSet.noneOf(EventType.class);
+    return EnumSet.of(EventType.PLAYER_CHOICE, EventType.PLAYER_DISCARD, EventType.CARDS_CLEARED);
+  }
+
   //***************************************************************************** ADDITIONAL GETTERS
   /**
    * Returns this AIPlayer's 'strategy'.
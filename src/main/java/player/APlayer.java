@@ -7,7 +7,7 @@ import java.util.Optional;
 
 import display.IDisplay;
 import game.deck.card.Card;
-import game.deck.card.properties.Position;
+import game.deck.card.CardSet;
 import utility.Utility;
 
 /**
@@ -16,6 +16,7 @@ import utility.Utility;
 public abstract class APlayer implements IPlayer {
   public String name;
   protected ArrayList<Card> hand; // private
+  protected final CardSet handSet; // mirrors 'hand' for allocation-free membership checks
   protected int totalGamePoints; // protected
   protected Optional<Card> pondCard; // protected
   protected IDisplay display; // protected
@@ -28,6 +29,7 @@ public abstract class APlayer implements IPlayer {
   public APlayer(String n) {
     this.name = n;
     this.hand = new ArrayList<>();
+    this.handSet = new CardSet();
     this.totalGamePoints = 0;
     this.pondCard = Optional.empty();
     this.display = null;
@@ -39,6 +41,7 @@ public abstract class APlayer implements IPlayer {
   public APlayer() {
     this.name = "New player";
     this.hand = new ArrayList<>();
+    this.handSet = new CardSet();
     this.totalGamePoints = 0;
     this.pondCard = Optional.empty();
     this.display = null;
@@ -54,6 +57,7 @@ public abstract class APlayer implements IPlayer {
   @Override
   public void resetNewRound() {
     this.hand = new ArrayList<>();
+    this.handSet.clear();
     this.pondCard = Optional.empty();
   }
 
@@ -61,13 +65,13 @@ public abstract class APlayer implements IPlayer {
   @Override
   public void dealCard(Card c) {
     hand.add(c);
-    c.setPosition(Position.HAND);
+    handSet.add(c);
     hand = new ArrayList<>(Utility.sortHandByRank(hand));
   }
 
   @Override
   public void throwCard(Card c) {
-    if (!hand.contains(c)) {
+    if (!handSet.remove(c)) {
       throw new IllegalArgumentException("Hand doesn't contain card " + c.toString());
     }
     hand.remove(c);
@@ -91,7 +95,6 @@ public abstract class APlayer implements IPlayer {
 
   @Override
   public void setPondCard(Card c) {
-    c.setPosition(Position.POND_H);
     pondCard = Optional.of(c);
   }
 
@@ -106,6 +109,11 @@ public abstract class APlayer implements IPlayer {
     return hand;
   }
 
+  @Override
+  public CardSet getHandSet() {
+    return handSet;
+  }
+
   @Override
   public int getPoints() {
     return totalGamePoints;
@@ -1,10 +1,13 @@
 package player;
 
+import java.util.EnumSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import game.deck.card.Card;
 import game.observer.EventType;
+import game.observer.GameEvent;
 
 /**
  * A human player in a Blues game. All non-void public methods' return values are obtained by
@@ -74,11 +77,19 @@ public class HPlayer extends APlayer {
   //*************************************************************************************** OBSERVER
   /**
    * 'HumanPlayer's never use 'IMemory', so this method is empty.
-   * @param event the 'EventType'
-   * @param data the event's data
+   * @param event the event
    */
   @Override
-  public void update(EventType event, List<Object> data) {
+  public void update(GameEvent event) {
+  }
+
+  /**
+   * 'HumanPlayer's never use 'IMemory', so they don't subscribe to any events.
+   * @return an empty set
+   */
+  @Override
+  public Set<EventType> subscriptions() {
+    return EnumSet.noneOf(EventType.class);
   }
 
   //**************************************************************************************** HELPERS
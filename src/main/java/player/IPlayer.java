@@ -4,7 +4,9 @@ import java.util.List;
 import java.util.Optional;
 
 import display.IDisplay;
+import game.IGame;
 import game.deck.card.Card;
+import game.deck.card.CardSet;
 import game.observer.Observer;
 
 /**
@@ -39,6 +41,15 @@ public interface IPlayer extends Observer {
    */
   Optional<IPlayer> callNo(List<IPlayer> opponents, List<Card> well);
 
+  /**
+   * Called by 'game' when it's constructed with this player in seat 'seat' (their index in
+   *   'game.getPlayers()'). Does nothing unless overridden.
+   * @param game the game this player joined
+   * @param seat this player's seat
+   */
+  default void joinGame(IGame game, int seat) {
+  }
+
   /**
    * Resets fields in preparation for a new game.
    */
@@ -83,7 +94,7 @@ public interface IPlayer extends Observer {
   void setDisplay(IDisplay d);
 
   /**
-   * Sets this Player's pond card to c and changes c's position to POND_H.
+   * Sets this Player's pond card to c.
    * @param c the pond card
    */
   void setPondCard(Card c);
@@ -100,6 +111,13 @@ public interface IPlayer extends Observer {
    */
   List<Card> getHand();
 
+  /**
+   * Returns this player's hand as a CardSet. The returned set is backed by this player's hand and
+   *   must not be modified by the caller.
+   * @return this player's hand as a CardSet
+   */
+  CardSet getHandSet();
+
   /**
    * Returns this Player's name.
    * @return this Player's name
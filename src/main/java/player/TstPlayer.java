@@ -6,6 +6,7 @@ import java.util.Optional;
 
 import game.deck.card.Card;
 import game.observer.EventType;
+import game.observer.GameEvent;
 
 /**
  * FOR TESTING PURPOSES ONLY. Overrode methods' return values (action values) are set by additional
@@ -22,7 +23,7 @@ public class TstPlayer extends APlayer {
   public int idx;
   public List<Integer> all3;
   public List<EventType> events;
-  public List<List<Object>> datas;
+  public List<GameEvent> datas;
   public List<String> dataStrings;
 
   /**
@@ -129,12 +130,11 @@ public class TstPlayer extends APlayer {
   /**
    * Called by instances of 'IGame' to notify 'Observer's of game events. This method passes its
    *   arguments to 'dataListify' so they can be stored for testing purposes.
-   * @param event the EventType
-   * @param data the event's data
+   * @param event the event
    */
   @Override
-  public void update(EventType event, List<Object> data) {
-    dataListify(event, data);
+  public void update(GameEvent event) {
+    dataListify(event);
   }
 
   //**************************************************************************************** SETTERS
@@ -240,49 +240,49 @@ public class TstPlayer extends APlayer {
   /**
    * Converts the notifications received by the 'update' method inherited from the 'Observer'
    *   interface to Strings and stores them in field 'dataStrings' for testing purposes. Also stores
-   *   arguments 'events' and 'data'.
-   * @param event the EventType
-   * @param data the event's data
+   *   the event and its type in 'datas' and 'events'.
+   * @param event the event
    */
-  private void dataListify(EventType event, List<Object> data) {
-    events.add(event);
-    datas.add(data);
+  private void dataListify(GameEvent event) {
+    events.add(event.type());
+    datas.add(event);
 
     switch (event) {
-      case PLAYER_CHOICE -> {
-        StringBuilder sb = new StringBuilder(((IPlayer) data.getFirst()).name() + " chose the " +
-                ((Card) data.get(1)).ansiTS() + " from the " +  data.get(2));
-        sb.append(", 4th list index: ");
-        if (data.size() == 3) sb.append("empty");
-        else sb.append(((IPlayer) data.get(3)).name());
+      case GameEvent.PlayerChoice e -> {
+        StringBuilder sb = new StringBuilder(e.player().name() + " chose the " +
+                e.card().ansiTS() + " from the " +  e.location());
+        sb.append(", next player: ");
+        if (e.next().isEmpty()) sb.append("empty");
+        else sb.append(e.next().get().name());
         dataStrings.add(sb.toString());
       }
 
-      case PLAYER_DISCARD -> dataStrings.add(((IPlayer) data.getFirst()).name()+ " threw the "
-              + ((Card) data.get(1)).ansiTS() + " into the pond");
+      case GameEvent.PlayerDiscard e -> dataStrings.add(e.player().name()+ " threw the "
+              + e.card().ansiTS() + " into the pond");
 
-      case CARDS_CLEARED -> {
+      case GameEvent.CardsCleared e -> {
         StringBuilder sb = new StringBuilder();
-        if (data.isEmpty()) break;
-        for (Object o : data) {
-          Card c = (Card) o;
+        if (e.cards().isEmpty()) break;
+        for (Card c : e.cards()) {
           sb.append(c.ansiTS()).append(" ");
         }
         String verb = "were";
-        if (data.size() == 1) verb = "was";
+        if (e.cards().size() == 1) verb = "was";
         dataStrings.add(sb + verb + " thrown into the sea");
       }
 
-      case WELL_FLIPPED -> dataStrings.add("Well flipped");
+      case GameEvent.RoundStarted e -> dataStrings.add("Round started");
 
-      case POND_FLIPPED -> dataStrings.add("Pond flipped");
+      case GameEvent.WellFlipped e -> dataStrings.add("Well flipped");
 
-      case TURN_OVER -> dataStrings.add("Turn over");
+      case GameEvent.PondFlipped e -> dataStrings.add("Pond flipped");
 
-      case ROUND_OVER -> dataStrings.add((data.getFirst().toString()));
+      case GameEvent.TurnOver e -> dataStrings.add("Turn over");
 
-      case GAME_OVER -> dataStrings.add(((IPlayer) data.getFirst()).name() + " won the game with "
-              + data.get(1) + " points");
+      case GameEvent.RoundOver e -> dataStrings.add(e.rendState().toString());
+
+      case GameEvent.GameOver e -> dataStrings.add(e.winner().name() + " won the game with "
+              + e.points() + " points");
     }
   }
 }
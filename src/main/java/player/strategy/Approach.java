@@ -4,6 +4,8 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.random.RandomGenerator;
 
 import game.deck.card.Card;
 import game.deck.card.properties.Color;
@@ -21,10 +23,11 @@ public enum Approach {
      * Returns hand in order of recommended discard. Cards are ordered from highest to lowest
      *   suit points. If two cards have the same suit, the one with the lower rank appears first.
      * @param hand the hand to reorder
+     * @param random ignored in this implementation
      * @return hand in order of recommended discard
      */
     @Override
-    public List<Card> recDiscard(List<Card> hand) {
+    public List<Card> recDiscard(List<Card> hand, RandomGenerator random) {
       List<Card> sorted = new ArrayList<>(hand);
       sorted.sort(Comparator.comparing((Card card) -> card.getSuit().points()).reversed()
               .thenComparing(card -> card.getRank().number()));
@@ -40,18 +43,20 @@ public enum Approach {
      * @param hand the hand to consider
      * @param well the well to reorder
      * @param pond the pond to reorder
+     * @param random ignored in this implementation
      * @return combined well and pond in order of recommended choice
      */
     @Override
-    public List<Card> recChoose(List<Card> hand, List<Card> well, List<Card> pond) {
+    public List<Card> recChoose(List<Card> hand, List<Card> well, List<Card> pond,
+                                RandomGenerator random) {
       ArrayList<Card> sorted = new ArrayList<>(pond);
       sorted.addAll(well);
       ArrayList<Integer> addsPoints = new ArrayList<>();
+      int without = Utility.points(hand);
+      Card[] handCopy = hand.toArray(new Card[hand.size() + 1]);
 
       for (Card c : sorted) {
-        List<Card> handCopy = new ArrayList<>(hand);
-        int without = Utility.points(hand);
-        handCopy.add(c);
+        handCopy[hand.size()] = c;
         int with = Utility.points(handCopy);
         addsPoints.add(with - without);
       }
@@ -73,10 +78,11 @@ public enum Approach {
      *   suit points appears first. Blue cards appear last, ordered from highest to lowest rank
      *   number.
      * @param hand the hand to reorder
+     * @param random ignored in this implementation
      * @return combined well and pond in order of recommended choice
      */
     @Override
-    public List<Card> recDiscard(List<Card> hand) {
+    public List<Card> recDiscard(List<Card> hand, RandomGenerator random) {
       List<Card> handCopy = new ArrayList<>(hand);
       List<Card> sorted = new ArrayList<>();
       for (Card c : hand) {
@@ -100,10 +106,12 @@ public enum Approach {
      * @param hand ignored in this implementation
      * @param well the well to reorder
      * @param pond the pond to reorder
+     * @param random ignored in this implementation
      * @return combined well and pond in order of recommended choice
      */
     @Override
-    public List<Card> recChoose(List<Card> hand, List<Card> well, List<Card> pond) {
+    public List<Card> recChoose(List<Card> hand, List<Card> well, List<Card> pond,
+                                RandomGenerator random) {
       ArrayList<Card> wend = new ArrayList<>(pond);
       wend.addAll(well);
       ArrayList<Card> wendCopy = new ArrayList<>(wend);
@@ -130,12 +138,13 @@ public enum Approach {
     /**
      * Returns hand in random order.
      * @param hand the hand to reorder
+     * @param random the source of randomness
      * @return combined well and pond in random order
      */
     @Override
-    public List<Card> recDiscard(List<Card> hand) {
+    public List<Card> recDiscard(List<Card> hand, RandomGenerator random) {
       List<Card> randomOrder = new ArrayList<>(hand);
-      Collections.shuffle(randomOrder);
+      Collections.shuffle(randomOrder, random);
       return randomOrder;
     }
 
@@ -144,13 +153,15 @@ public enum Approach {
      * @param hand ignored in this implementation
      * @param well the well to reorder
      * @param pond the pond to reorder
+     * @param random the source of randomness
      * @return combined well and pond in random order
      */
     @Override
-    public List<Card> recChoose(List<Card> hand, List<Card> well, List<Card> pond) {
+    public List<Card> recChoose(List<Card> hand, List<Card> well, List<Card> pond,
+                                RandomGenerator random) {
       ArrayList<Card> wend = new ArrayList<>(pond);
       wend.addAll(well);
-      Collections.shuffle(wend);
+      Collections.shuffle(wend, random);
       return wend;
     }
   };
@@ -159,16 +170,42 @@ public enum Approach {
   /**
    * Returns hand in order of recommended discard.
    * @param hand the hand to reorder
+   * @param random the source of randomness for approaches that make random recommendations
    * @return hand in order of recommended discard
    */
-  public abstract List<Card> recDiscard(List<Card> hand);
+  public abstract List<Card> recDiscard(List<Card> hand, RandomGenerator random);
 
   /**
    * Returns combined well and pond in order of recommended choice.
    * @param hand the hand to consider
    * @param well the well to reorder
    * @param pond the pond to reorder
+   * @param random the source of randomness for approaches that make random recommendations
    * @return combined well and pond in order of recommended choice
    */
-  public abstract List<Card> recChoose(List<Card> hand, List<Card> well, List<Card> pond);
+  public abstract List<Card> recChoose(List<Card> hand, List<Card> well, List<Card> pond,
+                                       RandomGenerator random);
+
+  //*************************************************************************************** DEFAULTS
+  /**
+   * Returns hand in order of recommended discard, using this thread's ThreadLocalRandom for random
+   *   recommendations.
+   * @param hand the hand to reorder
+   * @return hand in order of recommended discard
+   */
+  public List<Card> recDiscard(List<Card> hand) {
+    return recDiscard(hand, ThreadLocalRandom.current());
+  }
+
+  /**
+   * Returns combined well and pond in order of recommended choice, using this thread's
+   *   ThreadLocalRandom for random recommendations.
+   * @param hand the hand to consider
+   * @param well the well to reorder
+   * @param pond the pond to reorder
+   * @return combined well and pond in order of recommended choice
+   */
+  public List<Card> recChoose(List<Card> hand, List<Card> well, List<Card> pond) {
+    return recChoose(hand, well, pond, ThreadLocalRandom.current());
+  }
 }
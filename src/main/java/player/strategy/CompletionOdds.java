@@ -0,0 +1,190 @@
+package player.strategy;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.LongAdder;
+
+import game.deck.card.CardSet;
+import game.deck.card.SCard;
+import game.deck.card.UCard;
+
+/**
+ * Estimates the chance that a hand completes a WinningHand within the turns left in the round,
+ *   given how many copies of each UCard it still needs are unseen. Each turn is modeled as a well
+ *   of 4 cards drawn at random from the unseen cards (a hypergeometric draw): the player takes one
+ *   needed card from it if there is one, choosing whichever leaves the best chance of finishing,
+ *   and needed copies it doesn't take are gone. Cards that reach the pond and cards opponents take
+ *   from the deck's wells aren't modeled, so the estimate is for ranking hands, not a forecast.
+ * The chance only depends on the unseen copies of each needed UCard, not on which UCards they are,
+ *   so estimates are cached under the copies (sorted), the total unseen cards and the turns left.
+ *   That key space is small enough to index a flat table directly, which is filled in lazily and
+ *   shared by every strategy through 'get()'. Two threads filling the same entry compute the same
+ *   value, so the table is safe to share without locking.
+ */
+public class CompletionOdds {
+  public static final int MAX_NEEDED = 3;
+  public static final int MAX_TURNS = 15;
+  private static final int COPIES = 5; // 0 through 4 copies of a UCard
+  private static final int CARDS = SCard.values().length;
+  private static final int WELL = 4;
+  private static final long[] UCARD_BITS = new long[UCard.values().length];
+  private static final double[][] CHOOSE = new double[CARDS + 1][WELL + 1];
+
+  static {
+    for (UCard u : UCard.values()) UCARD_BITS[u.ordinal()] = CardSet.ofSCards(u.cards()).bits();
+    for (int n = 0; n <= CARDS; n++) {
+      CHOOSE[n][0] = 1;
+      for (int k = 1; k <= WELL && k <= n; k++) {
+        CHOOSE[n][k] = CHOOSE[n - 1][k - 1] + CHOOSE[n - 1][k];
+      }
+    }
+  }
+
+  private static final CompletionOdds SHARED = new CompletionOdds();
+
+  private final float[] table; // NaN marks an estimate that hasn't been computed
+  private final LongAdder computed;
+
+  /**
+   * Creates an empty CompletionOdds. Strategies should share the one returned by 'get()'.
+   */
+  public CompletionOdds() {
+    this.table = new float[COPIES * COPIES * COPIES * (CARDS + 1) * (MAX_TURNS + 1)];
+    Arrays.fill(table, Float.NaN);
+    this.computed = new LongAdder();
+  }
+
+  /**
+   * Returns the CompletionOdds shared by every strategy.
+   * @return the shared CompletionOdds
+   */
+  public static CompletionOdds get() {
+    return SHARED;
+  }
+
+  //************************************************************************************** ESTIMATES
+  /**
+   * Returns the chance that a hand completes 'desired' within 'turns' turns, counting a needed
+   *   UCard's cards as unseen unless they're in 'hand' or 'gone'.
+   * @param desired the WinningHand
+   * @param hand the current hand
+   * @param gone cards known to be out of reach (discarded or in another player's hand)
+   * @param turns the turns left in the round, including the current one
+   * @return the chance of completing desired
+   * @throws IllegalArgumentException if hand needs more than MAX_NEEDED cards to get desired
+   */
+  public double probability(WinningHand desired, CardSet hand, CardSet gone, int turns) {
+    long known = hand.bits() | gone.bits();
+    int needed = WinningHand.neededMask(desired, WinningHand.uMask(hand));
+    int[] copies = new int[Integer.bitCount(needed)];
+    int i = 0;
+    for (int n = needed; n != 0; n &= n - 1) {
+      copies[i++] = Long.bitCount(UCARD_BITS[Integer.numberOfTrailingZeros(n)] & ~known);
+    }
+    return probability(copies, CARDS - Long.bitCount(known), turns);
+  }
+
+  /**
+   * Returns the chance of getting one copy of every needed UCard within 'turns' turns.
+   * @param copies the unseen copies of each needed UCard, in any order
+   * @param unseen the total unseen cards, which include those copies
+   * @param turns the turns left in the round, including the current one; more than MAX_TURNS
+   *              counts as MAX_TURNS
+   * @return the chance of completing the hand
+   * @throws IllegalArgumentException if more than MAX_NEEDED UCards are needed, a UCard has more
+   *                                  than 4 or fewer than 0 copies, or unseen is out of range
+   */
+  public double probability(int[] copies, int unseen, int turns) {
+    if (copies.length > MAX_NEEDED) {
+      throw new IllegalArgumentException("At most " + MAX_NEEDED + " UCards can be needed");
+    }
+    int sum = 0;
+    for (int c : copies) {
+      if (c < 0 || c >= COPIES) throw new IllegalArgumentException("Invalid copies: " + c);
+      sum += c;
+    }
+    if (unseen < sum || unseen > CARDS) {
+      throw new IllegalArgumentException("Invalid unseen: " + unseen);
+    }
+    for (int c : copies) {
+      if (c == 0) return 0; // a needed UCard has no copies left
+    }
+    int[] sorted = Arrays.copyOf(copies, MAX_NEEDED);
+    Arrays.sort(sorted);
+    return estimate(sorted[2], sorted[1], sorted[0], unseen, Math.clamp(turns, 0, MAX_TURNS));
+  }
+
+  /**
+   * Returns the amount of estimates that have been computed and cached.
+   * @return the cached estimates
+   */
+  public long getComputed() {
+    return computed.sum();
+  }
+
+  //************************************************************************************** COMPUTING
+  /**
+   * Returns the cached estimate for needed copies 'a' ≥ 'b' ≥ 'c' (0 for a UCard that isn't
+   *   needed), computing it first if it's missing.
+   */
+  private double estimate(int a, int b, int c, int unseen, int turns) {
+    int needed = (a > 0 ? 1 : 0) + (b > 0 ? 1 : 0) + (c > 0 ? 1 : 0);
+    if (needed == 0) return 1;
+    if (needed > turns || unseen < WELL) return 0;
+    int copies = (a * COPIES + b) * COPIES + c;
+    int index = (copies * (CARDS + 1) + unseen) * (MAX_TURNS + 1) + turns;
+    float cached = table[index];
+    if (!Float.isNaN(cached)) return cached;
+
+    float p = (float) compute(new int[] {a, b, c}, unseen, turns); // the cached precision
+    table[index] = p;
+    computed.increment();
+    return p;
+  }
+
+  /**
+   * Sums, over every way the next well can hold copies of the needed UCards, the chance of that
+   *   well times the best chance of finishing after it.
+   */
+  private double compute(int[] copies, int unseen, int turns) {
+    int rest = unseen - copies[0] - copies[1] - copies[2];
+    double total = 0;
+    for (int x = 0; x <= Math.min(copies[0], WELL); x++) {
+      for (int y = 0; y <= Math.min(copies[1], WELL - x); y++) {
+        for (int z = 0; z <= Math.min(copies[2], WELL - x - y); z++) {
+          int others = WELL - x - y - z;
+          if (others > rest) continue;
+          double chance = CHOOSE[copies[0]][x] * CHOOSE[copies[1]][y] * CHOOSE[copies[2]][z]
+                  * CHOOSE[rest][others] / CHOOSE[unseen][WELL];
+          total += chance * afterWell(copies, new int[] {x, y, z}, unseen - WELL, turns - 1);
+        }
+      }
+    }
+    return total;
+  }
+
+  /**
+   * Returns the best chance of finishing once a well holding 'drawn' copies of each needed UCard
+   *   has been seen: the player takes one of them (or nothing if there are none) and the rest are
+   *   gone, so a UCard whose last copies were drawn but not taken can't be finished.
+   */
+  private double afterWell(int[] copies, int[] drawn, int unseen, int turns) {
+    if (drawn[0] + drawn[1] + drawn[2] == 0) {
+      return estimate(copies[0], copies[1], copies[2], unseen, turns);
+    }
+    double best = 0;
+    for (int i = 0; i < MAX_NEEDED; i++) {
+      if (drawn[i] == 0) continue;
+      int[] left = new int[MAX_NEEDED];
+      boolean finishable = true;
+      for (int j = 0; j < MAX_NEEDED; j++) {
+        if (j == i || copies[j] == 0) continue;
+        left[j] = copies[j] - drawn[j];
+        if (left[j] == 0) finishable = false;
+      }
+      if (!finishable) continue;
+      Arrays.sort(left);
+      best = Math.max(best, estimate(left[2], left[1], left[0], unseen, turns));
+    }
+    return best;
+  }
+}
@@ -0,0 +1,253 @@
+package player.strategy;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.LongAdder;
+
+import game.deck.card.Card;
+
+/**
+ * A fixed-size cache of strategy decisions that can be shared by every thread of a study. A
+ *   decision is keyed by the strategy's variant and state (see 'ICacheable') and the card masks of
+ *   the hand, well and pond it was made with, and holds the card decided on along with the state
+ *   the strategy was left in. The key is packed into a 64-bit hash, which picks the key's bucket
+ *   and rejects most mismatches with a single comparison; the full key is compared too, so a hash
+ *   collision never returns another situation's decision.
+ * Slots are grouped into buckets of BUCKET_SIZE guarded by a fixed set of striped locks, like a
+ *   'TranspositionTable'. When a bucket is full, an entry is evicted with the CLOCK algorithm: a
+ *   bucket's clock hand sweeps its slots, giving each entry that has been read since the hand last
+ *   passed a second chance, and evicts the first one that hasn't.
+ */
+public class DecisionCache {
+  public static final int BUCKET_SIZE = 4;
+  private static final int STRIPES = 256;
+
+  /**
+   * A cached decision.
+   * @param card the card decided on
+   * @param state the state the strategy was left in after deciding
+   */
+  public record Decision(Card card, long state) {
+  }
+
+  private final long[] hashes; // 0 marks an empty slot
+  private final long[] variants;
+  private final long[] states;
+  private final long[] hands;
+  private final long[] wells;
+  private final long[] ponds;
+  private final Decision[] decisions;
+  private final boolean[] referenced;
+  private final int[] clocks; // the clock hand of each bucket
+  private final int bucketMask;
+  private final Object[] locks;
+  private final LongAdder size;
+  private final LongAdder hits;
+  private final LongAdder misses;
+  private final LongAdder evictions;
+
+  /**
+   * Creates a DecisionCache with room for at most 'capacity' decisions, rounded down to a power of
+   *   two.
+   * @param capacity the most decisions
+   * @throws IllegalArgumentException if capacity is less than BUCKET_SIZE
+   */
+  public DecisionCache(int capacity) {
+    if (capacity < BUCKET_SIZE) {
+      throw new IllegalArgumentException("Capacity must be at least " + BUCKET_SIZE);
+    }
+    int buckets = Integer.highestOneBit(capacity / BUCKET_SIZE);
+    this.hashes = new long[buckets * BUCKET_SIZE];
+    this.variants = new long[hashes.length];
+    this.states = new long[hashes.length];
+    this.hands = new long[hashes.length];
+    this.wells = new long[hashes.length];
+    this.ponds = new long[hashes.length];
+    this.decisions = new Decision[hashes.length];
+    this.referenced = new boolean[hashes.length];
+    this.clocks = new int[buckets];
+    this.bucketMask = buckets - 1;
+    this.locks = new Object[Math.min(buckets, STRIPES)];
+    for (int i = 0; i < locks.length; i++) locks[i] = new Object();
+    this.size = new LongAdder();
+    this.hits = new LongAdder();
+    this.misses = new LongAdder();
+    this.evictions = new LongAdder();
+  }
+
+  //**************************************************************************************** CACHING
+  /**
+   * Returns the decision cached for the key, or null if there isn't one.
+   * @param variant the strategy's variant
+   * @param state the strategy's state before deciding
+   * @param hand the card mask of the hand
+   * @param well the card mask of the well
+   * @param pond the card mask of the pond
+   * @return the cached decision, or null
+   */
+  public Decision get(long variant, long state, long hand, long well, long pond) {
+    long hash = hash(variant, state, hand, well, pond);
+    int bucket = bucket(hash);
+    synchronized (lock(bucket)) {
+      int slot = find(bucket, hash, variant, state, hand, well, pond);
+      if (slot < 0) {
+        misses.increment();
+        return null;
+      }
+      referenced[slot] = true;
+      hits.increment();
+      return decisions[slot];
+    }
+  }
+
+  /**
+   * Caches 'decision' for the key, evicting another decision if the key's bucket is full.
+   * @param variant the strategy's variant
+   * @param state the strategy's state before deciding
+   * @param hand the card mask of the hand
+   * @param well the card mask of the well
+   * @param pond the card mask of the pond
+   * @param decision the decision made
+   */
+  public void put(long variant, long state, long hand, long well, long pond, Decision decision) {
+    long hash = hash(variant, state, hand, well, pond);
+    int bucket = bucket(hash);
+    synchronized (lock(bucket)) {
+      int slot = find(bucket, hash, variant, state, hand, well, pond);
+      if (slot < 0) slot = victim(bucket);
+      hashes[slot] = hash;
+      variants[slot] = variant;
+      states[slot] = state;
+      hands[slot] = hand;
+      wells[slot] = well;
+      ponds[slot] = pond;
+      decisions[slot] = decision;
+      referenced[slot] = false;
+    }
+  }
+
+  /**
+   * Removes every decision and resets the counts. Not safe to call while the cache is in use.
+   */
+  public void clear() {
+    Arrays.fill(hashes, 0);
+    Arrays.fill(decisions, null);
+    Arrays.fill(referenced, false);
+    Arrays.fill(clocks, 0);
+    size.reset();
+    hits.reset();
+    misses.reset();
+    evictions.reset();
+  }
+
+  /**
+   * Returns the 64-bit hash a key is packed into.
+   * @param variant the strategy's variant
+   * @param state the strategy's state before deciding
+   * @param hand the card mask of the hand
+   * @param well the card mask of the well
+   * @param pond the card mask of the pond
+   * @return the key's hash, never 0
+   */
+  public static long hash(long variant, long state, long hand, long well, long pond) {
+    long h = TranspositionTable.mix(variant);
+    h = TranspositionTable.mix(h ^ state);
+    h = TranspositionTable.mix(h ^ hand);
+    h = TranspositionTable.mix(h ^ well);
+    h = TranspositionTable.mix(h ^ pond);
+    return h == 0 ? 1 : h;
+  }
+
+  //**************************************************************************************** GETTERS
+  /**
+   * Returns the most decisions this cache holds.
+   * @return the capacity
+   */
+  public int getCapacity() {
+    return hashes.length;
+  }
+
+  /**
+   * Returns the amount of decisions this cache holds.
+   * @return the size
+   */
+  public long getSize() {
+    return size.sum();
+  }
+
+  /**
+   * Returns the amount of lookups that found a decision.
+   * @return the hits
+   */
+  public long getHits() {
+    return hits.sum();
+  }
+
+  /**
+   * Returns the amount of lookups that didn't find a decision.
+   * @return the misses
+   */
+  public long getMisses() {
+    return misses.sum();
+  }
+
+  /**
+   * Returns the share of lookups that found a decision, or 0 if there haven't been any.
+   * @return the hit rate
+   */
+  public double getHitRate() {
+    long h = hits.sum();
+    long lookups = h + misses.sum();
+    return lookups == 0 ? 0 : (double) h / lookups;
+  }
+
+  /**
+   * Returns the amount of decisions that were evicted to make room for others.
+   * @return the evictions
+   */
+  public long getEvictions() {
+    return evictions.sum();
+  }
+
+  //**************************************************************************************** HELPERS
+  private int find(int bucket, long hash, long variant, long state, long hand, long well,
+                   long pond) {
+    int first = bucket * BUCKET_SIZE;
+    for (int i = first; i < first + BUCKET_SIZE; i++) {
+      if (hashes[i] == hash && variants[i] == variant && states[i] == state && hands[i] == hand
+              && wells[i] == well && ponds[i] == pond) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  /**
+   * Returns an empty slot in 'bucket', or else the slot the bucket's clock hand evicts.
+   */
+  private int victim(int bucket) {
+    int first = bucket * BUCKET_SIZE;
+    for (int i = first; i < first + BUCKET_SIZE; i++) {
+      if (hashes[i] == 0) {
+        size.increment();
+        return i;
+      }
+    }
+    while (true) {
+      int slot = first + clocks[bucket];
+      clocks[bucket] = (clocks[bucket] + 1) % BUCKET_SIZE;
+      if (!referenced[slot]) {
+        evictions.increment();
+        return slot;
+      }
+      referenced[slot] = false;
+    }
+  }
+
+  private int bucket(long hash) {
+    return (int) (hash ^ hash >>> 32) & bucketMask;
+  }
+
+  private Object lock(int bucket) {
+    return locks[bucket & (locks.length - 1)];
+  }
+}
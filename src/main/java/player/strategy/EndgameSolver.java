@@ -0,0 +1,340 @@
+package player.strategy;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.random.RandomGenerator;
+
+import game.GameState;
+import game.IGame;
+import game.deck.card.Card;
+import game.deck.card.CardSet;
+import game.deck.card.SCard;
+import utility.BluesTable;
+import utility.Utility;
+
+/**
+ * Finds the discard and choice that minimize a seat's expected points once the deck is nearly
+ *   empty. The round ends with a deck empty ending after the turn that leaves fewer than 4 cards in
+ *   the deck, so the last turns form a small tree that can be searched to the end.
+ * The cards the seat can't see are dealt at random 'samples' times ('GameState.redeterminize'),
+ *   and each deal is solved exactly: every combination of opponents' discards is enumerated (each
+ *   is assumed to be as likely as the others), the seat's own choices are searched, and every set
+ *   of 4 cards left in the deck is enumerated as the next well. Opponents choose the card that
+ *   leaves them with the fewest points right away, which is their best choice on the last turn.
+ *   Blues endings are played out (a player who completes blues ends the round), but No Blues calls
+ *   aren't, and positions after a turn are memoized for the length of a decision.
+ * With the default threshold only the last turn is solved, which takes about a millisecond per
+ *   deal. Each turn added by a higher threshold multiplies the work by every possible well and
+ *   discard (the last two turns take seconds per deal). An EndgameSolver isn't safe to share
+ *   between threads.
+ */
+public class EndgameSolver {
+  public static final int DEFAULT_THRESHOLD = 4; // the last turn only
+  public static final int DEFAULT_SAMPLES = 16;
+
+  private static final SCard[] SCARDS = SCard.values();
+
+  private final int threshold;
+  private final int samples;
+  private final RandomGenerator random;
+  private final Map<Key, Double> memo;
+  private int seat;
+
+  /**
+   * A position after a turn: every hand and the deck, hashed to 128 bits.
+   */
+  private record Key(long a, long b) {
+  }
+
+  /**
+   * Creates an EndgameSolver with DEFAULT_THRESHOLD and DEFAULT_SAMPLES.
+   */
+  public EndgameSolver() {
+    this(DEFAULT_THRESHOLD, DEFAULT_SAMPLES, new SplittableRandom());
+  }
+
+  /**
+   * Creates an EndgameSolver.
+   * @param threshold the solver applies once the deck has fewer cards than this (after the turn's
+   *                  well is flipped)
+   * @param samples the random deals of unseen cards per decision
+   * @param random the generator deals are drawn with
+   * @throws IllegalArgumentException if threshold or samples is less than 1
+   */
+  public EndgameSolver(int threshold, int samples, RandomGenerator random) {
+    if (threshold < 1) throw new IllegalArgumentException("Threshold must be at least 1");
+    if (samples < 1) throw new IllegalArgumentException("Samples must be at least 1");
+    this.threshold = threshold;
+    this.samples = samples;
+    this.random = random;
+    this.memo = new HashMap<>();
+  }
+
+  //**************************************************************************************** SOLVING
+  /**
+   * Returns true if 'game' is close enough to its deck empty ending to solve.
+   * @param game the game
+   * @return true if the deck has fewer than 'threshold' cards
+   */
+  public boolean applies(IGame game) {
+    return !game.roundOver() && game.getDeck().cardsSize() < threshold;
+  }
+
+  /**
+   * Returns the card in the hand of 'seat' whose discard minimizes its expected points.
+   * @param game the game, whose players are about to discard
+   * @param seat the seat discarding
+   * @return the best discard
+   * @throws IllegalStateException if the game's players aren't about to discard
+   */
+  public Card bestDiscard(IGame game, int seat) {
+    GameState state = game.snapshot();
+    if (state.getWell().size() != 4 || !state.getPond().isEmpty()) {
+      throw new IllegalStateException("Players aren't about to discard");
+    }
+    this.seat = seat;
+    List<Card> options = state.getHand(seat).toList();
+    double[] sums = new double[options.size()];
+    memo.clear();
+
+    for (int n = 0; n < samples; n++) {
+      GameState deal = state.redeterminize(seat, random);
+      long[] hands = hands(deal);
+      long well = CardSet.mask(deal.getWell());
+      long deck = CardSet.mask(deal.getDeck());
+      for (int i = 0; i < options.size(); i++) {
+        sums[i] += discardValue(hands, well, deck, bit(options.get(i)));
+      }
+    }
+    return options.get(best(sums));
+  }
+
+  /**
+   * Returns the card in the pond or well whose choice minimizes the expected points of 'seat'.
+   * @param game the game, in which 'seat' is choosing
+   * @param seat the seat choosing
+   * @return the best choice
+   * @throws IllegalStateException if 'seat' isn't choosing
+   */
+  public Card bestChoice(IGame game, int seat) {
+    GameState state = game.snapshot();
+    int[] order = state.getChoiceOrder();
+    int k = state.getChooser();
+    if (!state.isChoosing() || order[k] != seat) {
+      throw new IllegalStateException("Seat " + seat + " isn't choosing");
+    }
+    this.seat = seat;
+    long pond = CardSet.mask(state.getPond());
+    long well = k < 2 ? CardSet.mask(state.getWell()) : 0;
+    List<Card> options = new CardSet(pond | well).toList();
+    long ourPondCard = state.getPondCard(seat).map(EndgameSolver::bit).orElse(0L);
+    double[] sums = new double[options.size()];
+    memo.clear();
+
+    // on the last turn, nothing hidden changes the seat's points
+    int deals = state.getDeck().size() < 4 ? 1 : samples;
+    for (int n = 0; n < deals; n++) {
+      GameState deal = state.redeterminize(seat, random);
+      long[] hands = hands(deal);
+      long deck = CardSet.mask(deal.getDeck());
+      for (int i = 0; i < options.size(); i++) {
+        sums[i] += pick(hands, order, k, bit(options.get(i)), pond, well, deck, ourPondCard);
+      }
+    }
+    return options.get(best(sums));
+  }
+
+  /**
+   * Returns the amount of positions memoized for the last decision.
+   * @return the memoized positions
+   */
+  public int getLastPositions() {
+    return memo.size();
+  }
+
+  //************************************************************************************** SEARCHING
+  /**
+   * Returns the seat's expected points if it discards 'ourDiscard' and the opponents discard any
+   *   of their cards, each combination as likely as the others.
+   */
+  private double discardValue(long[] hands, long well, long deck, long ourDiscard) {
+    long[] discards = new long[hands.length];
+    discards[seat] = ourDiscard;
+    double[] total = new double[2]; // the sum of values and the combinations
+    discardCombinations(hands, well, deck, discards, 0, total);
+    return total[0] / total[1];
+  }
+
+  /**
+   * Enumerates every discard of the opponents from seat 's' on, and plays the turn's choices for
+   *   every complete combination.
+   */
+  private void discardCombinations(long[] hands, long well, long deck, long[] discards, int s,
+                                   double[] total) {
+    if (s == hands.length) {
+      long[] kept = new long[hands.length];
+      long pond = 0;
+      for (int i = 0; i < hands.length; i++) {
+        kept[i] = hands[i] & ~discards[i];
+        pond |= discards[i];
+      }
+      total[0] += choose(kept, choiceOrder(discards), 0, pond, well, deck, discards[seat]);
+      total[1]++;
+      return;
+    }
+    if (s == seat) {
+      discardCombinations(hands, well, deck, discards, s + 1, total);
+      return;
+    }
+    for (long h = hands[s]; h != 0; h &= h - 1) {
+      discards[s] = h & -h;
+      discardCombinations(hands, well, deck, discards, s + 1, total);
+    }
+  }
+
+  /**
+   * Returns the seat's expected points once the players from 'order[k]' on have chosen. The seat
+   *   picks its best choice, opponents pick their best card right away.
+   */
+  private double choose(long[] hands, int[] order, int k, long pond, long well, long deck,
+                        long ourPondCard) {
+    if (k == order.length) return afterTurn(hands, deck);
+    if (k == 2) well = 0; // the well is cleared for the 3rd and 4th choosers
+    long available = pond | well;
+    int s = order[k];
+    if (s != seat) {
+      return pick(hands, order, k, greedyChoice(hands[s], available), pond, well, deck,
+              ourPondCard);
+    }
+    double best = Double.POSITIVE_INFINITY;
+    for (long a = available; a != 0; a &= a - 1) {
+      best = Math.min(best, pick(hands, order, k, a & -a, pond, well, deck, ourPondCard));
+    }
+    return best;
+  }
+
+  /**
+   * Returns the seat's expected points after 'order[k]' picks card 'c'.
+   */
+  private double pick(long[] hands, int[] order, int k, long c, long pond, long well, long deck,
+                      long ourPondCard) {
+    int s = order[k];
+    long[] next = hands.clone();
+    next[s] |= c;
+    if (BluesTable.get().isBlues(next[s])) {
+      if (s == seat) return BluesTable.get().points(next[s]);
+      long ours = next[seat];
+      if (Long.bitCount(ours) == 4 && (pond & ~c & ourPondCard) != 0) ours |= ourPondCard;
+      return points(ours);
+    }
+    return choose(next, order, k + 1, pond & ~c, well & ~c, deck, ourPondCard);
+  }
+
+  /**
+   * Returns the seat's expected points once every player has chosen: its hand points if the deck
+   *   can't fill another well, else the average over every next well of its best discard.
+   */
+  private double afterTurn(long[] hands, long deck) {
+    if (Long.bitCount(deck) < 4) return points(hands[seat]);
+    Key key = key(hands, deck);
+    Double known = memo.get(key);
+    if (known != null) return known;
+
+    double sum = 0;
+    int wells = 0;
+    long[] cards = new long[Long.bitCount(deck)];
+    int n = 0;
+    for (long d = deck; d != 0; d &= d - 1) cards[n++] = d & -d;
+    for (int a = 0; a < n; a++) {
+      for (int b = a + 1; b < n; b++) {
+        for (int c = b + 1; c < n; c++) {
+          for (int d = c + 1; d < n; d++) {
+            long well = cards[a] | cards[b] | cards[c] | cards[d];
+            double best = Double.POSITIVE_INFINITY;
+            for (long h = hands[seat]; h != 0; h &= h - 1) {
+              best = Math.min(best, discardValue(hands, well, deck & ~well, h & -h));
+            }
+            sum += best;
+            wells++;
+          }
+        }
+      }
+    }
+    memo.put(key, sum / wells);
+    return sum / wells;
+  }
+
+  //**************************************************************************************** HELPERS
+  /**
+   * Returns the card in 'available' that leaves 'hand' with the fewest points, blues counting as
+   *   its (negative) blues points.
+   */
+  private static long greedyChoice(long hand, long available) {
+    long best = available & -available;
+    int bestPoints = Integer.MAX_VALUE;
+    for (long a = available; a != 0; a &= a - 1) {
+      long with = hand | (a & -a);
+      int p = BluesTable.get().isBlues(with) ? BluesTable.get().points(with) : points(with);
+      if (p < bestPoints) {
+        best = a & -a;
+        bestPoints = p;
+      }
+    }
+    return best;
+  }
+
+  /**
+   * Returns the seats in the order they choose, by the trump strength of their discards.
+   */
+  private static int[] choiceOrder(long[] discards) {
+    int[] order = new int[discards.length];
+    for (int i = 0; i < order.length; i++) {
+      int strength = strength(discards[i]);
+      int j = i;
+      while (j > 0 && strength(discards[order[j - 1]]) < strength) {
+        order[j] = order[j - 1];
+        j--;
+      }
+      order[j] = i;
+    }
+    return order;
+  }
+
+  private static int strength(long card) {
+    return SCARDS[Long.numberOfTrailingZeros(card)].trumpStrength();
+  }
+
+  private static int points(long hand) {
+    return Utility.points(new CardSet(hand));
+  }
+
+  private static long[] hands(GameState state) {
+    long[] hands = new long[state.getSeats()];
+    for (int s = 0; s < hands.length; s++) hands[s] = state.getHand(s).bits();
+    return hands;
+  }
+
+  private static long bit(Card c) {
+    return 1L << c.getSCard().ordinal();
+  }
+
+  private static int best(double[] sums) {
+    int best = 0;
+    for (int i = 1; i < sums.length; i++) {
+      if (sums[i] < sums[best]) best = i;
+    }
+    return best;
+  }
+
+  private static Key key(long[] hands, long deck) {
+    long a = TranspositionTable.mix(deck);
+    long b = TranspositionTable.mix(deck ^ 0x9E3779B97F4A7C15L);
+    for (long h : hands) {
+      a = TranspositionTable.mix(a ^ h);
+      b = TranspositionTable.mix(b + h);
+    }
+    return new Key(a, b);
+  }
+}
@@ -0,0 +1,46 @@
+package player.strategy;
+
+/**
+ * Implemented by strategies whose decisions can be cached in a 'DecisionCache': a deterministic
+ *   strategy decides by the cards it's passed (as sets, in any order) and its state alone, and its
+ *   whole state can be read and restored as a long.
+ */
+public interface ICacheable {
+  /**
+   * Returns true if this strategy's decisions depend only on the cards it's passed and its state.
+   *   Strategies that draw random numbers, remember other players' moves or look at the game
+   *   return false.
+   * @return true if this strategy's decisions can be cached
+   */
+  boolean isDeterministic();
+
+  /**
+   * Returns a value that's the same for strategies that decide the same way in the same state and
+   *   differs otherwise, e.g. one derived from the class and 'Approach'.
+   * @return this strategy's variant
+   */
+  long getVariant();
+
+  /**
+   * Returns this strategy's state, which along with the cards it's passed determines its next
+   *   decision.
+   * @return the state
+   */
+  long getState();
+
+  /**
+   * Restores a state returned by 'getState()', e.g. the state a strategy was left in after a
+   *   decision that was read from a cache instead of being made.
+   * @param state the state
+   */
+  void setState(long state);
+
+  /**
+   * Returns true if this strategy's discards depend on the well as well as the hand. Discards of
+   *   strategies that return false are cached by hand alone, so they're found far more often.
+   * @return true if discards depend on the well
+   */
+  default boolean discardsUseWell() {
+    return true;
+  }
+}
@@ -0,0 +1,18 @@
+package player.strategy;
+
+import game.IGame;
+
+/**
+ * Implemented by strategies that look at the whole game rather than just the cards they're passed,
+ *   e.g. to fork it for rollouts. 'AIPlayer' passes on the game and seat it's told about when a
+ *   game is constructed with it.
+ */
+public interface IGameAware {
+  /**
+   * Tells this strategy which game its player is in and in which seat (their index in
+   *   'game.getPlayers()').
+   * @param game the game
+   * @param seat the player's seat
+   */
+  void joinGame(IGame game, int seat);
+}
@@ -0,0 +1,213 @@
+package player.strategy;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A fixed-size table of tree search statistics keyed by 64-bit hashes, shared by every thread of a
+ *   search. Keys and statistics are kept in parallel primitive arrays, so storing an entry
+ *   allocates nothing. Slots are grouped into buckets of BUCKET_SIZE, and a key can only be stored
+ *   in its own bucket. When that bucket is full, the least visited entry in it is evicted, so the
+ *   table keeps the statistics the search has put the most work into. Buckets are guarded by a
+ *   fixed set of striped locks.
+ * An entry holds a visit count, a reward sum, and an availability count (how often its move could
+ *   have been chosen, which information-set search needs since moves aren't always legal).
+ *   Searches that run in parallel apply a virtual loss when they visit an entry, which makes other
+ *   threads less likely to pick it until the visit's real reward replaces the loss.
+ */
+public class TranspositionTable {
+  public static final int BUCKET_SIZE = 4;
+  private static final int STRIPES = 256;
+
+  /**
+   * A copy of an entry's statistics.
+   * @param visits the times the entry's move was chosen, including visits still in progress
+   * @param reward the sum of the rewards of those visits, with virtual losses for those in progress
+   * @param available the times the entry's move could have been chosen
+   */
+  public record Stats(int visits, double reward, int available) {
+  }
+
+  private final long[] keys; // 0 marks an empty slot
+  private final int[] visits;
+  private final double[] rewards;
+  private final int[] available;
+  private final int bucketMask;
+  private final Object[] locks;
+  private final LongAdder size;
+  private final LongAdder evictions;
+
+  /**
+   * Creates a TranspositionTable with room for at most 'capacity' entries, rounded down to a power
+   *   of two.
+   * @param capacity the most entries
+   * @throws IllegalArgumentException if capacity is less than BUCKET_SIZE
+   */
+  public TranspositionTable(int capacity) {
+    if (capacity < BUCKET_SIZE) {
+      throw new IllegalArgumentException("Capacity must be at least " + BUCKET_SIZE);
+    }
+    int buckets = Integer.highestOneBit(capacity / BUCKET_SIZE);
+    this.keys = new long[buckets * BUCKET_SIZE];
+    this.visits = new int[keys.length];
+    this.rewards = new double[keys.length];
+    this.available = new int[keys.length];
+    this.bucketMask = buckets - 1;
+    this.locks = new Object[Math.min(buckets, STRIPES)];
+    for (int i = 0; i < locks.length; i++) locks[i] = new Object();
+    this.size = new LongAdder();
+    this.evictions = new LongAdder();
+  }
+
+  //************************************************************************************** SEARCHING
+  /**
+   * Counts that the move of entry 'key' could have been chosen, adding the entry if it's missing,
+   *   and returns its statistics.
+   * @param key the entry's key
+   * @return the entry's statistics, after counting
+   */
+  public Stats markAvailable(long key) {
+    key = nonZero(key);
+    int bucket = bucket(key);
+    synchronized (lock(bucket)) {
+      int slot = findOrAdd(bucket, key);
+      available[slot]++;
+      return new Stats(visits[slot], rewards[slot], available[slot]);
+    }
+  }
+
+  /**
+   * Counts a visit to entry 'key' that's in progress, adding the entry if it's missing, with a
+   *   reward of -virtualLoss until 'update' is called with the visit's reward.
+   * @param key the entry's key
+   * @param virtualLoss the loss counted until the visit's reward is known, 0 for none
+   */
+  public void visit(long key, double virtualLoss) {
+    key = nonZero(key);
+    int bucket = bucket(key);
+    synchronized (lock(bucket)) {
+      int slot = findOrAdd(bucket, key);
+      visits[slot]++;
+      rewards[slot] -= virtualLoss;
+    }
+  }
+
+  /**
+   * Replaces the virtual loss of a visit to entry 'key' with the visit's reward. Does nothing if
+   *   the entry was evicted since the visit.
+   * @param key the entry's key
+   * @param reward the visit's reward
+   * @param virtualLoss the virtual loss 'visit' was called with
+   */
+  public void update(long key, double reward, double virtualLoss) {
+    key = nonZero(key);
+    int bucket = bucket(key);
+    synchronized (lock(bucket)) {
+      int slot = find(bucket, key);
+      if (slot >= 0) rewards[slot] += reward + virtualLoss;
+    }
+  }
+
+  /**
+   * Returns the statistics of entry 'key', or null if the table doesn't hold it.
+   * @param key the entry's key
+   * @return the entry's statistics, or null
+   */
+  public Stats get(long key) {
+    key = nonZero(key);
+    int bucket = bucket(key);
+    synchronized (lock(bucket)) {
+      int slot = find(bucket, key);
+      return slot < 0 ? null : new Stats(visits[slot], rewards[slot], available[slot]);
+    }
+  }
+
+  /**
+   * Removes every entry. Not safe to call while a search is using this table.
+   */
+  public void clear() {
+    Arrays.fill(keys, 0);
+    Arrays.fill(visits, 0);
+    Arrays.fill(rewards, 0);
+    Arrays.fill(available, 0);
+    size.reset();
+    evictions.reset();
+  }
+
+  //**************************************************************************************** GETTERS
+  /**
+   * Returns the most entries this table holds.
+   * @return the capacity
+   */
+  public int getCapacity() {
+    return keys.length;
+  }
+
+  /**
+   * Returns the amount of entries this table holds.
+   * @return the size
+   */
+  public long getSize() {
+    return size.sum();
+  }
+
+  /**
+   * Returns the amount of entries that were evicted to make room for others.
+   * @return the evictions
+   */
+  public long getEvictions() {
+    return evictions.sum();
+  }
+
+  /**
+   * Returns 'z' with every bit spread over the whole result (the finalizer of MurmurHash3), for
+   *   building keys out of card masks and other values with few set bits.
+   * @param z the value to mix
+   * @return the mixed value
+   */
+  public static long mix(long z) {
+    z = (z ^ (z >>> 33)) * 0xFF51AFD7ED558CCDL;
+    z = (z ^ (z >>> 33)) * 0xC4CEB9FE1A85EC53L;
+    return z ^ (z >>> 33);
+  }
+
+  //**************************************************************************************** HELPERS
+  private int find(int bucket, long key) {
+    int first = bucket * BUCKET_SIZE;
+    for (int i = first; i < first + BUCKET_SIZE; i++) {
+      if (keys[i] == key) return i;
+    }
+    return -1;
+  }
+
+  private int findOrAdd(int bucket, long key) {
+    int first = bucket * BUCKET_SIZE;
+    int victim = first;
+    for (int i = first; i < first + BUCKET_SIZE; i++) {
+      if (keys[i] == key) return i;
+      if (keys[victim] != 0 && (keys[i] == 0 || visits[i] < visits[victim])) victim = i;
+    }
+    if (keys[victim] == 0) {
+      size.increment();
+    } else {
+      evictions.increment();
+    }
+    keys[victim] = key;
+    visits[victim] = 0;
+    rewards[victim] = 0;
+    available[victim] = 0;
+    return victim;
+  }
+
+  private int bucket(long key) {
+    return (int) (key ^ key >>> 32) & bucketMask;
+  }
+
+  private Object lock(int bucket) {
+    return locks[bucket & (locks.length - 1)];
+  }
+
+  private static long nonZero(long key) {
+    return key == 0 ? 1 : key;
+  }
+}
@@ -4,6 +4,7 @@ import java.util.ArrayList;
 import java.util.List;
 
 import game.deck.card.Card;
+import game.deck.card.CardSet;
 import game.deck.card.SCard;
 import game.deck.card.UCard;
 import utility.Utility;
@@ -92,15 +93,12 @@ public enum WinningHand {
    * @return list of UCards the player needs to get desired
    */
   public static List<UCard> cardsNeededFor(WinningHand desired, List<Card> current) {
-    List<Card> sorted = Utility.sortHandByRank(new ArrayList<>(current));
-    List<UCard> needed = new ArrayList<>();
-
+    int needed = neededMask(desired, uMask(current));
+    List<UCard> neededList = new ArrayList<>(Integer.bitCount(needed));
     for (UCard uCard : desired.unsuitedCardList) {
-      boolean has = false;
-      for (Card c : sorted) if (uCard.satisfiedBy(c)) has = true;
-      if (!has) needed.add(uCard);
+      if ((needed & uCard.bit()) != 0) neededList.add(uCard);
     }
-    return needed;
+    return neededList;
   }
 
   /**
@@ -111,9 +109,7 @@ public enum WinningHand {
    * @return true if adding helper to current makes current closer to desired
    */
   public static boolean helps(WinningHand desired, List<Card> current, Card helper) {
-    List<Card> currentWithHelper = new ArrayList<>(current);
-    currentWithHelper.add(helper);
-    return cardsAwayFrom(desired, currentWithHelper) < cardsAwayFrom(desired, current);
+    return helps(desired, uMask(current), helper);
   }
 
   /**
@@ -123,7 +119,7 @@ public enum WinningHand {
    * @return the number of cards away from desired current hand is
    */
   public static int cardsAwayFrom(WinningHand desired, List<Card> current) {
-    return cardsNeededFor(desired, current).size();
+    return cardsAwayFrom(desired, uMask(current));
   }
 
   /**
@@ -171,24 +167,17 @@ public enum WinningHand {
   }
 
   /**
-   * Returns a list of the WinningHands current is closest to.
+   * Returns a list of the WinningHands current is closest to. Only hands 3 or fewer cards away are
+   *   considered, so the list is empty if every WinningHand is further away.
    * @param current current hand
    * @return list of WinningHands current is closest to
    */
   public static ArrayList<WinningHand> closestTo(List<Card> current) {
-    ArrayList<WinningHand> closestTo = new ArrayList<>();
-    int cardsAway = 3;
-
-    for (WinningHand h : WinningHand.values()) {
-      int away = cardsAwayFrom(h, current);
-      if (away == cardsAway) closestTo.add(h);
-      if (away < cardsAway) {
-        cardsAway = away;
-        closestTo = new ArrayList<>();
-        closestTo.add(h);
-      }
+    long closest = closestToMask(uMask(current));
+    ArrayList<WinningHand> closestTo = new ArrayList<>(Long.bitCount(closest));
+    for (; closest != 0; closest &= closest - 1) {
+      closestTo.add(HANDS[Long.numberOfTrailingZeros(closest)]);
     }
-
     return closestTo;
   }
 
@@ -198,9 +187,100 @@ public enum WinningHand {
    * @return number of cards away current is from WinningHand(s) current is closest to
    */
   public static int cardsAwayFromClosestTo(List<Card> current) {
-    List<WinningHand> closestTo = closestTo(current);
-    if (closestTo.isEmpty()) return 5;
-    return cardsAwayFrom(closestTo(current).getFirst(), current);
+    return cardsAwayFromClosestTo(uMask(current));
+  }
+
+  //*********************************************************************************** MASK INDEXES
+  /**
+   * Returns the UCard mask of current: bit i is set if a card in current satisfies the UCard with
+   *   ordinal i (see 'UCard.bit()'). A hand is as far from a WinningHand as the number of the
+   *   WinningHand's UCard bits missing from the hand's mask, so the mask is all the methods below
+   *   need to know about a hand.
+   * @param current current hand
+   * @return the UCard mask of current
+   */
+  public static int uMask(List<Card> current) {
+    int mask = 0;
+    for (Card c : current) mask |= UCard.toUCard(c).bit();
+    return mask;
+  }
+
+  /**
+   * Returns the UCard mask of current. See 'uMask(List)'.
+   * @param current current hand
+   * @return the UCard mask of current
+   */
+  public static int uMask(CardSet current) {
+    int mask = 0;
+    for (long bits = current.bits(); bits != 0; bits &= bits - 1) {
+      mask |= UCard.of(CardSet.lowest(bits)).bit();
+    }
+    return mask;
+  }
+
+  /**
+   * Returns the UCard mask of the cards a hand with UCard mask 'current' needs to get desired.
+   * @param desired desired WinningHand
+   * @param current current hand's UCard mask
+   * @return UCard mask of the UCards current needs to get desired
+   */
+  public static int neededMask(WinningHand desired, int current) {
+    return desired.mask & ~current;
+  }
+
+  /**
+   * Returns the number of cards away from WinningHand desired a hand with UCard mask 'current' is.
+   * @param desired desired WinningHand
+   * @param current current hand's UCard mask
+   * @return the number of cards away from desired current is
+   */
+  public static int cardsAwayFrom(WinningHand desired, int current) {
+    return Integer.bitCount(desired.mask & ~current);
+  }
+
+  /**
+   * Returns true if adding helper to a hand with UCard mask 'current' makes it closer to desired.
+   * @param desired desired WinningHand
+   * @param current current hand's UCard mask
+   * @param helper the card to add
+   * @return true if adding helper makes current closer to desired
+   */
+  public static boolean helps(WinningHand desired, int current, Card helper) {
+    return (desired.mask & ~current & UCard.toUCard(helper).bit()) != 0;
+  }
+
+  /**
+   * Returns the mask of the WinningHands a hand with UCard mask 'current' is closest to: bit i is
+   *   set for the WinningHand with ordinal i. Only hands 3 or fewer cards away are considered.
+   * @param current current hand's UCard mask
+   * @return mask of the WinningHands current is closest to
+   */
+  public static long closestToMask(int current) {
+    long closest = 0L;
+    int cardsAway = 3;
+    for (int i = 0; i < MASKS.length; i++) {
+      int away = Integer.bitCount(MASKS[i] & ~current);
+      if (away < cardsAway) {
+        cardsAway = away;
+        closest = 0L;
+      }
+      if (away == cardsAway) closest |= 1L << i;
+    }
+    return closest;
+  }
+
+  /**
+   * Returns the number of cards away a hand with UCard mask 'current' is from the WinningHand(s) it
+   *   is closest to, or 5 if every WinningHand is more than 3 cards away.
+   * @param current current hand's UCard mask
+   * @return number of cards away current is from the WinningHand(s) it is closest to
+   */
+  public static int cardsAwayFromClosestTo(int current) {
+    int cardsAway = 5;
+    for (int mask : MASKS) {
+      cardsAway = Math.min(cardsAway, Integer.bitCount(mask & ~current));
+    }
+    return cardsAway > 3 ? 5 : cardsAway;
   }
 
   /**
@@ -237,12 +317,25 @@ public enum WinningHand {
    */
   public static int permsWOHasAndDiscarded(WinningHand desired, List<Card> current,
                                            List<Card> gone) {
+    return permsWOHasAndDiscarded(desired, current, CardSet.of(gone));
+  }
+
+  /**
+   * Identical to 'permsWOHasAndDiscarded(WinningHand, List, List)' except gone cards are passed as
+   *   a CardSet, so checking whether each card is gone doesn't scan a list.
+   * @param desired desired winning hand
+   * @param current current hand
+   * @param gone cards that are gone from the round or in another player's hand
+   * @return number of ways current could become desired
+   */
+  public static int permsWOHasAndDiscarded(WinningHand desired, List<Card> current,
+                                           CardSet gone) {
     int perms = 1;
     for (UCard u : cardsNeededFor(desired, current)) {
       List<SCard> cards = u.cards();
       int cardsLeft = cards.size();
       for (SCard c : cards) {
-        if (gone.contains(new Card(c))) cardsLeft--;
+        if (gone.contains(c)) cardsLeft--;
       }
       perms *= cardsLeft;
     }
@@ -268,6 +361,14 @@ public enum WinningHand {
     return unsuitedCardList;
   }
 
+  /**
+   * Returns the UCard mask of this WinningHand (see 'uMask()').
+   * @return the UCard mask of this WinningHand
+   */
+  public int mask() {
+    return mask;
+  }
+
   /**
    * The number of points associated with this WinningHand.
    * @return the number of points associated with this WinningHand
@@ -276,13 +377,24 @@ public enum WinningHand {
     return points;
   }
 
+  private static final WinningHand[] HANDS = values(); // 'values()' copies the array every call
+  private static final int[] MASKS = new int[HANDS.length]; // MASKS[i] == HANDS[i].mask
+
+  static {
+    for (WinningHand h : HANDS) MASKS[h.ordinal()] = h.mask;
+  }
+
   private final int permutations;
   private final List<UCard> unsuitedCardList;
   private final int points;
+  private final int mask;
 
   WinningHand(List<UCard> unsuitedCardList, int points, int permutations) {
     this.unsuitedCardList = unsuitedCardList;
     this.points = points;
     this.permutations = permutations;
+    int mask = 0;
+    for (UCard u : unsuitedCardList) mask |= u.bit();
+    this.mask = mask;
   }
 }
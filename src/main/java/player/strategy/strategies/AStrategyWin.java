@@ -1,26 +1,51 @@
 package player.strategy.strategies;
 
 import java.util.ArrayList;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.SplittableRandom;
+import java.util.random.RandomGenerator;
 
+import game.IGame;
 import game.deck.card.Card;
+import game.deck.card.CardSet;
 import player.IPlayer;
 import player.strategy.Approach;
+import player.strategy.CompletionOdds;
+import player.strategy.IGameAware;
 import player.strategy.WinningHand;
 
 /**
  * Defines common functionality between strategies whose file names begin with 'StrategyWin'.
+ *   Random decisions are drawn from 'random', so a strategy created with a seeded generator makes
+ *   the same decisions every time it sees the same game. Once a strategy has joined a game, the
+ *   turns left in the round are read from its deck; until then DEFAULT_TURNS_LEFT is assumed.
  */
-public abstract class AStrategyWin implements IStrategy {
+public abstract class AStrategyWin implements IStrategy, IGameAware {
+  public static final int DEFAULT_TURNS_LEFT = 5;
+
   final Approach approach;
+  final RandomGenerator random;
   List<WinningHand> pursuableWHs;
+  private IGame game;
 
   public AStrategyWin(Approach approach) {
+    this(approach, new SplittableRandom());
+  }
+
+  public AStrategyWin(Approach approach, RandomGenerator random) {
     this.approach = approach;
+    this.random = random;
     this.resetNewRound();
   }
 
+  @Override
+  public void joinGame(IGame game, int seat) {
+    this.game = game;
+  }
+
   @Override
   public void resetNewRound() {
     this.pursuableWHs = new ArrayList<>();
@@ -35,15 +60,15 @@ public abstract class AStrategyWin implements IStrategy {
   @Override
   public Card recommendedDiscard(List<Card> hand, List<Card> well) {
     getPursuableWHs(hand);
-    if (pursuableWHs.isEmpty()) return approach.recDiscard(hand).getFirst();
+    if (pursuableWHs.isEmpty()) return approach.recDiscard(hand, random).getFirst();
 
     List<Card> discIfDesired = WinningHand.discardIfDesired(pursuableWHs.getFirst(), hand);
 
-    for (Card c : approach.recDiscard(hand)) {
+    for (Card c : approach.recDiscard(hand, random)) {
       if (discIfDesired.contains(c)) return c;
     }
 
-    return approach.recDiscard(discIfDesired).getFirst();
+    return approach.recDiscard(discIfDesired, random).getFirst();
   }
 
   /**
@@ -56,23 +81,24 @@ public abstract class AStrategyWin implements IStrategy {
   @Override
   public Card recommendedChoose(List<Card> hand, List<Card> well, List<Card> pond) {
     getPursuableWHs(hand);
-    if (pursuableWHs.isEmpty()) return approach.recChoose(hand, well, pond).getFirst();
+    if (pursuableWHs.isEmpty()) return approach.recChoose(hand, well, pond, random).getFirst();
 
     List<Card> wend = new ArrayList<>(well);
     wend.addAll(pond);
     List<Card> helpful = new ArrayList<>();
+    int handMask = WinningHand.uMask(hand);
 
     for (Card c : wend) {
-      if (WinningHand.helps(pursuableWHs.getFirst(), hand, c)) helpful.add(c);
+      if (WinningHand.helps(pursuableWHs.getFirst(), handMask, c)) helpful.add(c);
     }
 
-    for (Card c : approach.recChoose(hand, well, pond)) {
+    for (Card c : approach.recChoose(hand, well, pond, random)) {
       if (helpful.contains(c)) return c;
     }
 
     if (helpful.size() > 1) return helpful.getFirst();
 
-    return approach.recChoose(hand, well, pond).getFirst();
+    return approach.recChoose(hand, well, pond, random).getFirst();
   }
 
   /**
@@ -93,9 +119,10 @@ public abstract class AStrategyWin implements IStrategy {
   void refreshPursuableWHs(List<Card> hand) {
     List<WinningHand> closest = new ArrayList<>();
     int closestAway = 5;
+    int handMask = WinningHand.uMask(hand);
 
     for (WinningHand wh : pursuableWHs) {
-      int whDistance = WinningHand.cardsAwayFrom(wh, hand);
+      int whDistance = WinningHand.cardsAwayFrom(wh, handMask);
       if (whDistance < closestAway) {
         closestAway = whDistance;
         closest = new ArrayList<>();
@@ -110,6 +137,46 @@ public abstract class AStrategyWin implements IStrategy {
     sortPursuableWHs(hand);
   }
 
+  /**
+   * Sorts 'pursuableWHs' from highest to lowest chance of being completed in the turns left (see
+   *   'CompletionOdds'), given the cards in 'hand' and 'gone'. If two 'WinningHand's have the same
+   *   chance, sorts from lowest to highest point value. If they also have the same point value,
+   *   sorts from highest to lowest strength of the hands returned by calling
+   *   'WinningHand.discardIfDesired()'. Each hand's chance and strength is computed once, not for
+   *   every comparison.
+   * @param hand the current hand
+   * @param gone cards known to be out of reach
+   */
+  void sortByOdds(List<Card> hand, CardSet gone) {
+    CardSet handSet = CardSet.of(hand);
+    int turns = turnsLeft();
+    Map<WinningHand, Double> odds = new EnumMap<>(WinningHand.class);
+    Map<WinningHand, Integer> strength = new EnumMap<>(WinningHand.class);
+    for (WinningHand wh : pursuableWHs) {
+      odds.put(wh, CompletionOdds.get().probability(wh, handSet, gone, turns));
+      int s = 0;
+      for (Card c : WinningHand.discardIfDesired(wh, hand)) s += c.trumpsAmount();
+      strength.put(wh, s);
+    }
+
+    pursuableWHs.sort((a, b) -> {
+      int byOdds = Double.compare(odds.get(b), odds.get(a));
+      if (byOdds != 0) return byOdds;
+      if (a.points() != b.points()) return Integer.compare(a.points(), b.points());
+      return Integer.compare(strength.get(b), strength.get(a));
+    });
+  }
+
+  /**
+   * Returns the turns left in the round, including the current one: one for every well the deck
+   *   can still fill, plus the current turn. Returns DEFAULT_TURNS_LEFT if no game has been joined.
+   * @return the turns left
+   */
+  int turnsLeft() {
+    if (game == null) return DEFAULT_TURNS_LEFT;
+    return game.getDeck().cardsSize() / 4 + 1;
+  }
+
   abstract void getPursuableWHs(List<Card> hand);
   abstract void sortPursuableWHs(List<Card> hand);
 }
@@ -5,6 +5,7 @@ import java.util.Optional;
 
 import game.deck.card.Card;
 import player.IPlayer;
+import player.strategy.IMemory;
 
 /**
  * A strategy used by an instance of 'AIPlayer'. Determines the cards they choose and discard and
@@ -41,4 +42,14 @@ public interface IStrategy {
    * @return an optional of the recommended opponent to call No Blues on or an empty Optional
    */
   Optional<IPlayer> recommendedCall(List<IPlayer> opponents, List<Card> well);
+
+  /**
+   * Returns the memory the player's game events should be passed to: this strategy if it's an
+   *   instance of 'IMemory', else an empty Optional. Strategies that wrap another strategy return
+   *   the wrapped strategy's memory.
+   * @return an optional of this strategy's memory or an empty Optional
+   */
+  default Optional<IMemory> getMemory() {
+    return this instanceof IMemory memory ? Optional.of(memory) : Optional.empty();
+  }
 }
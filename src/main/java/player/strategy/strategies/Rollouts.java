@@ -0,0 +1,69 @@
+package player.strategy.strategies;
+
+import java.util.List;
+
+import game.IGame;
+import player.IPlayer;
+
+/**
+ * Helpers for the strategies that decide by forking their game and playing the fork out to the end
+ *   of the round.
+ */
+final class Rollouts {
+  /**
+   * The decision a fork was taken at, which determines where its rollout starts.
+   */
+  enum Phase { DISCARD, CALL, CHOOSE }
+
+  private Rollouts() {
+  }
+
+  /**
+   * Plays a fork taken during a decision of 'phase' until its round is over.
+   * @param fork the fork
+   * @param phase the decision the fork was taken at
+   */
+  static void finishRound(IGame fork, Phase phase) {
+    if (phase == Phase.DISCARD) fork.collectPond();
+    if (phase != Phase.CHOOSE) {
+      if (fork.collectNBCs().isPresent()) return;
+      fork.flipPond();
+    }
+    fork.allowChoices();
+    while (!fork.roundOver()) {
+      fork.flipWell();
+      fork.collectPond();
+      if (fork.collectNBCs().isPresent()) return;
+      fork.flipPond();
+      fork.allowChoices();
+    }
+  }
+
+  /**
+   * Returns the score of 'seat' in the last round of 'fork': its points minus the average of its
+   *   opponents' points, scaled by the amount of opponents so it's a whole number. Lower is better.
+   * @param fork the fork, whose round is over
+   * @param seat the seat
+   * @return the seat's scaled score
+   */
+  static long score(IGame fork, int seat) {
+    int[] deltas = fork.getScoreSheet().getLast().getDeltas();
+    int seats = deltas.length - 1; // the last delta is the sum
+    return (long) deltas[seat] * (seats - 1) - (deltas[seats] - deltas[seat]);
+  }
+
+  /**
+   * Returns the seat of 'p' in 'game'.
+   * @param game the game
+   * @param p the player
+   * @return p's seat
+   * @throws IllegalArgumentException if p isn't in game
+   */
+  static int seatOf(IGame game, IPlayer p) {
+    List<IPlayer> players = game.getPlayers();
+    for (int i = 0; i < players.size(); i++) {
+      if (players.get(i) == p) return i;
+    }
+    throw new IllegalArgumentException("Player " + p + " isn't in this strategy's game");
+  }
+}
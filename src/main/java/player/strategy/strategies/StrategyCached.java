@@ -0,0 +1,121 @@
+package player.strategy.strategies;
+
+import java.util.List;
+import java.util.Optional;
+
+import game.IGame;
+import game.deck.card.Card;
+import game.deck.card.CardSet;
+import player.IPlayer;
+import player.strategy.DecisionCache;
+import player.strategy.ICacheable;
+import player.strategy.IGameAware;
+import player.strategy.IMemory;
+
+/**
+ * Puts a 'DecisionCache' in front of a deterministic strategy: discards and choices are read from
+ *   the cache when the strategy has made them before in the same state, and made by 'strategy' and
+ *   cached otherwise. A decision read from the cache leaves the strategy in the state it was left
+ *   in when the decision was made, so a cached strategy plays exactly like the strategy itself.
+ *   Any number of cached strategies can share a cache across threads. Discards and choices share
+ *   keys without being mixed up, since a hand has 5 cards when discarding and 4 when choosing.
+ *   No Blues calls aren't cached. Games are passed on to 'strategy' if it takes them, and this
+ *   strategy's memory is 'strategy's, so a player only gets memory notifications if 'strategy' has
+ *   memory.
+ */
+public class StrategyCached implements IStrategy, IGameAware {
+  private final IStrategy strategy;
+  private final ICacheable cacheable;
+  private final DecisionCache cache;
+
+  /**
+   * Creates a StrategyCached that caches the decisions of 'strategy' in 'cache'.
+   * @param strategy the strategy whose decisions are cached
+   * @param cache the cache, which may be shared
+   * @throws IllegalArgumentException if strategy isn't a deterministic 'ICacheable'
+   */
+  public StrategyCached(IStrategy strategy, DecisionCache cache) {
+    if (!(strategy instanceof ICacheable c) || !c.isDeterministic()) {
+      throw new IllegalArgumentException("Strategy " + strategy + " isn't deterministic");
+    }
+    this.strategy = strategy;
+    this.cacheable = c;
+    this.cache = cache;
+  }
+
+  @Override
+  public void joinGame(IGame game, int seat) {
+    if (strategy instanceof IGameAware aware) aware.joinGame(game, seat);
+  }
+
+  @Override
+  public void resetNewRound() {
+    strategy.resetNewRound();
+  }
+
+  //************************************************************************************** DECISIONS
+  /**
+   * Returns the cached discard for 'hand' (and 'well', if the strategy's discards use it), or
+   *   'strategy's recommended discard if none is cached.
+   */
+  @Override
+  public Card recommendedDiscard(List<Card> hand, List<Card> well) {
+    long h = CardSet.mask(hand);
+    long w = cacheable.discardsUseWell() ? CardSet.mask(well) : 0;
+    long state = cacheable.getState();
+    DecisionCache.Decision cached = cache.get(cacheable.getVariant(), state, h, w, 0);
+    if (cached != null) {
+      cacheable.setState(cached.state());
+      return cached.card();
+    }
+
+    Card discard = strategy.recommendedDiscard(hand, well);
+    cache.put(cacheable.getVariant(), state, h, w, 0,
+            new DecisionCache.Decision(discard, cacheable.getState()));
+    return discard;
+  }
+
+  /**
+   * Returns the cached choice for 'hand', 'well' and 'pond', or 'strategy's recommended choice if
+   *   none is cached.
+   */
+  @Override
+  public Card recommendedChoose(List<Card> hand, List<Card> well, List<Card> pond) {
+    long h = CardSet.mask(hand);
+    long w = CardSet.mask(well);
+    long p = CardSet.mask(pond);
+    long state = cacheable.getState();
+    DecisionCache.Decision cached = cache.get(cacheable.getVariant(), state, h, w, p);
+    if (cached != null) {
+      cacheable.setState(cached.state());
+      return cached.card();
+    }
+
+    Card choice = strategy.recommendedChoose(hand, well, pond);
+    cache.put(cacheable.getVariant(), state, h, w, p,
+            new DecisionCache.Decision(choice, cacheable.getState()));
+    return choice;
+  }
+
+  @Override
+  public Optional<IPlayer> recommendedCall(List<IPlayer> opponents, List<Card> well) {
+    return strategy.recommendedCall(opponents, well);
+  }
+
+  //**************************************************************************************** GETTERS
+  /**
+   * Returns 'strategy's memory.
+   */
+  @Override
+  public Optional<IMemory> getMemory() {
+    return strategy.getMemory();
+  }
+
+  public IStrategy getStrategy() {
+    return strategy;
+  }
+
+  public DecisionCache getCache() {
+    return cache;
+  }
+}
@@ -2,20 +2,29 @@ package player.strategy.strategies;
 
 import java.util.List;
 import java.util.Optional;
-import java.util.Random;
+import java.util.SplittableRandom;
+import java.util.random.RandomGenerator;
 
 import game.deck.card.Card;
 import player.IPlayer;
 import player.strategy.Approach;
+import player.strategy.ICacheable;
 
 /**
- * A strategy that makes choices solely based on its 'Approach' and does not attempt to win.
+ * A strategy that makes choices solely based on its 'Approach' and does not attempt to win. Unless
+ *   its 'Approach' is 'Approach.RANDOM', it has no state and its decisions can be cached.
  */
-public class StrategyEmpty implements IStrategy {
+public class StrategyEmpty implements IStrategy, ICacheable {
   private final Approach approach;
+  private final RandomGenerator random;
 
   public StrategyEmpty(Approach approach) {
+    this(approach, new SplittableRandom());
+  }
+
+  public StrategyEmpty(Approach approach, RandomGenerator random) {
     this.approach = approach;
+    this.random = random;
   }
 
   @Override
@@ -31,7 +40,7 @@ public class StrategyEmpty implements IStrategy {
    */
   @Override
   public Card recommendedDiscard(List<Card> hand, List<Card> well) {
-    return approach.recDiscard(hand).getFirst();
+    return approach.recDiscard(hand, random).getFirst();
   }
 
   /**
@@ -44,7 +53,7 @@ public class StrategyEmpty implements IStrategy {
    */
   @Override
   public Card recommendedChoose(List<Card> hand, List<Card> pond, List<Card> well) {
-    return approach.recChoose(hand, pond, well).getFirst();
+    return approach.recChoose(hand, pond, well, random).getFirst();
   }
 
   /**
@@ -61,10 +70,34 @@ public class StrategyEmpty implements IStrategy {
       return Optional.empty();
     }
 
-    Random r = new Random();
-    if (approach.equals(Approach.RANDOM) && r.nextInt(0, 101) % 100 == 0) {
-      return Optional.of(opponents.get(r.nextInt(0, opponents.size())));
+    if (approach.equals(Approach.RANDOM) && random.nextInt(0, 101) % 100 == 0) {
+      return Optional.of(opponents.get(random.nextInt(0, opponents.size())));
     }
     return Optional.empty();
   }
+
+  //**************************************************************************************** CACHING
+  @Override
+  public boolean isDeterministic() {
+    return approach != Approach.RANDOM;
+  }
+
+  @Override
+  public long getVariant() {
+    return (long) StrategyEmpty.class.getName().hashCode() << 8 | approach.ordinal();
+  }
+
+  @Override
+  public long getState() {
+    return 0L;
+  }
+
+  @Override
+  public void setState(long state) {
+  }
+
+  @Override
+  public boolean discardsUseWell() {
+    return false;
+  }
 }
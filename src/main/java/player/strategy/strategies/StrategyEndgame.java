@@ -0,0 +1,96 @@
+package player.strategy.strategies;
+
+import java.util.List;
+import java.util.Optional;
+
+import game.IGame;
+import game.deck.card.Card;
+import player.IPlayer;
+import player.strategy.EndgameSolver;
+import player.strategy.IGameAware;
+import player.strategy.IMemory;
+
+/**
+ * Opts any strategy into exact endgame play: discards and choices are made by an 'EndgameSolver'
+ *   once it applies to the game (the deck is nearly empty), and by 'strategy' before that. No Blues
+ *   calls are always made by 'strategy'. Games are passed on to 'strategy' if it takes them, and
+ *   this strategy's memory is 'strategy's, so a player only gets memory notifications if
+ *   'strategy' has memory.
+ */
+public class StrategyEndgame implements IStrategy, IGameAware {
+  private final IStrategy strategy;
+  private final EndgameSolver solver;
+  private IGame game;
+  private int seat;
+
+  /**
+   * Creates a StrategyEndgame that plays like 'strategy' until a default 'EndgameSolver' applies.
+   * @param strategy the strategy to play like before the endgame
+   */
+  public StrategyEndgame(IStrategy strategy) {
+    this(strategy, new EndgameSolver());
+  }
+
+  /**
+   * Creates a StrategyEndgame that plays like 'strategy' until 'solver' applies.
+   * @param strategy the strategy to play like before the endgame
+   * @param solver the solver to play the endgame with
+   */
+  public StrategyEndgame(IStrategy strategy, EndgameSolver solver) {
+    this.strategy = strategy;
+    this.solver = solver;
+  }
+
+  @Override
+  public void joinGame(IGame game, int seat) {
+    this.game = game;
+    this.seat = seat;
+    if (strategy instanceof IGameAware aware) aware.joinGame(game, seat);
+  }
+
+  @Override
+  public void resetNewRound() {
+    strategy.resetNewRound();
+  }
+
+  //************************************************************************************** DECISIONS
+  /**
+   * Returns 'solver's best discard if it applies, else 'strategy's recommended discard.
+   */
+  @Override
+  public Card recommendedDiscard(List<Card> hand, List<Card> well) {
+    if (game != null && solver.applies(game)) return solver.bestDiscard(game, seat);
+    return strategy.recommendedDiscard(hand, well);
+  }
+
+  /**
+   * Returns 'solver's best choice if it applies, else 'strategy's recommended choice.
+   */
+  @Override
+  public Card recommendedChoose(List<Card> hand, List<Card> pond, List<Card> well) {
+    if (game != null && solver.applies(game)) return solver.bestChoice(game, seat);
+    return strategy.recommendedChoose(hand, pond, well);
+  }
+
+  @Override
+  public Optional<IPlayer> recommendedCall(List<IPlayer> opponents, List<Card> well) {
+    return strategy.recommendedCall(opponents, well);
+  }
+
+  //**************************************************************************************** GETTERS
+  /**
+   * Returns 'strategy's memory.
+   */
+  @Override
+  public Optional<IMemory> getMemory() {
+    return strategy.getMemory();
+  }
+
+  public IStrategy getStrategy() {
+    return strategy;
+  }
+
+  public EndgameSolver getSolver() {
+    return solver;
+  }
+}
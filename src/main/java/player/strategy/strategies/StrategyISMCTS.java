@@ -0,0 +1,448 @@
+package player.strategy.strategies;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.SplittableRandom;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.random.RandomGenerator;
+
+import game.GameState;
+import game.IGame;
+import game.deck.card.Card;
+import game.deck.card.CardSet;
+import player.AIPlayer;
+import player.IPlayer;
+import player.strategy.Approach;
+import player.strategy.IGameAware;
+import player.strategy.TranspositionTable;
+import player.strategy.strategies.Rollouts.Phase;
+
+/**
+ * A strategy that decides with information-set Monte Carlo tree search. Every iteration deals the
+ *   cards its seat can't see at random ('GameState.redeterminize'), forks the sampled game, and
+ *   plays it to the end of the round. Every seat's decisions in the fork are made by a tree
+ *   policy: a decision is identified by a hash of what the deciding seat knows (its hand, the
+ *   well, the visible pond, the deck's size, the seat and the kind of decision), and its moves are
+ *   picked by UCB over the statistics stored for them, counting only how often each move was
+ *   legal. Once an iteration has picked this strategy's move and reaches a move without
+ *   statistics, the rest of the round is played by 'policy' strategies, and every move the
+ *   iteration picked is rewarded with its seat's score. This strategy makes the move it picked
+ *   most often.
+ * Statistics are kept in a bounded TranspositionTable keyed by the hash of the decision and move,
+ *   so decisions reached by different orders of moves share them, and they're kept between
+ *   decisions until they're evicted. Iterations run in 'threads' tasks on 'pool', which apply a
+ *   virtual loss to the moves they're playing out so they spread over the tree. A decision runs
+ *   'iterations' iterations, or fewer if its time budget runs out first. With one thread and no
+ *   time budget, a seeded strategy always makes the same decisions.
+ */
+public class StrategyISMCTS implements IStrategy, IGameAware {
+  public static final int DEFAULT_THREADS = Runtime.getRuntime().availableProcessors();
+  public static final int DEFAULT_TABLE_CAPACITY = 1 << 20;
+  public static final double EXPLORATION = 0.7;
+  public static final double VIRTUAL_LOSS = 1.0;
+
+  private static final int NO_CALL = 64; // card moves are SCard ordinals, call moves follow them
+  private static final int MAX_DEPTH = 256; // moves per iteration kept in the tree
+  private static final double REWARD_SCALE = 50.0; // scores per seat are mostly within 50 points
+
+  private final int iterations;
+  private final long budgetNanos; // 0 if decisions have no time budget
+  private final ExecutorService pool;
+  private final int threads;
+  private final TranspositionTable table;
+  private final Function<RandomGenerator, IStrategy> policy;
+  private final RandomGenerator random;
+  private IGame game;
+  private int seat;
+  private long lastIterations; // iterations run for the last decision
+  private int[] lastVisits = new int[0]; // visits of the last decision's moves
+
+  /**
+   * Creates a StrategyISMCTS that runs 'iterations' iterations per decision on the common
+   *   ForkJoinPool, with no time budget, a table of DEFAULT_TABLE_CAPACITY entries, and
+   *   StrategyWin(MIN_POINTS) playing out iterations.
+   * @param iterations the iterations per decision
+   * @throws IllegalArgumentException if iterations is less than 1
+   */
+  public StrategyISMCTS(int iterations) {
+    this(iterations, new SplittableRandom());
+  }
+
+  /**
+   * Creates a StrategyISMCTS like 'StrategyISMCTS(iterations)' that samples with 'random'.
+   * @param iterations the iterations per decision
+   * @param random the generator iterations are seeded from
+   * @throws IllegalArgumentException if iterations is less than 1
+   */
+  public StrategyISMCTS(int iterations, RandomGenerator random) {
+    this(iterations, 0, ForkJoinPool.commonPool(), DEFAULT_THREADS,
+            new TranspositionTable(DEFAULT_TABLE_CAPACITY),
+            r -> new StrategyWin(Approach.MIN_POINTS, r), random);
+  }
+
+  /**
+   * Creates a StrategyISMCTS.
+   * @param iterations the most iterations per decision
+   * @param budgetMillis the time budget per decision in milliseconds, 0 for none
+   * @param pool the pool search tasks run on
+   * @param threads the amount of search tasks per decision
+   * @param table the table statistics are kept in
+   * @param policy creates the strategies that play out iterations, from a generator
+   * @param random the generator iterations are seeded from
+   * @throws IllegalArgumentException if iterations or threads is less than 1 or budgetMillis is
+   *                                  negative
+   */
+  public StrategyISMCTS(int iterations, long budgetMillis, ExecutorService pool, int threads,
+                        TranspositionTable table, Function<RandomGenerator, IStrategy> policy,
+                        RandomGenerator random) {
+    if (iterations < 1) throw new IllegalArgumentException("Iterations must be at least 1");
+    if (budgetMillis < 0) throw new IllegalArgumentException("Time budget can't be negative");
+    if (threads < 1) throw new IllegalArgumentException("Threads must be at least 1");
+    this.iterations = iterations;
+    this.budgetNanos = TimeUnit.MILLISECONDS.toNanos(budgetMillis);
+    this.pool = pool;
+    this.threads = threads;
+    this.table = table;
+    this.policy = policy;
+    this.random = random;
+  }
+
+  @Override
+  public void joinGame(IGame game, int seat) {
+    this.game = game;
+    this.seat = seat;
+  }
+
+  @Override
+  public void resetNewRound() {
+  }
+
+  //************************************************************************************** DECISIONS
+  /**
+   * Returns the card in 'hand' the search discarded most often.
+   */
+  @Override
+  public Card recommendedDiscard(List<Card> hand, List<Card> well) {
+    throwIfNoGame();
+    long key = infoKey(Phase.DISCARD, seat, game.getDeck().cardsSize(), hand, well, List.of());
+    return card(hand, search(Phase.DISCARD, key, cardMoves(hand)));
+  }
+
+  /**
+   * Returns the card in 'pond' or 'well' the search chose most often.
+   */
+  @Override
+  public Card recommendedChoose(List<Card> hand, List<Card> pond, List<Card> well) {
+    throwIfNoGame();
+    long key = infoKey(Phase.CHOOSE, seat, game.getDeck().cardsSize(), hand, well, pond);
+    int move = search(Phase.CHOOSE, key, chooseMoves(pond, well));
+    Card fromPond = card(pond, move);
+    return fromPond != null ? fromPond : card(well, move);
+  }
+
+  /**
+   * Returns the opponent the search called No Blues on most often, or an empty Optional if it
+   *   didn't call most often.
+   */
+  @Override
+  public Optional<IPlayer> recommendedCall(List<IPlayer> opponents, List<Card> well) {
+    throwIfNoGame();
+    long key = infoKey(Phase.CALL, seat, game.getDeck().cardsSize(), hand(), well, List.of());
+    int move = search(Phase.CALL, key, callMoves(game, opponents));
+    return target(game, move);
+  }
+
+  //**************************************************************************************** GETTERS
+  /**
+   * Returns the amount of iterations run for the last decision with more than one move.
+   * @return the iterations run for the last decision
+   */
+  public long getLastIterations() {
+    return lastIterations;
+  }
+
+  /**
+   * Returns how often each legal move of the last decision with more than one move was picked, in
+   *   the order its moves were given (a card's index in the hand, or no call and then each
+   *   opponent).
+   * @return the visits of the last decision's moves
+   */
+  public int[] getLastVisits() {
+    return lastVisits.clone();
+  }
+
+  /**
+   * Returns the table this strategy keeps its statistics in.
+   * @return the table
+   */
+  public TranspositionTable getTable() {
+    return table;
+  }
+
+  //************************************************************************************** SEARCHING
+  /**
+   * Searches from the decision identified by 'key' and returns the move in 'moves' picked most
+   *   often.
+   * @param phase the decision being made
+   * @param key the decision's hash
+   * @param moves the legal moves
+   * @return the most picked move
+   * @throws IllegalStateException if a search task fails
+   */
+  private int search(Phase phase, long key, int[] moves) {
+    if (moves.length == 1) return moves[0];
+    GameState state = game.snapshot();
+    boolean timed = budgetNanos > 0;
+    long deadline = System.nanoTime() + budgetNanos;
+    long seed = random.nextLong();
+    AtomicInteger started = new AtomicInteger();
+    AtomicInteger finished = new AtomicInteger();
+
+    List<Callable<Void>> work = new ArrayList<>(threads);
+    for (int t = 0; t < Math.min(threads, iterations); t++) {
+      work.add(() -> {
+        int n;
+        while ((n = started.getAndIncrement()) < iterations) {
+          if (n >= threads && timed && System.nanoTime() - deadline > 0) break;
+          iterate(state, phase, new SplittableRandom(TranspositionTable.mix(seed + n)));
+          finished.incrementAndGet();
+        }
+        return null;
+      });
+    }
+    try {
+      for (Future<Void> f : pool.invokeAll(work)) f.get();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Interrupted while searching", e);
+    } catch (ExecutionException e) {
+      throw new IllegalStateException("Search failed", e.getCause());
+    }
+    lastIterations = finished.get();
+
+    int best = moves[0];
+    int bestVisits = -1;
+    int[] visits = new int[moves.length];
+    for (int i = 0; i < moves.length; i++) {
+      TranspositionTable.Stats stats = table.get(edgeKey(key, moves[i]));
+      visits[i] = stats == null ? 0 : stats.visits();
+      if (visits[i] > bestVisits) {
+        best = moves[i];
+        bestVisits = visits[i];
+      }
+    }
+    lastVisits = visits;
+    return best;
+  }
+
+  /**
+   * One iteration: forks a redeterminization of 'state', plays it out with tree policies, and
+   *   rewards every move the tree policies picked.
+   */
+  private void iterate(GameState state, Phase phase, SplittableRandom r) {
+    Iteration it = new Iteration(r);
+    GameState sample = state.redeterminize(seat, r);
+    List<IPlayer> players = new ArrayList<>(sample.getSeats());
+    for (int i = 0; i < sample.getSeats(); i++) {
+      players.add(new AIPlayer(new TreePolicy(it, policy.apply(r.split()))));
+    }
+    IGame fork = game.fork(sample, players, r.split());
+    try {
+      Rollouts.finishRound(fork, phase);
+    } finally {
+      it.backPropagate(fork);
+    }
+  }
+
+  /**
+   * The moves picked by one iteration while it's in the tree. Seats asked before this strategy's
+   *   seat (such as earlier seats discarding) reach decisions without statistics first, so the
+   *   iteration only leaves the tree once this strategy's seat has picked its root move.
+   */
+  private final class Iteration {
+    private final RandomGenerator random;
+    private final long[] edges = new long[MAX_DEPTH];
+    private final int[] seats = new int[MAX_DEPTH];
+    private int depth;
+    private boolean inTree = true;
+    private boolean rootPicked;
+
+    Iteration(RandomGenerator random) {
+      this.random = random;
+    }
+
+    /**
+     * Picks the move in 'moves' with the best UCB value at the decision identified by 'key', and
+     *   leaves the tree if the move had no statistics and the root move has been picked.
+     */
+    int select(long key, int[] moves, int seat) {
+      int best = 0;
+      int bestVisits = 0;
+      double bestValue = Double.NEGATIVE_INFINITY;
+      for (int i = 0; i < moves.length; i++) {
+        TranspositionTable.Stats stats = table.markAvailable(edgeKey(key, moves[i]));
+        double value = stats.visits() == 0
+                ? Double.MAX_VALUE * random.nextDouble()
+                : stats.reward() / stats.visits()
+                        + EXPLORATION * Math.sqrt(Math.log(stats.available()) / stats.visits());
+        if (value > bestValue) {
+          best = i;
+          bestVisits = stats.visits();
+          bestValue = value;
+        }
+      }
+      long edge = edgeKey(key, moves[best]);
+      table.visit(edge, VIRTUAL_LOSS);
+      edges[depth] = edge;
+      seats[depth++] = seat;
+      if (seat == StrategyISMCTS.this.seat) rootPicked = true;
+      if (bestVisits == 0 && rootPicked || depth == MAX_DEPTH) inTree = false;
+      return moves[best];
+    }
+
+    /**
+     * Rewards every move this iteration picked with its seat's score in the finished 'fork', or
+     *   takes back their virtual losses if the round didn't finish.
+     */
+    void backPropagate(IGame fork) {
+      boolean finished = fork.roundOver();
+      int seatsInFork = fork.getPlayers().size();
+      for (int i = 0; i < depth; i++) {
+        double reward = 0;
+        if (finished) {
+          reward = -Rollouts.score(fork, seats[i]) / ((seatsInFork - 1) * REWARD_SCALE);
+        }
+        table.update(edges[i], reward, VIRTUAL_LOSS);
+      }
+    }
+  }
+
+  /**
+   * The strategy of every seat in an iteration: picks moves from the tree while the iteration is in
+   *   it, then asks 'rollout'.
+   */
+  private final class TreePolicy implements IStrategy, IGameAware {
+    private final Iteration it;
+    private final IStrategy rollout;
+    private IGame fork;
+    private int forkSeat;
+
+    TreePolicy(Iteration it, IStrategy rollout) {
+      this.it = it;
+      this.rollout = rollout;
+    }
+
+    @Override
+    public void joinGame(IGame game, int seat) {
+      this.fork = game;
+      this.forkSeat = seat;
+      if (rollout instanceof IGameAware aware) aware.joinGame(game, seat);
+    }
+
+    @Override
+    public void resetNewRound() {
+      rollout.resetNewRound();
+    }
+
+    @Override
+    public Card recommendedDiscard(List<Card> hand, List<Card> well) {
+      if (!it.inTree) return rollout.recommendedDiscard(hand, well);
+      long key = infoKey(Phase.DISCARD, forkSeat, fork.getDeck().cardsSize(), hand, well,
+              List.of());
+      return card(hand, it.select(key, cardMoves(hand), forkSeat));
+    }
+
+    @Override
+    public Card recommendedChoose(List<Card> hand, List<Card> pond, List<Card> well) {
+      if (!it.inTree) return rollout.recommendedChoose(hand, pond, well);
+      long key = infoKey(Phase.CHOOSE, forkSeat, fork.getDeck().cardsSize(), hand, well, pond);
+      int move = it.select(key, chooseMoves(pond, well), forkSeat);
+      Card fromPond = card(pond, move);
+      return fromPond != null ? fromPond : card(well, move);
+    }
+
+    @Override
+    public Optional<IPlayer> recommendedCall(List<IPlayer> opponents, List<Card> well) {
+      if (!it.inTree) return rollout.recommendedCall(opponents, well);
+      List<Card> hand = fork.getPlayers().get(forkSeat).getHand();
+      long key = infoKey(Phase.CALL, forkSeat, fork.getDeck().cardsSize(), hand, well, List.of());
+      int move = it.select(key, callMoves(fork, opponents), forkSeat);
+      return target(fork, move);
+    }
+  }
+
+  //**************************************************************************************** HASHING
+  /**
+   * Returns the hash of a decision from what the deciding seat knows.
+   */
+  private static long infoKey(Phase phase, int seat, int deckSize, List<Card> hand,
+                              List<Card> well, List<Card> pond) {
+    long h = TranspositionTable.mix(CardSet.mask(hand) + 0x9E3779B97F4A7C15L);
+    h = TranspositionTable.mix(h ^ CardSet.mask(well));
+    h = TranspositionTable.mix(h ^ CardSet.mask(pond));
+    return TranspositionTable.mix(h ^ (phase.ordinal() | seat << 2 | (long) deckSize << 8));
+  }
+
+  private static long edgeKey(long infoKey, int move) {
+    return TranspositionTable.mix(infoKey ^ (move + 1) * 0xBF58476D1CE4E5B9L);
+  }
+
+  //**************************************************************************************** HELPERS
+  private static int[] cardMoves(List<Card> cards) {
+    int[] moves = new int[cards.size()];
+    for (int i = 0; i < moves.length; i++) moves[i] = cards.get(i).getSCard().ordinal();
+    return moves;
+  }
+
+  private static int[] chooseMoves(List<Card> pond, List<Card> well) {
+    List<Card> cards = new ArrayList<>(pond);
+    cards.addAll(well);
+    return cardMoves(cards);
+  }
+
+  /**
+   * Returns NO_CALL and a call move (NO_CALL + 1 + seat) for every opponent.
+   */
+  private static int[] callMoves(IGame game, List<IPlayer> opponents) {
+    int[] moves = new int[opponents.size() + 1];
+    moves[0] = NO_CALL;
+    for (int i = 0; i < opponents.size(); i++) {
+      moves[i + 1] = NO_CALL + 1 + Rollouts.seatOf(game, opponents.get(i));
+    }
+    return moves;
+  }
+
+  /**
+   * Returns the player in 'game' that call move 'move' calls, or an empty Optional for NO_CALL.
+   */
+  private static Optional<IPlayer> target(IGame game, int move) {
+    if (move == NO_CALL) return Optional.empty();
+    return Optional.of(game.getPlayers().get(move - NO_CALL - 1));
+  }
+
+  /**
+   * Returns the card in 'cards' whose SCard ordinal is 'move', or null if there isn't one.
+   */
+  private static Card card(List<Card> cards, int move) {
+    for (Card c : cards) {
+      if (c.getSCard().ordinal() == move) return c;
+    }
+    return null;
+  }
+
+  private List<Card> hand() {
+    return game.getPlayers().get(seat).getHand();
+  }
+
+  private void throwIfNoGame() {
+    if (game == null) throw new IllegalStateException("StrategyISMCTS hasn't joined a game");
+  }
+}
@@ -0,0 +1,344 @@
+package player.strategy.strategies;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.SplittableRandom;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.random.RandomGenerator;
+
+import game.GameState;
+import game.IGame;
+import game.deck.card.Card;
+import player.AIPlayer;
+import player.IPlayer;
+import player.strategy.Approach;
+import player.strategy.IGameAware;
+import player.strategy.strategies.Rollouts.Phase;
+
+/**
+ * A strategy that decides by sampling. For every decision, it deals the cards its seat can't see
+ *   at random ('GameState.redeterminize'), forks the sampled game once per option, makes the
+ *   option in the fork, and plays out the rest of the round with 'policy' strategies in every seat.
+ *   It picks the option with the lowest average score, where a rollout's score is its seat's points
+ *   for the round minus the average of its opponents' points. All options of a sample are played
+ *   out with the same seeds, so they're compared on the same deals.
+ * Samples are split between 'tasks' tasks that run on 'pool'. A decision takes 'rollouts' samples,
+ *   or fewer if its time budget runs out first (every task takes at least one). Every sample has
+ *   its own seed, so without a time budget a seeded strategy makes the same decisions however many
+ *   tasks and threads it samples with.
+ */
+public class StrategyMonteCarlo implements IStrategy, IGameAware {
+  public static final int DEFAULT_TASKS = Runtime.getRuntime().availableProcessors();
+
+  private final int rollouts;
+  private final long budgetNanos; // 0 if decisions have no time budget
+  private final ExecutorService pool;
+  private final int tasks;
+  private final Function<RandomGenerator, IStrategy> policy;
+  private final RandomGenerator random;
+  private IGame game;
+  private int seat;
+  private long lastSamples; // samples taken for the last decision
+
+  /**
+   * Creates a StrategyMonteCarlo that takes 'rollouts' samples per decision on the common
+   *   ForkJoinPool, with no time budget, and rolls out with StrategyWin(MIN_POINTS).
+   * @param rollouts the samples per decision
+   * @throws IllegalArgumentException if rollouts is less than 1
+   */
+  public StrategyMonteCarlo(int rollouts) {
+    this(rollouts, new SplittableRandom());
+  }
+
+  /**
+   * Creates a StrategyMonteCarlo like 'StrategyMonteCarlo(rollouts)' that samples with 'random'.
+   * @param rollouts the samples per decision
+   * @param random the generator samples are drawn from
+   * @throws IllegalArgumentException if rollouts is less than 1
+   */
+  public StrategyMonteCarlo(int rollouts, RandomGenerator random) {
+    this(rollouts, 0, ForkJoinPool.commonPool(), DEFAULT_TASKS,
+            r -> new StrategyWin(Approach.MIN_POINTS, r), random);
+  }
+
+  /**
+   * Creates a StrategyMonteCarlo.
+   * @param rollouts the most samples per decision
+   * @param budgetMillis the time budget per decision in milliseconds, 0 for none
+   * @param pool the pool sampling tasks run on
+   * @param tasks the amount of tasks a decision's samples are split between
+   * @param policy creates the strategy of every seat in a rollout, from a generator
+   * @param random the generator samples are drawn from
+   * @throws IllegalArgumentException if rollouts or tasks is less than 1 or budgetMillis is
+   *                                  negative
+   */
+  public StrategyMonteCarlo(int rollouts, long budgetMillis, ExecutorService pool, int tasks,
+                            Function<RandomGenerator, IStrategy> policy, RandomGenerator random) {
+    if (rollouts < 1) throw new IllegalArgumentException("Rollouts must be at least 1");
+    if (budgetMillis < 0) throw new IllegalArgumentException("Time budget can't be negative");
+    if (tasks < 1) throw new IllegalArgumentException("Tasks must be at least 1");
+    this.rollouts = rollouts;
+    this.budgetNanos = TimeUnit.MILLISECONDS.toNanos(budgetMillis);
+    this.pool = pool;
+    this.tasks = tasks;
+    this.policy = policy;
+    this.random = random;
+  }
+
+  @Override
+  public void joinGame(IGame game, int seat) {
+    this.game = game;
+    this.seat = seat;
+  }
+
+  @Override
+  public void resetNewRound() {
+  }
+
+  //************************************************************************************** DECISIONS
+  /**
+   * Returns the card in 'hand' whose discard scores best in rollouts.
+   */
+  @Override
+  public Card recommendedDiscard(List<Card> hand, List<Card> well) {
+    List<Option> options = new ArrayList<>(hand.size());
+    for (Card c : hand) options.add(new Option.Discard(c));
+    return hand.get(best(options));
+  }
+
+  /**
+   * Returns the card in 'pond' or 'well' whose choice scores best in rollouts.
+   */
+  @Override
+  public Card recommendedChoose(List<Card> hand, List<Card> pond, List<Card> well) {
+    List<Card> cards = new ArrayList<>(pond);
+    cards.addAll(well);
+    List<Option> options = new ArrayList<>(cards.size());
+    for (Card c : cards) options.add(new Option.Choose(c));
+    return cards.get(best(options));
+  }
+
+  /**
+   * Returns the opponent whose No Blues call scores best in rollouts, or an empty Optional if not
+   *   calling scores better than every call.
+   */
+  @Override
+  public Optional<IPlayer> recommendedCall(List<IPlayer> opponents, List<Card> well) {
+    throwIfNoGame();
+    List<Option> options = new ArrayList<>(opponents.size() + 1);
+    options.add(Option.NO_CALL);
+    for (IPlayer o : opponents) options.add(new Option.Call(Rollouts.seatOf(game, o)));
+    int best = best(options);
+    return best == 0 ? Optional.empty() : Optional.of(opponents.get(best - 1));
+  }
+
+  //**************************************************************************************** GETTERS
+  /**
+   * Returns the amount of samples taken for the last decision with more than one option.
+   * @return the samples taken for the last decision
+   */
+  public long getLastSamples() {
+    return lastSamples;
+  }
+
+  //*************************************************************************************** SAMPLING
+  /**
+   * Returns the index of the option in 'options' with the lowest total score over every sample.
+   * @param options the options of one decision
+   * @return the index of the best option
+   * @throws IllegalStateException if this strategy hasn't joined a game or a sampling task fails
+   */
+  private int best(List<Option> options) {
+    throwIfNoGame();
+    if (options.size() == 1) return 0;
+    Phase phase = options.getFirst().phase();
+    GameState state = game.snapshot();
+    boolean timed = budgetNanos > 0;
+    long deadline = System.nanoTime() + budgetNanos;
+    long[] seeds = new long[rollouts];
+    for (int i = 0; i < rollouts; i++) seeds[i] = random.nextLong();
+
+    List<Callable<long[]>> work = new ArrayList<>(tasks);
+    for (int t = 0; t < tasks && t < rollouts; t++) {
+      int first = t;
+      work.add(() -> sample(state, phase, options, seeds, first, timed, deadline));
+    }
+
+    long[] sums = new long[options.size() + 1]; // the last index counts samples
+    try {
+      for (Future<long[]> f : pool.invokeAll(work)) {
+        long[] taskSums = f.get();
+        for (int i = 0; i < sums.length; i++) sums[i] += taskSums[i];
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Interrupted while waiting for rollouts", e);
+    } catch (ExecutionException e) {
+      throw new IllegalStateException("Rollout failed", e.getCause());
+    }
+    lastSamples = sums[options.size()];
+
+    int best = 0;
+    for (int i = 1; i < options.size(); i++) {
+      if (sums[i] < sums[best]) best = i;
+    }
+    return best;
+  }
+
+  /**
+   * One sampling task: takes the samples of 'state' seeded by every 'tasks'th seed in 'seeds',
+   *   starting at index 'first', and rolls out every option in each.
+   * @return the total score of each option, followed by the amount of samples taken
+   */
+  private long[] sample(GameState state, Phase phase, List<Option> options, long[] seeds,
+                        int first, boolean timed, long deadline) {
+    long[] sums = new long[options.size() + 1];
+    for (int i = first; i < seeds.length; i += tasks) {
+      if (i > first && timed && System.nanoTime() - deadline > 0) break;
+      SplittableRandom r = new SplittableRandom(seeds[i]);
+      GameState sample = state.redeterminize(seat, r);
+      long seed = r.nextLong();
+      for (int o = 0; o < options.size(); o++) {
+        sums[o] += rollout(sample, phase, options.get(o), seed);
+      }
+      sums[options.size()]++;
+    }
+    return sums;
+  }
+
+  /**
+   * Forks 'sample', makes 'option' in the fork, plays out the rest of the round with 'policy'
+   *   strategies seeded by 'seed', and returns the score of this strategy's seat, scaled by the
+   *   amount of opponents so it's a whole number.
+   */
+  private long rollout(GameState sample, Phase phase, Option option, long seed) {
+    SplittableRandom r = new SplittableRandom(seed);
+    List<IPlayer> players = new ArrayList<>(sample.getSeats());
+    for (int i = 0; i < sample.getSeats(); i++) {
+      IStrategy s = policy.apply(r.split());
+      players.add(new AIPlayer(i == seat ? new FirstMove(s, option, players) : s));
+    }
+    IGame fork = game.fork(sample, players, r.split());
+    Rollouts.finishRound(fork, phase);
+    return Rollouts.score(fork, seat);
+  }
+
+  //**************************************************************************************** HELPERS
+  private void throwIfNoGame() {
+    if (game == null) throw new IllegalStateException("StrategyMonteCarlo hasn't joined a game");
+  }
+
+  /**
+   * An option of a decision, which knows the decision it's made at.
+   */
+  private sealed interface Option {
+    /**
+     * Not calling No Blues, which is shared.
+     */
+    NoCall NO_CALL = new NoCall();
+
+    /**
+     * Returns the decision this option is made at.
+     * @return this option's decision
+     */
+    Phase phase();
+
+    /**
+     * Discarding 'card'.
+     */
+    record Discard(Card card) implements Option {
+      @Override
+      public Phase phase() {
+        return Phase.DISCARD;
+      }
+    }
+
+    /**
+     * Choosing 'card' from the pond or well.
+     */
+    record Choose(Card card) implements Option {
+      @Override
+      public Phase phase() {
+        return Phase.CHOOSE;
+      }
+    }
+
+    /**
+     * Calling No Blues on the player in 'seat'.
+     */
+    record Call(int seat) implements Option {
+      @Override
+      public Phase phase() {
+        return Phase.CALL;
+      }
+    }
+
+    /**
+     * Not calling No Blues.
+     */
+    record NoCall() implements Option {
+      @Override
+      public Phase phase() {
+        return Phase.CALL;
+      }
+    }
+  }
+
+  /**
+   * The strategy of the deciding seat in a rollout. The fork starts at the decision being made,
+   *   so the first decision this strategy is asked for is that one - it makes 'option' if it's an
+   *   option of that decision, then asks 'policy' for every later decision.
+   */
+  private static class FirstMove implements IStrategy {
+    private final IStrategy policy;
+    private final List<IPlayer> players;
+    private Option option; // null once made
+
+    FirstMove(IStrategy policy, Option option, List<IPlayer> players) {
+      this.policy = policy;
+      this.option = option;
+      this.players = players;
+    }
+
+    @Override
+    public void resetNewRound() {
+      policy.resetNewRound();
+    }
+
+    @Override
+    public Card recommendedDiscard(List<Card> hand, List<Card> well) {
+      if (!(option instanceof Option.Discard discard)) return policy.recommendedDiscard(hand, well);
+      option = null;
+      return discard.card();
+    }
+
+    @Override
+    public Card recommendedChoose(List<Card> hand, List<Card> pond, List<Card> well) {
+      if (!(option instanceof Option.Choose choice)) {
+        return policy.recommendedChoose(hand, pond, well);
+      }
+      option = null;
+      return choice.card();
+    }
+
+    @Override
+    public Optional<IPlayer> recommendedCall(List<IPlayer> opponents, List<Card> well) {
+      if (option instanceof Option.Call call) {
+        option = null;
+        return Optional.of(players.get(call.seat()));
+      }
+      if (option instanceof Option.NoCall) {
+        option = null;
+        return Optional.empty();
+      }
+      return policy.recommendedCall(opponents, well);
+    }
+  }
+}
@@ -1,11 +1,14 @@
 package player.strategy.strategies;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.List;
+import java.util.random.RandomGenerator;
 
 import game.deck.card.Card;
 import player.strategy.Approach;
+import player.strategy.ICacheable;
 import player.strategy.WinningHand;
 
 /**
@@ -15,15 +18,21 @@ import player.strategy.WinningHand;
  *   close to multiple, which card to choose if multiple desired cards are available, and which card
  *   to discard if multiple cards are unneeded. If the player's hand isn't within pursuable distance
  *   of any 'WinningHand', 'Approach' fully determines which cards are chosen and discarded. This
- *   strategy never calls No Blues on opponents.
+ *   strategy never calls No Blues on opponents. Unless its 'Approach' is 'Approach.RANDOM', its
+ *   decisions can be cached: its only state is the set of 'WinningHand's it's pursuing.
  */
-public class StrategyWin extends AStrategyWin {
+public class StrategyWin extends AStrategyWin implements ICacheable {
+  private static final WinningHand[] HANDS = WinningHand.values();
 
   public StrategyWin(Approach approach) {
     super(approach);
     resetNewRound();
   }
 
+  public StrategyWin(Approach approach, RandomGenerator random) {
+    super(approach, random);
+  }
+
   /**
    * If 'pursuableWHs' is empty, calls static method 'closestTo' in 'WinningHand' to get a list of
    *   all 'WinningHand's the current hand is closest to, then calls 'sortPursuableWHs' and sets
@@ -41,12 +50,52 @@ public class StrategyWin extends AStrategyWin {
   /**
    * Sorts 'pursuableWHs' according to 'approach'. For 'Approach.MIN_POINTS' and
    *   'Approach.MAX_TRUMP', hands are sorted from lowest to highest point values. For
-   *   'Approach.RANDOM', hands are sorted randomly using 'Collections.shuffle()'.
+   *   'Approach.RANDOM', hands are shuffled with 'random'.
    */
   void sortPursuableWHs(List<Card> hand) {
     switch (approach) {
       case MIN_POINTS, MAX_TRUMP -> pursuableWHs.sort(Comparator.comparingInt(WinningHand::points));
-      case RANDOM -> Collections.shuffle(pursuableWHs);
+      case RANDOM -> Collections.shuffle(pursuableWHs, random);
     }
   }
+
+  //**************************************************************************************** CACHING
+  @Override
+  public boolean isDeterministic() {
+    return approach != Approach.RANDOM;
+  }
+
+  @Override
+  public long getVariant() {
+    return (long) StrategyWin.class.getName().hashCode() << 8 | approach.ordinal();
+  }
+
+  /**
+   * Returns the mask of 'pursuableWHs': bit i is set for the WinningHand with ordinal i.
+   */
+  @Override
+  public long getState() {
+    long state = 0L;
+    for (WinningHand wh : pursuableWHs) state |= 1L << wh.ordinal();
+    return state;
+  }
+
+  /**
+   * Sets 'pursuableWHs' to the WinningHands in mask 'state', sorted as 'sortPursuableWHs' sorts
+   *   them. 'pursuableWHs' is always in ordinal order, stably sorted by points, so the list is the
+   *   same as the one the state was read from.
+   */
+  @Override
+  public void setState(long state) {
+    pursuableWHs = new ArrayList<>(Long.bitCount(state));
+    for (; state != 0; state &= state - 1) {
+      pursuableWHs.add(HANDS[Long.numberOfTrailingZeros(state)]);
+    }
+    sortPursuableWHs(List.of()); // the hand isn't used unless the approach is random
+  }
+
+  @Override
+  public boolean discardsUseWell() {
+    return false;
+  }
 }
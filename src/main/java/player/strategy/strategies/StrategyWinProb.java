@@ -2,8 +2,10 @@ package player.strategy.strategies;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.random.RandomGenerator;
 
 import game.deck.card.Card;
+import game.deck.card.CardSet;
 import game.deck.card.UCard;
 import game.deck.card.properties.Color;
 import player.strategy.Approach;
@@ -12,9 +14,9 @@ import player.strategy.WinningHand;
 /**
  * A strategy that attempts to win using probability. Does not use memory. Identifies which
  *   'WinningHand's the player's hand is closest to and uses probability to find and pursue the one
- *   with the greatest number of permutations. The strategy's 'Approach' determines which
- *   'WinningHand' to pursue if the player's hand is close to multiple with the same amount of
- *   permutations, which card to choose if multiple desired cards are available, and which card to
+ *   with the greatest chance of being completed in the turns left. The strategy's 'Approach'
+ *   determines which 'WinningHand' to pursue if the player's hand is close to multiple with the
+ *   same chance, which card to choose if multiple desired cards are available, and which card to
  *   discard if multiple cards are unneeded. If the player's hand isn't within pursuable distance of
  *   any 'WinningHand', 'Approach' fully determines which cards are chosen and discarded. This
  *   strategy never calls No Blues on opponents.
@@ -25,6 +27,10 @@ public class StrategyWinProb extends AStrategyWin {
     super(approach);
   }
 
+  public StrategyWinProb(Approach approach, RandomGenerator random) {
+    super(approach, random);
+  }
+
   /**
    * If 'pursuableWHs' isn't empty, calls 'refreshPursuableWHs' method in superclass and returns.
    *   Else calls static method 'closestTo()' in 'WinningHand' to get a list of all 'WinningHand's
@@ -40,7 +46,7 @@ public class StrategyWinProb extends AStrategyWin {
       return;
     }
 
-    if (WinningHand.cardsAwayFromClosestTo(hand) > 2) return;
+    if (WinningHand.cardsAwayFromClosestTo(WinningHand.uMask(hand)) > 2) return;
     List<WinningHand> closestTo = WinningHand.closestTo(hand);
 
     List<WinningHand> hasBlues = new ArrayList<>();
@@ -56,26 +62,12 @@ public class StrategyWinProb extends AStrategyWin {
   }
 
   /**
-   * Sorts 'pursuableWHs' from highest to lowest permutations taking into account the cards in
-   *   'hand'. If two 'WinningHand's have the same permutations, sorts from lowest to highest point
-   *   value. If they also the same point value, sorts from highest to lowest strength of the hands
-   *   returned by calling 'WinningHand.discardIfDesired()'.
+   * Sorts 'pursuableWHs' from highest to lowest chance of being completed, taking into account the
+   *   cards in 'hand' (see 'sortByOdds()' in superclass).
    * @param hand the current hand
    */
   void sortPursuableWHs(List<Card> hand) {
-    pursuableWHs.sort((a, b) -> {
-      if (WinningHand.permsWOHas(a, hand) > WinningHand.permsWOHas(b, hand)) return -1;
-      if (WinningHand.permsWOHas(a, hand) < WinningHand.permsWOHas(b, hand)) return 1;
-
-      if (a.points() < b.points()) return -1;
-      if (a.points() > b.points()) return 1;
-
-      int aStrength = 0;
-      int bStrength = 0;
-      for (Card c : WinningHand.discardIfDesired(a, hand)) aStrength += c.trumpsAmount();
-      for (Card c : WinningHand.discardIfDesired(b, hand)) aStrength += c.trumpsAmount();
-      return Integer.compare(bStrength, aStrength);
-    });
+    sortByOdds(hand, new CardSet());
   }
 
   /**
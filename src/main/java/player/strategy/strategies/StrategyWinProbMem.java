@@ -1,12 +1,12 @@
 package player.strategy.strategies;
 
 import java.util.ArrayList;
-import java.util.HashSet;
 import java.util.List;
-import java.util.Random;
+import java.util.SplittableRandom;
+import java.util.random.RandomGenerator;
 
 import game.deck.card.Card;
-import game.deck.card.SCard;
+import game.deck.card.CardSet;
 import game.deck.card.UCard;
 import game.deck.card.properties.Color;
 import player.IPlayer;
@@ -19,23 +19,28 @@ import player.strategy.WinningHand;
  */
 public class StrategyWinProbMem extends AStrategyWin implements IMemory {
   private final int accuracy;
-  private List<Card> discarded;
+  private CardSet discarded;
 
   public StrategyWinProbMem(Approach approach, int memoryAccuracyPercentage) {
-    super(approach);
+    this(approach, memoryAccuracyPercentage, new SplittableRandom());
+  }
+
+  public StrategyWinProbMem(Approach approach, int memoryAccuracyPercentage,
+                            RandomGenerator random) {
+    super(approach, random);
     this.accuracy = memoryAccuracyPercentage;
     resetNewRound();
   }
 
   @Override
   public void resetNewRound() {
-    discarded = new ArrayList<>();
+    discarded = new CardSet();
     super.resetNewRound();
   }
 
   @Override
   public void notifyOfPlayerDiscard(IPlayer p, Card c, List<Card> well) {
-    if (new Random().nextInt(0, 100) <= accuracy) discarded.remove(c);
+    if (random.nextInt(0, 100) <= accuracy) discarded.remove(c);
   }
 
   /**
@@ -50,7 +55,7 @@ public class StrategyWinProbMem extends AStrategyWin implements IMemory {
   @Override
   public void notifyOfPlayerChoice(IPlayer p, Card c, String location, List<Card> well,
                                    List<Card> pond) {
-    if (new Random().nextInt(0, 100) <= accuracy) discarded.add(c);
+    if (random.nextInt(0, 100) <= accuracy) discarded.add(c);
   }
 
   /**
@@ -60,7 +65,9 @@ public class StrategyWinProbMem extends AStrategyWin implements IMemory {
    */
   @Override
   public void notifyOfCardsCleared(List<Card> cards) {
-    if (new Random().nextInt(0, 100) <= accuracy) discarded.addAll(cards);
+    if (random.nextInt(0, 100) <= accuracy) {
+      for (Card c : cards) discarded.add(c);
+    }
   }
 
   /**
@@ -79,7 +86,7 @@ public class StrategyWinProbMem extends AStrategyWin implements IMemory {
       return;
     }
 
-    if (WinningHand.cardsAwayFromClosestTo(hand) > 2) return;
+    if (WinningHand.cardsAwayFromClosestTo(WinningHand.uMask(hand)) > 2) return;
     List<WinningHand> closestTo = WinningHand.closestTo(hand);
 
     List<WinningHand> hasBlues = new ArrayList<>();
@@ -90,9 +97,7 @@ public class StrategyWinProbMem extends AStrategyWin implements IMemory {
       if (blues.stream().anyMatch(wh.unsuitedCardList()::contains)) hasBlues.add(wh);
 
       for (UCard u : wh.unsuitedCardList()) {
-        List<Card> cardList = new ArrayList<>();
-        for (SCard s : u.cards()) cardList.add(new Card(s));
-        if (new HashSet<>(discarded).containsAll(cardList)) {
+        if (discarded.containsAll(CardSet.ofSCards(u.cards()))) {
           toRemove.add(wh);
         }
       }
@@ -106,28 +111,12 @@ public class StrategyWinProbMem extends AStrategyWin implements IMemory {
   }
 
   /**
-   * Sorts 'pursuableWHs' from highest to lowest remaining permutations, taking into account the
-   *   Cards in 'discarded' and in 'hand'. If two 'WinningHand's have the same permutations, sorts
-   *   from lowest to highest point value. If they also have the same point value, sorts from
-   *   highest to lowest strength of the hands returned by calling 'WinningHand.discardIfDesired()'.
+   * Sorts 'pursuableWHs' from highest to lowest chance of being completed, taking into account the
+   *   Cards in 'discarded' and in 'hand' (see 'sortByOdds()' in superclass).
    * @param hand the current hand
    */
   void sortPursuableWHs(List<Card> hand) {
-    pursuableWHs.sort((a, b) -> {
-      if (WinningHand.permsWOHasAndDiscarded(a, hand, discarded)
-              > WinningHand.permsWOHasAndDiscarded(b, hand, discarded)) return -1;
-      if (WinningHand.permsWOHasAndDiscarded(a, hand, discarded)
-              < WinningHand.permsWOHasAndDiscarded(b, hand, discarded)) return 1;
-
-      if (a.points() < b.points()) return -1;
-      if (a.points() > b.points()) return 1;
-
-      int aStrength = 0;
-      int bStrength = 0;
-      for (Card c : WinningHand.discardIfDesired(a, hand)) aStrength += c.trumpsAmount();
-      for (Card c : WinningHand.discardIfDesired(b, hand)) aStrength += c.trumpsAmount();
-      return Integer.compare(bStrength, aStrength);
-    });
+    sortByOdds(hand, discarded);
   }
 
   /**
@@ -147,7 +136,9 @@ public class StrategyWinProbMem extends AStrategyWin implements IMemory {
       if (bluesNeeded.isEmpty()) continue;
 
       if (bluesNeeded.size() > 1) notPursuable.add(w);
-      if (UCard.toUCards(discarded).stream().anyMatch(bluesNeeded::contains)) notPursuable.add(w);
+      if (bluesNeeded.stream().anyMatch(u -> discarded.contains(u.cards().getFirst()))) {
+        notPursuable.add(w); // blue UCards correspond with exactly one SCard
+      }
     }
 
     return notPursuable;
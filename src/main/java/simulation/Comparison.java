@@ -0,0 +1,225 @@
+package simulation;
+
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * An adaptive comparison of two strategy configurations, A and B. Instead of a fixed amount of
+ *   games, games are played in batches and the comparison stops as soon as the games played
+ *   settle it, which takes far fewer games for lopsided matchups. Every batch is two Tournaments
+ *   with the same seed, one seated A, B, A, B and one seated B, A, B, A, so that neither
+ *   configuration gains from its seats (seats 2 and 4 win more games than seats 1 and 3 between
+ *   equal configurations). What's tested is the rate 'p' at which A's seats win games, which is
+ *   0.5 if neither configuration is better, with one of two stopping rules:
+ * - SPRT (the default): two of Wald's sequential probability ratio tests, of p = 0.5 against
+ *   p = 0.5 + 'delta' (A beats B) and of p = 0.5 against p = 0.5 - 'delta' (B beats A), with
+ *   error rates 'alpha' and 'beta'. The comparison stops when either test accepts its
+ *   alternative, or when both accept p = 0.5 (no significant difference).
+ * - CI width: the 'level' confidence interval of p. The comparison stops when the interval
+ *   doesn't hold 0.5, or when it's narrower than 'width' (no significant difference). Looking at
+ *   the interval after every batch inflates its error rate, so the SPRT should be preferred.
+ * A comparison that reaches 'maxGames' without settling is inconclusive. Batch seeds are drawn
+ *   from a SplittableRandom seeded with 'seed', so comparisons are reproducible.
+ */
+public class Comparison {
+  /**
+   * The default amount of games per batch and seating.
+   */
+  public static final int DEFAULT_BATCH_SIZE = 200;
+  /**
+   * The default most games played before a comparison is inconclusive.
+   */
+  public static final long DEFAULT_MAX_GAMES = 100_000;
+  /**
+   * The amount of games per Tournament chunk, which is fixed so results don't depend on the
+   *   amount of threads.
+   */
+  public static final int CHUNK_SIZE = 25;
+
+  /**
+   * How a comparison ended.
+   */
+  public enum Outcome {
+    A_BETTER, B_BETTER, NO_DIFFERENCE, INCONCLUSIVE
+  }
+
+  /**
+   * The result of a comparison.
+   * @param outcome how it ended
+   * @param aFirst the combined result of every game seated A, B, A, B
+   * @param bFirst the combined result of every game seated B, A, B, A
+   * @param aWinRate the stat of the rate at which A's seats won games
+   */
+  public record Result(Outcome outcome, SimulationResult aFirst, SimulationResult bFirst,
+                       RunningStat aWinRate) {
+    public long games() {
+      return aFirst.getGames() + bFirst.getGames();
+    }
+  }
+
+  private final StrategyConfig a;
+  private final StrategyConfig b;
+  private final long seed;
+  private int batchSize = DEFAULT_BATCH_SIZE;
+  private long maxGames = DEFAULT_MAX_GAMES;
+  private boolean sprt = true;
+  private double delta = 0.05;
+  private double alpha = 0.05;
+  private double beta = 0.05;
+  private double level;
+  private double width;
+
+  /**
+   * Creates a comparison of 'a' and 'b' with the default batch size, game limit and SPRT (a delta
+   *   of 0.05 and error rates of 0.05).
+   * @param a the first configuration
+   * @param b the second configuration
+   * @param seed the seed of every batch's seed
+   */
+  public Comparison(StrategyConfig a, StrategyConfig b, long seed) {
+    this.a = a;
+    this.b = b;
+    this.seed = seed;
+  }
+
+  //*************************************************************************************** SETTINGS
+  /**
+   * Sets the amount of games played with each seating between checks of the stopping rule.
+   * @param batchSize the amount of games per batch and seating
+   * @throws IllegalArgumentException if 'batchSize' isn't positive
+   */
+  public void setBatchSize(int batchSize) {
+    if (batchSize <= 0) throw new IllegalArgumentException("Batch size must be positive");
+    this.batchSize = batchSize;
+  }
+
+  /**
+   * Sets the most games played before the comparison is inconclusive. The last batch may go over.
+   * @param maxGames the game limit
+   * @throws IllegalArgumentException if 'maxGames' isn't positive
+   */
+  public void setMaxGames(long maxGames) {
+    if (maxGames <= 0) throw new IllegalArgumentException("Game limit must be positive");
+    this.maxGames = maxGames;
+  }
+
+  /**
+   * Makes the comparison stop with SPRTs.
+   * @param delta how far A's win rate must be from 0.5 for a configuration to be better
+   * @param alpha the chance of finding a configuration better when neither is
+   * @param beta the chance of finding no difference when a configuration is 'delta' better
+   * @throws IllegalArgumentException if 'delta' isn't between 0 and 0.5 or an error rate isn't
+   *                                  between 0 and 0.5
+   */
+  public void setSprt(double delta, double alpha, double beta) {
+    if (!(delta > 0 && delta < 0.5) || !(alpha > 0 && alpha < 0.5) || !(beta > 0 && beta < 0.5)) {
+      throw new IllegalArgumentException("Invalid SPRT parameters");
+    }
+    this.sprt = true;
+    this.delta = delta;
+    this.alpha = alpha;
+    this.beta = beta;
+  }
+
+  /**
+   * Makes the comparison stop with confidence intervals.
+   * @param level the confidence level of the interval of A's win rate
+   * @param width how narrow an interval holding 0.5 must be for no significant difference
+   * @throws IllegalArgumentException if 'level' isn't between 0 and 1 or 'width' isn't positive
+   */
+  public void setConfidenceWidth(double level, double width) {
+    RunningStat.zScore(level); // validates level
+    if (!(width > 0)) throw new IllegalArgumentException("Width must be positive");
+    this.sprt = false;
+    this.level = level;
+    this.width = width;
+  }
+
+  //************************************************************************************** COMPARING
+  /**
+   * Plays batches on a new ForkJoinPool with one worker per available processor until the
+   *   comparison is settled or the game limit is reached.
+   * @return the comparison's result
+   */
+  public Result run() {
+    ForkJoinPool pool = new ForkJoinPool(Runtime.getRuntime().availableProcessors());
+    try {
+      return run(pool);
+    } finally {
+      pool.shutdown();
+    }
+  }
+
+  /**
+   * Plays batches as Tournaments on 'executor', which is left running, until the comparison is
+   *   settled or the game limit is reached.
+   * @param executor the executor to run batches on
+   * @return the comparison's result
+   * @throws IllegalStateException if a batch fails
+   */
+  public Result run(ExecutorService executor) {
+    List<StrategyConfig> aSeats = List.of(a, b, a, b);
+    List<StrategyConfig> bSeats = List.of(b, a, b, a);
+    SplittableRandom seeds = new SplittableRandom(seed);
+    SimulationResult aFirst = new SimulationResult(aSeats);
+    SimulationResult bFirst = new SimulationResult(bSeats);
+    Outcome outcome = Outcome.INCONCLUSIVE;
+    while (outcome == Outcome.INCONCLUSIVE && aFirst.getGames() + bFirst.getGames() < maxGames) {
+      long batchSeed = seeds.nextLong();
+      aFirst = aFirst.merge(new Tournament(aSeats, batchSize, batchSeed, CHUNK_SIZE).run(executor));
+      bFirst = bFirst.merge(new Tournament(bSeats, batchSize, batchSeed, CHUNK_SIZE).run(executor));
+      long games = aFirst.getGames() + bFirst.getGames();
+      long wins = aWins(aFirst, bFirst);
+      outcome = sprt ? sprtOutcome(wins, games - wins) : intervalOutcome(aWinRate(wins, games));
+    }
+    long games = aFirst.getGames() + bFirst.getGames();
+    return new Result(outcome, aFirst, bFirst, aWinRate(aWins(aFirst, bFirst), games));
+  }
+
+  //**************************************************************************************** HELPERS
+  /**
+   * Returns how many games A's seats won.
+   */
+  private static long aWins(SimulationResult aFirst, SimulationResult bFirst) {
+    return aFirst.getGameWins(0) + aFirst.getGameWins(2) + bFirst.getGameWins(1)
+            + bFirst.getGameWins(3);
+  }
+
+  /**
+   * Returns the stat of a rate of 'wins' out of 'games': a stream of 0s and 1s whose mean is the
+   *   rate and whose sum of squared differences from it is wins * losses / games.
+   */
+  private static RunningStat aWinRate(long wins, long games) {
+    if (games == 0) return RunningStat.EMPTY;
+    return new RunningStat(games, (double) wins / games, (double) wins * (games - wins) / games);
+  }
+
+  private Outcome sprtOutcome(long wins, long losses) {
+    double upper = Math.log((1 - beta) / alpha);
+    double lower = Math.log(beta / (1 - alpha));
+    double aBetter = logLikelihoodRatio(wins, losses, 0.5 + delta);
+    double bBetter = logLikelihoodRatio(wins, losses, 0.5 - delta);
+    if (aBetter >= upper) return Outcome.A_BETTER;
+    if (bBetter >= upper) return Outcome.B_BETTER;
+    if (aBetter <= lower && bBetter <= lower) return Outcome.NO_DIFFERENCE;
+    return Outcome.INCONCLUSIVE;
+  }
+
+  /**
+   * Returns the log of the likelihood of 'wins' and 'losses' if A's win rate is 'p' over their
+   *   likelihood if it's 0.5.
+   */
+  private static double logLikelihoodRatio(long wins, long losses, double p) {
+    return wins * Math.log(p / 0.5) + losses * Math.log((1 - p) / 0.5);
+  }
+
+  private Outcome intervalOutcome(RunningStat aWinRate) {
+    double[] interval = aWinRate.getConfidenceInterval(level);
+    if (interval[0] > 0.5) return Outcome.A_BETTER;
+    if (interval[1] < 0.5) return Outcome.B_BETTER;
+    if (interval[1] - interval[0] < width) return Outcome.NO_DIFFERENCE;
+    return Outcome.INCONCLUSIVE;
+  }
+}
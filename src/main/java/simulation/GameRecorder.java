@@ -0,0 +1,190 @@
+package simulation;
+
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+import game.IGame;
+import game.deck.card.Card;
+import game.observer.EventType;
+import game.observer.GameEvent;
+import game.observer.Observer;
+import game.rends.NBCall;
+import game.rends.REnd;
+import game.rends.REndState;
+import player.IPlayer;
+
+/**
+ * Records a game as a compact binary log that 'GameReplay' can play back. Once 'start()' is called,
+ *   every card dealt or flipped into the well and every discard, choice and No Blues call is
+ *   written as it happens, along with each round's result so a replay can check it. Numbers are
+ *   written as varints (7 bits per byte, the high bit set on every byte but the last), so card
+ *   ordinals and seats take one byte each and a typical round takes about 120 bytes. Nothing is
+ *   allocated per event except when the buffer grows.
+ * The log is laid out as follows, with every field a varint and signed fields zigzag encoded:
+ *   VERSION, seed, game, seats, deck size, then per round: ROUND and every seat's dealt hand, then
+ *   WELL and the 4 cards of each well, DISCARD or CHOICE with the seat and card of each move, and
+ *   ROUND_OVER with the end, the winner's seat, the caller's and receiver's seats if the round
+ *   ended with a No Blues call, and every seat's (signed) points. The log ends with GAME_OVER, the
+ *   winner's seat and their (signed) points.
+ * A recorder can be left on an 'IGame' for many games: 'stop()' makes it ignore events until the
+ *   next 'start()', so games can be sampled.
+ */
+public class GameRecorder implements Observer {
+  static final int VERSION = 1;
+  static final int ROUND = 1;
+  static final int WELL = 2;
+  static final int DISCARD = 3;
+  static final int CHOICE = 4;
+  static final int ROUND_OVER = 5;
+  static final int GAME_OVER = 6;
+
+  private final IGame game;
+  private byte[] buffer;
+  private int size;
+  private boolean recording;
+
+  /**
+   * Creates a GameRecorder of 'game', which isn't recording until 'start()' is called. The
+   *   recorder still has to be added to the game with 'game.addObserver()'.
+   * @param game the game to record
+   */
+  public GameRecorder(IGame game) {
+    this.game = game;
+    this.buffer = new byte[1024];
+  }
+
+  //************************************************************************************** RECORDING
+  /**
+   * Discards any log recorded so far and starts recording a new game, which should be about to
+   *   start its first round.
+   * @param seed the seed of the run the game is part of, kept in the log to identify it
+   * @param index the game's index in that run, kept in the log to identify it
+   */
+  public void start(long seed, long index) {
+    size = 0;
+    recording = true;
+    write(VERSION);
+    write(seed);
+    write(index);
+    write(game.getPlayers().size());
+    write(game.getDeck().cardsSize() + game.getDeck().dealtSize());
+  }
+
+  /**
+   * Stops recording until the next 'start()'. The log recorded so far is kept.
+   */
+  public void stop() {
+    recording = false;
+  }
+
+  /**
+   * Returns true if events are being recorded.
+   * @return true if recording
+   */
+  public boolean isRecording() {
+    return recording;
+  }
+
+  /**
+   * Returns a copy of the log recorded since the last 'start()'.
+   * @return the log
+   */
+  public byte[] toByteArray() {
+    return Arrays.copyOf(buffer, size);
+  }
+
+  /**
+   * Returns the size of the log recorded since the last 'start()' in bytes.
+   * @return the log's size
+   */
+  public int size() {
+    return size;
+  }
+
+  //*************************************************************************************** OBSERVER
+  @Override
+  public void update(GameEvent event) {
+    if (!recording) return;
+    switch (event) {
+      case GameEvent.RoundStarted e -> {
+        write(ROUND);
+        for (IPlayer p : game.getPlayers()) {
+          for (Card c : p.getHand()) write(ordinal(c));
+        }
+      }
+      case GameEvent.WellFlipped e -> {
+        write(WELL);
+        for (Card c : game.getWell()) write(ordinal(c));
+      }
+      case GameEvent.PlayerDiscard e -> {
+        write(DISCARD);
+        write(seatOf(e.player()));
+        write(ordinal(e.card()));
+      }
+      case GameEvent.PlayerChoice e -> {
+        write(CHOICE);
+        write(seatOf(e.player()));
+        write(ordinal(e.card()));
+      }
+      case GameEvent.RoundOver e -> {
+        REndState rendState = e.rendState();
+        write(ROUND_OVER);
+        write(rendState.getEnd().ordinal());
+        write(seatOf(rendState.getWinner()));
+        if (rendState.getEnd() == REnd.TRUE_NO || rendState.getEnd() == REnd.FALSE_NO) {
+          NBCall nbc = rendState.getNbc();
+          write(seatOf(nbc.caller()));
+          write(seatOf(nbc.receiver()));
+        }
+        int[] deltas = game.getScoreSheet().getLast().getDeltas();
+        for (int i = 0; i < game.getPlayers().size(); i++) write(zigzag(deltas[i]));
+      }
+      case GameEvent.GameOver e -> {
+        write(GAME_OVER);
+        write(seatOf(e.winner()));
+        write(zigzag(e.points()));
+      }
+      default -> { }
+    }
+  }
+
+  @Override
+  public Set<EventType> subscriptions() {
+    return EnumSet.of(EventType.ROUND_STARTED, EventType.WELL_FLIPPED, EventType.PLAYER_DISCARD,
+            EventType.PLAYER_CHOICE, EventType.ROUND_OVER, EventType.GAME_OVER);
+  }
+
+  //**************************************************************************************** HELPERS
+  /**
+   * Appends 'value' to the log as an unsigned varint.
+   */
+  private void write(long value) {
+    if (size + 10 > buffer.length) buffer = Arrays.copyOf(buffer, buffer.length * 2);
+    while ((value & ~0x7FL) != 0) {
+      buffer[size++] = (byte) (value | 0x80);
+      value >>>= 7;
+    }
+    buffer[size++] = (byte) value;
+  }
+
+  private int seatOf(IPlayer p) {
+    List<IPlayer> players = game.getPlayers();
+    for (int i = 0; i < players.size(); i++) {
+      if (players.get(i) == p) return i;
+    }
+    throw new IllegalStateException(p + " isn't seated");
+  }
+
+  private static int ordinal(Card c) {
+    return c.getSCard().ordinal();
+  }
+
+  /**
+   * Maps signed 'value' to an unsigned one that's small when value is close to 0.
+   */
+  static long zigzag(int value) {
+    return ((value << 1) ^ (value >> 31)) & 0xFFFFFFFFL;
+  }
+}
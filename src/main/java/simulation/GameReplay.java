@@ -0,0 +1,396 @@
+package simulation;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.List;
+import java.util.Optional;
+import java.util.random.RandomGenerator;
+
+import game.IGame;
+import game.StandardGame;
+import game.deck.DeckType;
+import game.deck.IDeck;
+import game.deck.TypeDeck;
+import game.deck.card.Card;
+import game.deck.card.CardSet;
+import game.deck.card.SCard;
+import game.rends.REnd;
+import game.score.RScore;
+import player.AIPlayer;
+import player.IPlayer;
+import player.strategy.IGameAware;
+import player.strategy.strategies.IStrategy;
+
+/**
+ * Plays a log written by a 'GameRecorder' back through a 'StandardGame' and checks that every
+ *   round ends the way it did when it was recorded. The replayed game's deck deals the recorded
+ *   cards in the recorded order, and each seat is an AIPlayer whose strategy makes the recorded
+ *   discards, choices and No Blues calls, so the replay doesn't depend on the original strategies
+ *   or generators. A game whose replay diverges points at a bug in the game (or a change to its
+ *   rules) rather than in the strategies that played it.
+ */
+public class GameReplay {
+  private static final SCard[] SCARDS = SCard.values();
+  private static final REnd[] ENDS = REnd.values();
+
+  private final long seed;
+  private final long index;
+  private final int seats;
+  private final int deckSize;
+  private final DeckType deckType;
+  private final List<Round> rounds;
+  private final int winner;
+  private final int winnerPoints;
+  private Round current;
+
+  /**
+   * A recorded round.
+   */
+  private static class Round {
+    final List<Integer> cards = new ArrayList<>(); // in the order they left the deck
+    final List<Deque<Integer>> discards = new ArrayList<>();
+    final List<Deque<Integer>> choices = new ArrayList<>();
+    int wells;
+    REnd end;
+    int winner;
+    int caller = -1;
+    int receiver = -1;
+    int[] deltas;
+  }
+
+  /**
+   * Parses a log written by a 'GameRecorder'.
+   * @param log the log
+   * @throws IllegalArgumentException if log isn't a complete log of a game
+   */
+  public GameReplay(byte[] log) {
+    Reader in = new Reader(log);
+    if (in.next() != GameRecorder.VERSION) throw new IllegalArgumentException("Unknown version");
+    this.seed = in.next();
+    this.index = in.next();
+    this.seats = (int) in.next();
+    this.deckSize = (int) in.next();
+    this.deckType = deckType(deckSize);
+    if (seats < 1 || deckType == null) throw new IllegalArgumentException("Bad header");
+    this.rounds = new ArrayList<>();
+
+    Round round = null;
+    while (true) {
+      int tag = (int) in.next();
+      if (tag == GameRecorder.GAME_OVER) break;
+      if (tag == GameRecorder.ROUND) {
+        round = new Round();
+        rounds.add(round);
+        int[][] hands = new int[seats][5];
+        for (int[] hand : hands) {
+          for (int i = 0; i < 5; i++) hand[i] = in.card();
+        }
+        for (int i = 0; i < 5; i++) {
+          for (int[] hand : hands) round.cards.add(hand[i]); // dealt one card per seat at a time
+        }
+        for (int s = 0; s < seats; s++) {
+          round.discards.add(new ArrayDeque<>());
+          round.choices.add(new ArrayDeque<>());
+        }
+        continue;
+      }
+      if (round == null) throw new IllegalArgumentException("Event before the first round");
+      switch (tag) {
+        case GameRecorder.WELL -> {
+          for (int i = 0; i < 4; i++) round.cards.add(in.card());
+          round.wells++;
+        }
+        case GameRecorder.DISCARD -> round.discards.get(in.seat()).add(in.card());
+        case GameRecorder.CHOICE -> round.choices.get(in.seat()).add(in.card());
+        case GameRecorder.ROUND_OVER -> {
+          long end = in.next();
+          if (end >= ENDS.length) throw new IllegalArgumentException("Unknown end " + end);
+          round.end = ENDS[(int) end];
+          round.winner = in.seat();
+          if (round.end == REnd.TRUE_NO || round.end == REnd.FALSE_NO) {
+            round.caller = in.seat();
+            round.receiver = in.seat();
+          }
+          round.deltas = new int[seats];
+          for (int s = 0; s < seats; s++) round.deltas[s] = in.signed();
+        }
+        default -> throw new IllegalArgumentException("Unknown tag " + tag);
+      }
+    }
+    this.winner = in.seat();
+    this.winnerPoints = in.signed();
+    for (Round r : rounds) {
+      if (r.end == null) throw new IllegalArgumentException("Round without a result");
+    }
+  }
+
+  //************************************************************************************** REPLAYING
+  /**
+   * Replays the game and returns it, checking every round's result and the game's winner against
+   *   the log.
+   * @return the replayed game, which is over
+   * @throws IllegalStateException if the replay diverges from the log
+   */
+  public StandardGame run() {
+    List<IPlayer> players = new ArrayList<>();
+    for (int s = 0; s < seats; s++) players.add(new AIPlayer("Seat " + (s + 1), new Moves(s)));
+    StandardGame game = new StandardGame(players, new Deck());
+
+    for (int r = 0; r < rounds.size(); r++) {
+      current = rounds.get(r);
+      if (game.gameOver()) throw diverged(r, "the game ended early");
+      Simulation.playRound(game);
+      RScore score = game.getScoreSheet().getLast();
+      REnd end = score.getRendState().getEnd();
+      if (end != current.end) throw diverged(r, "it ended with " + end + ", not " + current.end);
+      if (players.get(current.winner) != score.getWinner()) {
+        throw diverged(r, score.getWinner().name() + " won it");
+      }
+      if (!Arrays.equals(Arrays.copyOf(score.getDeltas(), seats), current.deltas)) {
+        throw diverged(r, "its points were " + Arrays.toString(score.getDeltas()));
+      }
+    }
+    if (!game.gameOver() || game.getGameWinner() != players.get(winner)
+            || game.getGameWinner().getPoints() != winnerPoints) {
+      throw new IllegalStateException("Replay diverged: the game's result doesn't match");
+    }
+    return game;
+  }
+
+  //**************************************************************************************** GETTERS
+  /**
+   * Returns the seed of the run the game was recorded in.
+   * @return the seed
+   */
+  public long getSeed() {
+    return seed;
+  }
+
+  /**
+   * Returns the index of the game in the run it was recorded in.
+   * @return the game's index
+   */
+  public long getIndex() {
+    return index;
+  }
+
+  /**
+   * Returns the amount of rounds the game lasted.
+   * @return the rounds
+   */
+  public int getRounds() {
+    return rounds.size();
+  }
+
+  //**************************************************************************************** HELPERS
+  private IllegalStateException diverged(int round, String why) {
+    return new IllegalStateException("Replay diverged in round " + (round + 1) + ": " + why);
+  }
+
+  private static Card card(int ordinal) {
+    return Card.of(SCARDS[ordinal]);
+  }
+
+  /**
+   * Returns the type of deck that has 'size' cards (the first 'size' SCards), or null if none has.
+   */
+  private static DeckType deckType(int size) {
+    for (DeckType type : DeckType.values()) {
+      TypeDeck deck = new TypeDeck(type);
+      if (deck.cardsSize() == size) return type;
+    }
+    return null;
+  }
+
+  /**
+   * Makes the recorded decisions of a seat. Calls are made on the last turn of a round that ended
+   *   with one, once the seat has discarded as many times as there were wells.
+   */
+  private class Moves implements IStrategy, IGameAware {
+    private final int seat;
+    private IGame game;
+    private Round round;
+    private Deque<Integer> discards;
+    private Deque<Integer> choices;
+    private int discarded;
+
+    Moves(int seat) {
+      this.seat = seat;
+    }
+
+    @Override
+    public void joinGame(IGame game, int seat) {
+      this.game = game;
+    }
+
+    @Override
+    public void resetNewRound() {
+    }
+
+    @Override
+    public Card recommendedDiscard(List<Card> hand, List<Card> well) {
+      sync();
+      discarded++;
+      return card(next(discards));
+    }
+
+    @Override
+    public Card recommendedChoose(List<Card> hand, List<Card> well, List<Card> pond) {
+      sync();
+      return card(next(choices));
+    }
+
+    @Override
+    public Optional<IPlayer> recommendedCall(List<IPlayer> opponents, List<Card> well) {
+      sync();
+      if (round.caller != seat || discarded != round.wells) return Optional.empty();
+      return Optional.of(game.getPlayers().get(round.receiver));
+    }
+
+    private void sync() {
+      if (round != current) {
+        round = current;
+        discards = new ArrayDeque<>(round.discards.get(seat)); // copied so runs can be repeated
+        choices = new ArrayDeque<>(round.choices.get(seat));
+        discarded = 0;
+      }
+    }
+
+    private int next(Deque<Integer> moves) {
+      if (moves.isEmpty()) throw new IllegalStateException("Replay diverged: seat " + seat
+              + " has no recorded move left");
+      return moves.poll();
+    }
+  }
+
+  /**
+   * A deck whose cards come out in the order the current round's cards left the recorded deck,
+   *   followed by the cards that never did.
+   */
+  private class Deck implements IDeck {
+    private Deque<Card> cards = new ArrayDeque<>();
+    private final ArrayList<Card> dealt = new ArrayList<>();
+    private final CardSet cardSet = new CardSet();
+
+    Deck() {
+      resetDeck();
+    }
+
+    @Override
+    public void shuffle() {
+      if (current == null) return;
+      List<Card> order = new ArrayList<>();
+      CardSet ordered = new CardSet();
+      for (int o : current.cards) {
+        Card c = card(o);
+        if (cardSet.contains(c) && ordered.add(c)) order.add(c);
+      }
+      for (Card c : cards) {
+        if (!ordered.contains(c)) order.add(c);
+      }
+      cards = new ArrayDeque<>(order);
+    }
+
+    @Override
+    public Card popCard() {
+      if (cards.isEmpty()) throw new IllegalArgumentException("Deck empty");
+      Card c = cards.pop();
+      dealt.add(c);
+      cardSet.remove(c);
+      return c;
+    }
+
+    @Override
+    public void resetDeck() {
+      cards.clear();
+      dealt.clear();
+      cardSet.clear();
+      for (int i = 0; i < deckSize; i++) {
+        cards.add(card(i));
+        cardSet.add(SCARDS[i]);
+      }
+    }
+
+    /**
+     * Returns a TypeDeck of the recorded deck's type whose remaining cards are 'cards', since a
+     *   fork plays on without the log.
+     */
+    @Override
+    public IDeck fork(List<Card> cards, RandomGenerator random) {
+      return new TypeDeck(deckType, random).fork(cards, random);
+    }
+
+    @Override
+    public Card peekCard() {
+      if (cards.isEmpty()) throw new IllegalArgumentException("Deck empty");
+      return cards.peek();
+    }
+
+    @Override
+    public int cardsSize() {
+      return cards.size();
+    }
+
+    @Override
+    public ArrayList<Card> getDealt() {
+      return dealt;
+    }
+
+    @Override
+    public Deque<Card> getCards() {
+      return cards;
+    }
+
+    @Override
+    public CardSet getCardSet() {
+      return cardSet;
+    }
+
+    @Override
+    public int dealtSize() {
+      return dealt.size();
+    }
+  }
+
+  /**
+   * Reads varints from a log.
+   */
+  private class Reader {
+    private final byte[] log;
+    private int position;
+
+    Reader(byte[] log) {
+      this.log = log;
+    }
+
+    long next() {
+      long value = 0;
+      for (int shift = 0; shift < 64; shift += 7) {
+        if (position == log.length) throw new IllegalArgumentException("Log ends early");
+        byte b = log[position++];
+        value |= (long) (b & 0x7F) << shift;
+        if (b >= 0) return value;
+      }
+      throw new IllegalArgumentException("Varint too long");
+    }
+
+    int signed() {
+      int u = (int) next();
+      return (u >>> 1) ^ -(u & 1);
+    }
+
+    int card() {
+      long c = next();
+      if (c >= deckSize) throw new IllegalArgumentException("Unknown card " + c);
+      return (int) c;
+    }
+
+    int seat() {
+      long s = next();
+      if (s >= seats) throw new IllegalArgumentException("Unknown seat " + s);
+      return (int) s;
+    }
+  }
+}
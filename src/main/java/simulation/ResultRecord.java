@@ -0,0 +1,82 @@
+package simulation;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import game.rends.REnd;
+
+/**
+ * The result of one round or one game of a Simulation, as handed to a 'ResultSink'. Records are
+ *   identified by the simulation's seed and the game's index in it. 'round' is the round's number
+ *   in its game (starting at 1) for a round, or how many rounds the game lasted for a game, and
+ *   'points' holds the points every seat gained in the round, or finished the game with. 'end' is
+ *   null for games. 'points' isn't copied, so it mustn't be modified once the record is created.
+ * @param seats the strategy configuration of every seat
+ * @param seed the seed of the simulation the round or game was played in
+ * @param game the index of the game in that simulation
+ * @param round the round's number, or the game's amount of rounds
+ * @param winner the seat that won the round or game
+ * @param end how the round ended, or null for a game
+ * @param points every seat's points
+ */
+public record ResultRecord(List<StrategyConfig> seats, long seed, long game, int round, int winner,
+                           REnd end, int[] points) {
+  /**
+   * The names of the values of 'values()', for CSV headers and the like.
+   */
+  public static final List<String> HEADER = List.of("type", "seed", "game", "round", "seat1",
+          "seat2", "seat3", "seat4", "winner", "end", "points1", "points2", "points3", "points4");
+
+  /**
+   * Returns the record of a round.
+   * @param seats the strategy configuration of every seat
+   * @param seed the seed of the simulation the round was played in
+   * @param game the index of the round's game in that simulation
+   * @param round the round's number in its game
+   * @param deltas the points each seat gained in the round
+   * @param winner the seat that won the round
+   * @param end how the round ended
+   * @return the record
+   */
+  public static ResultRecord round(List<StrategyConfig> seats, long seed, long game, int round,
+                                   int[] deltas, int winner, REnd end) {
+    return new ResultRecord(seats, seed, game, round, winner, end, deltas);
+  }
+
+  /**
+   * Returns the record of a game.
+   * @param seats the strategy configuration of every seat
+   * @param seed the seed of the simulation the game was played in
+   * @param game the index of the game in that simulation
+   * @param rounds how many rounds the game lasted
+   * @param totals the points each seat finished the game with
+   * @param winner the seat that won the game
+   * @return the record
+   */
+  public static ResultRecord game(List<StrategyConfig> seats, long seed, long game, int rounds,
+                                  int[] totals, int winner) {
+    return new ResultRecord(seats, seed, game, rounds, winner, null, totals);
+  }
+
+  public boolean isGame() {
+    return end == null;
+  }
+
+  /**
+   * Returns this record as a row of values named by HEADER: numbers, seat configuration codes and
+   *   the end's name ("" for a game). Seats are numbered from 1, like in the header.
+   * @return the row
+   */
+  public List<Object> values() {
+    List<Object> values = new ArrayList<>(HEADER.size());
+    values.add(isGame() ? "game" : "round");
+    values.add(seed);
+    values.add(game);
+    values.add(round);
+    for (StrategyConfig s : seats) values.add(s.code());
+    values.add(winner + 1);
+    values.add(isGame() ? "" : end.name());
+    for (int i = 0; i < seats.size(); i++) values.add(points[i]);
+    return values;
+  }
+}
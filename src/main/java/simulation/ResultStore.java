@@ -0,0 +1,327 @@
+package simulation;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import game.rends.REnd;
+
+/**
+ * An append-only file of per-round and per-game results, memory-mapped so that simulations can
+ *   write billions of records to local disk without an external service. Every record is
+ *   RECORD_SIZE bytes: the seat configurations' ids (see 'StrategyConfig.id()'), the seed of the
+ *   simulation and the index of the game the record belongs to, the winner's seat, and every
+ *   seat's points (a round's deltas, or the totals a game finished with). Round records also hold
+ *   the round's number and how it ended; game records hold how many rounds the game lasted.
+ * Appending is lock-free, so any number of threads can write to one store: a writer reserves the
+ *   next record with an atomic counter, fills it in, and publishes it by writing its header last
+ *   with release semantics. The file is mapped in segments of 'segmentRecords' records that are
+ *   mapped (and the file grown) when a record in them is first reserved. The amount of records is
+ *   kept in the file's header by 'flush()' and 'close()', and a store reopened after a crash picks
+ *   up any published records written after the last flush.
+ * Records are read back in order with a 'Reader'.
+ */
+public class ResultStore implements Closeable {
+  /**
+   * The size of a record in bytes.
+   */
+  public static final int RECORD_SIZE = 48;
+  /**
+   * The default amount of records per mapped segment (about 1 GiB).
+   */
+  public static final int DEFAULT_SEGMENT_RECORDS = (1 << 30) / RECORD_SIZE;
+
+  private static final int SEATS = 4;
+  private static final int MAX_SEGMENTS = 1 << 16;
+  private static final REnd[] ENDS = REnd.values();
+  // file header
+  private static final int MAGIC = 0x426C5253; // "BlRS"
+  private static final int VERSION = 1;
+  private static final int HEADER_SIZE = 64;
+  private static final int H_MAGIC = 0;
+  private static final int H_VERSION = 4;
+  private static final int H_RECORD_SIZE = 8;
+  private static final int H_SEGMENT_RECORDS = 12;
+  private static final int H_COUNT = 16;
+  // record layout: the header holds the type, winner and end in its low 3 bytes
+  private static final int R_HEADER = 0;
+  private static final int R_ROUND = 4;
+  private static final int R_SEED = 8;
+  private static final int R_GAME = 16;
+  private static final int R_SEATS = 24; // SEATS shorts
+  private static final int R_POINTS = 32; // SEATS ints
+  private static final int ROUND = 1;
+  private static final int GAME = 2;
+  private static final VarHandle HEADER = MethodHandles.byteBufferViewVarHandle(int[].class,
+          ByteOrder.BIG_ENDIAN);
+
+  private final FileChannel channel;
+  private final MappedByteBuffer header;
+  private final int segmentRecords;
+  private final AtomicReferenceArray<MappedByteBuffer> segments;
+  private final AtomicLong reserved;
+
+  /**
+   * Opens the store in 'file', creating it if it doesn't exist, with the default segment size.
+   * @param file the store's file
+   * @throws IOException if the file can't be opened or isn't a store
+   */
+  public ResultStore(Path file) throws IOException {
+    this(file, DEFAULT_SEGMENT_RECORDS);
+  }
+
+  /**
+   * Opens the store in 'file', creating it with segments of 'segmentRecords' records if it doesn't
+   *   exist. An existing store keeps the segment size it was created with.
+   * @param file the store's file
+   * @param segmentRecords the amount of records per mapped segment of a new store
+   * @throws IllegalArgumentException if 'segmentRecords' isn't positive or a segment would be
+   *                                  larger than 2 GiB
+   * @throws IOException if the file can't be opened or isn't a store
+   */
+  public ResultStore(Path file, int segmentRecords) throws IOException {
+    if (segmentRecords <= 0 || segmentRecords > Integer.MAX_VALUE / RECORD_SIZE) {
+      throw new IllegalArgumentException("Invalid segment size: " + segmentRecords);
+    }
+    this.channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ,
+            StandardOpenOption.WRITE);
+    boolean created = channel.size() == 0;
+    this.header = channel.map(FileChannel.MapMode.READ_WRITE, 0, HEADER_SIZE);
+    if (created) {
+      header.putInt(H_MAGIC, MAGIC);
+      header.putInt(H_VERSION, VERSION);
+      header.putInt(H_RECORD_SIZE, RECORD_SIZE);
+      header.putInt(H_SEGMENT_RECORDS, segmentRecords);
+      header.putLong(H_COUNT, 0);
+    } else if (header.getInt(H_MAGIC) != MAGIC || header.getInt(H_VERSION) != VERSION
+            || header.getInt(H_RECORD_SIZE) != RECORD_SIZE
+            || header.getInt(H_SEGMENT_RECORDS) <= 0) {
+      channel.close();
+      throw new IOException(file + " isn't a result store");
+    }
+    this.segmentRecords = header.getInt(H_SEGMENT_RECORDS);
+    this.segments = new AtomicReferenceArray<>(MAX_SEGMENTS);
+
+    long count = header.getLong(H_COUNT);
+    long written = (channel.size() - HEADER_SIZE) / RECORD_SIZE;
+    while (count < written && published(count)) count++; // records written after the last flush
+    this.reserved = new AtomicLong(count);
+  }
+
+  //************************************************************************************** APPENDING
+  /**
+   * Appends the result of one round.
+   * @param seats the strategy configuration of every seat
+   * @param seed the seed of the simulation the round was played in
+   * @param game the index of the round's game in that simulation
+   * @param round the round's number in its game, starting at 1
+   * @param deltas the points each seat gained in the round
+   * @param winner the seat that won the round
+   * @param end how the round ended
+   * @throws IllegalStateException if the store is full or closed
+   */
+  public void appendRound(List<StrategyConfig> seats, long seed, long game, int round,
+                          int[] deltas, int winner, REnd end) {
+    append(ROUND | winner << 8 | end.ordinal() << 16, seats, seed, game, round, deltas);
+  }
+
+  /**
+   * Appends the result of one game.
+   * @param seats the strategy configuration of every seat
+   * @param seed the seed of the simulation the game was played in
+   * @param game the index of the game in that simulation
+   * @param rounds how many rounds the game lasted
+   * @param totals the points each seat finished the game with
+   * @param winner the seat that won the game
+   * @throws IllegalStateException if the store is full or closed
+   */
+  public void appendGame(List<StrategyConfig> seats, long seed, long game, int rounds,
+                         int[] totals, int winner) {
+    append(GAME | winner << 8, seats, seed, game, rounds, totals);
+  }
+
+  /**
+   * Returns how many records have been appended, including any that are still being written.
+   * @return the amount of records
+   */
+  public long size() {
+    return reserved.get();
+  }
+
+  /**
+   * Writes the amount of records to the file's header and forces every mapped segment to disk.
+   *   Records that are still being written when the count is taken may be lost if the process
+   *   dies before they're published, so this should be called while no one is appending.
+   */
+  public void flush() {
+    header.putLong(H_COUNT, reserved.get());
+    header.force();
+    for (int s = 0; s < segments.length(); s++) {
+      MappedByteBuffer segment = segments.get(s);
+      if (segment != null) segment.force();
+    }
+  }
+
+  /**
+   * Flushes and closes the store. Nothing can be appended or read once it's closed.
+   * @throws IOException if the file can't be closed
+   */
+  @Override
+  public void close() throws IOException {
+    if (!channel.isOpen()) return;
+    flush();
+    channel.close();
+  }
+
+  //**************************************************************************************** READING
+  /**
+   * Returns a reader of this store's records, from the first one up to the first one that hasn't
+   *   been published when the reader reaches it.
+   * @return the reader
+   */
+  public Reader reader() {
+    return new Reader();
+  }
+
+  /**
+   * Reads a store's records in order. 'next()' moves the reader to the next record, whose fields
+   *   the getters then return; no objects are allocated per record except seat configurations.
+   */
+  public class Reader {
+    private long index = -1;
+    private MappedByteBuffer segment;
+    private int offset;
+    private int recordHeader;
+
+    private Reader() {
+    }
+
+    /**
+     * Moves to the next record.
+     * @return false if there is no published record after the current one
+     */
+    public boolean next() {
+      if (index + 1 >= reserved.get() || !published(index + 1)) return false;
+      index++;
+      segment = segment(index);
+      offset = offset(index);
+      recordHeader = (int) HEADER.getAcquire(segment, offset + R_HEADER);
+      return true;
+    }
+
+    /**
+     * Returns the index of the current record in the store.
+     * @return the record's index
+     */
+    public long getIndex() {
+      return index;
+    }
+
+    /**
+     * Returns true if the current record is a game's result, false if it's a round's.
+     * @return true if a game record
+     */
+    public boolean isGame() {
+      return (recordHeader & 0xFF) == GAME;
+    }
+
+    public long getSeed() {
+      return segment.getLong(offset + R_SEED);
+    }
+
+    public long getGame() {
+      return segment.getLong(offset + R_GAME);
+    }
+
+    /**
+     * Returns the round's number if the current record is a round's, or how many rounds the game
+     *   lasted if it's a game's.
+     * @return the round or amount of rounds
+     */
+    public int getRound() {
+      return segment.getInt(offset + R_ROUND);
+    }
+
+    public int getWinner() {
+      return (recordHeader >>> 8) & 0xFF;
+    }
+
+    /**
+     * Returns how the round ended.
+     * @return the round's end, or null if the current record is a game's
+     */
+    public REnd getEnd() {
+      return isGame() ? null : ENDS[(recordHeader >>> 16) & 0xFF];
+    }
+
+    public StrategyConfig getSeat(int seat) {
+      return StrategyConfig.ofId(segment.getShort(offset + R_SEATS + seat * 2) & 0xFFFF);
+    }
+
+    /**
+     * Returns the points 'seat' gained in the round, or finished the game with.
+     * @param seat the seat
+     * @return the seat's points
+     */
+    public int getPoints(int seat) {
+      return segment.getInt(offset + R_POINTS + seat * 4);
+    }
+  }
+
+  //**************************************************************************************** HELPERS
+  private void append(int recordHeader, List<StrategyConfig> seats, long seed, long game,
+                      int round, int[] points) {
+    if (!channel.isOpen()) throw new IllegalStateException("Store is closed");
+    long index = reserved.getAndIncrement();
+    MappedByteBuffer segment = segment(index);
+    int offset = offset(index);
+    segment.putInt(offset + R_ROUND, round);
+    segment.putLong(offset + R_SEED, seed);
+    segment.putLong(offset + R_GAME, game);
+    for (int i = 0; i < SEATS; i++) {
+      segment.putShort(offset + R_SEATS + i * 2, (short) seats.get(i).id());
+      segment.putInt(offset + R_POINTS + i * 4, points[i]);
+    }
+    HEADER.setRelease(segment, offset + R_HEADER, recordHeader);
+  }
+
+  /**
+   * Returns true if the record at 'index' has been published.
+   */
+  private boolean published(long index) {
+    return (int) HEADER.getAcquire(segment(index), offset(index) + R_HEADER) != 0;
+  }
+
+  private int offset(long index) {
+    return (int) (index % segmentRecords) * RECORD_SIZE;
+  }
+
+  /**
+   * Returns the segment holding the record at 'index', mapping it if no one has yet. Two threads
+   *   may both map a new segment, in which case one of the two mappings is used by everyone.
+   */
+  private MappedByteBuffer segment(long index) {
+    long s = index / segmentRecords;
+    if (s >= MAX_SEGMENTS) throw new IllegalStateException("Store is full");
+    MappedByteBuffer segment = segments.get((int) s);
+    if (segment != null) return segment;
+    try {
+      segment = channel.map(FileChannel.MapMode.READ_WRITE,
+              HEADER_SIZE + s * segmentRecords * RECORD_SIZE, (long) segmentRecords * RECORD_SIZE);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    MappedByteBuffer witness = segments.compareAndExchange((int) s, null, segment);
+    return witness == null ? segment : witness;
+  }
+}
@@ -0,0 +1,177 @@
+package simulation;
+
+import java.util.Objects;
+
+/**
+ * The count, mean and variance of a stream of values, kept online with Welford's method so that
+ *   values never have to be stored or summed (a long run's sums could overflow, and the naive
+ *   sum of squares loses precision). RunningStats are immutable: 'plus()' returns the stat with one
+ *   more value, and 'merge()' combines the stats of two disjoint streams, as if their values had
+ *   been added to one stat, with Chan et al.'s parallel formula.
+ * Confidence intervals use the normal approximation, which is what a simulation's sample sizes
+ *   call for; for a stream of 0s and 1s (like wins), the mean is a rate and the interval is the
+ *   Wald interval.
+ */
+public final class RunningStat {
+  /**
+   * The stat of no values.
+   */
+  public static final RunningStat EMPTY = new RunningStat(0, 0, 0);
+
+  private final long count;
+  private final double mean;
+  private final double m2; // the sum of squared differences from the mean
+
+  /**
+   * Creates the stat of 'count' values with the given mean and sum of squared differences from
+   *   it. Used by 'StreamingStats', which keeps the three numbers itself.
+   * @param count the amount of values
+   * @param mean the values' mean
+   * @param m2 the sum of the values' squared differences from 'mean'
+   */
+  RunningStat(long count, double mean, double m2) {
+    this.count = count;
+    this.mean = mean;
+    this.m2 = m2;
+  }
+
+  //************************************************************************************** MODIFIERS
+  /**
+   * Returns this stat with 'value' added.
+   * @param value the value
+   * @return the new stat
+   */
+  public RunningStat plus(double value) {
+    long n = count + 1;
+    double delta = value - mean;
+    double newMean = mean + delta / n;
+    return new RunningStat(n, newMean, m2 + delta * (value - newMean));
+  }
+
+  /**
+   * Returns the stat of this stat's values and 'other's values.
+   * @param other the stat of other values
+   * @return the combined stat
+   */
+  public RunningStat merge(RunningStat other) {
+    if (other.count == 0) return this;
+    if (count == 0) return other;
+    long n = count + other.count;
+    double delta = other.mean - mean;
+    return new RunningStat(n, mean + delta * other.count / n,
+            m2 + other.m2 + delta * delta * ((double) count * other.count / n));
+  }
+
+  //**************************************************************************************** GETTERS
+  public long getCount() {
+    return count;
+  }
+
+  /**
+   * Returns the sum of the values' squared differences from their mean, for 'StreamingStats'.
+   */
+  double m2() {
+    return m2;
+  }
+
+  /**
+   * Returns the mean of the values.
+   * @return the mean, or 0 if there are none
+   */
+  public double getMean() {
+    return mean;
+  }
+
+  /**
+   * Returns the sample variance of the values.
+   * @return the variance, or 0 if there are fewer than 2 values
+   */
+  public double getVariance() {
+    return count < 2 ? 0 : m2 / (count - 1);
+  }
+
+  public double getStandardDeviation() {
+    return Math.sqrt(getVariance());
+  }
+
+  /**
+   * Returns the standard error of the mean.
+   * @return the standard error, or 0 if there are fewer than 2 values
+   */
+  public double getStandardError() {
+    return count < 2 ? 0 : Math.sqrt(getVariance() / count);
+  }
+
+  /**
+   * Returns half the width of the 'level' confidence interval of the mean, for example 1.96 times
+   *   the standard error for a level of 0.95.
+   * @param level the confidence level, between 0 and 1 (exclusive)
+   * @return the interval's half width
+   * @throws IllegalArgumentException if 'level' isn't between 0 and 1
+   */
+  public double getMarginOfError(double level) {
+    return zScore(level) * getStandardError();
+  }
+
+  /**
+   * Returns the 'level' confidence interval of the mean, as its lower and upper bounds.
+   * @param level the confidence level, between 0 and 1 (exclusive)
+   * @return the interval's bounds
+   * @throws IllegalArgumentException if 'level' isn't between 0 and 1
+   */
+  public double[] getConfidenceInterval(double level) {
+    double margin = getMarginOfError(level);
+    return new double[]{mean - margin, mean + margin};
+  }
+
+  //**************************************************************************************** HELPERS
+  /**
+   * Returns the z score of a two-sided 'level' confidence interval: the standard normal quantile of
+   *   (1 + level) / 2, found with Acklam's rational approximation (relative error below 1.2e-9).
+   * @param level the confidence level, between 0 and 1 (exclusive)
+   * @return the z score
+   * @throws IllegalArgumentException if 'level' isn't between 0 and 1
+   */
+  public static double zScore(double level) {
+    if (!(level > 0 && level < 1)) {
+      throw new IllegalArgumentException("Confidence level must be between 0 and 1");
+    }
+    double p = (1 + level) / 2;
+    double q = 1 - p; // p > 0.5, so only the upper tail and central region are needed
+    if (q < 0.02425) {
+      double r = Math.sqrt(-2 * Math.log(q));
+      return -(((((-7.784894002430293e-03 * r - 3.223964580411365e-01) * r - 2.400758277161838)
+              * r - 2.549732539343734) * r + 4.374664141464968) * r + 2.938163982698783)
+              / ((((7.784695709041462e-03 * r + 3.224671290700398e-01) * r + 2.445134137142996)
+              * r + 3.754408661907416) * r + 1);
+    }
+    double x = p - 0.5;
+    double r = x * x;
+    return (((((-3.969683028665376e+01 * r + 2.209460984245205e+02) * r - 2.759285104469687e+02)
+            * r + 1.383577518672690e+02) * r - 3.066479806614716e+01) * r + 2.506628277459239) * x
+            / (((((-5.447609879822406e+01 * r + 1.615858368580409e+02) * r - 1.556989798598866e+02)
+            * r + 6.680131188771972e+01) * r - 1.328068155288572e+01) * r + 1);
+  }
+
+  //*************************************************************************** GOOD CLASS OVERRIDES
+  @Override
+  public String toString() {
+    return String.format("%.3f +/- %.3f (n = %d)", mean, getMarginOfError(0.95), count);
+  }
+
+  @Override
+  public boolean equals(Object other) {
+    if (this == other) return true;
+    if (other == null || getClass() != other.getClass()) {
+      return false;
+    }
+    RunningStat o = (RunningStat) other;
+    return this.count == o.count && Double.compare(this.mean, o.mean) == 0
+            && Double.compare(this.m2, o.m2) == 0;
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(count, mean, m2);
+  }
+}
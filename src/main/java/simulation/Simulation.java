@@ -0,0 +1,159 @@
+package simulation;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.function.Consumer;
+
+import game.IGame;
+import game.StandardGame;
+import game.deck.DeckType;
+import game.deck.TypeDeck;
+import game.rends.REnd;
+import game.score.RScore;
+import player.AIPlayer;
+import player.IPlayer;
+import simulation.sink.ResultSink;
+
+/**
+ * A headless batch of Blues games between AIPlayers. Runs StandardGame's turn loop iteratively
+ *   with no displays or controller, reusing one game (and its players and deck) for every game,
+ *   and tallies the results per seat. The deck and every seat's strategy get their own generator,
+ *   split in a fixed order from a SplittableRandom seeded with 'seed', so two simulations with the
+ *   same seats and seed play exactly the same games, including random decisions. Games can be
+ *   recorded for 'GameReplay' (see 'setRecording()'), and their results written to a 'ResultSink'
+ *   (see 'setSink()').
+ */
+public class Simulation {
+  private final List<StrategyConfig> seats;
+  private final long games;
+  private final long seed;
+  private int recordEvery;
+  private Consumer<byte[]> logs;
+  private ResultSink<ResultRecord> sink;
+
+  /**
+   * Creates a simulation of 'games' games between one AIPlayer per configuration in 'seats'.
+   * @param seats the strategy configuration of every seat, in turn order
+   * @param games the amount of games to play
+   * @param seed the seed of every generator in the simulation
+   * @throws IllegalArgumentException if there aren't 4 seats or 'games' is negative
+   */
+  public Simulation(List<StrategyConfig> seats, long games, long seed) {
+    if (seats.size() != 4) {
+      throw new IllegalArgumentException("A standard game needs 4 seats");
+    }
+    if (games < 0) {
+      throw new IllegalArgumentException("Games can't be negative");
+    }
+    this.seats = List.copyOf(seats);
+    this.games = games;
+    this.seed = seed;
+  }
+
+  /**
+   * Makes 'run()' record every 'every'th game with a 'GameRecorder', starting with the first, and
+   *   pass each game's log to 'logs' once the game is over. Recording doesn't change how games are
+   *   played. Each log holds this simulation's seed and the game's index.
+   * @param every how often games are recorded: 1 records every game
+   * @param logs the consumer of the logs, called on the thread running the simulation
+   * @throws IllegalArgumentException if 'every' is less than 1
+   */
+  public void setRecording(int every, Consumer<byte[]> logs) {
+    if (every < 1) throw new IllegalArgumentException("Games to record can't be less than 1 in 1");
+    this.recordEvery = every;
+    this.logs = logs;
+  }
+
+  /**
+   * Makes 'run()' add every round's and game's result to 'sink' as a ResultRecord, identified by
+   *   this simulation's seed and the game's index. Sinks can be shared by simulations on any
+   *   threads. The sink isn't flushed or closed by the simulation.
+   * @param sink the sink, or null to stop sinking results
+   */
+  public void setSink(ResultSink<ResultRecord> sink) {
+    this.sink = sink;
+  }
+
+  /**
+   * Plays every game and returns the tallies.
+   * @return the simulation's result
+   */
+  public SimulationResult run() {
+    long start = System.nanoTime();
+    SplittableRandom random = new SplittableRandom(seed);
+    TypeDeck deck = new TypeDeck(DeckType.STANDARD, random.split());
+    List<IPlayer> players = new ArrayList<>();
+    for (int i = 0; i < seats.size(); i++) {
+      players.add(new AIPlayer("Seat " + (i + 1) + " (" + seats.get(i) + ")",
+              seats.get(i).create(random.split())));
+    }
+    IGame game = new StandardGame(players, deck);
+    SimulationResult result = new SimulationResult(seats);
+    GameRecorder recorder = null;
+    if (logs != null) {
+      recorder = new GameRecorder(game);
+      game.addObserver(recorder);
+    }
+
+    for (long g = 0; g < games; g++) {
+      if (g > 0) game.resetNewGame();
+      if (recorder != null) {
+        if (g % recordEvery == 0) recorder.start(seed, g);
+        else recorder.stop();
+      }
+      RScore last = null;
+      int rounds = 0;
+      while (!game.gameOver()) {
+        playRound(game);
+        rounds++;
+        last = game.getScoreSheet().getLast();
+        int winner = seatOf(players, last.getWinner());
+        REnd end = last.getRendState().getEnd();
+        result.addRound(last.getDeltas(), winner, end);
+        if (sink != null) {
+          sink.add(ResultRecord.round(seats, seed, g, rounds, last.getDeltas(), winner, end));
+        }
+      }
+      int winner = seatOf(players, game.getGameWinner());
+      result.addGame(last.getTotals(), winner);
+      if (sink != null) {
+        sink.add(ResultRecord.game(seats, seed, g, rounds, last.getTotals(), winner));
+      }
+      if (recorder != null && recorder.isRecording()) logs.accept(recorder.toByteArray());
+    }
+    result.setElapsedNanos(System.nanoTime() - start);
+    return result;
+  }
+
+  /**
+   * Plays one round of 'game' to its end without a controller. Mirrors MainController's turn,
+   *   except that the pond isn't flipped a second time after a 'No Blues' call (calls flip it and
+   *   end the round).
+   * @param game the game
+   */
+  public static void playRound(IGame game) {
+    game.startRound();
+    while (!game.roundOver()) {
+      game.flipWell();
+      game.collectPond();
+      if (game.collectNBCs().isPresent()) return;
+      game.flipPond();
+      game.allowChoices();
+    }
+  }
+
+  //**************************************************************************************** HELPERS
+  /**
+   * Returns the seat of 'p' in 'players'.
+   * @param players the players, in seat order
+   * @param p the player
+   * @return p's seat
+   */
+  private static int seatOf(List<IPlayer> players, IPlayer p) {
+    for (int i = 0; i < players.size(); i++) {
+      if (players.get(i) == p) return i;
+    }
+    throw new IllegalStateException(p + " isn't seated");
+  }
+}
@@ -0,0 +1,243 @@
+package simulation;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+import game.rends.REnd;
+
+/**
+ * The per-seat tallies of a Simulation: round and game wins, round and game score sums, and how
+ *   many rounds of each REnd every seat won. Seats are indexed in the order of the Simulation's
+ *   strategy configurations. Results are only filled in by Simulation and can be merged with
+ *   results of simulations of the same seats. Results also hold the time it took to play their
+ *   games and 'StreamingStats' of the same rounds and games, neither of which is part of
+ *   equality.
+ */
+public class SimulationResult {
+  private static final REnd[] ENDS = REnd.values();
+
+  private final List<StrategyConfig> seats;
+  private long games;
+  private long rounds;
+  private final long[] roundWins;
+  private final long[] gameWins;
+  private final long[] roundScores; // sum of every round's deltas
+  private final long[] gameScores; // sum of every game's final totals
+  private final long[][] roundWinsByEnd; // [seat][REnd ordinal]
+  private StreamingStats stats;
+  private long elapsedNanos;
+
+  /**
+   * Creates an empty result for 'seats'.
+   * @param seats the strategy configurations of every seat
+   */
+  SimulationResult(List<StrategyConfig> seats) {
+    this.seats = List.copyOf(seats);
+    this.roundWins = new long[seats.size()];
+    this.gameWins = new long[seats.size()];
+    this.roundScores = new long[seats.size()];
+    this.gameScores = new long[seats.size()];
+    this.roundWinsByEnd = new long[seats.size()][ENDS.length];
+    this.stats = new StreamingStats(seats.size());
+  }
+
+  //************************************************************************************** MODIFIERS
+  /**
+   * Tallies one round.
+   * @param deltas the points each seat gained this round (followed by their sum)
+   * @param winner the seat that won the round
+   * @param end how the round ended
+   */
+  void addRound(int[] deltas, int winner, REnd end) {
+    rounds++;
+    roundWins[winner]++;
+    roundWinsByEnd[winner][end.ordinal()]++;
+    for (int i = 0; i < roundScores.length; i++) roundScores[i] += deltas[i];
+    stats.addRound(deltas, winner, end);
+  }
+
+  /**
+   * Tallies one game.
+   * @param totals the points each seat finished the game with (followed by their sum)
+   * @param winner the seat that won the game
+   */
+  void addGame(int[] totals, int winner) {
+    games++;
+    gameWins[winner]++;
+    for (int i = 0; i < gameScores.length; i++) gameScores[i] += totals[i];
+    stats.addGame(totals, winner);
+  }
+
+  /**
+   * Sets the time it took to play this result's games.
+   * @param elapsedNanos the time in nanoseconds
+   */
+  void setElapsedNanos(long elapsedNanos) {
+    this.elapsedNanos = elapsedNanos;
+  }
+
+  /**
+   * Returns a new result holding the tallies of this result and 'other' combined. The combined
+   *   elapsed time is the sum of both, as if the two had been played one after the other.
+   * @param other the result to combine with this one
+   * @return the combined result
+   * @throws IllegalArgumentException if 'other' doesn't have the same seats as this result
+   */
+  public SimulationResult merge(SimulationResult other) {
+    if (!seats.equals(other.seats)) {
+      throw new IllegalArgumentException("Can't merge results of different seats");
+    }
+    SimulationResult merged = new SimulationResult(seats);
+    for (SimulationResult r : List.of(this, other)) {
+      merged.games += r.games;
+      merged.rounds += r.rounds;
+      merged.elapsedNanos += r.elapsedNanos;
+      for (int i = 0; i < seats.size(); i++) {
+        merged.roundWins[i] += r.roundWins[i];
+        merged.gameWins[i] += r.gameWins[i];
+        merged.roundScores[i] += r.roundScores[i];
+        merged.gameScores[i] += r.gameScores[i];
+        for (int e = 0; e < ENDS.length; e++) {
+          merged.roundWinsByEnd[i][e] += r.roundWinsByEnd[i][e];
+        }
+      }
+    }
+    merged.stats = stats.merge(other.stats);
+    return merged;
+  }
+
+  //**************************************************************************************** GETTERS
+  public List<StrategyConfig> getSeats() {
+    return seats;
+  }
+
+  public long getGames() {
+    return games;
+  }
+
+  public long getRounds() {
+    return rounds;
+  }
+
+  /**
+   * Returns the per-seat stats of this result's rounds and games, whose means come with variances
+   *   and confidence intervals.
+   * @return the stats
+   */
+  public StreamingStats getStats() {
+    return stats;
+  }
+
+  public long getElapsedNanos() {
+    return elapsedNanos;
+  }
+
+  /**
+   * Returns how many games were played per second of elapsed time.
+   * @return the games per second, or 0 if no time elapsed
+   */
+  public double getGamesPerSecond() {
+    return elapsedNanos == 0 ? 0 : games * 1e9 / elapsedNanos;
+  }
+
+  public long getRoundWins(int seat) {
+    return roundWins[seat];
+  }
+
+  public long getGameWins(int seat) {
+    return gameWins[seat];
+  }
+
+  /**
+   * Returns the sum of the points 'seat' gained in every round.
+   * @param seat the seat
+   * @return the seat's round score sum
+   */
+  public long getRoundScoreSum(int seat) {
+    return roundScores[seat];
+  }
+
+  /**
+   * Returns the sum of the points 'seat' finished every game with.
+   * @param seat the seat
+   * @return the seat's game score sum
+   */
+  public long getGameScoreSum(int seat) {
+    return gameScores[seat];
+  }
+
+  /**
+   * Returns how many rounds 'seat' won that ended with 'end'. For FALSE_NO rounds, the winner is
+   *   the incorrect call's receiver (see RScore).
+   * @param seat the seat
+   * @param end the round end
+   * @return the amount of rounds
+   */
+  public long getRoundWins(int seat, REnd end) {
+    return roundWinsByEnd[seat][end.ordinal()];
+  }
+
+  /**
+   * Returns how many rounds ended with 'end'.
+   * @param end the round end
+   * @return the amount of rounds
+   */
+  public long getEndCount(REnd end) {
+    long count = 0;
+    for (long[] seat : roundWinsByEnd) count += seat[end.ordinal()];
+    return count;
+  }
+
+  public double getRoundWinRate(int seat) {
+    return rounds == 0 ? 0 : (double) roundWins[seat] / rounds;
+  }
+
+  public double getGameWinRate(int seat) {
+    return games == 0 ? 0 : (double) gameWins[seat] / games;
+  }
+
+  public double getAverageRoundScore(int seat) {
+    return rounds == 0 ? 0 : (double) roundScores[seat] / rounds;
+  }
+
+  public double getAverageGameScore(int seat) {
+    return games == 0 ? 0 : (double) gameScores[seat] / games;
+  }
+
+  //*************************************************************************** GOOD CLASS OVERRIDES
+  @Override
+  public String toString() {
+    StringBuilder sb = new StringBuilder(String.format("%d games, %d rounds, %.1f games/sec%n",
+            games, rounds, getGamesPerSecond()));
+    for (int i = 0; i < seats.size(); i++) {
+      sb.append(String.format("Seat %d (%s): %.2f%% rounds, %.2f%% games, %.2f avg round score, "
+              + "%.2f avg game score, ends %s%n", i + 1, seats.get(i), getRoundWinRate(i) * 100,
+              getGameWinRate(i) * 100, getAverageRoundScore(i), getAverageGameScore(i),
+              Arrays.toString(roundWinsByEnd[i])));
+    }
+    return sb.toString();
+  }
+
+  @Override
+  public boolean equals(Object other) {
+    if (this == other) return true;
+    if (other == null || getClass() != other.getClass()) {
+      return false;
+    }
+    SimulationResult o = (SimulationResult) other;
+    return this.games == o.games && this.rounds == o.rounds && this.seats.equals(o.seats)
+            && Arrays.equals(this.roundWins, o.roundWins)
+            && Arrays.equals(this.gameWins, o.gameWins)
+            && Arrays.equals(this.roundScores, o.roundScores)
+            && Arrays.equals(this.gameScores, o.gameScores)
+            && Arrays.deepEquals(this.roundWinsByEnd, o.roundWinsByEnd);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(seats, games, rounds, Arrays.hashCode(roundWins),
+            Arrays.hashCode(gameWins), Arrays.hashCode(roundScores), Arrays.hashCode(gameScores),
+            Arrays.deepHashCode(roundWinsByEnd));
+  }
+}
@@ -0,0 +1,201 @@
+package simulation;
+
+import java.util.Objects;
+import java.util.SplittableRandom;
+import java.util.random.RandomGenerator;
+
+import player.strategy.Approach;
+import player.strategy.strategies.IStrategy;
+import player.strategy.strategies.StrategyEmpty;
+import player.strategy.strategies.StrategyWin;
+import player.strategy.strategies.StrategyWinProb;
+import player.strategy.strategies.StrategyWinProbMem;
+
+/**
+ * The configuration of one seat's strategy in a Simulation. Configurations are written as short
+ *   codes: an approach prefix ('min' for Approach.MIN_POINTS, 'max' for Approach.MAX_TRUMP, 'ran'
+ *   for Approach.RANDOM) followed by a strategy suffix ('E' for StrategyEmpty, 'W' for StrategyWin,
+ *   'WP' for StrategyWinProb, 'WPM' and a memory accuracy percentage for StrategyWinProbMem).
+ *   For example, 'minWP' or 'ranWPM10'.
+ */
+public class StrategyConfig {
+  /**
+   * The strategies a configuration can create, with their code suffixes.
+   */
+  public enum Kind {
+    EMPTY("E"), WIN("W"), WIN_PROB("WP"), WIN_PROB_MEM("WPM");
+
+    private final String suffix;
+
+    Kind(String suffix) {
+      this.suffix = suffix;
+    }
+
+    public String suffix() {
+      return suffix;
+    }
+  }
+
+  private final Kind kind;
+  private final Approach approach;
+  private final int memoryAccuracy; // only used by Kind.WIN_PROB_MEM
+
+  /**
+   * Creates a configuration for a strategy without memory.
+   * @param kind the strategy to create
+   * @param approach the strategy's approach
+   * @throws IllegalArgumentException if 'kind' is Kind.WIN_PROB_MEM
+   */
+  public StrategyConfig(Kind kind, Approach approach) {
+    this(kind, approach, 0);
+    if (kind == Kind.WIN_PROB_MEM) {
+      throw new IllegalArgumentException("Kind WIN_PROB_MEM needs a memory accuracy");
+    }
+  }
+
+  /**
+   * Creates a configuration. 'memoryAccuracy' is ignored unless 'kind' is Kind.WIN_PROB_MEM.
+   * @param kind the strategy to create
+   * @param approach the strategy's approach
+   * @param memoryAccuracy the memory accuracy percentage (0 - 100)
+   * @throws IllegalArgumentException if 'memoryAccuracy' isn't a percentage
+   */
+  public StrategyConfig(Kind kind, Approach approach, int memoryAccuracy) {
+    if (memoryAccuracy < 0 || memoryAccuracy > 100) {
+      throw new IllegalArgumentException("Memory accuracy must be between 0 and 100");
+    }
+    this.kind = Objects.requireNonNull(kind);
+    this.approach = Objects.requireNonNull(approach);
+    this.memoryAccuracy = kind == Kind.WIN_PROB_MEM ? memoryAccuracy : 0;
+  }
+
+  /**
+   * Parses a configuration code such as 'minE', 'maxWP', or 'ranWPM100'.
+   * @param code the code to parse
+   * @return the configuration
+   * @throws IllegalArgumentException if 'code' isn't a valid configuration code
+   */
+  public static StrategyConfig parse(String code) {
+    if (code == null || code.length() < 4) {
+      throw new IllegalArgumentException("Invalid strategy code: " + code);
+    }
+    Approach approach = switch (code.substring(0, 3)) {
+      case "min" -> Approach.MIN_POINTS;
+      case "max" -> Approach.MAX_TRUMP;
+      case "ran" -> Approach.RANDOM;
+      default -> throw new IllegalArgumentException("Invalid strategy code: " + code);
+    };
+    String rest = code.substring(3);
+    if (rest.startsWith(Kind.WIN_PROB_MEM.suffix())) {
+      String accuracy = rest.substring(Kind.WIN_PROB_MEM.suffix().length());
+      if (accuracy.isEmpty() || !accuracy.chars().allMatch(Character::isDigit)
+              || accuracy.length() > 3) {
+        throw new IllegalArgumentException("Invalid strategy code: " + code);
+      }
+      return new StrategyConfig(Kind.WIN_PROB_MEM, approach, Integer.parseInt(accuracy));
+    }
+    for (Kind k : Kind.values()) {
+      if (k != Kind.WIN_PROB_MEM && k.suffix().equals(rest)) return new StrategyConfig(k, approach);
+    }
+    throw new IllegalArgumentException("Invalid strategy code: " + code);
+  }
+
+  /**
+   * Returns the configuration with the numeric id 'id' (see 'id()').
+   * @param id the id
+   * @return the configuration
+   * @throws IllegalArgumentException if 'id' isn't a valid configuration id
+   */
+  public static StrategyConfig ofId(int id) {
+    int kind = id >>> 12;
+    int approach = (id >>> 8) & 0xF;
+    if (kind >= Kind.values().length || approach >= Approach.values().length) {
+      throw new IllegalArgumentException("Invalid strategy id: " + id);
+    }
+    return new StrategyConfig(Kind.values()[kind], Approach.values()[approach], id & 0xFF);
+  }
+
+  /**
+   * Creates a new strategy with this configuration and an unseeded generator. Strategies keep
+   *   per-round state, so every seat needs its own instance.
+   * @return the new strategy
+   */
+  public IStrategy create() {
+    return create(new SplittableRandom());
+  }
+
+  /**
+   * Creates a new strategy with this configuration that makes its random decisions with 'random'.
+   *   Generators aren't shared safely between threads, so every seat needs its own.
+   * @param random the strategy's source of randomness
+   * @return the new strategy
+   */
+  public IStrategy create(RandomGenerator random) {
+    return switch (kind) {
+      case EMPTY -> new StrategyEmpty(approach, random);
+      case WIN -> new StrategyWin(approach, random);
+      case WIN_PROB -> new StrategyWinProb(approach, random);
+      case WIN_PROB_MEM -> new StrategyWinProbMem(approach, memoryAccuracy, random);
+    };
+  }
+
+  //**************************************************************************************** GETTERS
+  public Kind getKind() {
+    return kind;
+  }
+
+  public Approach getApproach() {
+    return approach;
+  }
+
+  public int getMemoryAccuracy() {
+    return memoryAccuracy;
+  }
+
+  /**
+   * Returns this configuration's code, which 'parse()' turns back into an equal configuration.
+   * @return this configuration's code
+   */
+  public String code() {
+    String prefix = switch (approach) {
+      case MIN_POINTS -> "min";
+      case MAX_TRUMP -> "max";
+      case RANDOM -> "ran";
+    };
+    String suffix = kind.suffix();
+    if (kind == Kind.WIN_PROB_MEM) suffix += memoryAccuracy;
+    return prefix + suffix;
+  }
+
+  /**
+   * Returns this configuration as a number that fits in 16 bits, which 'ofId()' turns back into an
+   *   equal configuration: the kind's ordinal, the approach's ordinal and the memory accuracy in 4,
+   *   4 and 8 bits.
+   * @return this configuration's id
+   */
+  public int id() {
+    return kind.ordinal() << 12 | approach.ordinal() << 8 | memoryAccuracy;
+  }
+
+  //*************************************************************************** GOOD CLASS OVERRIDES
+  @Override
+  public String toString() {
+    return code();
+  }
+
+  @Override
+  public boolean equals(Object other) {
+    if (this == other) return true;
+    if (other == null || getClass() != other.getClass()) {
+      return false;
+    }
+    StrategyConfig o = (StrategyConfig) other;
+    return this.kind == o.kind && this.approach == o.approach
+            && this.memoryAccuracy == o.memoryAccuracy;
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(kind, approach, memoryAccuracy);
+  }
+}
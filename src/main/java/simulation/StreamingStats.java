@@ -0,0 +1,218 @@
+package simulation;
+
+import java.lang.invoke.VarHandle;
+import java.util.concurrent.atomic.AtomicLong;
+
+import game.rends.REnd;
+
+/**
+ * Per-seat 'RunningStat's of a stream of rounds and games, kept online so a study can report
+ *   means with confidence intervals without storing (or summing) the values: every seat's round
+ *   score, game score, round win rate, game win rate, and the rate at which it wins rounds that
+ *   end with each REnd. Rates are the means of streams of 0s and 1s.
+ * Only one thread at a time may add to a StreamingStats, like the Simulation (or Tournament chunk)
+ *   whose result owns it; the stats of separate workers are combined with 'merge()'. Getters can
+ *   be called from any thread without locking: the writer marks the stats as being written with a
+ *   sequence number (odd while writing), so a getter that reads them while they're being written
+ *   reads them again instead of blocking the writer.
+ */
+public class StreamingStats {
+  private static final REnd[] ENDS = REnd.values();
+  private static final int ROUND_SCORE = 0;
+  private static final int GAME_SCORE = 1;
+  private static final int ROUND_WIN = 2;
+  private static final int GAME_WIN = 3;
+  private static final int END_WIN = 4; // followed by one stat per REnd
+  private static final int STATS = END_WIN + ENDS.length;
+
+  private final int seats;
+  // the count, mean and sum of squared differences from the mean of every stat of every seat
+  private final double[] values;
+  private final AtomicLong sequence = new AtomicLong();
+
+  /**
+   * Creates empty stats for 'seats' seats.
+   * @param seats the amount of seats
+   * @throws IllegalArgumentException if 'seats' isn't positive
+   */
+  public StreamingStats(int seats) {
+    if (seats <= 0) throw new IllegalArgumentException("Seats must be positive");
+    this.seats = seats;
+    this.values = new double[seats * STATS * 3];
+  }
+
+  //************************************************************************************** MODIFIERS
+  /**
+   * Adds one round.
+   * @param deltas the points each seat gained this round
+   * @param winner the seat that won the round
+   * @param end how the round ended
+   */
+  public void addRound(int[] deltas, int winner, REnd end) {
+    beginWrite();
+    try {
+      for (int s = 0; s < seats; s++) {
+        add(index(s, ROUND_SCORE), deltas[s]);
+        add(index(s, ROUND_WIN), s == winner ? 1 : 0);
+        for (REnd e : ENDS) {
+          add(index(s, END_WIN + e.ordinal()), s == winner && e == end ? 1 : 0);
+        }
+      }
+    } finally {
+      endWrite(); // never leave the stats marked as being written
+    }
+  }
+
+  /**
+   * Adds one game.
+   * @param totals the points each seat finished the game with
+   * @param winner the seat that won the game
+   */
+  public void addGame(int[] totals, int winner) {
+    beginWrite();
+    try {
+      for (int s = 0; s < seats; s++) {
+        add(index(s, GAME_SCORE), totals[s]);
+        add(index(s, GAME_WIN), s == winner ? 1 : 0);
+      }
+    } finally {
+      endWrite();
+    }
+  }
+
+  /**
+   * Returns new stats holding the values of these stats and 'other' combined.
+   * @param other the stats to combine with these
+   * @return the combined stats
+   * @throws IllegalArgumentException if 'other' doesn't have as many seats as these stats
+   */
+  public StreamingStats merge(StreamingStats other) {
+    if (seats != other.seats) {
+      throw new IllegalArgumentException("Can't merge stats of different amounts of seats");
+    }
+    StreamingStats merged = new StreamingStats(seats);
+    for (int s = 0; s < seats; s++) {
+      for (int stat = 0; stat < STATS; stat++) {
+        merged.write(index(s, stat), stat(s, stat).merge(other.stat(s, stat)));
+      }
+    }
+    return merged;
+  }
+
+  //**************************************************************************************** GETTERS
+  public int getSeats() {
+    return seats;
+  }
+
+  /**
+   * Returns the stat of the points 'seat' gained per round.
+   * @param seat the seat
+   * @return the stat
+   */
+  public RunningStat getRoundScore(int seat) {
+    return stat(seat, ROUND_SCORE);
+  }
+
+  /**
+   * Returns the stat of the points 'seat' finished every game with.
+   * @param seat the seat
+   * @return the stat
+   */
+  public RunningStat getGameScore(int seat) {
+    return stat(seat, GAME_SCORE);
+  }
+
+  /**
+   * Returns the stat of the rate at which 'seat' wins rounds.
+   * @param seat the seat
+   * @return the stat
+   */
+  public RunningStat getRoundWinRate(int seat) {
+    return stat(seat, ROUND_WIN);
+  }
+
+  /**
+   * Returns the stat of the rate at which 'seat' wins games.
+   * @param seat the seat
+   * @return the stat
+   */
+  public RunningStat getGameWinRate(int seat) {
+    return stat(seat, GAME_WIN);
+  }
+
+  /**
+   * Returns the stat of the rate at which 'seat' wins rounds that end with 'end', out of every
+   *   round.
+   * @param seat the seat
+   * @param end the round end
+   * @return the stat
+   */
+  public RunningStat getEndRate(int seat, REnd end) {
+    return stat(seat, END_WIN + end.ordinal());
+  }
+
+  //**************************************************************************************** HELPERS
+  private void beginWrite() {
+    sequence.setOpaque(sequence.getPlain() + 1);
+    VarHandle.storeStoreFence();
+  }
+
+  private void endWrite() {
+    sequence.setRelease(sequence.getPlain() + 1);
+  }
+
+  /**
+   * Adds 'value' to the stat at 'index' with Welford's method.
+   */
+  private void add(int index, double value) {
+    double n = values[index] + 1;
+    double delta = value - values[index + 1];
+    values[index] = n;
+    values[index + 1] += delta / n;
+    values[index + 2] += delta * (value - values[index + 1]);
+  }
+
+  /**
+   * Sets the stat at 'index' of stats that no other thread can see yet.
+   */
+  private void write(int index, RunningStat stat) {
+    values[index] = stat.getCount();
+    values[index + 1] = stat.getMean();
+    values[index + 2] = stat.m2();
+  }
+
+  private int index(int seat, int stat) {
+    return (seat * STATS + stat) * 3;
+  }
+
+  /**
+   * Returns the stat 'stat' of 'seat', read again until no write overlaps the read.
+   */
+  private RunningStat stat(int seat, int stat) {
+    if (seat < 0 || seat >= seats) throw new IndexOutOfBoundsException("No seat " + seat);
+    int index = index(seat, stat);
+    while (true) {
+      long before = sequence.getAcquire();
+      double count = values[index];
+      double mean = values[index + 1];
+      double m2 = values[index + 2];
+      VarHandle.loadLoadFence();
+      if ((before & 1) == 0 && sequence.get() == before) {
+        return new RunningStat((long) count, mean, m2);
+      }
+      Thread.onSpinWait();
+    }
+  }
+
+  //*************************************************************************** GOOD CLASS OVERRIDES
+  @Override
+  public String toString() {
+    StringBuilder sb = new StringBuilder();
+    for (int s = 0; s < seats; s++) {
+      sb.append(String.format("Seat %d: round score %s, game score %s, round win rate %s, "
+              + "game win rate %s%n", s + 1, getRoundScore(s), getGameScore(s),
+              getRoundWinRate(s), getGameWinRate(s)));
+    }
+    return sb.toString();
+  }
+}
@@ -0,0 +1,151 @@
+package simulation;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+
+import player.strategy.TranspositionTable;
+import simulation.sink.ResultSink;
+
+/**
+ * A Simulation sharded across threads. The games are split into chunks of at most 'chunkSize'
+ *   games, and every chunk is played by its own Simulation (with its own StandardGame, TypeDeck,
+ *   and AIPlayers) as one task on an executor. Chunk results are merged once every task is done,
+ *   so workers never share counters. Chunks are small relative to the whole run, so idle workers
+ *   of a ForkJoinPool steal queued chunks instead of waiting on slow ones. Every chunk's seed is
+ *   'seed' plus the chunk's index, mixed with 'TranspositionTable.mix', so the result only depends
+ *   on 'seed' and 'chunkSize', not on the amount of threads, and any chunk can be replayed on its
+ *   own with 'chunk()'. A chunk's seed and size are derived from its index, and its Simulation is
+ *   only created by its task, so a tournament's memory doesn't grow with its amount of chunks.
+ */
+public class Tournament {
+  /**
+   * The default amount of games per chunk.
+   */
+  public static final int DEFAULT_CHUNK_SIZE = 100;
+
+  private final List<StrategyConfig> seats;
+  private final long games;
+  private final long seed;
+  private final int chunkSize;
+  private ResultSink<ResultRecord> sink;
+
+  /**
+   * Creates a tournament of 'games' games between one AIPlayer per configuration in 'seats', played
+   *   in chunks of DEFAULT_CHUNK_SIZE games.
+   * @param seats the strategy configuration of every seat, in turn order
+   * @param games the amount of games to play
+   * @param seed the seed of every chunk's seed
+   * @throws IllegalArgumentException if there aren't 4 seats or 'games' is negative
+   */
+  public Tournament(List<StrategyConfig> seats, long games, long seed) {
+    this(seats, games, seed, DEFAULT_CHUNK_SIZE);
+  }
+
+  /**
+   * Creates a tournament of 'games' games between one AIPlayer per configuration in 'seats', played
+   *   in chunks of 'chunkSize' games.
+   * @param seats the strategy configuration of every seat, in turn order
+   * @param games the amount of games to play
+   * @param seed the seed of every chunk's seed
+   * @param chunkSize the most games a chunk plays
+   * @throws IllegalArgumentException if there aren't 4 seats, 'games' is negative, or 'chunkSize'
+   *                                  isn't positive
+   */
+  public Tournament(List<StrategyConfig> seats, long games, long seed, int chunkSize) {
+    if (seats.size() != 4) {
+      throw new IllegalArgumentException("A standard game needs 4 seats");
+    }
+    if (games < 0) {
+      throw new IllegalArgumentException("Games can't be negative");
+    }
+    if (chunkSize <= 0) {
+      throw new IllegalArgumentException("Chunk size must be positive");
+    }
+    this.seats = List.copyOf(seats);
+    this.games = games;
+    this.seed = seed;
+    this.chunkSize = chunkSize;
+  }
+
+  /**
+   * Makes every chunk add its rounds' and games' results to 'sink' as it plays them (see
+   *   'Simulation.setSink()'). Chunks add to the sink concurrently, so the records of a game stay
+   *   in order but games from different chunks are interleaved.
+   * @param sink the sink, or null to stop sinking results
+   */
+  public void setSink(ResultSink<ResultRecord> sink) {
+    this.sink = sink;
+  }
+
+  /**
+   * Plays every game on a new ForkJoinPool with one worker per available processor.
+   * @return the tournament's result
+   */
+  public SimulationResult run() {
+    ForkJoinPool pool = new ForkJoinPool(Runtime.getRuntime().availableProcessors());
+    try {
+      return run(pool);
+    } finally {
+      pool.shutdown();
+    }
+  }
+
+  /**
+   * Plays every game as chunk tasks on 'executor', which is left running. The result's elapsed
+   *   time is the wall-clock time of the whole tournament.
+   * @param executor the executor to run chunks on
+   * @return the tournament's result
+   * @throws IllegalStateException if a chunk fails or this thread is interrupted while waiting
+   */
+  public SimulationResult run(ExecutorService executor) {
+    long start = System.nanoTime();
+    List<Future<SimulationResult>> futures = new ArrayList<>();
+    for (int i = 0; i < chunks(); i++) {
+      int index = i;
+      futures.add(executor.submit(() -> chunk(index).run()));
+    }
+
+    SimulationResult result = new SimulationResult(seats);
+    try {
+      for (Future<SimulationResult> f : futures) result = result.merge(f.get());
+    } catch (InterruptedException e) {
+      for (Future<SimulationResult> f : futures) f.cancel(true);
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Interrupted while waiting for tournament", e);
+    } catch (ExecutionException e) {
+      for (Future<SimulationResult> f : futures) f.cancel(true);
+      throw new IllegalStateException("Tournament chunk failed", e.getCause());
+    }
+    result.setElapsedNanos(System.nanoTime() - start);
+    return result;
+  }
+
+  /**
+   * Returns the Simulation that plays the 'index'-th chunk of this tournament, for replaying it.
+   * @param index the chunk's index
+   * @return the chunk's simulation
+   * @throws IndexOutOfBoundsException if this tournament doesn't have an 'index'-th chunk
+   */
+  public Simulation chunk(int index) {
+    if (index < 0 || index >= chunks()) {
+      throw new IndexOutOfBoundsException("No chunk " + index);
+    }
+    long played = (long) index * chunkSize;
+    long chunkSeed = TranspositionTable.mix(seed + index);
+    Simulation chunk = new Simulation(seats, Math.min(chunkSize, games - played), chunkSeed);
+    chunk.setSink(sink);
+    return chunk;
+  }
+
+  //**************************************************************************************** HELPERS
+  /**
+   * Returns the amount of chunks, the last of which may play fewer than 'chunkSize' games.
+   */
+  private int chunks() {
+    return Math.toIntExact((games + chunkSize - 1) / chunkSize);
+  }
+}
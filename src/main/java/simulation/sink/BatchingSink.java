@@ -0,0 +1,247 @@
+package simulation.sink;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * A ResultSink that buffers rows and writes them in batches on a background thread, so adding a
+ *   row never waits on a file or a network round-trip unless the sink is falling behind. Rows are
+ *   queued in a buffer of 'capacity' rows and taken off it in batches of up to 'batchSize' rows;
+ *   a smaller batch is written once its first row has waited 'maxDelayMillis', or when the sink
+ *   is flushed. When the buffer is full, 'add()' blocks until the writer catches up, so producers
+ *   are slowed down to the speed of the output instead of running out of memory.
+ * Once a batch fails to write, the failure is kept and rethrown (wrapped in an
+ *   IllegalStateException) by every later call, and the rows still queued are dropped.
+ * Subclasses only write batches and close their output, both on the writer thread. The writer
+ *   thread is started by the first 'add()', 'flush()' or 'close()', never by the constructor, so
+ *   it never sees a subclass that isn't fully constructed, and a subclass constructor that throws
+ *   leaves no thread behind.
+ * @param <T> the type of the rows
+ */
+public abstract class BatchingSink<T> implements ResultSink<T> {
+  private final Object flushSignal = new Object();
+  private final Object closeSignal = new Object();
+  private final BlockingQueue<Object> queue;
+  private final int batchSize;
+  private final long maxDelayNanos;
+  private final AtomicLong added = new AtomicLong();
+  private final Object lock = new Object();
+  // held to read 'closed' and queue, and held exclusively to close, so no row is queued after the
+  //   close signal (where it would never be written)
+  private final ReadWriteLock closing = new ReentrantReadWriteLock();
+  private Thread writer; // a daemon, guarded by lock
+  private long done; // rows written or dropped, guarded by lock
+  private volatile Throwable failure;
+  private volatile boolean closed;
+
+  /**
+   * Creates a BatchingSink, whose writer thread is started once it's first used.
+   * @param batchSize the most rows written at once
+   * @param maxDelayMillis the longest a row waits for its batch to fill up
+   * @param capacity the most rows queued before 'add()' blocks
+   * @throws IllegalArgumentException if 'batchSize' or 'capacity' isn't positive or
+   *                                  'maxDelayMillis' is negative
+   */
+  protected BatchingSink(int batchSize, long maxDelayMillis, int capacity) {
+    if (batchSize <= 0 || capacity <= 0) {
+      throw new IllegalArgumentException("Batch size and capacity must be positive");
+    }
+    if (maxDelayMillis < 0) throw new IllegalArgumentException("Delay can't be negative");
+    this.queue = new ArrayBlockingQueue<>(capacity + 2); // room for the signals
+    this.batchSize = batchSize;
+    this.maxDelayNanos = TimeUnit.MILLISECONDS.toNanos(maxDelayMillis);
+  }
+
+  //************************************************************************************* RESULTSINK
+  @Override
+  public void add(T row) {
+    closing.readLock().lock();
+    try {
+      checkOpen();
+      start();
+      queue.put(row);
+      added.incrementAndGet();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Interrupted while adding a row", e);
+    } finally {
+      closing.readLock().unlock();
+    }
+  }
+
+  @Override
+  public void flush() {
+    long target;
+    closing.readLock().lock();
+    try {
+      checkOpen();
+      start();
+      target = enqueue(flushSignal);
+    } finally {
+      closing.readLock().unlock();
+    }
+    await(target);
+  }
+
+  @Override
+  public void close() {
+    long target;
+    closing.writeLock().lock(); // waits for rows being added to be queued
+    try {
+      if (closed) return;
+      closed = true;
+      start(); // even if nothing was added, so the output is closed on the writer thread
+      target = enqueue(closeSignal);
+    } finally {
+      closing.writeLock().unlock();
+    }
+    await(target);
+    try {
+      Thread thread;
+      synchronized (lock) {
+        thread = writer;
+      }
+      thread.join();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Interrupted while closing", e);
+    }
+    checkFailure();
+  }
+
+  /**
+   * Returns how many rows were added but not yet written.
+   * @return the amount of rows
+   */
+  public long pending() {
+    synchronized (lock) {
+      return Math.max(0, added.get() - done); // rows are counted once they're queued
+    }
+  }
+
+  //************************************************************************************* SUBCLASSES
+  /**
+   * Writes a batch of rows. Called on the writer thread only.
+   * @param batch the rows, in the order they were added (by any one thread)
+   * @throws IOException if the rows can't be written
+   */
+  protected abstract void write(List<T> batch) throws IOException;
+
+  /**
+   * Closes the sink's output once every row is written. Called on the writer thread only, even
+   *   if writing failed. Does nothing unless overridden.
+   * @throws IOException if the output can't be closed
+   */
+  protected void closeOutput() throws IOException {
+  }
+
+  //**************************************************************************************** HELPERS
+  /**
+   * Starts the writer thread unless it's started.
+   */
+  private void start() {
+    synchronized (lock) {
+      if (writer != null) return;
+      writer = new Thread(this::drain, getClass().getSimpleName() + " writer");
+      writer.setDaemon(true);
+      writer.start();
+    }
+  }
+
+  /**
+   * Queues 'signal' and returns how many rows were added before it.
+   */
+  private long enqueue(Object signal) {
+    long target = added.get();
+    try {
+      queue.put(signal);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Interrupted while flushing", e);
+    }
+    return target;
+  }
+
+  /**
+   * Waits until the first 'target' rows are written or dropped.
+   */
+  private void await(long target) {
+    try {
+      synchronized (lock) {
+        while (done < target && failure == null) lock.wait();
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Interrupted while flushing", e);
+    }
+    checkFailure();
+  }
+
+  /**
+   * Runs on the writer thread until the close signal is taken off the queue.
+   */
+  @SuppressWarnings("unchecked")
+  private void drain() {
+    List<T> batch = new ArrayList<>(batchSize);
+    try {
+      while (true) {
+        Object next = queue.take();
+        long deadline = System.nanoTime() + maxDelayNanos;
+        while (next != flushSignal && next != closeSignal) {
+          batch.add((T) next);
+          if (batch.size() == batchSize) break;
+          next = queue.poll(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+          if (next == null) break;
+        }
+        writeBatch(batch);
+        if (next == closeSignal) break;
+      }
+    } catch (InterruptedException e) {
+      failure = e;
+    } finally {
+      try {
+        closeOutput();
+      } catch (IOException | RuntimeException e) {
+        if (failure == null) failure = e;
+      }
+      synchronized (lock) {
+        lock.notifyAll();
+      }
+    }
+  }
+
+  /**
+   * Writes and clears 'batch', dropping it instead once a batch has failed.
+   */
+  private void writeBatch(List<T> batch) {
+    if (batch.isEmpty()) return;
+    if (failure == null) {
+      try {
+        write(batch);
+      } catch (IOException | RuntimeException e) {
+        failure = e;
+      }
+    }
+    synchronized (lock) {
+      done += batch.size();
+      lock.notifyAll();
+    }
+    batch.clear();
+  }
+
+  private void checkOpen() {
+    checkFailure();
+    if (closed) throw new IllegalStateException("Sink is closed");
+  }
+
+  private void checkFailure() {
+    if (failure != null) throw new IllegalStateException("Sink failed to write", failure);
+  }
+}
@@ -0,0 +1,108 @@
+package simulation.sink;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.function.Function;
+
+import simulation.ResultRecord;
+
+/**
+ * A BatchingSink that appends rows to a CSV file, one line per row, and flushes the file after
+ *   every batch. A header line is written first if the file is new or empty. Values are written
+ *   with 'toString()' and quoted if they hold a comma, a quote or a line break.
+ * @param <T> the type of the rows
+ */
+public class CsvSink<T> extends BatchingSink<T> {
+  /**
+   * The default amount of rows per batch.
+   */
+  public static final int DEFAULT_BATCH_SIZE = 1024;
+  /**
+   * The default longest time a row waits for its batch to fill up, in milliseconds.
+   */
+  public static final long DEFAULT_MAX_DELAY = 1000;
+  /**
+   * The default most rows queued before adding blocks.
+   */
+  public static final int DEFAULT_CAPACITY = 1 << 16;
+
+  private final BufferedWriter out;
+  private final Function<T, List<?>> toValues;
+
+  /**
+   * Creates a CsvSink that appends to 'file' with the default batch size, delay and capacity.
+   * @param file the CSV file, which is created if it doesn't exist
+   * @param header the names of the values of a row
+   * @param toValues turns a row into its values, in the order of 'header'
+   * @throws IOException if the file can't be opened
+   */
+  public CsvSink(Path file, List<String> header, Function<T, List<?>> toValues)
+          throws IOException {
+    this(file, header, toValues, DEFAULT_BATCH_SIZE, DEFAULT_MAX_DELAY, DEFAULT_CAPACITY);
+  }
+
+  /**
+   * Creates a CsvSink that appends to 'file'.
+   * @param file the CSV file, which is created if it doesn't exist
+   * @param header the names of the values of a row
+   * @param toValues turns a row into its values, in the order of 'header'
+   * @param batchSize the most rows written at once
+   * @param maxDelayMillis the longest a row waits for its batch to fill up
+   * @param capacity the most rows queued before adding blocks
+   * @throws IOException if the file can't be opened
+   */
+  public CsvSink(Path file, List<String> header, Function<T, List<?>> toValues, int batchSize,
+                 long maxDelayMillis, int capacity) throws IOException {
+    super(batchSize, maxDelayMillis, capacity);
+    boolean empty = !Files.exists(file) || Files.size(file) == 0;
+    this.out = Files.newBufferedWriter(file, StandardOpenOption.CREATE,
+            StandardOpenOption.APPEND);
+    this.toValues = toValues;
+    if (empty) {
+      writeLine(header);
+      out.flush();
+    }
+  }
+
+  /**
+   * Returns a CsvSink of a Simulation's records, with ResultRecord.HEADER as its header.
+   * @param file the CSV file, which is created if it doesn't exist
+   * @return the sink
+   * @throws IOException if the file can't be opened
+   */
+  public static CsvSink<ResultRecord> ofRecords(Path file) throws IOException {
+    return new CsvSink<>(file, ResultRecord.HEADER, ResultRecord::values);
+  }
+
+  @Override
+  protected void write(List<T> batch) throws IOException {
+    for (T row : batch) writeLine(toValues.apply(row));
+    out.flush();
+  }
+
+  @Override
+  protected void closeOutput() throws IOException {
+    out.close();
+  }
+
+  //**************************************************************************************** HELPERS
+  private void writeLine(List<?> values) throws IOException {
+    for (int i = 0; i < values.size(); i++) {
+      if (i > 0) out.write(',');
+      out.write(escape(String.valueOf(values.get(i))));
+    }
+    out.newLine();
+  }
+
+  private static String escape(String value) {
+    if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0
+            && value.indexOf('\r') < 0) {
+      return value;
+    }
+    return '"' + value.replace("\"", "\"\"") + '"';
+  }
+}
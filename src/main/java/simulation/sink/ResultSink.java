@@ -0,0 +1,33 @@
+package simulation.sink;
+
+import java.io.Closeable;
+
+/**
+ * Implementations of this interface take rows of results (such as a Simulation's 'ResultRecord's
+ *   or a study's per-seat summaries) and write them somewhere: a CSV file, a 'ResultStore', or a
+ *   Google sheet. Rows may be written after 'add()' returns, but every row added before 'flush()'
+ *   or 'close()' is written by the time they return. Sinks can be added to from any thread.
+ * @param <T> the type of the rows
+ */
+public interface ResultSink<T> extends Closeable {
+  /**
+   * Adds a row to be written.
+   * @param row the row
+   * @throws IllegalStateException if the sink is closed or failed to write earlier rows
+   */
+  void add(T row);
+
+  /**
+   * Writes every row added so far.
+   * @throws IllegalStateException if the sink is closed or failed to write a row
+   */
+  void flush();
+
+  /**
+   * Writes every row added so far and releases the sink's resources. Closing a closed sink does
+   *   nothing.
+   * @throws IllegalStateException if the sink failed to write a row
+   */
+  @Override
+  void close();
+}
@@ -0,0 +1,90 @@
+package simulation.sink;
+
+import com.google.api.services.sheets.v4.Sheets;
+import com.google.api.services.sheets.v4.model.ValueRange;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * A BatchingSink that appends rows to a Google sheet through the Sheets API's 'values.append'
+ *   method, with one request per range (usually a tab) per batch instead of one per row. Requests
+ *   are made with the given Sheets client, such as 'utility.SheetsServiceUtil.getSheetsService()',
+ *   which can be built with another root URL to append to anything that serves the same method,
+ *   such as a local stand-in for tests. Values are sent as they'd be typed in (USER_ENTERED), and
+ *   rows are inserted after the last row of the range's table. A request that doesn't succeed
+ *   fails the sink.
+ * @param <T> the type of the rows
+ */
+public class SheetsSink<T> extends BatchingSink<T> {
+  /**
+   * The default amount of rows per batch.
+   */
+  public static final int DEFAULT_BATCH_SIZE = 500;
+  /**
+   * The default longest time a row waits for its batch to fill up, in milliseconds.
+   */
+  public static final long DEFAULT_MAX_DELAY = 5000;
+  /**
+   * The default most rows queued before adding blocks.
+   */
+  public static final int DEFAULT_CAPACITY = 10000;
+
+  private final Sheets sheets;
+  private final String spreadsheetId;
+  private final Function<T, String> toRange;
+  private final Function<T, List<?>> toValues;
+
+  /**
+   * Creates a SheetsSink with the default batch size, delay and capacity.
+   * @param sheets the client to append with, which must be allowed to edit the spreadsheet
+   * @param spreadsheetId the id of the spreadsheet to append to
+   * @param toRange returns the range (in A1 notation, such as "minE!A1") a row is appended to
+   * @param toValues turns a row into the values of its cells
+   */
+  public SheetsSink(Sheets sheets, String spreadsheetId, Function<T, String> toRange,
+                    Function<T, List<?>> toValues) {
+    this(sheets, spreadsheetId, toRange, toValues, DEFAULT_BATCH_SIZE, DEFAULT_MAX_DELAY,
+            DEFAULT_CAPACITY);
+  }
+
+  /**
+   * Creates a SheetsSink.
+   * @param sheets the client to append with, which must be allowed to edit the spreadsheet
+   * @param spreadsheetId the id of the spreadsheet to append to
+   * @param toRange returns the range (in A1 notation, such as "minE!A1") a row is appended to
+   * @param toValues turns a row into the values of its cells
+   * @param batchSize the most rows written at once
+   * @param maxDelayMillis the longest a row waits for its batch to fill up
+   * @param capacity the most rows queued before adding blocks
+   */
+  public SheetsSink(Sheets sheets, String spreadsheetId, Function<T, String> toRange,
+                    Function<T, List<?>> toValues, int batchSize, long maxDelayMillis,
+                    int capacity) {
+    super(batchSize, maxDelayMillis, capacity);
+    this.sheets = sheets;
+    this.spreadsheetId = spreadsheetId;
+    this.toRange = toRange;
+    this.toValues = toValues;
+  }
+
+  @Override
+  protected void write(List<T> batch) throws IOException {
+    Map<String, List<List<Object>>> byRange = new LinkedHashMap<>();
+    for (T row : batch) {
+      byRange.computeIfAbsent(toRange.apply(row), r -> new ArrayList<>())
+              .add(new ArrayList<>(toValues.apply(row)));
+    }
+    for (Map.Entry<String, List<List<Object>>> e : byRange.entrySet()) {
+      sheets.spreadsheets().values()
+              .append(spreadsheetId, e.getKey(), new ValueRange().setValues(e.getValue()))
+              .setValueInputOption("USER_ENTERED")
+              .setInsertDataOption("INSERT_ROWS")
+              .execute();
+    }
+  }
+}
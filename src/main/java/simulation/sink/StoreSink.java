@@ -0,0 +1,64 @@
+package simulation.sink;
+
+import java.util.List;
+
+import simulation.ResultRecord;
+import simulation.ResultStore;
+
+/**
+ * A BatchingSink that appends a Simulation's records to a 'ResultStore'. The store is flushed
+ *   when the sink is closed, but it isn't closed, so several sinks (or other writers) can share it.
+ */
+public class StoreSink extends BatchingSink<ResultRecord> {
+  /**
+   * The default amount of records per batch.
+   */
+  public static final int DEFAULT_BATCH_SIZE = 4096;
+  /**
+   * The default longest time a record waits for its batch to fill up, in milliseconds.
+   */
+  public static final long DEFAULT_MAX_DELAY = 100;
+  /**
+   * The default most records queued before adding blocks.
+   */
+  public static final int DEFAULT_CAPACITY = 1 << 16;
+
+  private final ResultStore store;
+
+  /**
+   * Creates a StoreSink that appends to 'store' with the default batch size, delay and capacity.
+   * @param store the store
+   */
+  public StoreSink(ResultStore store) {
+    this(store, DEFAULT_BATCH_SIZE, DEFAULT_MAX_DELAY, DEFAULT_CAPACITY);
+  }
+
+  /**
+   * Creates a StoreSink that appends to 'store'.
+   * @param store the store
+   * @param batchSize the most records written at once
+   * @param maxDelayMillis the longest a record waits for its batch to fill up
+   * @param capacity the most records queued before adding blocks
+   */
+  public StoreSink(ResultStore store, int batchSize, long maxDelayMillis, int capacity) {
+    super(batchSize, maxDelayMillis, capacity);
+    this.store = store;
+  }
+
+  @Override
+  protected void write(List<ResultRecord> batch) {
+    for (ResultRecord r : batch) {
+      if (r.isGame()) {
+        store.appendGame(r.seats(), r.seed(), r.game(), r.round(), r.points(), r.winner());
+      } else {
+        store.appendRound(r.seats(), r.seed(), r.game(), r.round(), r.points(), r.winner(),
+                r.end());
+      }
+    }
+  }
+
+  @Override
+  protected void closeOutput() {
+    store.flush();
+  }
+}
@@ -0,0 +1,251 @@
+package utility;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import game.deck.card.CardSet;
+import game.deck.card.SCard;
+
+/**
+ * A lookup table holding the blues evaluation of every possible 5 card hand. Hands are given as
+ *   CardSet masks and indexed by their combinatorial (colexicographic) rank, so checking whether a
+ *   hand is blues or how many points it's worth is a single table read that never allocates.
+ *   Each hand's evaluation is stored as a 4-bit code (two hands per byte): 'NOT_BLUES' or the
+ *   points class of the hand ('ORDINARY', 'RICH_WOMANS', 'IMPERFECT', or 'PERFECT').
+ *   The shared table returned by 'get()' is built the first time it's needed, unless system
+ *   property 'blues.table' names a file previously written by 'write()', in which case that file
+ *   is memory-mapped instead.
+ */
+public class BluesTable {
+  /**
+   * Hand evaluation codes.
+   */
+  public static final int NOT_BLUES = 0;
+  public static final int ORDINARY = 1;
+  public static final int RICH_WOMANS = 2;
+  public static final int IMPERFECT = 3;
+  public static final int PERFECT = 4;
+
+  /**
+   * The number of possible 5 card hands in a standard 56 card deck (56 choose 5).
+   */
+  public static final int HANDS = 3_819_816;
+
+  /**
+   * The system property that names a table file to memory-map instead of building the table.
+   */
+  public static final String FILE_PROPERTY = "blues.table";
+
+  private static final int CARDS = SCard.values().length;
+  private static final int[][] CHOOSE = new int[CARDS + 1][6]; // CHOOSE[n][k] = n choose k
+  private static final int[] POINTS = {0, Utility.ORDINARY, Utility.RICH_WOMANS,
+          Utility.IMPERFECT, Utility.PERFECT}; // indexed by code
+
+  static {
+    for (int n = 0; n <= CARDS; n++) {
+      CHOOSE[n][0] = 1;
+      for (int k = 1; k < 6 && k <= n; k++) CHOOSE[n][k] = CHOOSE[n - 1][k - 1] + CHOOSE[n - 1][k];
+    }
+  }
+
+  private final ByteBuffer table; // only absolute reads are used, so it's safe to share
+
+  private BluesTable(ByteBuffer table) {
+    if (table.capacity() != (HANDS + 1) / 2) {
+      throw new IllegalArgumentException("Table must contain " + (HANDS + 1) / 2 + " bytes");
+    }
+    this.table = table;
+  }
+
+  /**
+   * Returns the shared table, building it (or memory-mapping the file named by system property
+   *   'blues.table') the first time this method is called.
+   * @return the shared table
+   */
+  public static BluesTable get() {
+    return Holder.INSTANCE;
+  }
+
+  /**
+   * Builds a new table by evaluating every possible 5 card hand.
+   * @return the new table
+   */
+  public static BluesTable build() {
+    byte[] packed = new byte[(HANDS + 1) / 2];
+    for (int a = 4; a < CARDS; a++) {
+      for (int b = 3; b < a; b++) {
+        for (int c = 2; c < b; c++) {
+          for (int d = 1; d < c; d++) {
+            for (int e = 0; e < d; e++) {
+              int code = evaluate(1L << a | 1L << b | 1L << c | 1L << d | 1L << e);
+              if (code == NOT_BLUES) continue;
+              int idx = CHOOSE[e][1] + CHOOSE[d][2] + CHOOSE[c][3] + CHOOSE[b][4] + CHOOSE[a][5];
+              packed[idx >> 1] |= (byte) (code << ((idx & 1) << 2));
+            }
+          }
+        }
+      }
+    }
+    return new BluesTable(ByteBuffer.wrap(packed));
+  }
+
+  /**
+   * Memory-maps a table file previously written by 'write()'.
+   * @param file the table file
+   * @return the mapped table
+   * @throws UncheckedIOException if the file can't be read
+   * @throws IllegalArgumentException if the file isn't the size of a table
+   */
+  public static BluesTable load(Path file) {
+    try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+      return new BluesTable(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+    } catch (IOException e) {
+      throw new UncheckedIOException("Couldn't map blues table " + file, e);
+    }
+  }
+
+  /**
+   * Writes this table to 'file' so it can be memory-mapped by 'load()' on later startups.
+   * @param file the file to write
+   * @throws UncheckedIOException if the file can't be written
+   */
+  public void write(Path file) {
+    byte[] bytes = new byte[table.capacity()];
+    table.get(0, bytes);
+    try {
+      Files.write(file, bytes);
+    } catch (IOException e) {
+      throw new UncheckedIOException("Couldn't write blues table " + file, e);
+    }
+  }
+
+  //**************************************************************************************** GETTERS
+  /**
+   * Returns the evaluation code of the hand whose cards are set in 'hand'. Masks that don't hold
+   *   exactly 5 cards are never blues.
+   * @param hand the hand's CardSet mask
+   * @return the hand's evaluation code
+   */
+  public int code(long hand) {
+    if (Long.bitCount(hand) != 5) return NOT_BLUES;
+    int idx = rank(hand);
+    return (table.get(idx >> 1) >> ((idx & 1) << 2)) & 0xF;
+  }
+
+  /**
+   * Returns true if the hand whose cards are set in 'hand' is blues.
+   * @param hand the hand's CardSet mask
+   * @return true if the hand is blues
+   */
+  public boolean isBlues(long hand) {
+    return code(hand) != NOT_BLUES;
+  }
+
+  /**
+   * Returns the amount of points a player will gain by calling blues with 'hand'. See Utility
+   *   class constants for information on how many points different hands equate to.
+   * @param hand the hand's CardSet mask
+   * @return the points a player will gain by calling blues with 'hand'
+   * @throws IllegalArgumentException if 'hand' isn't blues
+   */
+  public int points(long hand) {
+    int code = code(hand);
+    if (code == NOT_BLUES) {
+      throw new IllegalArgumentException("Hand isn't blues");
+    }
+    return POINTS[code];
+  }
+
+  //**************************************************************************************** HELPERS
+  /**
+   * Returns the colexicographic rank of a CardSet mask among all masks with the same amount of
+   *   cards (at most 5) - the sum of (i-th lowest set bit choose i) for i = 1, 2, ... Ranks of
+   *   k card masks are dense in [0, 56 choose k).
+   * @param cards the CardSet mask
+   * @return the mask's rank
+   */
+  static int rank(long cards) {
+    int rank = 0;
+    for (int k = 1; cards != 0; k++) {
+      rank += CHOOSE[Long.numberOfTrailingZeros(cards)][k];
+      cards &= cards - 1;
+    }
+    return rank;
+  }
+
+  /**
+   * Evaluates a 5 card CardSet mask without the table, applying the same rules as
+   *   'Utility.isBlues()' and 'Utility.bluesPoints()' to the cards' colors ordered by rank. SCard
+   *   ordinals are suit-major (7 ranks per suit) and Suit ordinals are BLUE, four black suits, then
+   *   three red suits.
+   * @param hand the hand's CardSet mask
+   * @return the hand's evaluation code
+   */
+  static int evaluate(long hand) {
+    int[] colorByRank = new int[7]; // 0 = no card, 1 = blue, 2 = black, 3 = red
+    int blue = 0;
+    int black = 0;
+    int red = 0;
+    int ranks = 0;
+    for (long rest = hand; rest != 0; rest &= rest - 1) {
+      int ordinal = Long.numberOfTrailingZeros(rest);
+      int suit = ordinal / 7;
+      int color = suit == 0 ? 1 : suit <= 4 ? 2 : 3;
+      if (colorByRank[ordinal % 7] != 0) return NOT_BLUES; // ranks must be distinct
+      colorByRank[ordinal % 7] = color;
+      ranks |= 1 << (ordinal % 7);
+      switch (color) {
+        case 1 -> blue++;
+        case 2 -> black++;
+        default -> red++;
+      }
+    }
+    int low = Integer.numberOfTrailingZeros(ranks);
+    if (ranks != 0b11111 << low) return NOT_BLUES;
+
+    boolean blues;
+    if ((blue == 1 && (black == 4 || red == 4)) || blue == 5) {
+      blues = true;
+    } else {
+      int c0 = colorByRank[low];
+      int c1 = colorByRank[low + 1];
+      int c2 = colorByRank[low + 2];
+      int c3 = colorByRank[low + 3];
+      int c4 = colorByRank[low + 4];
+      if (c0 == 1) {
+        blues = c1 == 1 && c2 == 1 && c3 == 1;           // 4 blue, then the odd-colored card
+      } else if (c1 == c0) {
+        blues = c2 == c0 && c3 == c0 && c4 == 5 - c0;    // 4 black then red, or 4 red then black
+      } else {
+        blues = c1 == 1 ? c2 == 1 && c3 == 1 && c4 == 1  // odd-colored card, then 4 blue
+                : c2 == c1 && c3 == c1 && c4 == c1;      // odd-colored card, then 4 black or red
+      }
+    }
+    if (!blues) return NOT_BLUES;
+
+    return switch (blue) {
+      case 1 -> RICH_WOMANS;
+      case 4 -> IMPERFECT;
+      case 5 -> PERFECT;
+      default -> ORDINARY;
+    };
+  }
+
+  /**
+   * Initialization-on-demand holder for the shared table.
+   */
+  private static class Holder {
+    private static final BluesTable INSTANCE = init();
+
+    private static BluesTable init() {
+      String file = System.getProperty(FILE_PROPERTY);
+      if (file != null && Files.isReadable(Path.of(file))) return load(Path.of(file));
+      return build();
+    }
+  }
+}
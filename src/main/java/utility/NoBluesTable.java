@@ -0,0 +1,84 @@
+package utility;
+
+/**
+ * A lookup table holding, for every possible 4 card hand, the CardSet mask of the cards that would
+ *   complete it into a blues hand. A 4 card hand is 'No Blues' if any pond or well card is one of
+ *   its completers, so checking for No Blues is a single table read and a mask intersection.
+ *   Hands are indexed by their colexicographic rank (see BluesTable). The shared table returned by
+ *   'get()' is built from the shared BluesTable the first time it's needed.
+ */
+public class NoBluesTable {
+  /**
+   * The number of possible 4 card hands in a standard 56 card deck (56 choose 4).
+   */
+  public static final int HANDS = 367_290;
+
+  private final long[] completers;
+
+  private NoBluesTable(long[] completers) {
+    this.completers = completers;
+  }
+
+  /**
+   * Returns the shared table, building it the first time this method is called.
+   * @return the shared table
+   */
+  public static NoBluesTable get() {
+    return Holder.INSTANCE;
+  }
+
+  /**
+   * Builds a new table from the blues hands in 'blues'. Only hands with 5 cards of consecutive
+   *   ranks can be blues, so only those are looked up.
+   * @param blues the table of blues hands
+   * @return the new table
+   */
+  public static NoBluesTable build(BluesTable blues) {
+    long[] completers = new long[HANDS];
+    for (int low = 0; low <= 2; low++) {
+      for (int suits = 0; suits < 1 << 15; suits++) { // 3 bits of suit per rank
+        long hand = 0L;
+        for (int i = 0; i < 5; i++) {
+          int suit = (suits >> (3 * i)) & 7;
+          hand |= 1L << (suit * 7 + low + i);
+        }
+        if (!blues.isBlues(hand)) continue;
+        for (long rest = hand; rest != 0; rest &= rest - 1) {
+          long card = rest & -rest;
+          completers[BluesTable.rank(hand & ~card)] |= card;
+        }
+      }
+    }
+    return new NoBluesTable(completers);
+  }
+
+  //**************************************************************************************** GETTERS
+  /**
+   * Returns the CardSet mask of the cards that would make the hand whose cards are set in 'hand'
+   *   blues. Masks that don't hold exactly 4 cards have no completers.
+   * @param hand the hand's CardSet mask
+   * @return the mask of the cards that complete 'hand'
+   */
+  public long completers(long hand) {
+    if (Long.bitCount(hand) != 4) return 0L;
+    return completers[BluesTable.rank(hand)];
+  }
+
+  /**
+   * Returns true if any card set in 'fifthCards' would make the hand whose cards are set in 'hand'
+   *   blues.
+   * @param fifthCards the mask of the cards available to complete the hand (pond and well)
+   * @param hand the hand's CardSet mask
+   * @return true if 'hand' is No Blues
+   */
+  public boolean isNoBlues(long fifthCards, long hand) {
+    return (completers(hand) & fifthCards) != 0;
+  }
+
+  /**
+   * Initialization-on-demand holder for the shared table.
+   */
+  private static class Holder {
+    private static final NoBluesTable INSTANCE = build(BluesTable.get());
+  }
+}
@@ -2,14 +2,13 @@ package utility;
 
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.Collections;
 import java.util.Comparator;
-import java.util.HashSet;
 import java.util.List;
-import java.util.Set;
 
 import game.deck.card.Card;
-import game.deck.card.properties.Color;
+import game.deck.card.CardSet;
+import game.deck.card.SCard;
+import game.deck.card.properties.Suit;
 import player.IPlayer;
 
 /**
@@ -27,11 +26,29 @@ public class Utility {
   public static final int PERFECT = -25;    // 5 blue or correct no caller
   public static final int PUNISHMENT = 25;  // correct no receiver
 
+  private static final int[] SUIT_POINTS = new int[1 << 8]; // indexed by suit-presence mask
+  private static final Card[] BY_RANK_ORDER = new Card[SCard.values().length];
+  private static final Card[] BY_TRUMP_STRENGTH = new Card[SCard.values().length];
+
+  static {
+    Suit[] suits = Suit.values();
+    for (int mask = 0; mask < SUIT_POINTS.length; mask++) {
+      for (int s = 0; s < suits.length; s++) {
+        if ((mask & (1 << s)) != 0) SUIT_POINTS[mask] += suits[s].points();
+      }
+    }
+    for (SCard c : SCard.values()) {
+      BY_RANK_ORDER[c.rankOrder()] = Card.of(c);
+      BY_TRUMP_STRENGTH[c.trumpStrength()] = Card.of(c);
+    }
+  }
+
   /**
    * Returns true if hand is blues, false otherwise. A winning blues hand must contain 5 cards with
    *      consecutive ranks. Four of the cards must be the same color and one must be another color
    *      (referred to as odd-colored), unless all of them are blue. If the odd-colored card is red
    *      or black, it must be at the end; if it is blue, it can be anywhere in the sequence.
+   *      Hands are looked up in the shared BluesTable rather than evaluated.
    * @param hand the hand to check
    * @return true if hand is blues
    */
@@ -39,85 +56,13 @@ public class Utility {
     if (hand.size() != 5) {
       throw new IllegalArgumentException("Hand must contain 5 cards");
     }
-
-    List<Card> sortedHand;
-    if (consecutive(hand)) {
-      sortedHand = sortHandByRank(hand);
-    } else {
-      return false;
-    }
-
-    int blue = 0;
-    int black = 0;
-    int red = 0;
-
-    for (Card c : hand) {
-      switch (c.getColor()) {
-        case BLUE -> blue += 1;
-        case RED -> red += 1;
-        case BLACK -> black += 1;
-      }
-    }
-    // -5 POINTS, -25 POINTS
-    if ((blue == 1 && black == 4) || (blue == 1 && red == 4) || (blue == 5)) {
-      return true;
-    }
-
-    Color c0Col = sortedHand.get(0).getColor();
-    Color c1Col = sortedHand.get(1).getColor();
-    Color c2Col = sortedHand.get(2).getColor();
-    Color c3Col = sortedHand.get(3).getColor();
-    Color c4Col = sortedHand.get(4).getColor();
-
-    switch (c0Col) {
-      case BLACK -> {
-        switch (c1Col) {
-          case BLACK -> { // 0 POINTS - if card0, 1 = black :: card2, 3 = black, card4 = red
-            return c2Col.equals(Color.BLACK) && c3Col.equals(Color.BLACK)
-                    && c4Col.equals(Color.RED);
-          }
-          case RED -> { // 0 POINTS - if card0 = black, card1 = red :: card2, 3 = red, card4 = black
-            return c2Col.equals(Color.RED) && c3Col.equals(Color.RED) && c4Col.equals(Color.RED);
-          }
-          case BLUE -> { // -10 POINTS - if card0 = black, card1 = blue :: card2, 3, 4 = blue
-            return c2Col.equals(Color.BLUE) && c3Col.equals(Color.BLUE) && c4Col.equals(Color.BLUE);
-          }
-        }
-      }
-      case RED -> {
-        switch (c1Col) {
-          case RED -> { // 0 POINTS - if card0, 1 = red :: card2, 3 = red, card4 = black
-            return c2Col.equals(Color.RED) && c3Col.equals(Color.RED) && c4Col.equals(Color.BLACK);
-          }
-          case BLACK -> { // 0 POINTS - if card0 = red, card1 = black :: card2, 3, 4 = black
-            return c2Col.equals(Color.BLACK) && c3Col.equals(Color.BLACK)
-                    && c4Col.equals(Color.BLACK);
-          }
-          case BLUE -> { // -10 POINTS - if card0 = red, card1 = blue :: card2, 3, 4 = blue
-            return c2Col.equals(Color.BLUE) && c3Col.equals(Color.BLUE) && c4Col.equals(Color.BLUE);
-          }
-        }
-      }
-      case BLUE -> {
-        switch (c1Col) {
-          case BLUE -> { // -10 POINTS - if card0, 1 = blue :: card2, 3, = blue
-            return c2Col.equals(Color.BLUE) && c3Col.equals(Color.BLUE);
-          }
-          case BLACK, RED -> { // false (-5 point correct calls are caught earlier)
-            return false;
-          }
-        }
-      }
-    }
-
-    return false;
+    return BluesTable.get().isBlues(CardSet.mask(hand));
   }
 
   /**
    * Returns true if one adding any of the cards in the pond or well makes hand.isBlues() return
-   *     true, false otherwise.
-   *     Functionality depends on Utility.noBluesCard(). This method surrounds noBluesCard() with a
-   *     try/catch block and returns
+   *     true, false otherwise. The hand's completing cards are looked up in the shared
+   *     NoBluesTable, so no 5 card hands are built.
    * @param pond pond cards
    * @param well well cards (will be empty if hand's player is 3rd or 4th to choose)
    * @param hand the hand to check
@@ -127,12 +72,8 @@ public class Utility {
    */
   public static boolean isNoBlues(List<Card> pond, List<Card> well, List<Card> hand) {
     throwNBParam(pond, well, hand);
-    try {
-      noBlues5thCard(pond, well, hand);
-    } catch (IllegalArgumentException e) {
-      return false;
-    }
-    return true;
+    return NoBluesTable.get().isNoBlues(CardSet.mask(pond) | CardSet.mask(well),
+            CardSet.mask(hand));
   }
 
   /**
@@ -148,15 +89,12 @@ public class Utility {
    */
   public static Card noBlues5thCard(List<Card> pond, List<Card> well, List<Card> hand) {
     throwNBParam(pond, well, hand);
-    List<Card> copyHand = new ArrayList<>(hand);
-    List<Card> fifthCards = new ArrayList<>(pond);
-    Collections.addAll(fifthCards, well.toArray(new Card[0]));
-    for (Card c : fifthCards) {
-      copyHand.add(c);
-      if (isBlues(copyHand)) {
-        return c;
-      }
-      copyHand = new ArrayList<>(hand);
+    long completers = NoBluesTable.get().completers(CardSet.mask(hand));
+    for (Card c : pond) {
+      if ((completers & CardSet.bit(c)) != 0) return c;
+    }
+    for (Card c : well) {
+      if ((completers & CardSet.bit(c)) != 0) return c;
     }
     throw new IllegalArgumentException("Isn't 'No Blues'");
   }
@@ -168,25 +106,10 @@ public class Utility {
    * @return the points a player will gain by calling blues with hand
    */
   public static int bluesPoints(List<Card> hand) {
-    if (hand.size() != 5 || !isBlues(hand)) {
+    if (hand.size() != 5) {
       throw new IllegalArgumentException("Hand isn't blues");
     }
-    int blue = 0;
-    for (Card c : hand) {
-      if (c.getColor().equals(Color.BLUE)) {
-        blue++;
-      }
-    }
-    if (blue == 1) {
-      return RICH_WOMANS;
-    }
-    if (blue == 4) {
-      return IMPERFECT;
-    }
-    if (blue == 5) {
-      return PERFECT;
-    }
-    return ORDINARY;
+    return BluesTable.get().points(CardSet.mask(hand));
   }
 
   /**
@@ -202,49 +125,50 @@ public class Utility {
       System.out.println(hand);
       throw new IllegalArgumentException("Hand must contain either 4 or 5 cards");
     }
+    int suits = 0;
+    for (Card c : hand) suits |= 1 << c.getSuit().ordinal();
+    return SUIT_POINTS[suits];
+  }
 
-    Set<Integer> handSuits = new HashSet<>();
-    int points = 0;
-
-    for (Card c : hand) {
-      handSuits.add(c.getSuit().points());
-    }
-    for (Integer i : handSuits) {
-      points += i;
+  /**
+   * Returns the amount of points in hand. See 'points(List<Card>)'.
+   * @param hand the cards to count
+   * @return the amount of points in hand
+   * @throws IllegalArgumentException if hand doesn't contain 4 or 5 cards
+   */
+  public static int points(Card[] hand) {
+    if (hand.length > 5 || hand.length < 4) {
+      throw new IllegalArgumentException("Hand must contain either 4 or 5 cards");
     }
+    int suits = 0;
+    for (Card c : hand) suits |= 1 << c.getSuit().ordinal();
+    return SUIT_POINTS[suits];
+  }
 
-    return points;
+  /**
+   * Returns the amount of points in hand. See 'points(List<Card>)'.
+   * @param hand the cards to count
+   * @return the amount of points in hand
+   * @throws IllegalArgumentException if hand doesn't contain 4 or 5 cards
+   */
+  public static int points(CardSet hand) {
+    if (hand.size() > 5 || hand.size() < 4) {
+      throw new IllegalArgumentException("Hand must contain either 4 or 5 cards");
+    }
+    return SUIT_POINTS[suitMask(hand.bits())];
   }
 
   /**
    * Returns true if Card a trumps Card b. A blue card of any rank trumps any red/black card. If
    *     both cards are blue or neither are blue, the lower rank trumps (Rank.ONE is the best Rank).
    *     If neither card is blue, and they're the same rank, the better suit trumps (see Suit enum
-   *     for Suit order).
+   *     for Suit order). Equivalent to comparing the cards' SCard trump strengths.
    * @param a Card a
    * @param b Card b
    * @return true if Card a trumps Card b
    */
   public static boolean trumps(Card a, Card b) {
-    if (a.equals(b)) {
-      return false;
-    }
-    if (a.getColor().equals(Color.BLUE) && b.getColor().equals(Color.BLUE)) {
-      return a.getRank().number() < b.getRank().number();
-    }
-    if (a.getColor().equals((Color.BLUE))) {
-      return true;
-    }
-    if (b.getColor().equals(Color.BLUE)) {
-      return false;
-    }
-    if (a.getRank().number() < b.getRank().number()) {
-      return true;
-    }
-    if (a.getRank().number() == b.getRank().number()) {
-      return a.getSuit().points() < b.getSuit().points();
-    }
-    return false;
+    return a.getSCard().trumpStrength() > b.getSCard().trumpStrength();
   }
 
   /**
@@ -252,41 +176,25 @@ public class Utility {
    *     they are sorted based on Suit. Although this method is intended to be used to sort hands,
    *     it can be used on lists of any size.
    * @param hand the hand to sort
-   * @return sorted cards
+   * @return a new, modifiable list of the sorted cards
    */
   public static List<Card> sortHandByRank(List<Card> hand) {
-    Card[] sorted = new Card[hand.size()];
-    int[] beforeByIdxArr = new int[hand.size()];
-    List<Integer> beforeByIdxList;
-    List<Integer> beforeByIdxSorted;
-
-    for (int i = 0; i < hand.size(); i++) {
-      int beforeC = 0;
-      Card c = hand.get(i);
-      for (Card d : hand) {
-        if (c.getRank().number() < d.getRank().number()) {
-          beforeC++;
-        }
-        if (c.getRank().number() == d.getRank().number()) {
-          if (Utility.trumps(c, d)) {
-            beforeC++;
-          }
-        }
+    long order = 0L; // bit i is set if hand contains the card with rank order index i
+    for (Card c : hand) {
+      long bit = 1L << c.getSCard().rankOrder();
+      if ((order & bit) != 0) { // duplicate card, can't be sorted with a mask
+        List<Card> sorted = new ArrayList<>(hand);
+        sorted.sort(Comparator.comparingInt(card -> card.getSCard().rankOrder()));
+        return sorted;
       }
-      beforeByIdxArr[i] = beforeC;
+      order |= bit;
     }
 
-    beforeByIdxList = new ArrayList<>(Arrays.stream(beforeByIdxArr).boxed().toList());
-    beforeByIdxSorted = new ArrayList<>(beforeByIdxList);
-    beforeByIdxSorted.sort(Comparator.reverseOrder());
-
-    for (int i = 0; i < beforeByIdxList.size(); i++) {
-      Integer before = beforeByIdxSorted.get(i);
-      Card corresponding = hand.get(beforeByIdxList.indexOf(before));
-      sorted[i] = corresponding;
+    Card[] sorted = new Card[hand.size()];
+    for (int i = 0; order != 0; i++, order &= order - 1) {
+      sorted[i] = BY_RANK_ORDER[Long.numberOfTrailingZeros(order)];
     }
-
-    return Arrays.stream(sorted).toList();
+    return new ArrayList<>(Arrays.asList(sorted));
   }
 
   /**
@@ -295,34 +203,58 @@ public class Utility {
    * @return hand sorted from highest to lowest trump value
    */
   public static List<Card> sortHandByTrump(List<Card> hand) {
-    List<Card> sorted = new ArrayList<>(hand);
-    sorted.sort((a, b) -> {
-      if (Utility.trumps(a, b)) return -1;
-      else if (Utility.trumps(b, a)) return 1;
-      else return 0;
-    });
+    long strengths = 0L; // bit i is set if hand contains the card with trump strength i
+    for (Card c : hand) {
+      long bit = 1L << c.getSCard().trumpStrength();
+      if ((strengths & bit) != 0) { // duplicate card, can't be sorted with a mask
+        List<Card> sorted = new ArrayList<>(hand);
+        sorted.sort(Comparator.comparingInt(card -> -card.getSCard().trumpStrength()));
+        return sorted;
+      }
+      strengths |= bit;
+    }
+
+    List<Card> sorted = new ArrayList<>(hand.size());
+    while (strengths != 0) {
+      int strongest = 63 - Long.numberOfLeadingZeros(strengths);
+      sorted.add(BY_TRUMP_STRENGTH[strongest]);
+      strengths &= ~(1L << strongest);
+    }
     return sorted;
   }
 
   /**
-   * Returns true if cards are consecutive (1, 2, 3, 4, 5, or 2, 3, 4, 5, 6, or 3, 4, 5, 6, 7).
+   * Returns true if cards are consecutive (1, 2, 3, 4, 5, or 2, 3, 4, 5, 6, or 3, 4, 5, 6, 7). Only
+   *   5 cards with 5 different ranks can be consecutive.
    * @param cards the list of cards to check
    * @return true if cards is consecutive
    */
   public static boolean consecutive(List<Card> cards) {
-    ArrayList<Integer> rankList = new ArrayList<>();
-    for (Card c : cards) {
-      rankList.add(c.getRank().number());
-    }
+    if (cards.size() != 5) return false;
+    int ranks = 0;
+    for (Card c : cards) ranks |= 1 << c.getRank().ordinal();
+    return consecutiveRanks(ranks);
+  }
 
-    Collections.sort(rankList);
-    for (int i = 0; i < 4; i++) {
-      if (rankList.get(i) != rankList.get(i + 1) - 1) {
-        return false;
-      }
-    }
+  /**
+   * Returns true if cards are consecutive. See 'consecutive(List<Card>)'.
+   * @param cards the cards to check
+   * @return true if cards is consecutive
+   */
+  public static boolean consecutive(Card[] cards) {
+    if (cards.length != 5) return false;
+    int ranks = 0;
+    for (Card c : cards) ranks |= 1 << c.getRank().ordinal();
+    return consecutiveRanks(ranks);
+  }
 
-    return true;
+  /**
+   * Returns true if cards are consecutive. See 'consecutive(List<Card>)'.
+   * @param cards the cards to check
+   * @return true if cards is consecutive
+   */
+  public static boolean consecutive(CardSet cards) {
+    return cards.size() == 5 && consecutiveRanks(rankMask(cards.bits()));
   }
 
   /**
@@ -334,31 +266,82 @@ public class Utility {
    */
   public static ArrayList<IPlayer> playerChoiceOrder(ArrayList<Card> pondCards,
                                                      ArrayList<IPlayer> players) {
-    ArrayList<Integer> indices = new ArrayList<>(pondCards.size());
-    ArrayList<IPlayer> sortedPlayers = new ArrayList<>();
-    for (int i = 0; i < pondCards.size(); i++) {
-      Card currentCard = pondCards.get(i);
-      int trumpCount = 0;
-
-      for (int j = 0; j < pondCards.size(); j++) {
-        if (Utility.trumps(currentCard, pondCards.get(j))) {
-          trumpCount++;
-        }
+    int[] order = new int[pondCards.size()]; // insertion sort of indices by trump strength
+    for (int i = 0; i < order.length; i++) {
+      int strength = pondCards.get(i).getSCard().trumpStrength();
+      int j = i;
+      while (j > 0 && pondCards.get(order[j - 1]).getSCard().trumpStrength() < strength) {
+        order[j] = order[j - 1];
+        j--;
       }
+      order[j] = i;
+    }
+
+    ArrayList<IPlayer> sortedPlayers = new ArrayList<>(order.length);
+    for (int i : order) sortedPlayers.add(players.get(i));
+    return sortedPlayers;
+  }
 
-      indices.add(i, trumpCount);
+  /**
+   * Returns the index of the card in 'cards' that trumps every other card. If 'cards' contains
+   *   the best card more than once, returns the index of its first occurrence.
+   * @param cards the cards to compare
+   * @return the index of the best card
+   * @throws IllegalArgumentException if 'cards' is empty
+   */
+  public static int bestCardIndex(List<Card> cards) {
+    if (cards.isEmpty()) {
+      throw new IllegalArgumentException("Cards must not be empty");
     }
+    int best = 0;
+    int bestStrength = cards.getFirst().getSCard().trumpStrength();
+    for (int i = 1; i < cards.size(); i++) {
+      int strength = cards.get(i).getSCard().trumpStrength();
+      if (strength > bestStrength) {
+        best = i;
+        bestStrength = strength;
+      }
+    }
+    return best;
+  }
 
-    List<Integer> sortedIndices = new ArrayList<>(indices);
-    sortedIndices.sort((a, b) -> Integer.compare(indices.get(b), indices.get(a)));
-    for (Integer i : sortedIndices) {
-      sortedPlayers.add(players.get(i));
+  //**************************************************************************************** HELPERS
+  /**
+   * Returns the 8-bit mask of the suits present in a CardSet mask: bit i is set if a card of the
+   *   suit with ordinal i is present. SCard ordinals are suit-major, 7 ranks per suit.
+   * @param cards the CardSet mask
+   * @return the suit-presence mask
+   */
+  private static int suitMask(long cards) {
+    int suits = 0;
+    for (int s = 0; s < 8; s++) {
+      if (((cards >>> (7 * s)) & 0x7F) != 0) suits |= 1 << s;
     }
+    return suits;
+  }
 
-    return sortedPlayers;
+  /**
+   * Returns the 7-bit mask of the ranks present in a CardSet mask: bit i is set if a card of the
+   *   rank with ordinal i is present.
+   * @param cards the CardSet mask
+   * @return the rank-presence mask
+   */
+  private static int rankMask(long cards) {
+    int ranks = 0;
+    for (int s = 0; s < 8; s++) ranks |= (int) (cards >>> (7 * s)) & 0x7F;
+    return ranks;
+  }
+
+  /**
+   * Returns true if the rank-presence mask 'ranks' holds exactly 5 consecutive ranks.
+   * @param ranks the rank-presence mask
+   * @return true if 'ranks' holds 5 consecutive ranks
+   */
+  private static boolean consecutiveRanks(int ranks) {
+    return Integer.bitCount(ranks) == 5
+            && (ranks & (ranks >> 1) & (ranks >> 2) & (ranks >> 3) & (ranks >> 4)) != 0;
   }
 
-  //**************************************************************************************** HELPERS
   /**
    * Throws IllegalArgumentException if pond size isn't 4, if well size isn't 4, or if hand size
    *   isn't 0 or 4. Called in methods that verify 'No Blues' call validity - valid 'No Blues' calls
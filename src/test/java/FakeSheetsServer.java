@@ -0,0 +1,204 @@
+import com.google.api.client.http.javanet.NetHttpTransport;
+import com.google.api.client.json.jackson2.JacksonFactory;
+import com.google.api.services.sheets.v4.Sheets;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * A local stand-in for the Sheets API's 'values.append' method, so that 'SheetsSink' can be tested
+ *   offline. Appended rows are kept per range, with every value as the text it was sent as.
+ *   Requests without the expected access token are refused, and the server can be made to fail
+ *   every request with a given status.
+ */
+public class FakeSheetsServer implements AutoCloseable {
+  private static final String PREFIX = "/v4/spreadsheets/";
+  private static final String APPEND = ":append";
+
+  private final HttpServer server;
+  private final String spreadsheetId;
+  private final String token;
+  private final Map<String, List<List<String>>> ranges = new HashMap<>();
+  private int requests;
+  private volatile int failStatus;
+
+  /**
+   * Starts a server on a free local port.
+   * @param spreadsheetId the id of the only spreadsheet the server has
+   * @param token the access token requests must carry
+   */
+  public FakeSheetsServer(String spreadsheetId, String token) throws IOException {
+    this.spreadsheetId = spreadsheetId;
+    this.token = token;
+    this.server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+    server.createContext(PREFIX, this::handle);
+    server.start();
+  }
+
+  public URI rootUrl() {
+    return URI.create("http://localhost:" + server.getAddress().getPort() + "/");
+  }
+
+  /**
+   * Returns a Sheets client whose requests go to this server and carry 'token' as their access
+   *   token.
+   */
+  public Sheets client(String token) {
+    return new Sheets.Builder(new NetHttpTransport(), JacksonFactory.getDefaultInstance(),
+            request -> request.getHeaders().setAuthorization("Bearer " + token))
+            .setRootUrl(rootUrl().toString())
+            .setApplicationName("FakeSheetsServer client")
+            .build();
+  }
+
+  /**
+   * Returns the rows appended to 'range' so far.
+   */
+  public synchronized List<List<String>> rows(String range) {
+    return new ArrayList<>(ranges.getOrDefault(range, List.of()));
+  }
+
+  /**
+   * Returns how many append requests succeeded.
+   */
+  public synchronized int requests() {
+    return requests;
+  }
+
+  /**
+   * Makes every later request fail with 'status', or succeed again if it's 0.
+   */
+  public void setFailStatus(int status) {
+    this.failStatus = status;
+  }
+
+  @Override
+  public void close() {
+    server.stop(0);
+  }
+
+  //**************************************************************************************** HELPERS
+  private void handle(HttpExchange exchange) throws IOException {
+    String path = exchange.getRequestURI().getRawPath();
+    String query = exchange.getRequestURI().getQuery();
+    int values = path.indexOf("/values/");
+    if (!exchange.getRequestMethod().equals("POST") || !path.endsWith(APPEND) || values < 0
+            || query == null || !query.contains("valueInputOption=USER_ENTERED")) {
+      respond(exchange, 404, "{}");
+      return;
+    }
+    String id = URLDecoder.decode(path.substring(PREFIX.length(), values), StandardCharsets.UTF_8);
+    String range = URLDecoder.decode(path.substring(values + "/values/".length(),
+            path.length() - APPEND.length()), StandardCharsets.UTF_8);
+    String authorization = exchange.getRequestHeaders().getFirst("Authorization");
+    if (!id.equals(spreadsheetId)) {
+      respond(exchange, 404, "{}");
+    } else if (!("Bearer " + token).equals(authorization)) {
+      respond(exchange, 401, "{}");
+    } else if (failStatus != 0) {
+      respond(exchange, failStatus, "{}");
+    } else {
+      InputStream in = exchange.getRequestBody();
+      if ("gzip".equals(exchange.getRequestHeaders().getFirst("Content-Encoding"))) {
+        in = new GZIPInputStream(in); // the client compresses request bodies
+      }
+      String body = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+      List<List<String>> rows = new Parser(body).values();
+      synchronized (this) {
+        ranges.computeIfAbsent(range, r -> new ArrayList<>()).addAll(rows);
+        requests++;
+      }
+      respond(exchange, 200, "{\"spreadsheetId\":\"" + id + "\",\"updates\":{\"updatedRows\":"
+              + rows.size() + "}}");
+    }
+  }
+
+  private static void respond(HttpExchange exchange, int status, String body) throws IOException {
+    byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+    exchange.getResponseHeaders().set("Content-Type", "application/json; charset=UTF-8");
+    exchange.sendResponseHeaders(status, bytes.length);
+    try (OutputStream out = exchange.getResponseBody()) {
+      out.write(bytes);
+    }
+  }
+
+  /**
+   * Parses the body of an append request, {"values": [[...], ...]}, whose values are strings,
+   *   numbers, booleans or null.
+   */
+  private static class Parser {
+    private final String json;
+    private int i;
+
+    Parser(String json) {
+      this.json = json;
+    }
+
+    List<List<String>> values() {
+      expect('{');
+      String key = string();
+      if (!key.equals("values")) throw new IllegalArgumentException("Unexpected key " + key);
+      expect(':');
+      List<List<String>> rows = new ArrayList<>();
+      expect('[');
+      while (peek() != ']') {
+        if (!rows.isEmpty()) expect(',');
+        List<String> row = new ArrayList<>();
+        expect('[');
+        while (peek() != ']') {
+          if (!row.isEmpty()) expect(',');
+          row.add(peek() == '"' ? string() : literal());
+        }
+        expect(']');
+        rows.add(row);
+      }
+      expect(']');
+      expect('}');
+      return rows;
+    }
+
+    private String string() {
+      expect('"');
+      StringBuilder sb = new StringBuilder();
+      for (char c = json.charAt(i++); c != '"'; c = json.charAt(i++)) {
+        if (c == '\\') {
+          c = json.charAt(i++);
+          if (c == 'u') {
+            c = (char) Integer.parseInt(json.substring(i, i + 4), 16);
+            i += 4;
+          }
+        }
+        sb.append(c);
+      }
+      return sb.toString();
+    }
+
+    private String literal() {
+      int start = i;
+      while (",]} ".indexOf(json.charAt(i)) < 0) i++;
+      return json.substring(start, i);
+    }
+
+    private char peek() {
+      while (json.charAt(i) == ' ') i++;
+      return json.charAt(i);
+    }
+
+    private void expect(char c) {
+      if (peek() != c) throw new IllegalArgumentException("Expected " + c + " at " + i);
+      i++;
+    }
+  }
+}
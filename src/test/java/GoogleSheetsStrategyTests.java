@@ -1,189 +1,143 @@
-import com.google.api.services.sheets.v4.Sheets;
-import com.google.api.services.sheets.v4.model.AppendValuesResponse;
-import com.google.api.services.sheets.v4.model.ValueRange;
-
+import org.testng.annotations.AfterClass;
 import org.testng.annotations.BeforeClass;
 import org.testng.annotations.Test;
 
 import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.security.GeneralSecurityException;
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.List;
 import java.util.Random;
 
-import game.IGame;
-import game.StandardGame;
-import game.deck.DeckType;
-import game.deck.TypeDeck;
-import game.score.RScore;
-import player.AIPlayer;
-import player.IPlayer;
-import player.strategy.Approach;
-import player.strategy.strategies.StrategyEmpty;
-import player.strategy.strategies.StrategyWin;
-import player.strategy.strategies.StrategyWinProb;
-import player.strategy.strategies.StrategyWinProbMem;
+import simulation.Comparison;
+import simulation.ResultStore;
+import simulation.SimulationResult;
+import simulation.StrategyConfig;
+import simulation.Tournament;
+import simulation.sink.ResultSink;
+import simulation.sink.SheetsSink;
+import simulation.sink.StoreSink;
 import utility.SheetsServiceUtil;
 
+/**
+ * Strategy studies, which take far longer than the unit tests. They're in the 'study' group, which
+ *   'mvn test' leaves out unless it's run with the study profile (see pom.xml).
+ */
 public class GoogleSheetsStrategyTests {
-  IGame g;
-  public TypeDeck deck = new TypeDeck(DeckType.STANDARD);
-  List<IPlayer> players;
-  int[] pRWins;
-  int[] pGWins;
-  int[] rScores;
-  int[] gScores;
-  int rounds;
-  int games;
-
+  public static final String STUDY = "study";
   public static List<String> possiblePlayers;
   private final Random random = new Random();
   private static int uniqueCodeLength = 8;
 
   public static int numberOfSamples = 100;
   public static int sampleSize = 5000;
+  public static int numberOfComparisons = 100;
   public static String spreadsheetId = "1BnLq8vVLhUG3d4hblsfTvhUHtwNHlPoNObfFZte_5cI";
-  public static Sheets sheets;
+  public static ResultSink<SheetRow> sheets;
+  public static boolean writeToSheets = false; // needs the network and credentials
+  public static Path storePath; // a temporary file, deleted after the study
+  public static int storeSegmentRecords = 1 << 16; // 3 MiB segments instead of the default 1 GiB
 
   @BeforeClass
   public static void setup() throws GeneralSecurityException, IOException {
     possiblePlayers = List.of("minE", "maxE", "ranE", "minW", "maxW", "ranW", "minWP", "maxWP",
             "ranWP", "minWPM100", "minWPM10", "maxWPM100", "maxWPM10", "ranWPM100", "ranWPM10");
-    sheets = SheetsServiceUtil.getSheetsService();
-  }
-
-  @Test
-  public void runStudy() throws IOException {
-    for (int i = 0; i < numberOfSamples; i++) {
-      createPlayers();
-      initGame();
-
-      System.out.println("RUNNING SAMPLE " + i);
-      runSample();
-
-      writeToSpreadSheet();
+    storePath = Files.createTempFile("results", ".store");
+    if (writeToSheets) {
+      sheets = new SheetsSink<>(SheetsServiceUtil.getSheetsService(), spreadsheetId,
+              r -> r.player() + "!A1", SheetRow::values);
     }
   }
 
-  //*********************************************************************************** TEST HELPERS
-  private void createPlayers() {
-    players = new ArrayList<>();
-
-    for (int i = 0; i < 4; i++) {
-      String name = possiblePlayers.get(random.nextInt(possiblePlayers.size()));
-      switch (name) {
-        case "minE" -> players.add(new AIPlayer(name, new StrategyEmpty(Approach.MIN_POINTS)));
-        case "maxE" -> players.add(new AIPlayer(name, new StrategyEmpty(Approach.MAX_TRUMP)));
-        case "ranE" -> players.add(new AIPlayer(name, new StrategyEmpty(Approach.RANDOM)));
-        case "minW" -> players.add(new AIPlayer(name, new StrategyWin(Approach.MIN_POINTS)));
-        case "maxW" -> players.add(new AIPlayer(name, new StrategyWin(Approach.MAX_TRUMP)));
-        case "ranW" -> players.add(new AIPlayer(name, new StrategyWin(Approach.RANDOM)));
-        case "minWP" -> players.add(new AIPlayer(name, new StrategyWinProb(Approach.MIN_POINTS)));
-        case "maxWP" -> players.add(new AIPlayer(name, new StrategyWinProb(Approach.MAX_TRUMP)));
-        case "ranWP" -> players.add(new AIPlayer(name, new StrategyWinProb(Approach.RANDOM)));
-        case "minWPM100" -> players.add(new AIPlayer(name, new StrategyWinProbMem(Approach.MIN_POINTS, 100)));
-        case "minWPM10" -> players.add(new AIPlayer(name, new StrategyWinProbMem(Approach.MIN_POINTS, 10)));
-        case "maxWPM100" -> players.add(new AIPlayer(name, new StrategyWinProbMem(Approach.MAX_TRUMP, 100)));
-        case "maxWPM10" -> players.add(new AIPlayer(name, new StrategyWinProbMem(Approach.MAX_TRUMP, 10)));
-        case "ranWPM100" -> players.add(new AIPlayer(name, new StrategyWinProbMem(Approach.RANDOM, 100)));
-        case "ranWPM10" -> players.add(new AIPlayer(name, new StrategyWinProbMem(Approach.RANDOM, 10)));
-      }
-    }
+  @AfterClass
+  public static void tearDown() throws IOException {
+    if (storePath != null) Files.deleteIfExists(storePath);
   }
 
-  private void initGame() {
-    for (IPlayer p : players) p.resetNewGame();
-    g = new StandardGame(players, deck);
-
-    pRWins = new int[4];
-    pGWins = new int[4];
-    rScores = new int[4];
-    gScores = new int[4];
-    rounds = 0;
-    games = 0;
+  /**
+   * One seat's summary of one sample, appended to the seat's strategy's tab.
+   */
+  public record SheetRow(String player, List<Object> values) {
   }
 
-  private void runSample() {
-    for (int i = 0; i < sampleSize; i++) {
-      runGame();
-      RScore finalScores = g.getScoreSheet().getLast();
-      for (int j = 0; j < players.size(); j++) gScores[j] += finalScores.getTotals()[j];
-      g.resetNewGame();
+  @Test(groups = STUDY)
+  public void runStudy() throws IOException {
+    try (ResultStore store = new ResultStore(storePath, storeSegmentRecords);
+         StoreSink records = new StoreSink(store)) {
+      for (int i = 0; i < numberOfSamples; i++) {
+        List<StrategyConfig> seats = pickSeats();
+
+        System.out.println("RUNNING SAMPLE " + i + ": " + seats);
+        Tournament tournament = new Tournament(seats, sampleSize, random.nextLong());
+        tournament.setSink(records);
+        SimulationResult result = tournament.run();
+        System.out.printf("%.1f games/sec%n", result.getGamesPerSecond());
+
+        if (writeToSheets) writeToSpreadSheet(result); // written in the background
+      }
+    } finally {
+      if (sheets != null) sheets.close();
     }
   }
 
-  private void runGame() {
-    if (rounds % 1000 == 0) System.out.println("Running round " + rounds);
-    g.startRound();
-    while (!g.roundOver()) {
-      turn();
+  /**
+   * Compares random pairs of strategies head to head, each until an SPRT settles it, or until it
+   *   has played as many games as one sample of 'runStudy()'. 'TestComparison' covers how
+   *   comparisons behave; this only drives a study.
+   */
+  @Test(groups = STUDY)
+  public void runComparisons() {
+    long games = 0;
+    for (int i = 0; i < numberOfComparisons; i++) {
+      StrategyConfig a = pickSeats().getFirst();
+      StrategyConfig b = pickSeats().getFirst();
+      Comparison comparison = new Comparison(a, b, random.nextLong());
+      comparison.setMaxGames(sampleSize);
+      Comparison.Result result = comparison.run();
+      games += result.games();
+      System.out.printf("%s vs %s: %s after %d games, %s win rate %s%n", a.code(), b.code(),
+              result.outcome(), result.games(), a.code(), result.aWinRate());
     }
+    System.out.printf("%d games, %.1f%% of a fixed %d per comparison%n", games,
+            100.0 * games / ((long) numberOfComparisons * sampleSize), sampleSize);
+  }
 
-    rounds++;
+  //*********************************************************************************** TEST HELPERS
+  private List<StrategyConfig> pickSeats() {
+    List<StrategyConfig> seats = new ArrayList<>();
     for (int i = 0; i < 4; i++) {
-      rScores[i] += g.getScoreSheet().getLast().getDeltas()[i];
-    }
-    pRWins[players.indexOf(g.getScoreSheet().getLast().getWinner())]++;
-
-    if (!g.gameOver()) runGame();
-    else {
-      pGWins[players.indexOf(g.getGameWinner())]++;
-      games++;
-      System.out.println("Starting game " + games);
+      seats.add(StrategyConfig.parse(possiblePlayers.get(random.nextInt(possiblePlayers.size()))));
     }
+    return seats;
   }
 
-  private void turn() {
-    g.flipWell();
-    g.collectPond();
-    g.collectNBCs();
-    g.flipPond();
-    if (g.roundOver()) return;
-    g.allowChoices();
-  }
-
-  private List<Double> numsForAnalysis(int gamesPlayed, int playerIdx) {
+  private List<Double> numsForAnalysis(SimulationResult result, int seat) {
     List<Double> nums = new ArrayList<>();
-    nums.add(Math.round((double) rScores[playerIdx] / (double) rounds * 10.0) / 10.0);
-    nums.add(Math.round((double) gScores[playerIdx] / gamesPlayed * 10.0) / 10.0);
-    nums.add(Math.round((double) pRWins[playerIdx] / (double) rounds * 100.0 * 10.0) / 10.0);
-    nums.add(Math.round((double) pGWins[playerIdx] / (double) gamesPlayed * 1000.0) / 10.0);
+    nums.add(Math.round(result.getAverageRoundScore(seat) * 10.0) / 10.0);
+    nums.add(Math.round(result.getAverageGameScore(seat) * 10.0) / 10.0);
+    nums.add(Math.round(result.getRoundWinRate(seat) * 100.0 * 10.0) / 10.0);
+    nums.add(Math.round(result.getGameWinRate(seat) * 1000.0) / 10.0);
     return nums;
   }
 
-  private void writeToSpreadSheet() throws IOException {
+  private void writeToSpreadSheet(SimulationResult result) {
     String uniqueCode = uniqueCode();
+    List<StrategyConfig> seats = result.getSeats();
 
-    for (int i = 0; i < players.size(); i++) {
-      List<Double> nums = numsForAnalysis(sampleSize, i);
+    for (int i = 0; i < seats.size(); i++) {
+      List<Double> nums = numsForAnalysis(result, i);
       StringBuilder opponents = new StringBuilder();
 
-      for (int j = 0; j < players.size(); j++) {
-        if (j != i) opponents.append(players.get(j).name()).append("  ");
+      for (int j = 0; j < seats.size(); j++) {
+        if (j != i) opponents.append(seats.get(j).code()).append("  ");
       }
 
-      editSpreadSheet(players.get(i).name(), nums.getFirst(), nums.get(1), nums.get(2), nums.get(3),
-              sampleSize, opponents.toString(), uniqueCode);
+      sheets.add(new SheetRow(seats.get(i).code(), List.of(nums.getFirst(), nums.get(1),
+              nums.get(2), nums.get(3), (double) sampleSize, opponents.toString(), uniqueCode)));
     }
   }
 
-  private void editSpreadSheet(String player, double pointsPerRound, double pointsPerGame,
-                               double roundWinRate, double gameWinRate, double sampleSize,
-                               String opponents, String uniqueCode) throws IOException {
-
-    ValueRange body = new ValueRange().setValues(Arrays.asList(Arrays.asList(pointsPerRound,
-            pointsPerGame, roundWinRate, gameWinRate, sampleSize, opponents, uniqueCode)));
-
-    AppendValuesResponse result =
-            sheets.spreadsheets().values()
-                    .append(spreadsheetId, player + "!A1", body)
-                    .setValueInputOption("USER_ENTERED")
-                    .setInsertDataOption("INSERT_ROWS")
-                    .setIncludeValuesInResponse(true)
-                    .execute();
-  }
-
   private String uniqueCode() {
     String characters = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz12345678901234567890";
     StringBuilder code = new StringBuilder();
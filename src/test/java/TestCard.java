@@ -4,6 +4,7 @@ import org.testng.annotations.Test;
 import java.util.List;
 
 import game.deck.card.Card;
+import game.deck.card.CardPositions;
 import game.deck.card.properties.Position;
 import game.deck.card.properties.Rank;
 import game.deck.card.properties.Color;
@@ -17,25 +18,31 @@ public class TestCard {
     Assert.assertEquals(Color.RED, Z.oneStar.getColor());
     Assert.assertEquals(Rank.ONE, Z.oneStar.getRank());
     Assert.assertEquals(Suit.STAR, Z.oneStar.getSuit());
-    Assert.assertEquals(Position.DECK, Z.oneStar.getPosition());
 
     Assert.assertEquals(Color.BLACK, Z.sevenDash.getColor());
     Assert.assertEquals(Rank.SEVEN, Z.sevenDash.getRank());
     Assert.assertEquals(Suit.DASH, Z.sevenDash.getSuit());
-    Assert.assertEquals(Position.DECK, Z.sevenDash.getPosition());
 
     Assert.assertEquals(Color.BLUE, Z.sixBlue.getColor());
     Assert.assertEquals(Rank.SIX, Z.sixBlue.getRank());
     Assert.assertEquals(Suit.BLUE, Z.sixBlue.getSuit());
-    Assert.assertEquals(Position.DECK, Z.sixBlue.getPosition());
   }
 
   @Test
   public void testCardMethods() {
-    Z.oneStar.setPosition(Position.HAND);
-    Assert.assertEquals(Position.HAND, Z.oneStar.getPosition());
-    Z.oneStar.setPosition(Position.DISCARDED);
-    Assert.assertEquals(Position.DISCARDED, Z.oneStar.getPosition());
+    Assert.assertSame(Card.of(SCard.STAR_1), Z.oneStar);
+    Assert.assertSame(Card.of(SCard.STAR_1).getSCard(), SCard.STAR_1);
+
+    CardPositions positions = new CardPositions();
+    Assert.assertEquals(Position.DECK, positions.get(Z.oneStar));
+    positions.set(Z.oneStar, Position.HAND);
+    Assert.assertEquals(Position.HAND, positions.get(Z.oneStar));
+    positions.setAll(List.of(Z.oneStar, Z.sevenDash), Position.DISCARDED);
+    Assert.assertEquals(Position.DISCARDED, positions.get(Z.oneStar));
+    Assert.assertEquals(Position.DISCARDED, positions.get(Z.sevenDash));
+    Assert.assertEquals(Position.DECK, positions.get(Z.sixBlue));
+    positions.reset();
+    Assert.assertEquals(positions, new CardPositions());
   }
 
   @Test
@@ -155,13 +162,13 @@ public class TestCard {
 
   @Test
   public void testCardGCOs() {
-    Assert.assertEquals(new Card(SCard.STAR_1), Z.oneStar);
-    Assert.assertEquals(new Card(SCard.DASH_7), Z.sevenDash);
-    Assert.assertEquals(new Card(SCard.HEX_1), Z.oneHex);
-    Assert.assertNotEquals(new Card(SCard.HEX_4), Z.fourBolt);
+    Assert.assertEquals(Card.of(SCard.STAR_1), Z.oneStar);
+    Assert.assertEquals(Card.of(SCard.DASH_7), Z.sevenDash);
+    Assert.assertEquals(Card.of(SCard.HEX_1), Z.oneHex);
+    Assert.assertNotEquals(Card.of(SCard.HEX_4), Z.fourBolt);
     Assert.assertNotEquals(new Object(), Z.threeBlue);
-    Assert.assertEquals(new Card(SCard.STAR_1).hashCode(), Z.oneStar.hashCode());
-    Assert.assertEquals(new Card(SCard.BLUE_5).hashCode(), Z.fiveBlue.hashCode());
+    Assert.assertEquals(Card.of(SCard.STAR_1).hashCode(), Z.oneStar.hashCode());
+    Assert.assertEquals(Card.of(SCard.BLUE_5).hashCode(), Z.fiveBlue.hashCode());
     Assert.assertNotEquals(new Object().hashCode(), Z.sevenCross.hashCode());
     Assert.assertNotEquals(Z.fourBlue.hashCode(), Z.fiveBlue.hashCode());
   }
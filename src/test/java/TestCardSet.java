@@ -0,0 +1,76 @@
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.List;
+
+import game.deck.DeckType;
+import game.deck.IDeck;
+import game.deck.TypeDeck;
+import game.deck.card.CardSet;
+import game.deck.card.SCard;
+import player.IPlayer;
+import player.TstPlayer;
+
+public class TestCardSet {
+
+  @Test
+  public void testModifiers() {
+    CardSet set = new CardSet();
+    Assert.assertTrue(set.isEmpty());
+    Assert.assertTrue(set.add(Z.oneBlue));
+    Assert.assertFalse(set.add(Z.oneBlue));
+    Assert.assertTrue(set.add(SCard.STAR_7));
+    Assert.assertEquals(set.size(), 2);
+    Assert.assertTrue(set.contains(Z.sevenStar));
+    Assert.assertTrue(set.contains(SCard.BLUE_1));
+    Assert.assertFalse(set.contains(Z.twoBlue));
+
+    Assert.assertTrue(set.remove(Z.sevenStar));
+    Assert.assertFalse(set.remove(Z.sevenStar));
+    Assert.assertEquals(set.size(), 1);
+
+    set.addAll(CardSet.of(List.of(Z.twoBlue, Z.threeDash)));
+    Assert.assertEquals(set.size(), 3);
+    set.removeAll(CardSet.of(List.of(Z.oneBlue, Z.fourHeart)));
+    Assert.assertEquals(set, CardSet.of(List.of(Z.twoBlue, Z.threeDash)));
+    set.clear();
+    Assert.assertTrue(set.isEmpty());
+  }
+
+  @Test
+  public void testGetters() {
+    CardSet a = CardSet.of(List.of(Z.oneBlue, Z.twoDash, Z.sevenStar));
+    CardSet b = CardSet.of(List.of(Z.twoDash, Z.fourHeart));
+
+    Assert.assertEquals(a.union(b).size(), 4);
+    Assert.assertTrue(a.intersects(b));
+    Assert.assertFalse(a.containsAll(b));
+    Assert.assertTrue(a.union(b).containsAll(b));
+    Assert.assertEquals(a.toList(), List.of(Z.oneBlue, Z.twoDash, Z.sevenStar));
+    Assert.assertEquals(a.toString(), "[1♦, 2~, 7⭒]");
+    Assert.assertEquals(CardSet.lowest(b.bits()), SCard.DASH_2);
+    Assert.assertEquals(Long.bitCount(CardSet.ALL), 56);
+    Assert.assertThrows(IllegalArgumentException.class, () -> new CardSet(1L << 56));
+  }
+
+  @Test
+  public void testAdapters() {
+    IPlayer p = new TstPlayer("Player 1");
+    p.dealCard(Z.fiveHeart);
+    p.dealCard(Z.sixStar);
+    Assert.assertEquals(p.getHandSet(), CardSet.of(p.getHand()));
+    p.throwCard(Z.fiveHeart);
+    Assert.assertEquals(p.getHandSet(), CardSet.of(List.of(Z.sixStar)));
+    Assert.assertThrows(IllegalArgumentException.class, () -> p.throwCard(Z.fiveHeart));
+    p.resetNewRound();
+    Assert.assertTrue(p.getHandSet().isEmpty());
+
+    IDeck deck = new TypeDeck(DeckType.STANDARD);
+    Assert.assertEquals(deck.getCardSet().bits(), CardSet.ALL);
+    deck.popCard();
+    Assert.assertEquals(deck.getCardSet(), CardSet.of(deck.getCards()));
+    deck.resetDeck();
+    Assert.assertEquals(deck.getCardSet().size(), 56);
+    Assert.assertEquals(new TypeDeck(DeckType.SUPERSTITIOUS).getCardSet().size(), 49);
+  }
+}
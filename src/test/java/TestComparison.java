@@ -0,0 +1,92 @@
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import simulation.Comparison;
+import simulation.StrategyConfig;
+
+public class TestComparison {
+  private static final StrategyConfig MIN_E = StrategyConfig.parse("minE");
+  private static final StrategyConfig MIN_W = StrategyConfig.parse("minW");
+  private static final StrategyConfig MAX_E = StrategyConfig.parse("maxE");
+
+  @Test
+  public void testLopsided() {
+    Comparison.Result result = new Comparison(MIN_W, MIN_E, 1).run();
+    Assert.assertEquals(result.outcome(), Comparison.Outcome.A_BETTER);
+    Assert.assertEquals(result.games(), 400L); // settled by the first batch
+    Assert.assertEquals(result.aFirst().getGames(), 200L);
+    Assert.assertEquals(result.bFirst().getSeats().getFirst(), MIN_E);
+    Assert.assertTrue(result.aWinRate().getMean() > 0.8);
+
+    Comparison reversed = new Comparison(MIN_E, MIN_W, 1);
+    Assert.assertEquals(reversed.run().outcome(), Comparison.Outcome.B_BETTER);
+  }
+
+  @Test
+  public void testMirror() {
+    // equal configurations with the same seed win each seating's games in the other seating
+    Comparison.Result result = new Comparison(MIN_E, MIN_E, 2).run();
+    Assert.assertEquals(result.outcome(), Comparison.Outcome.NO_DIFFERENCE);
+    Assert.assertEquals(result.aWinRate().getMean(), 0.5, 0);
+    Assert.assertTrue(result.games() < Comparison.DEFAULT_MAX_GAMES);
+  }
+
+  @Test
+  public void testMaxGames() {
+    Comparison comparison = new Comparison(MIN_E, MIN_E, 3);
+    comparison.setSprt(0.01, 0.01, 0.01); // needs far more games to accept either hypothesis
+    comparison.setBatchSize(50);
+    comparison.setMaxGames(300);
+    Comparison.Result result = comparison.run();
+    Assert.assertEquals(result.outcome(), Comparison.Outcome.INCONCLUSIVE);
+    Assert.assertEquals(result.games(), 300L);
+  }
+
+  @Test
+  public void testConfidenceWidth() {
+    ExecutorService executor = Executors.newFixedThreadPool(2);
+    try {
+      Comparison comparison = new Comparison(MAX_E, MIN_E, 4);
+      comparison.setConfidenceWidth(0.95, 0.05);
+      comparison.setBatchSize(50);
+      Comparison.Result result = comparison.run(executor);
+      Assert.assertEquals(result.outcome(), Comparison.Outcome.B_BETTER);
+      Assert.assertTrue(result.aWinRate().getConfidenceInterval(0.95)[1] < 0.5);
+
+      Comparison mirror = new Comparison(MIN_W, MIN_W, 5);
+      mirror.setConfidenceWidth(0.95, 0.1);
+      mirror.setBatchSize(50);
+      Comparison.Result even = mirror.run(executor);
+      Assert.assertEquals(even.outcome(), Comparison.Outcome.NO_DIFFERENCE);
+      double[] interval = even.aWinRate().getConfidenceInterval(0.95);
+      Assert.assertTrue(interval[1] - interval[0] < 0.1);
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  @Test
+  public void testReproducible() {
+    Comparison.Result first = new Comparison(MAX_E, MIN_W, 6).run();
+    Comparison.Result second = new Comparison(MAX_E, MIN_W, 6).run();
+    Assert.assertEquals(first.aFirst(), second.aFirst());
+    Assert.assertEquals(first.bFirst(), second.bFirst());
+    Assert.assertEquals(first.outcome(), second.outcome());
+  }
+
+  @Test
+  public void testInvalidSettings() {
+    Comparison comparison = new Comparison(MIN_E, MIN_W, 7);
+    Assert.assertThrows(IllegalArgumentException.class, () -> comparison.setBatchSize(0));
+    Assert.assertThrows(IllegalArgumentException.class, () -> comparison.setMaxGames(0));
+    Assert.assertThrows(IllegalArgumentException.class, () -> comparison.setSprt(0, 0.05, 0.05));
+    Assert.assertThrows(IllegalArgumentException.class, () -> comparison.setSprt(0.1, 0.5, 0.05));
+    Assert.assertThrows(IllegalArgumentException.class,
+            () -> comparison.setConfidenceWidth(1, 0.05));
+    Assert.assertThrows(IllegalArgumentException.class,
+            () -> comparison.setConfidenceWidth(0.95, 0));
+  }
+}
@@ -0,0 +1,79 @@
+import java.util.ArrayList;
+import java.util.List;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import game.deck.card.Card;
+import game.deck.card.CardSet;
+import game.deck.card.UCard;
+import player.strategy.CompletionOdds;
+import player.strategy.WinningHand;
+
+public class TestCompletionOdds {
+
+  @Test
+  public void testOneTurn() {
+    CompletionOdds odds = new CompletionOdds();
+    // 1 - (7 choose 4) / (8 choose 4) and 1 - (4 choose 4) / (8 choose 4)
+    Assert.assertEquals(odds.probability(new int[] {1}, 8, 1), 0.5, 1e-6);
+    Assert.assertEquals(odds.probability(new int[] {4}, 8, 1), 69.0 / 70, 1e-6);
+    Assert.assertEquals(odds.probability(new int[] {}, 8, 0), 1.0, 0);
+    Assert.assertEquals(odds.probability(new int[] {0}, 8, 3), 0.0, 0);
+    Assert.assertEquals(odds.probability(new int[] {1, 1}, 8, 1), 0.0, 0);
+    // the only well holds both needed cards, and the one that isn't taken is gone
+    Assert.assertEquals(odds.probability(new int[] {1, 1}, 4, 2), 0.0, 0);
+  }
+
+  @Test
+  public void testOrderAndCache() {
+    CompletionOdds odds = new CompletionOdds();
+    double p = odds.probability(new int[] {1, 4, 2}, 40, 9);
+    long computed = odds.getComputed();
+    Assert.assertTrue(computed > 0);
+    Assert.assertEquals(odds.probability(new int[] {4, 2, 1}, 40, 9), p, 0);
+    Assert.assertEquals(odds.getComputed(), computed);
+    Assert.assertEquals(CompletionOdds.get().probability(new int[] {2, 1, 4}, 40, 9), p, 0);
+  }
+
+  @Test
+  public void testMonotonic() {
+    CompletionOdds odds = CompletionOdds.get();
+    for (int turns = 1; turns < CompletionOdds.MAX_TURNS; turns++) {
+      Assert.assertTrue(odds.probability(new int[] {3, 2}, 45, turns + 1)
+              >= odds.probability(new int[] {3, 2}, 45, turns));
+      Assert.assertTrue(odds.probability(new int[] {4, 2}, 45, turns)
+              >= odds.probability(new int[] {3, 2}, 45, turns));
+      Assert.assertTrue(odds.probability(new int[] {3}, 45, turns)
+              >= odds.probability(new int[] {3, 2}, 45, turns));
+    }
+    Assert.assertEquals(odds.probability(new int[] {2}, 30, 40),
+            odds.probability(new int[] {2}, 30, CompletionOdds.MAX_TURNS), 0);
+  }
+
+  @Test
+  public void testWinningHand() {
+    List<UCard> needed = WinningHand.R1_B25.unsuitedCardList();
+    List<Card> hand = new ArrayList<>();
+    for (int i = 1; i < needed.size(); i++) hand.add(Card.of(needed.get(i).cards().getFirst()));
+    CardSet gone = CardSet.ofSCards(List.of(UCard.R1.cards().getFirst()));
+
+    Assert.assertEquals(CompletionOdds.get().probability(WinningHand.R1_B25, CardSet.of(hand), gone,
+            4), CompletionOdds.get().probability(new int[] {2}, 51, 4), 0);
+    Assert.assertEquals(CompletionOdds.get().probability(WinningHand.R1_B25, CardSet.of(hand),
+            new CardSet(), 4), CompletionOdds.get().probability(new int[] {3}, 52, 4), 0);
+  }
+
+  @Test
+  public void testInvalid() {
+    CompletionOdds odds = CompletionOdds.get();
+    Assert.assertThrows(IllegalArgumentException.class,
+            () -> odds.probability(new int[] {1, 1, 1, 1}, 40, 5));
+    Assert.assertThrows(IllegalArgumentException.class,
+            () -> odds.probability(new int[] {5}, 40, 5));
+    Assert.assertThrows(IllegalArgumentException.class,
+            () -> odds.probability(new int[] {4, 4}, 7, 5));
+    Assert.assertThrows(IllegalArgumentException.class,
+            () -> odds.probability(new int[] {1}, 57, 5));
+  }
+}
@@ -0,0 +1,138 @@
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import game.StandardGame;
+import game.deck.DeckType;
+import game.deck.TypeDeck;
+import game.deck.card.Card;
+import game.deck.card.SCard;
+import player.AIPlayer;
+import player.IPlayer;
+import player.strategy.Approach;
+import player.strategy.DecisionCache;
+import player.strategy.strategies.IStrategy;
+import player.strategy.strategies.StrategyCached;
+import player.strategy.strategies.StrategyEmpty;
+import player.strategy.strategies.StrategyWin;
+import simulation.Simulation;
+
+public class TestDecisionCache {
+
+  @Test
+  public void testGetAndPut() {
+    DecisionCache cache = new DecisionCache(64);
+    Assert.assertNull(cache.get(1, 0, 31, 0, 0));
+    DecisionCache.Decision d = new DecisionCache.Decision(Card.of(SCard.values()[3]), 7);
+    cache.put(1, 0, 31, 0, 0, d);
+    Assert.assertEquals(cache.get(1, 0, 31, 0, 0), d);
+    Assert.assertNull(cache.get(2, 0, 31, 0, 0));
+    Assert.assertNull(cache.get(1, 1, 31, 0, 0));
+    Assert.assertNull(cache.get(1, 0, 31, 0, 1));
+    Assert.assertEquals(cache.getHits(), 1L);
+    Assert.assertEquals(cache.getMisses(), 4L);
+    Assert.assertEquals(cache.getHitRate(), 0.2, 1e-9);
+    Assert.assertEquals(cache.getSize(), 1L);
+
+    cache.clear();
+    Assert.assertNull(cache.get(1, 0, 31, 0, 0));
+    Assert.assertEquals(cache.getSize(), 0L);
+    Assert.assertEquals(cache.getHits(), 0L);
+  }
+
+  @Test
+  public void testClockEviction() {
+    DecisionCache cache = new DecisionCache(DecisionCache.BUCKET_SIZE);
+    Assert.assertEquals(cache.getCapacity(), DecisionCache.BUCKET_SIZE);
+    DecisionCache.Decision d = new DecisionCache.Decision(Card.of(SCard.values()[0]), 0);
+    for (long hand = 1; hand <= DecisionCache.BUCKET_SIZE; hand++) cache.put(0, 0, hand, 0, 0, d);
+    Assert.assertEquals(cache.getEvictions(), 0L);
+
+    // every entry but hand 2 is read, so the clock hand gives them a second chance
+    for (long hand = 1; hand <= DecisionCache.BUCKET_SIZE; hand++) {
+      if (hand != 2) Assert.assertNotNull(cache.get(0, 0, hand, 0, 0));
+    }
+    cache.put(0, 0, 100, 0, 0, d);
+    Assert.assertEquals(cache.getEvictions(), 1L);
+    Assert.assertNull(cache.get(0, 0, 2, 0, 0));
+    Assert.assertNotNull(cache.get(0, 0, 100, 0, 0));
+    Assert.assertNotNull(cache.get(0, 0, 1, 0, 0));
+    Assert.assertEquals(cache.getSize(), (long) DecisionCache.BUCKET_SIZE);
+  }
+
+  @Test
+  public void testConstructor() {
+    DecisionCache cache = new DecisionCache(64);
+    Assert.assertThrows(IllegalArgumentException.class,
+            () -> new StrategyCached(new StrategyWin(Approach.RANDOM), cache));
+    Assert.assertThrows(IllegalArgumentException.class,
+            () -> new StrategyCached(new StrategyEmpty(Approach.RANDOM), cache));
+    Assert.assertThrows(IllegalArgumentException.class, () -> new DecisionCache(2));
+
+    IStrategy cached = new StrategyCached(new StrategyWin(Approach.MIN_POINTS), cache);
+    Assert.assertTrue(cached.getMemory().isEmpty());
+    Assert.assertTrue(new AIPlayer(cached).subscriptions().isEmpty());
+  }
+
+  @Test
+  public void testCachedPlaysTheSame() {
+    DecisionCache cache = new DecisionCache(1 << 16);
+    List<String> plain = play(game(null));
+    Assert.assertEquals(play(game(cache)), plain);
+    long misses = cache.getMisses();
+    Assert.assertTrue(misses > 0);
+
+    // a replay finds every decision in the cache
+    Assert.assertEquals(play(game(cache)), plain);
+    Assert.assertEquals(cache.getMisses(), misses);
+    Assert.assertTrue(cache.getHits() >= misses);
+  }
+
+  @Test
+  public void testSharedAcrossThreads() throws InterruptedException {
+    DecisionCache cache = new DecisionCache(1 << 10); // small enough to evict
+    List<String> plain = play(game(null));
+    List<List<String>> results = new ArrayList<>();
+    List<Thread> threads = new ArrayList<>();
+    for (int t = 0; t < 4; t++) {
+      List<String> result = new ArrayList<>();
+      results.add(result);
+      threads.add(new Thread(() -> result.addAll(play(game(cache)))));
+    }
+    for (Thread t : threads) t.start();
+    for (Thread t : threads) t.join();
+    for (List<String> result : results) Assert.assertEquals(result, plain);
+    Assert.assertTrue(cache.getEvictions() > 0);
+  }
+
+  /**
+   * Plays 5 games and returns their score sheets.
+   */
+  private List<String> play(StandardGame game) {
+    List<String> sheets = new ArrayList<>();
+    for (int g = 0; g < 5; g++) {
+      if (g > 0) game.resetNewGame();
+      while (!game.gameOver()) Simulation.playRound(game);
+      sheets.add(game.getScoreSheet().toString());
+    }
+    return sheets;
+  }
+
+  /**
+   * Returns a seeded game between deterministic strategies, whose decisions are cached in 'cache'
+   *   unless it's null.
+   */
+  private StandardGame game(DecisionCache cache) {
+    List<IStrategy> strategies = List.of(new StrategyWin(Approach.MIN_POINTS),
+            new StrategyWin(Approach.MAX_TRUMP), new StrategyEmpty(Approach.MIN_POINTS),
+            new StrategyEmpty(Approach.MAX_TRUMP));
+    List<IPlayer> players = new ArrayList<>();
+    for (IStrategy s : strategies) {
+      players.add(new AIPlayer(cache == null ? s : new StrategyCached(s, cache)));
+    }
+    return new StandardGame(players, new TypeDeck(DeckType.STANDARD, new SplittableRandom(3)));
+  }
+}
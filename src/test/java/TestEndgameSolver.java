@@ -0,0 +1,100 @@
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import game.StandardGame;
+import game.deck.DeckType;
+import game.deck.TypeDeck;
+import game.rends.REnd;
+import player.AIPlayer;
+import player.IPlayer;
+import player.strategy.Approach;
+import player.strategy.EndgameSolver;
+import player.strategy.strategies.StrategyEndgame;
+import player.strategy.strategies.StrategyEmpty;
+import simulation.Simulation;
+
+public class TestEndgameSolver {
+
+  @Test
+  public void testConstructor() {
+    Assert.assertThrows(IllegalArgumentException.class,
+            () -> new EndgameSolver(0, 1, new SplittableRandom()));
+    Assert.assertThrows(IllegalArgumentException.class,
+            () -> new EndgameSolver(4, 0, new SplittableRandom()));
+  }
+
+  @Test
+  public void testLastTurn() {
+    EndgameSolver solver = new EndgameSolver(4, 4, new SplittableRandom(5));
+    StandardGame game = endgameGame(solver);
+    int deckEmpty = 0;
+    for (int g = 0; g < 3; g++) {
+      if (g > 0) game.resetNewGame();
+      while (!game.gameOver()) {
+        Simulation.playRound(game);
+        if (game.getScoreSheet().getLast().getRendState().getEnd() == REnd.DECK_EMPTY) {
+          deckEmpty++;
+        }
+      }
+    }
+    Assert.assertTrue(deckEmpty > 0);
+    Assert.assertEquals(solver.getLastPositions(), 0); // nothing to memoize on the last turn
+  }
+
+  @Test
+  public void testLastTwoTurns() {
+    EndgameSolver solver = new EndgameSolver(8, 1, new SplittableRandom(5));
+    StandardGame game = endgameGame(new EndgameSolver());
+    boolean solved = false;
+    for (int g = 0; g < 20 && !solved; g++) {
+      if (game.gameOver()) game.resetNewGame();
+      game.startRound();
+      while (!solved && !game.roundOver()) {
+        game.flipWell();
+        if (solver.applies(game) && game.getDeck().cardsSize() >= 4) {
+          Assert.assertTrue(game.getPlayers().getFirst().getHand()
+                  .contains(solver.bestDiscard(game, 0)));
+          Assert.assertTrue(solver.getLastPositions() > 0);
+          solved = true;
+        } else {
+          game.collectPond();
+          if (game.collectNBCs().isPresent()) break;
+          game.flipPond();
+          game.allowChoices();
+        }
+      }
+    }
+    Assert.assertTrue(solved);
+  }
+
+  @Test
+  public void testApplies() {
+    EndgameSolver solver = new EndgameSolver();
+    StandardGame game = endgameGame(solver);
+    game.startRound();
+    game.flipWell();
+    Assert.assertFalse(solver.applies(game));
+    Assert.assertThrows(IllegalStateException.class, () -> solver.bestChoice(game, 0));
+    game.collectPond();
+    Assert.assertThrows(IllegalStateException.class, () -> solver.bestDiscard(game, 0));
+  }
+
+  /**
+   * Returns a game between a StrategyEndgame and bots that choose at random, whose rounds often
+   *   last until the deck is empty.
+   */
+  private StandardGame endgameGame(EndgameSolver solver) {
+    SplittableRandom random = new SplittableRandom(31);
+    List<IPlayer> players = new ArrayList<>();
+    players.add(new AIPlayer("end", new StrategyEndgame(
+            new StrategyEmpty(Approach.RANDOM, random.split()), solver)));
+    for (int i = 0; i < 3; i++) {
+      players.add(new AIPlayer("ranE", new StrategyEmpty(Approach.RANDOM, random.split())));
+    }
+    return new StandardGame(players, new TypeDeck(DeckType.STANDARD, random.split()));
+  }
+}
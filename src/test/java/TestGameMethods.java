@@ -4,18 +4,40 @@ import org.testng.annotations.Test;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.IntStream;
 
+import game.GameState;
 import game.IGame;
 import game.StandardGame;
+import game.deck.DeckType;
 import game.deck.TstDeck;
+import game.deck.TypeDeck;
 import game.deck.card.Card;
+import game.deck.card.CardSet;
+import game.deck.card.SCard;
 import game.deck.card.properties.Position;
+import game.observer.EventType;
+import game.observer.GameEvent;
 import game.rends.NBCall;
 import game.rends.REnd;
 import game.rends.REndState;
 import game.score.ScoreSheet;
+import player.AIPlayer;
 import player.IPlayer;
 import player.TstPlayer;
+import player.strategy.Approach;
+import player.strategy.TranspositionTable;
+import player.strategy.strategies.IStrategy;
+import player.strategy.strategies.StrategyEndgame;
+import player.strategy.strategies.StrategyISMCTS;
+import player.strategy.strategies.StrategyMonteCarlo;
+import player.strategy.strategies.StrategyWin;
+import player.strategy.strategies.StrategyWinProbMem;
+import simulation.Simulation;
+import simulation.StrategyConfig;
 
 public class TestGameMethods {
   IPlayer p1;
@@ -86,7 +108,7 @@ public class TestGameMethods {
     Assert.assertThrows(IllegalStateException.class, () -> game.collectPond());
     Assert.assertEquals(game.getPond().size(), 4);
     Assert.assertEquals(game.getPond(), List.of(Z.sixDash, Z.threeDash, Z.fiveDrop, Z.fourBlue));
-    for (Card c : game.getPond()) Assert.assertEquals(c.getPosition(), Position.POND_H);
+    for (Card c : game.getPond()) Assert.assertEquals(game.getPosition(c), Position.POND_H);
 
     Assert.assertEquals(p1.getHand(), List.of(Z.oneBlue, Z.twoDash, Z.threeDrop, Z.fiveBlue));
     Assert.assertEquals(p1.getPondCard(), Optional.of(Z.sixDash));
@@ -118,7 +140,7 @@ public class TestGameMethods {
     Assert.assertTrue(game.roundOver());
     Assert.assertEquals(game.getRendState(),
             Optional.of(new REndState(REnd.TRUE_NO, new NBCall(p4, p1), p4)));
-    for (Card c : game.getPond()) Assert.assertEquals(c.getPosition(), Position.POND_F);
+    for (Card c : game.getPond()) Assert.assertEquals(game.getPosition(c), Position.POND_F);
 
     initTests(); // multiple players call
     Z.setupCase7(p1, p2, p3, p4);
@@ -142,7 +164,7 @@ public class TestGameMethods {
     game.collectPond();
     game.collectNBCs();
     game.flipPond();
-    for (Card c : game.getPond()) Assert.assertEquals(c.getPosition(), Position.POND_F);
+    for (Card c : game.getPond()) Assert.assertEquals(game.getPosition(c), Position.POND_F);
   }
 
   @Test
@@ -269,6 +291,200 @@ public class TestGameMethods {
     Assert.assertNotEquals(game.hashCode(), new StandardGame(players, new TstDeck()).hashCode());
   }
 
+  @Test
+  public void testObservers() {
+    initTests();
+    for (EventType t : EventType.values()) Assert.assertTrue(game.isObserved(t));
+    game.startRound();
+    turn();
+
+    TstPlayer tp1 = (TstPlayer) p1;
+    Assert.assertEquals(tp1.events.stream().filter(e -> e == EventType.PLAYER_DISCARD).count(), 4L);
+    Assert.assertEquals(tp1.events.stream().filter(e -> e == EventType.PLAYER_CHOICE).count(), 4L);
+    Assert.assertEquals(tp1.events.getLast(), EventType.TURN_OVER);
+    GameEvent.PlayerChoice last = null;
+    for (GameEvent e : tp1.datas) {
+      Assert.assertEquals(tp1.events.get(tp1.datas.indexOf(e)), e.type());
+      if (e instanceof GameEvent.PlayerChoice c) last = c;
+    }
+    Assert.assertNotNull(last);
+    Assert.assertTrue(last.next().isEmpty());
+
+    List<IPlayer> bots = List.of(new AIPlayer(new StrategyWin(Approach.MIN_POINTS)),
+            new AIPlayer(new StrategyWin(Approach.MAX_TRUMP)),
+            new AIPlayer(new StrategyWin(Approach.RANDOM)),
+            new AIPlayer(new StrategyWin(Approach.MIN_POINTS)));
+    IGame botGame = new StandardGame(bots, new TypeDeck(DeckType.STANDARD));
+    for (EventType t : EventType.values()) Assert.assertFalse(botGame.isObserved(t));
+
+    List<IPlayer> memoryBots = new ArrayList<>(bots.subList(0, 3));
+    memoryBots.add(new AIPlayer(new StrategyWinProbMem(Approach.MIN_POINTS, 100)));
+    IGame memoryGame = new StandardGame(memoryBots, new TypeDeck(DeckType.STANDARD));
+    Assert.assertTrue(memoryGame.isObserved(EventType.PLAYER_CHOICE));
+    Assert.assertTrue(memoryGame.isObserved(EventType.PLAYER_DISCARD));
+    Assert.assertTrue(memoryGame.isObserved(EventType.CARDS_CLEARED));
+    Assert.assertFalse(memoryGame.isObserved(EventType.ROUND_OVER));
+    Assert.assertFalse(memoryGame.isObserved(EventType.TURN_OVER));
+
+    List<IPlayer> endgameBots = new ArrayList<>(bots.subList(0, 3));
+    endgameBots.add(new AIPlayer(new StrategyEndgame(new StrategyWin(Approach.MIN_POINTS))));
+    IGame endgameGame = new StandardGame(endgameBots, new TypeDeck(DeckType.STANDARD));
+    for (EventType t : EventType.values()) Assert.assertFalse(endgameGame.isObserved(t));
+    endgameBots.set(3, new AIPlayer(new StrategyEndgame(
+            new StrategyWinProbMem(Approach.MIN_POINTS, 100))));
+    endgameGame = new StandardGame(endgameBots, new TypeDeck(DeckType.STANDARD));
+    Assert.assertTrue(endgameGame.isObserved(EventType.PLAYER_CHOICE));
+    Assert.assertTrue(endgameGame.isObserved(EventType.CARDS_CLEARED));
+  }
+
+  @Test
+  public void testConcurrentDecisions() {
+    StandardGame sequential = seededBotGame();
+    StandardGame concurrent = seededBotGame();
+    concurrent.setConcurrentDecisions(true);
+    for (int g = 0; g < 5; g++) {
+      sequential.resetNewGame();
+      concurrent.resetNewGame();
+      while (!sequential.gameOver()) Simulation.playRound(sequential);
+      while (!concurrent.gameOver()) Simulation.playRound(concurrent);
+      Assert.assertEquals(concurrent.getScoreSheet().toString(),
+              sequential.getScoreSheet().toString());
+      Assert.assertEquals(concurrent.getGameWinner().name(), sequential.getGameWinner().name());
+    }
+  }
+
+  @Test
+  public void testSnapshotAndFork() {
+    StandardGame original = seededBotGame();
+    original.startRound();
+    original.flipWell();
+    original.collectPond();
+    GameState state = original.snapshot();
+    Assert.assertEquals(state.getSeats(), 4);
+    Assert.assertEquals(state.getWell(), original.getWell());
+    Assert.assertEquals(state.getPond(), original.getPond());
+    Assert.assertEquals(state.getDeck(), new ArrayList<>(original.getDeck().getCards()));
+    Assert.assertEquals(state.getHand(2).toList(),
+            CardSet.of(original.getPlayers().get(2).getHand()).toList());
+
+    IGame fork = original.fork(state, seededBotGame().getPlayers(), new SplittableRandom(1));
+    Assert.assertEquals(fork.snapshot(), state);
+    Assert.assertEquals(fork.getPlayers().get(1).getHand(), original.getPlayers().get(1).getHand());
+    while (true) {
+      if (fork.collectNBCs().isEmpty()) {
+        fork.flipPond();
+        fork.allowChoices();
+      }
+      if (fork.roundOver()) break;
+      fork.flipWell();
+      fork.collectPond();
+    }
+    while (!fork.gameOver()) Simulation.playRound(fork);
+    Assert.assertNotNull(fork.getGameWinner());
+    Assert.assertEquals(original.snapshot(), state);
+
+    IGame again = original.fork(seededBotGame().getPlayers(), new SplittableRandom(2));
+    IGame twin = original.fork(seededBotGame().getPlayers(), new SplittableRandom(2));
+    Simulation.playRound(again);
+    Simulation.playRound(twin);
+    Assert.assertEquals(again.getScoreSheet().getLast().getTotals(),
+            twin.getScoreSheet().getLast().getTotals());
+    Assert.assertThrows(IllegalStateException.class, again::snapshot);
+    Assert.assertThrows(IllegalArgumentException.class,
+            () -> original.fork(state, List.of(new TstPlayer("P1")), new SplittableRandom()));
+  }
+
+  @Test
+  public void testRedeterminize() {
+    StandardGame original = seededBotGame();
+    original.startRound();
+    original.flipWell();
+    original.collectPond();
+    GameState state = original.snapshot();
+    GameState sample = state.redeterminize(0, new SplittableRandom(3));
+
+    Assert.assertNotEquals(sample, state);
+    Assert.assertEquals(sample.getHand(0), state.getHand(0));
+    Assert.assertEquals(sample.getPondCard(0), state.getPondCard(0));
+    Assert.assertEquals(sample.getWell(), state.getWell());
+    Assert.assertEquals(sample.getDeck().size(), state.getDeck().size());
+    CardSet all = new CardSet(CardSet.of(sample.getDeck()).bits());
+    for (int s = 0; s < 4; s++) {
+      Assert.assertEquals(sample.getHand(s).size(), state.getHand(s).size());
+      Assert.assertFalse(all.intersects(sample.getHand(s)));
+      all.addAll(sample.getHand(s));
+      all.add(sample.getPondCard(s).get());
+      for (Card c : sample.getHand(s)) Assert.assertEquals(sample.getPosition(c), Position.HAND);
+      Assert.assertEquals(sample.getPosition(sample.getPondCard(s).get()), Position.POND_H);
+      Assert.assertTrue(sample.getPond().contains(sample.getPondCard(s).get()));
+    }
+    all.addAll(CardSet.of(sample.getWell()));
+    Assert.assertEquals(all.size(), 56);
+
+    long known = state.getHand(1).bits();
+    GameState partial = state.redeterminize(0, known, new SplittableRandom(3));
+    Assert.assertEquals(partial.getHand(1), state.getHand(1));
+    Assert.assertEquals(original.fork(sample, seededBotGame().getPlayers(), new SplittableRandom())
+            .snapshot(), sample);
+  }
+
+  @Test
+  public void testMonteCarlo() {
+    StrategyMonteCarlo unjoined = new StrategyMonteCarlo(4, new SplittableRandom(3));
+    Assert.assertThrows(IllegalStateException.class,
+            () -> unjoined.recommendedDiscard(List.of(Card.of(SCard.BLUE_1)), List.of()));
+    Assert.assertThrows(IllegalArgumentException.class, () -> new StrategyMonteCarlo(0));
+
+    ExecutorService pool = Executors.newFixedThreadPool(3);
+    try {
+      StrategyMonteCarlo mc = monteCarloBot(pool, 1);
+      StandardGame oneTask = searchGame(mc);
+      StandardGame threeTasks = searchGame(monteCarloBot(pool, 3));
+      for (int r = 0; r < 2 && !oneTask.gameOver(); r++) {
+        Simulation.playRound(oneTask);
+        Simulation.playRound(threeTasks);
+      }
+      Assert.assertEquals(threeTasks.getScoreSheet().toString(),
+              oneTask.getScoreSheet().toString());
+      Assert.assertEquals(mc.getLastSamples(), 5L);
+    } finally {
+      pool.shutdown();
+    }
+  }
+
+  @Test
+  public void testISMCTS() {
+    StrategyISMCTS unjoined = new StrategyISMCTS(4, new SplittableRandom(3));
+    Assert.assertThrows(IllegalStateException.class,
+            () -> unjoined.recommendedDiscard(List.of(Card.of(SCard.BLUE_1)), List.of()));
+
+    ExecutorService pool = Executors.newFixedThreadPool(2);
+    try {
+      StrategyISMCTS first = ismctsBot(pool, 1);
+      StandardGame game = searchGame(first);
+      StandardGame again = searchGame(ismctsBot(pool, 1));
+      for (int r = 0; r < 2 && !game.gameOver(); r++) {
+        Simulation.playRound(game);
+        Simulation.playRound(again);
+      }
+      Assert.assertEquals(again.getScoreSheet().toString(), game.getScoreSheet().toString());
+      Assert.assertEquals(first.getLastIterations(), 40L);
+      Assert.assertTrue(first.getTable().getSize() > 0);
+
+      StrategyISMCTS parallel = ismctsBot(pool, 2);
+      StandardGame shared = searchGame(parallel);
+      Simulation.playRound(shared);
+      Assert.assertEquals(parallel.getLastIterations(), 40L);
+
+      StrategyISMCTS third = ismctsBot(pool, 1);
+      StandardGame seated = searchGame(third, 2);
+      Simulation.playRound(seated);
+      Assert.assertEquals(IntStream.of(third.getLastVisits()).sum(), 40);
+    } finally {
+      pool.shutdown();
+    }
+  }
+
   //**************************************************************************************** HELPERS
   private void initTests() {
     p1 = new TstPlayer("P1");
@@ -280,6 +496,39 @@ public class TestGameMethods {
     game = new StandardGame(players, new TstDeck());
   }
 
+  private StrategyMonteCarlo monteCarloBot(ExecutorService pool, int tasks) {
+    return new StrategyMonteCarlo(5, 0, pool, tasks, r -> new StrategyWin(Approach.MIN_POINTS, r),
+            new SplittableRandom(8));
+  }
+
+  private StrategyISMCTS ismctsBot(ExecutorService pool, int threads) {
+    return new StrategyISMCTS(40, 0, pool, threads, new TranspositionTable(1 << 12),
+            r -> new StrategyWin(Approach.MIN_POINTS, r), new SplittableRandom(8));
+  }
+
+  private StandardGame searchGame(IStrategy search) {
+    return searchGame(search, 0);
+  }
+
+  private StandardGame searchGame(IStrategy search, int seat) {
+    SplittableRandom random = new SplittableRandom(21);
+    List<IPlayer> players = new ArrayList<>();
+    for (int i = 0; i < 3; i++) {
+      players.add(new AIPlayer("minW", new StrategyWin(Approach.MIN_POINTS, random.split())));
+    }
+    players.add(seat, new AIPlayer("search", search));
+    return new StandardGame(players, new TypeDeck(DeckType.STANDARD, random.split()));
+  }
+
+  private StandardGame seededBotGame() {
+    SplittableRandom random = new SplittableRandom(14);
+    List<IPlayer> bots = new ArrayList<>();
+    for (String code : List.of("ranW", "minWPM100", "ranWP", "ranWPM50")) {
+      bots.add(new AIPlayer(code, StrategyConfig.parse(code).create(random.split())));
+    }
+    return new StandardGame(bots, new TypeDeck(DeckType.STANDARD, random.split()));
+  }
+
   private void turn() {
     game.flipWell();
     game.collectPond();
@@ -0,0 +1,109 @@
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import game.IGame;
+import game.StandardGame;
+import game.deck.TypeDeck;
+import game.rends.REnd;
+import player.AIPlayer;
+import player.IPlayer;
+import player.strategy.Approach;
+import player.strategy.strategies.StrategyEmpty;
+import simulation.GameReplay;
+import simulation.Simulation;
+import simulation.StrategyConfig;
+
+public class TestGameReplay {
+  private static final List<StrategyConfig> SEATS = List.of(StrategyConfig.parse("ranE"),
+          StrategyConfig.parse("minW"), StrategyConfig.parse("ranWP"),
+          StrategyConfig.parse("minWPM50"));
+
+  @Test
+  public void testReplay() {
+    List<byte[]> logs = new ArrayList<>();
+    Simulation simulation = new Simulation(SEATS, 30, 8);
+    simulation.setRecording(1, logs::add);
+    simulation.run();
+    Assert.assertEquals(logs.size(), 30);
+
+    EnumSet<REnd> ends = EnumSet.noneOf(REnd.class);
+    for (int g = 0; g < logs.size(); g++) {
+      GameReplay replay = new GameReplay(logs.get(g));
+      Assert.assertEquals(replay.getSeed(), 8L);
+      Assert.assertEquals(replay.getIndex(), (long) g);
+      StandardGame game = replay.run();
+      Assert.assertTrue(game.gameOver());
+      Assert.assertEquals(game.getScoreSheet().getCurrentRound() - 1, replay.getRounds());
+      for (int r = 1; r <= replay.getRounds(); r++) {
+        ends.add(game.getScoreSheet().getRound(r).getRendState().getEnd());
+      }
+      Assert.assertEquals(replay.run().getScoreSheet().toString(),
+              game.getScoreSheet().toString());
+      Assert.assertTrue(logs.get(g).length < 200 * replay.getRounds());
+    }
+    Assert.assertTrue(ends.contains(REnd.BLUES));
+    Assert.assertTrue(ends.contains(REnd.DECK_EMPTY));
+    Assert.assertTrue(ends.contains(REnd.FALSE_NO));
+  }
+
+  @Test
+  public void testSampling() {
+    List<byte[]> logs = new ArrayList<>();
+    Simulation simulation = new Simulation(SEATS, 10, 8);
+    simulation.setRecording(4, logs::add);
+    Assert.assertEquals(simulation.run(), new Simulation(SEATS, 10, 8).run());
+    Assert.assertEquals(logs.size(), 3);
+    Assert.assertEquals(new GameReplay(logs.get(1)).getIndex(), 4L);
+    Assert.assertThrows(IllegalArgumentException.class, () -> simulation.setRecording(0, l -> { }));
+  }
+
+  @Test
+  public void testDiverged() {
+    List<byte[]> logs = new ArrayList<>();
+    Simulation simulation = new Simulation(SEATS, 1, 8);
+    simulation.setRecording(1, logs::add);
+    simulation.run();
+    byte[] log = logs.getFirst();
+
+    Assert.assertThrows(IllegalArgumentException.class,
+            () -> new GameReplay(Arrays.copyOf(log, log.length - 1)));
+    byte[] wrongVersion = log.clone();
+    wrongVersion[0] = 9;
+    Assert.assertThrows(IllegalArgumentException.class, () -> new GameReplay(wrongVersion));
+
+    // the last byte is the winner's points, zigzag encoded
+    byte[] wrongPoints = log.clone();
+    wrongPoints[log.length - 1] ^= 2;
+    Assert.assertThrows(IllegalStateException.class, () -> new GameReplay(wrongPoints).run());
+  }
+
+  @Test
+  public void testFork() {
+    List<byte[]> logs = new ArrayList<>();
+    Simulation simulation = new Simulation(SEATS, 1, 8);
+    simulation.setRecording(1, logs::add);
+    simulation.run();
+
+    StandardGame game = new GameReplay(logs.getFirst()).run();
+    game.resetNewGame();
+    game.startRound(); // dealt by the replay's deck
+    game.flipWell();
+    List<IPlayer> players = new ArrayList<>();
+    for (int s = 0; s < 4; s++) {
+      players.add(new AIPlayer("Fork " + s, new StrategyEmpty(Approach.MIN_POINTS)));
+    }
+    IGame fork = game.fork(players, new SplittableRandom(1));
+    Assert.assertTrue(fork.getDeck() instanceof TypeDeck);
+    Assert.assertEquals(new ArrayList<>(fork.getDeck().getCards()),
+            new ArrayList<>(game.getDeck().getCards()));
+    Assert.assertEquals(fork.getDeck().dealtSize(), game.getDeck().dealtSize());
+    Simulation.playRound(fork);
+    Assert.assertTrue(fork.roundOver());
+  }
+}
@@ -118,7 +118,7 @@ public class TestGameRound {
     Assert.assertThrows(IllegalStateException.class, () -> game.collectNBCs());
     Assert.assertEquals(game.getWell(), List.of(Z.sevenDrop, Z.oneHex, Z.twoHex, Z.threeHex));
     for (Card c : game.getWell()) {
-      Assert.assertEquals(c.getPosition(), Position.WELL);
+      Assert.assertEquals(game.getPosition(c), Position.WELL);
     }
 
     ((TstPlayer) player1).setDiscard(Z.twoDash);
@@ -134,7 +134,7 @@ public class TestGameRound {
       Assert.assertTrue(p.getPondCard().isPresent());
     }
     for (Card c : game.getPond()) {
-      Assert.assertEquals(c.getPosition(), Position.POND_H);
+      Assert.assertEquals(game.getPosition(c), Position.POND_H);
       int i = 0;
       for (IPlayer p : game.getPlayers()) {
         if (p.getPondCard().isPresent()) {
@@ -156,7 +156,7 @@ public class TestGameRound {
 
     game.flipPond();
     for (Card c : game.getPond()) {
-      Assert.assertEquals(c.getPosition(), Position.POND_F);
+      Assert.assertEquals(game.getPosition(c), Position.POND_F);
     }
     List<Card> pond = game.getPond();
 
@@ -186,9 +186,9 @@ public class TestGameRound {
     int discarded = 0;
     int other = 0;
     for (Card c : game.getDeck().getDealt()) {
-      if (c.getPosition() == Position.HAND) {
+      if (game.getPosition(c) == Position.HAND) {
         hand++;
-      } else if (c.getPosition() == Position.DISCARDED) {
+      } else if (game.getPosition(c) == Position.DISCARDED) {
         discarded++;
       } else {
         other++;
@@ -228,7 +228,7 @@ public class TestGameRound {
     for (IPlayer p : game.getPlayers()) {
       Assert.assertTrue(p.getPondCard().isEmpty());
       for (Card c : p.getHand()) {
-        Assert.assertEquals(c.getPosition(), Position.HAND);
+        Assert.assertEquals(game.getPosition(c), Position.HAND);
       }
     }
 
@@ -246,11 +246,11 @@ public class TestGameRound {
     int well = 0;
     int other = 0;
     for (Card c : game.getDeck().getDealt()) {
-      if (c.getPosition() == Position.HAND) {
+      if (game.getPosition(c) == Position.HAND) {
         hand++;
-      } else if (c.getPosition() == Position.POND_F) {
+      } else if (game.getPosition(c) == Position.POND_F) {
         pond++;
-      } else if (c.getPosition() == Position.WELL) {
+      } else if (game.getPosition(c) == Position.WELL) {
         well++;
       } else {
         other++;
@@ -310,11 +310,11 @@ public class TestGameRound {
     int pond = 0;
     int other = 0;
     for (Card c : game.getDeck().getDealt()) {
-      if (c.getPosition() == Position.HAND) {
+      if (game.getPosition(c) == Position.HAND) {
         hand++;
-      } else if (c.getPosition() == Position.POND_F) {
+      } else if (game.getPosition(c) == Position.POND_F) {
         pond++;
-      } else if (c.getPosition() == Position.WELL) {
+      } else if (game.getPosition(c) == Position.WELL) {
         well++;
       } else {
         other++;
@@ -397,11 +397,11 @@ public class TestGameRound {
     int pond = 0;
     int other = 0;
     for (Card c : game.getDeck().getDealt()) {
-      if (c.getPosition() == Position.HAND) {
+      if (game.getPosition(c) == Position.HAND) {
         hand++;
-      } else if (c.getPosition() == Position.POND_F) {
+      } else if (game.getPosition(c) == Position.POND_F) {
         pond++;
-      } else if (c.getPosition() == Position.WELL) {
+      } else if (game.getPosition(c) == Position.WELL) {
         well++;
       } else {
         other++;
@@ -475,9 +475,9 @@ public class TestGameRound {
     int discarded = 0;
     int other = 0;
     for (Card c : game.getDeck().getDealt()) {
-      if (c.getPosition() == Position.HAND) {
+      if (game.getPosition(c) == Position.HAND) {
         hand++;
-      } else if (c.getPosition() == Position.DISCARDED) {
+      } else if (game.getPosition(c) == Position.DISCARDED) {
         discarded++;
       } else {
         other++;
@@ -0,0 +1,78 @@
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.util.concurrent.CountDownLatch;
+
+import display.RenderQueue;
+
+public class TestRenderQueue {
+
+  @Test
+  public void testPrintInOrder() {
+    ByteArrayOutputStream output = new ByteArrayOutputStream();
+    try (RenderQueue q = new RenderQueue(new PrintStream(output), 2)) {
+      for (int i = 0; i < 10; i++) q.print("line " + i);
+      q.flush();
+      StringBuilder expected = new StringBuilder();
+      for (int i = 0; i < 10; i++) expected.append("line ").append(i).append(System.lineSeparator());
+      Assert.assertEquals(output.toString(), expected.toString());
+    }
+  }
+
+  @Test
+  public void testCoalesceRedraws() throws InterruptedException {
+    ByteArrayOutputStream output = new ByteArrayOutputStream();
+    CountDownLatch printing = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    OutputStream blocking = new OutputStream() {
+      @Override
+      public void write(int b) {
+        output.write(b);
+      }
+
+      @Override
+      public void write(byte[] b, int off, int len) {
+        printing.countDown();
+        try {
+          release.await();
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+        }
+        output.write(b, off, len);
+      }
+    };
+
+    try (RenderQueue q = new RenderQueue(new PrintStream(blocking))) {
+      q.print("first");
+      printing.await();
+      q.redraw("table 1");
+      q.redraw("table 2");
+      q.print("message");
+      q.redraw("table 3");
+      q.redraw("table 4");
+      q.redraw("table 5");
+      release.countDown();
+      q.flush();
+
+      Assert.assertEquals(q.getCoalesced(), 3L);
+      String nl = System.lineSeparator();
+      Assert.assertEquals(output.toString(), "first" + nl + "table 2" + nl + "message" + nl
+              + "table 5" + nl);
+    }
+  }
+
+  @Test
+  public void testClose() {
+    ByteArrayOutputStream output = new ByteArrayOutputStream();
+    RenderQueue q = new RenderQueue(new PrintStream(output));
+    q.print("last");
+    q.close();
+    Assert.assertEquals(output.toString(), "last" + System.lineSeparator());
+    Assert.assertThrows(IllegalStateException.class, () -> q.print("too late"));
+    Assert.assertThrows(IllegalArgumentException.class,
+            () -> new RenderQueue(new PrintStream(output), 0));
+  }
+}
@@ -0,0 +1,177 @@
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import simulation.ResultRecord;
+import simulation.Simulation;
+import simulation.SimulationResult;
+import simulation.StrategyConfig;
+import simulation.sink.BatchingSink;
+import simulation.sink.CsvSink;
+import simulation.sink.SheetsSink;
+
+public class TestResultSink {
+  private static final List<StrategyConfig> SEATS = List.of(StrategyConfig.parse("minE"),
+          StrategyConfig.parse("maxW"), StrategyConfig.parse("ranWP"),
+          StrategyConfig.parse("minWPM50"));
+
+  @Test
+  public void testCsvSink() throws IOException {
+    Path file = Files.createTempFile("results", ".csv");
+    Files.delete(file);
+    CsvSink<ResultRecord> sink = CsvSink.ofRecords(file);
+    Simulation simulation = new Simulation(SEATS, 5, 2);
+    simulation.setSink(sink);
+    SimulationResult result = simulation.run();
+    sink.close();
+
+    List<String> lines = Files.readAllLines(file);
+    Assert.assertEquals(lines.getFirst(), String.join(",", ResultRecord.HEADER));
+    Assert.assertEquals((long) lines.size(), 1 + result.getRounds() + result.getGames());
+    Assert.assertTrue(lines.get(1).startsWith("round,2,0,1,minE,maxW,ranWP,minWPM50,"));
+    Assert.assertTrue(lines.getLast().startsWith("game,2,4,"));
+
+    // appending to a file that has rows doesn't repeat the header, and values are quoted if needed
+    CsvSink<List<String>> rows = new CsvSink<>(file, List.of("a", "b"), r -> r);
+    rows.add(List.of("x,y", "say \"hi\""));
+    rows.close();
+    lines = Files.readAllLines(file);
+    Assert.assertEquals(lines.getLast(), "\"x,y\",\"say \"\"hi\"\"\"");
+    Assert.assertEquals(Collections.frequency(lines, lines.getFirst()), 1);
+    Assert.assertThrows(IllegalStateException.class, () -> rows.add(List.of()));
+    Files.delete(file);
+  }
+
+  @Test
+  public void testSheetsBatches() throws IOException {
+    try (FakeSheetsServer server = new FakeSheetsServer("sheet", "token")) {
+      SheetsSink<List<Object>> sink = new SheetsSink<>(server.client("token"), "sheet",
+              r -> r.getFirst() + "!A1", r -> r.subList(1, r.size()), 10, 60_000, 100);
+      for (int i = 0; i < 25; i++) sink.add(List.of(i % 2 == 0 ? "minE" : "max W", i, 0.5 * i));
+      sink.flush(); // the last 5 rows are written without waiting for their batch to fill up
+
+      // every batch of 10 rows takes one request per range
+      Assert.assertEquals(server.requests(), 6);
+      List<List<String>> even = server.rows("minE!A1");
+      Assert.assertEquals(even.size(), 13);
+      Assert.assertEquals(even.get(1), List.of("2", "1.0"));
+      Assert.assertEquals(server.rows("max W!A1").getLast(), List.of("23", "11.5"));
+      Assert.assertEquals(sink.pending(), 0L);
+      sink.close();
+    }
+  }
+
+  @Test
+  public void testSheetsMaxDelay() throws IOException, InterruptedException {
+    try (FakeSheetsServer server = new FakeSheetsServer("sheet", "token")) {
+      SheetsSink<String> sink = new SheetsSink<>(server.client("token"), "sheet", r -> "A1",
+              List::of, 1000, 20, 100);
+      for (int i = 0; i < 3; i++) sink.add("row " + i);
+      for (int waited = 0; server.rows("A1").size() < 3 && waited < 5000; waited += 10) {
+        Thread.sleep(10);
+      }
+      Assert.assertEquals(server.rows("A1").size(), 3);
+      Assert.assertEquals(server.requests(), 1);
+      sink.close();
+    }
+  }
+
+  @Test
+  public void testSheetsFailure() throws IOException {
+    try (FakeSheetsServer server = new FakeSheetsServer("sheet", "token")) {
+      SheetsSink<String> wrongToken = new SheetsSink<>(server.client("stale"), "sheet",
+              r -> "A1", List::of, 10, 0, 100);
+      wrongToken.add("row");
+      Assert.assertThrows(IllegalStateException.class, wrongToken::flush);
+      Assert.assertThrows(IllegalStateException.class, () -> wrongToken.add("row"));
+      Assert.assertThrows(IllegalStateException.class, wrongToken::close);
+
+      server.setFailStatus(503);
+      SheetsSink<String> sink = new SheetsSink<>(server.client("token"), "sheet", r -> "A1",
+              List::of, 10, 0, 100);
+      sink.add("row");
+      Assert.assertThrows(IllegalStateException.class, sink::close);
+      Assert.assertEquals(server.requests(), 0);
+    }
+  }
+
+  @Test
+  public void testBackpressure() throws InterruptedException {
+    CountDownLatch release = new CountDownLatch(1);
+    List<Integer> written = Collections.synchronizedList(new ArrayList<>());
+    BatchingSink<Integer> sink = new BatchingSink<>(1, 0, 2) {
+      @Override
+      protected void write(List<Integer> batch) {
+        try {
+          release.await();
+        } catch (InterruptedException e) {
+          throw new IllegalStateException(e);
+        }
+        written.addAll(batch);
+      }
+    };
+    Thread producer = new Thread(() -> {
+      for (int i = 0; i < 20; i++) sink.add(i);
+    });
+    producer.start();
+    producer.join(200);
+    Assert.assertTrue(producer.isAlive()); // blocked on the full buffer
+    Assert.assertTrue(sink.pending() < 20);
+
+    release.countDown();
+    producer.join();
+    sink.close();
+    List<Integer> expected = new ArrayList<>();
+    for (int i = 0; i < 20; i++) expected.add(i);
+    Assert.assertEquals(written, expected);
+  }
+
+  @Test
+  public void testCloseWhileAdding() throws InterruptedException {
+    List<Integer> written = Collections.synchronizedList(new ArrayList<>());
+    BatchingSink<Integer> sink = new BatchingSink<>(8, 0, 16) {
+      @Override
+      protected void write(List<Integer> batch) {
+        written.addAll(batch);
+      }
+    };
+    AtomicInteger accepted = new AtomicInteger();
+    List<Thread> producers = new ArrayList<>();
+    for (int t = 0; t < 4; t++) {
+      producers.add(new Thread(() -> {
+        try {
+          for (int i = 0; i < 1_000_000; i++) {
+            sink.add(i);
+            accepted.incrementAndGet();
+          }
+        } catch (IllegalStateException e) {
+          // closed
+        }
+      }));
+    }
+    for (Thread t : producers) t.start();
+    Thread.sleep(20);
+    sink.close();
+    for (Thread t : producers) t.join();
+    Assert.assertEquals(written.size(), accepted.get()); // no accepted row was dropped
+  }
+
+  @Test
+  public void testFailedConstructor() throws IOException {
+    Path dir = Files.createTempDirectory("results");
+    Assert.assertThrows(IOException.class,
+            () -> new CsvSink<List<String>>(dir, List.of("a"), r -> r));
+    for (Thread t : Thread.getAllStackTraces().keySet()) {
+      Assert.assertFalse(t.getName().equals("CsvSink writer")); // no orphaned writer thread
+    }
+    Files.delete(dir);
+  }
+}
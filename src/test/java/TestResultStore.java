@@ -0,0 +1,135 @@
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import game.rends.REnd;
+import simulation.ResultStore;
+import simulation.SimulationResult;
+import simulation.StrategyConfig;
+import simulation.Tournament;
+import simulation.sink.StoreSink;
+
+public class TestResultStore {
+  private static final List<StrategyConfig> SEATS = List.of(StrategyConfig.parse("minE"),
+          StrategyConfig.parse("maxW"), StrategyConfig.parse("ranWP"),
+          StrategyConfig.parse("minWPM50"));
+
+  @Test
+  public void testStrategyIds() {
+    for (String code : List.of("minE", "maxW", "ranWP", "minWPM0", "maxWPM100")) {
+      StrategyConfig c = StrategyConfig.parse(code);
+      Assert.assertTrue(c.id() < 1 << 16);
+      Assert.assertEquals(StrategyConfig.ofId(c.id()), c);
+    }
+    Assert.assertThrows(IllegalArgumentException.class, () -> StrategyConfig.ofId(15 << 12));
+  }
+
+  @Test
+  public void testAppendAndReopen() throws IOException {
+    Path file = Files.createTempFile("results", ".store");
+    try (ResultStore store = new ResultStore(file, 3)) { // small segments, so records span many
+      for (int r = 1; r <= 7; r++) {
+        store.appendRound(SEATS, 42, 5, r, new int[]{r, -r, 0, 10 * r}, r % 4, REnd.TRUE_NO);
+      }
+      store.appendGame(SEATS, 42, 5, 7, new int[]{-10, 20, 30, -40}, 2);
+      Assert.assertEquals(store.size(), 8L);
+    }
+
+    try (ResultStore store = new ResultStore(file)) {
+      Assert.assertEquals(store.size(), 8L);
+      ResultStore.Reader reader = store.reader();
+      for (int r = 1; r <= 7; r++) {
+        Assert.assertTrue(reader.next());
+        Assert.assertFalse(reader.isGame());
+        Assert.assertEquals(reader.getSeed(), 42L);
+        Assert.assertEquals(reader.getGame(), 5L);
+        Assert.assertEquals(reader.getRound(), r);
+        Assert.assertEquals(reader.getWinner(), r % 4);
+        Assert.assertEquals(reader.getEnd(), REnd.TRUE_NO);
+        Assert.assertEquals(reader.getPoints(1), -r);
+        Assert.assertEquals(reader.getPoints(3), 10 * r);
+        Assert.assertEquals(reader.getSeat(3), SEATS.get(3));
+      }
+      Assert.assertTrue(reader.next());
+      Assert.assertTrue(reader.isGame());
+      Assert.assertNull(reader.getEnd());
+      Assert.assertEquals(reader.getRound(), 7);
+      Assert.assertEquals(reader.getWinner(), 2);
+      Assert.assertEquals(reader.getPoints(0), -10);
+      Assert.assertFalse(reader.next());
+
+      // appending continues after the last record
+      store.appendGame(SEATS, 43, 0, 1, new int[4], 0);
+      Assert.assertTrue(reader.next());
+      Assert.assertEquals(reader.getIndex(), 8L);
+      Assert.assertEquals(reader.getSeed(), 43L);
+    }
+
+    Files.write(file, new byte[100]);
+    Assert.assertThrows(IOException.class, () -> new ResultStore(file));
+    Files.delete(file);
+  }
+
+  @Test
+  public void testConcurrentAppends() throws IOException, InterruptedException {
+    Path file = Files.createTempFile("results", ".store");
+    try (ResultStore store = new ResultStore(file, 1000)) {
+      List<Thread> threads = new ArrayList<>();
+      for (int t = 0; t < 8; t++) {
+        long seed = t;
+        threads.add(new Thread(() -> {
+          for (int g = 0; g < 2000; g++) store.appendGame(SEATS, seed, g, 1, new int[4], 0);
+        }));
+      }
+      for (Thread t : threads) t.start();
+      for (Thread t : threads) t.join();
+
+      Set<Long> seen = new HashSet<>();
+      ResultStore.Reader reader = store.reader();
+      while (reader.next()) Assert.assertTrue(seen.add(reader.getSeed() << 32 | reader.getGame()));
+      Assert.assertEquals(seen.size(), 8 * 2000);
+    }
+    Files.delete(file);
+  }
+
+  @Test
+  public void testTournament() throws IOException {
+    Path file = Files.createTempFile("results", ".store");
+    try (ResultStore store = new ResultStore(file, 1000)) {
+      Tournament tournament = new Tournament(SEATS, 60, 11, 7);
+      StoreSink sink = new StoreSink(store);
+      tournament.setSink(sink);
+      SimulationResult result = tournament.run();
+      sink.close();
+      Assert.assertEquals(result, new Tournament(SEATS, 60, 11, 7).run());
+      Assert.assertEquals(store.size(), result.getGames() + result.getRounds());
+
+      long games = 0;
+      long[] roundScores = new long[4];
+      long[] gameWins = new long[4];
+      ResultStore.Reader reader = store.reader();
+      while (reader.next()) {
+        Assert.assertEquals(reader.getSeat(1), SEATS.get(1));
+        if (reader.isGame()) {
+          games++;
+          gameWins[reader.getWinner()]++;
+        } else {
+          for (int s = 0; s < 4; s++) roundScores[s] += reader.getPoints(s);
+        }
+      }
+      Assert.assertEquals(games, 60L);
+      for (int s = 0; s < 4; s++) {
+        Assert.assertEquals(roundScores[s], result.getRoundScoreSum(s));
+        Assert.assertEquals(gameWins[s], result.getGameWins(s));
+      }
+    }
+    Files.delete(file);
+  }
+}
@@ -0,0 +1,110 @@
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+
+import game.rends.REnd;
+import player.strategy.Approach;
+import player.strategy.TranspositionTable;
+import player.strategy.strategies.StrategyWinProbMem;
+import simulation.Simulation;
+import simulation.SimulationResult;
+import simulation.StrategyConfig;
+import simulation.Tournament;
+
+public class TestSimulation {
+
+  @Test
+  public void testStrategyConfig() {
+    for (String code : List.of("minE", "maxE", "ranE", "minW", "maxW", "ranW", "minWP", "maxWP",
+            "ranWP", "minWPM100", "maxWPM10", "ranWPM0")) {
+      Assert.assertEquals(StrategyConfig.parse(code).code(), code);
+    }
+    StrategyConfig c = StrategyConfig.parse("maxWPM10");
+    Assert.assertEquals(c.getKind(), StrategyConfig.Kind.WIN_PROB_MEM);
+    Assert.assertEquals(c.getApproach(), Approach.MAX_TRUMP);
+    Assert.assertEquals(c.getMemoryAccuracy(), 10);
+    Assert.assertTrue(c.create() instanceof StrategyWinProbMem);
+    Assert.assertNotSame(c.create(), c.create());
+    Assert.assertEquals(c, new StrategyConfig(StrategyConfig.Kind.WIN_PROB_MEM,
+            Approach.MAX_TRUMP, 10));
+
+    for (String code : List.of("", "min", "minX", "midW", "minWPM", "minWPM101", "minWPMx")) {
+      Assert.assertThrows(IllegalArgumentException.class, () -> StrategyConfig.parse(code));
+    }
+    Assert.assertThrows(IllegalArgumentException.class,
+            () -> new StrategyConfig(StrategyConfig.Kind.WIN_PROB_MEM, Approach.RANDOM));
+  }
+
+  @Test
+  public void testRun() {
+    List<StrategyConfig> seats = List.of(StrategyConfig.parse("minW"),
+            StrategyConfig.parse("minWP"), StrategyConfig.parse("minWPM100"),
+            StrategyConfig.parse("maxE"));
+    SimulationResult r = new Simulation(seats, 20, 42).run();
+
+    Assert.assertEquals(r.getGames(), 20L);
+    Assert.assertTrue(r.getRounds() >= 20);
+    long roundWins = 0;
+    long gameWins = 0;
+    long ends = 0;
+    for (int i = 0; i < 4; i++) {
+      roundWins += r.getRoundWins(i);
+      gameWins += r.getGameWins(i);
+      long byEnd = 0;
+      for (REnd e : REnd.values()) byEnd += r.getRoundWins(i, e);
+      Assert.assertEquals(byEnd, r.getRoundWins(i));
+    }
+    for (REnd e : REnd.values()) ends += r.getEndCount(e);
+    Assert.assertEquals(roundWins, r.getRounds());
+    Assert.assertEquals(gameWins, 20L);
+    Assert.assertEquals(ends, r.getRounds());
+
+    Assert.assertEquals(new Simulation(seats, 20, 42).run(), r);
+    List<StrategyConfig> random = List.of(StrategyConfig.parse("ranE"),
+            StrategyConfig.parse("ranW"), StrategyConfig.parse("ranWP"),
+            StrategyConfig.parse("ranWPM10"));
+    Assert.assertEquals(new Simulation(random, 10, 5).run(), new Simulation(random, 10, 5).run());
+    SimulationResult merged = r.merge(new Simulation(seats, 5, 7).run());
+    Assert.assertEquals(merged.getGames(), 25L);
+
+    Assert.assertThrows(IllegalArgumentException.class,
+            () -> new Simulation(seats.subList(0, 3), 1, 0));
+    Assert.assertThrows(IllegalArgumentException.class, () -> r.merge(
+            new Simulation(List.of(seats.get(3), seats.get(0), seats.get(1), seats.get(2)), 1, 0)
+                    .run()));
+  }
+
+  @Test
+  public void testTournament() {
+    List<StrategyConfig> seats = List.of(StrategyConfig.parse("maxW"),
+            StrategyConfig.parse("minWP"), StrategyConfig.parse("minE"),
+            StrategyConfig.parse("minWPM100"));
+    Tournament t = new Tournament(seats, 45, 11, 10);
+
+    SimulationResult parallel = t.run();
+    Assert.assertEquals(parallel.getGames(), 45L);
+    Assert.assertTrue(parallel.getGamesPerSecond() > 0);
+
+    ExecutorService single = Executors.newSingleThreadExecutor();
+    try {
+      Assert.assertEquals(t.run(single), parallel); // chunk seeds don't depend on the threads
+    } finally {
+      single.shutdown();
+    }
+    Assert.assertEquals(new Tournament(seats, 45, 11, 10).run(new ForkJoinPool(3)), parallel);
+    Assert.assertEquals(new Tournament(seats, 0, 11).run().getGames(), 0L);
+
+    SimulationResult replayed = t.chunk(0).run();
+    for (int i = 1; i < 5; i++) replayed = replayed.merge(t.chunk(i).run());
+    Assert.assertEquals(replayed, parallel);
+    Assert.assertEquals(t.chunk(4).run().getGames(), 5L);
+    Assert.assertEquals(t.chunk(3).run(),
+            new Simulation(seats, 10, TranspositionTable.mix(11 + 3)).run());
+    Assert.assertThrows(IndexOutOfBoundsException.class, () -> t.chunk(5));
+    Assert.assertThrows(IllegalArgumentException.class, () -> new Tournament(seats, 1, 0, 0));
+  }
+}
@@ -23,16 +23,15 @@ import player.strategy.strategies.StrategyEmpty;
 import player.strategy.strategies.StrategyWin;
 import player.strategy.strategies.StrategyWinProb;
 import player.strategy.strategies.StrategyWinProbMem;
+import simulation.RunningStat;
+import simulation.StreamingStats;
 import utility.SheetsServiceUtil;
 
 public class TestStratWinRates {
   IGame g;
   List<IPlayer> players;
   int rounds;
-  int[] pRWins;
-  int[] pGWins;
-  int[] rScores;
-  int[] gScores;
+  StreamingStats stats;
   public TypeDeck deck = new TypeDeck(DeckType.STANDARD);
   int sampleSize = 1000;
 
@@ -448,17 +447,14 @@ public class TestStratWinRates {
     g = new StandardGame(players, deck);
     for (IPlayer p : players) p.resetNewGame();
     rounds = 0;
-    rScores = new int[4];
-    gScores = new int[4];
-    pRWins = new int[4];
-    pGWins = new int[4];
+    stats = new StreamingStats(players.size());
   }
 
   private void analyze(int gamesPlayed) {
     for (int i = 0; i < gamesPlayed; i++) {
       run();
       RScore finalScores = g.getScoreSheet().getLast();
-      for (int j = 0; j < players.size(); j++) gScores[j] += finalScores.getTotals()[j];
+      stats.addGame(finalScores.getTotals(), players.indexOf(g.getGameWinner()));
       g.resetNewGame();
     }
   }
@@ -472,13 +468,11 @@ public class TestStratWinRates {
     }
 
     rounds++;
-    for (int i = 0; i < 4; i++) {
-      rScores[i] += g.getScoreSheet().getLast().getDeltas()[i];
-    }
-    pRWins[players.indexOf(g.getScoreSheet().getLast().getWinner())]++;
+    RScore last = g.getScoreSheet().getLast();
+    stats.addRound(last.getDeltas(), players.indexOf(last.getWinner()),
+            last.getRendState().getEnd());
 
     if (!g.gameOver()) run();
-    else pGWins[players.indexOf(g.getGameWinner())]++;
   }
 
   private void turn() {
@@ -503,19 +497,29 @@ public class TestStratWinRates {
     for (int i = 0; i < 4; i++) {
       System.out.println("SCORES FOR '" + players.get(i).name() + "'");
       List<Double> nums = numsForPrintAnalysis(gamesPlayed, i);
-      System.out.println(" - Average round score: " + nums.getFirst());
-      System.out.println(" - Average game score: " + nums.get(1));
-      System.out.println(" - Rounds won: " + pRWins[i] + " / " +rounds + " (" + nums.get(2) + "%)");
-      System.out.println(" - Games won: " + nums.get(3));
+      RunningStat roundWins = stats.getRoundWinRate(i);
+      System.out.println(" - Average round score: " + nums.getFirst() + " +/- "
+              + round(stats.getRoundScore(i).getMarginOfError(0.95), 10.0));
+      System.out.println(" - Average game score: " + nums.get(1) + " +/- "
+              + round(stats.getGameScore(i).getMarginOfError(0.95), 10.0));
+      System.out.println(" - Rounds won: " + Math.round(roundWins.getMean() * rounds) + " / "
+              + rounds + " (" + nums.get(2) + "% +/- "
+              + round(roundWins.getMarginOfError(0.95) * 100.0, 10.0) + "%)");
+      System.out.println(" - Games won: " + nums.get(3) + "% +/- "
+              + round(stats.getGameWinRate(i).getMarginOfError(0.95) * 100.0, 10.0) + "%");
     }
   }
 
   private List<Double> numsForPrintAnalysis(int gamesPlayed, int playerIdx) {
     List<Double> nums = new ArrayList<>();
-    nums.add(Math.round((double) rScores[playerIdx] / (double) rounds * 10.0) / 10.0);
-    nums.add(Math.round((double) gScores[playerIdx] / gamesPlayed * 10.0) / 10.0);
-    nums.add(Math.round((double) pRWins[playerIdx] / (double) rounds * 100.0 * 10.0) / 10.0);
-    nums.add(Math.round((double) pGWins[playerIdx] / (double) gamesPlayed * 1000.0) / 10.0);
+    nums.add(round(stats.getRoundScore(playerIdx).getMean(), 10.0));
+    nums.add(round(stats.getGameScore(playerIdx).getMean(), 10.0));
+    nums.add(round(stats.getRoundWinRate(playerIdx).getMean() * 100.0, 10.0));
+    nums.add(round(stats.getGameWinRate(playerIdx).getMean() * 100.0, 10.0));
     return nums;
   }
+
+  private double round(double value, double scale) {
+    return Math.round(value * scale) / scale;
+  }
 }
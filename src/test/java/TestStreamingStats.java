@@ -0,0 +1,119 @@
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import game.rends.REnd;
+import simulation.RunningStat;
+import simulation.SimulationResult;
+import simulation.StrategyConfig;
+import simulation.StreamingStats;
+import simulation.Tournament;
+
+public class TestStreamingStats {
+  private static final List<StrategyConfig> SEATS = List.of(StrategyConfig.parse("minE"),
+          StrategyConfig.parse("maxW"), StrategyConfig.parse("ranWP"),
+          StrategyConfig.parse("minWPM50"));
+
+  @Test
+  public void testRunningStat() {
+    SplittableRandom random = new SplittableRandom(5);
+    double[] values = new double[1000];
+    RunningStat stat = RunningStat.EMPTY;
+    RunningStat first = RunningStat.EMPTY;
+    RunningStat second = RunningStat.EMPTY;
+    for (int i = 0; i < values.length; i++) {
+      values[i] = 1e6 + random.nextDouble(-50, 50); // far from 0, where naive sums lose precision
+      stat = stat.plus(values[i]);
+      if (i < 300) first = first.plus(values[i]);
+      else second = second.plus(values[i]);
+    }
+
+    double mean = 0;
+    for (double v : values) mean += v / values.length;
+    double squares = 0;
+    for (double v : values) squares += (v - mean) * (v - mean);
+    Assert.assertEquals(stat.getCount(), 1000L);
+    Assert.assertEquals(stat.getMean(), mean, 1e-6);
+    Assert.assertEquals(stat.getVariance(), squares / 999, 1e-6);
+    Assert.assertEquals(stat.getStandardError(), Math.sqrt(squares / 999 / 1000), 1e-9);
+
+    RunningStat merged = first.merge(second);
+    Assert.assertEquals(merged.getCount(), 1000L);
+    Assert.assertEquals(merged.getMean(), stat.getMean(), 1e-6);
+    Assert.assertEquals(merged.getVariance(), stat.getVariance(), 1e-6);
+    Assert.assertEquals(RunningStat.EMPTY.merge(stat), stat);
+
+    double[] interval = stat.getConfidenceInterval(0.95);
+    Assert.assertEquals(interval[1] - interval[0], 2 * 1.959964 * stat.getStandardError(), 1e-6);
+    Assert.assertEquals(RunningStat.EMPTY.plus(3).getVariance(), 0.0, 0);
+  }
+
+  @Test
+  public void testZScore() {
+    Assert.assertEquals(RunningStat.zScore(0.95), 1.959964, 1e-6);
+    Assert.assertEquals(RunningStat.zScore(0.99), 2.575829, 1e-6);
+    Assert.assertEquals(RunningStat.zScore(0.96), 2.053749, 1e-6); // the tail approximation
+    Assert.assertEquals(RunningStat.zScore(0.5), 0.674490, 1e-6);
+    Assert.assertThrows(IllegalArgumentException.class, () -> RunningStat.zScore(1));
+    Assert.assertThrows(IllegalArgumentException.class, () -> RunningStat.zScore(0));
+  }
+
+  @Test
+  public void testConcurrentReads() throws InterruptedException {
+    List<StreamingStats> workers = new ArrayList<>();
+    List<Thread> threads = new ArrayList<>();
+    for (int t = 0; t < 4; t++) {
+      StreamingStats worker = new StreamingStats(4); // one writer per stats, like a chunk's result
+      workers.add(worker);
+      int winner = t;
+      threads.add(new Thread(() -> {
+        for (int i = 0; i < 10000; i++) {
+          worker.addRound(new int[]{i % 2, 1, 2, 3}, winner, REnd.BLUES);
+          if (i % 10 == 0) worker.addGame(new int[]{1, 2, 3, 4}, winner);
+        }
+      }));
+    }
+    for (Thread t : threads) t.start();
+    while (threads.getFirst().isAlive()) { // reading while the stats are written
+      RunningStat scores = workers.getFirst().getRoundScore(1);
+      Assert.assertEquals(scores.getMean(), scores.getCount() == 0 ? 0 : 1.0, 0);
+    }
+    for (Thread t : threads) t.join();
+    StreamingStats stats = new StreamingStats(4);
+    for (StreamingStats worker : workers) stats = stats.merge(worker);
+
+    Assert.assertEquals(stats.getRoundScore(0).getCount(), 40000L);
+    Assert.assertEquals(stats.getRoundScore(0).getMean(), 0.5, 1e-12);
+    Assert.assertEquals(stats.getRoundScore(0).getVariance(), 0.25 * 40000 / 39999, 1e-12);
+    Assert.assertEquals(stats.getRoundScore(3).getVariance(), 0.0, 1e-12);
+    Assert.assertEquals(stats.getGameScore(2).getCount(), 4000L);
+    Assert.assertEquals(stats.getRoundWinRate(2).getMean(), 0.25, 1e-12);
+    Assert.assertEquals(stats.getGameWinRate(1).getMean(), 0.25, 1e-12);
+    Assert.assertEquals(stats.getEndRate(3, REnd.BLUES).getMean(), 0.25, 1e-12);
+    Assert.assertEquals(stats.getEndRate(3, REnd.TRUE_NO).getMean(), 0.0, 0);
+    Assert.assertThrows(IndexOutOfBoundsException.class, () -> workers.getFirst().getRoundScore(4));
+  }
+
+  @Test
+  public void testTournamentStats() {
+    SimulationResult result = new Tournament(SEATS, 60, 3, 7).run();
+    StreamingStats stats = result.getStats();
+    for (int s = 0; s < 4; s++) {
+      Assert.assertEquals(stats.getRoundScore(s).getCount(), result.getRounds());
+      Assert.assertEquals(stats.getGameScore(s).getCount(), result.getGames());
+      Assert.assertEquals(stats.getRoundScore(s).getMean(), result.getAverageRoundScore(s), 1e-9);
+      Assert.assertEquals(stats.getGameScore(s).getMean(), result.getAverageGameScore(s), 1e-9);
+      Assert.assertEquals(stats.getRoundWinRate(s).getMean(), result.getRoundWinRate(s), 1e-9);
+      Assert.assertEquals(stats.getGameWinRate(s).getMean(), result.getGameWinRate(s), 1e-9);
+      for (REnd end : REnd.values()) {
+        Assert.assertEquals(stats.getEndRate(s, end).getMean() * result.getRounds(),
+                (double) result.getRoundWins(s, end), 1e-6);
+      }
+    }
+    Assert.assertThrows(IllegalArgumentException.class,
+            () -> stats.merge(new StreamingStats(3)));
+  }
+}
@@ -0,0 +1,49 @@
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import player.strategy.TranspositionTable;
+
+public class TestTranspositionTable {
+
+  @Test
+  public void testStats() {
+    TranspositionTable table = new TranspositionTable(64);
+    Assert.assertNull(table.get(42));
+    Assert.assertEquals(table.markAvailable(42).available(), 1);
+    Assert.assertEquals(table.markAvailable(42).available(), 2);
+
+    table.visit(42, 1.0);
+    TranspositionTable.Stats stats = table.get(42);
+    Assert.assertEquals(stats.visits(), 1);
+    Assert.assertEquals(stats.reward(), -1.0);
+    table.update(42, 0.25, 1.0);
+    Assert.assertEquals(table.get(42).reward(), 0.25);
+
+    table.visit(0, 0);
+    Assert.assertEquals(table.get(0).visits(), 1);
+    Assert.assertEquals(table.getSize(), 2L);
+    table.clear();
+    Assert.assertNull(table.get(42));
+    Assert.assertEquals(table.getSize(), 0L);
+  }
+
+  @Test
+  public void testEviction() {
+    TranspositionTable table = new TranspositionTable(TranspositionTable.BUCKET_SIZE);
+    Assert.assertEquals(table.getCapacity(), TranspositionTable.BUCKET_SIZE);
+    for (long key = 1; key <= TranspositionTable.BUCKET_SIZE; key++) {
+      for (long v = 0; v < key; v++) table.visit(key, 0);
+    }
+    Assert.assertEquals(table.getEvictions(), 0L);
+
+    table.visit(100, 0); // evicts key 1, the least visited
+    Assert.assertEquals(table.getEvictions(), 1L);
+    Assert.assertEquals(table.getSize(), (long) TranspositionTable.BUCKET_SIZE);
+    Assert.assertNull(table.get(1));
+    Assert.assertEquals(table.get(100).visits(), 1);
+    Assert.assertEquals(table.get(TranspositionTable.BUCKET_SIZE).visits(),
+            TranspositionTable.BUCKET_SIZE);
+
+    Assert.assertThrows(IllegalArgumentException.class, () -> new TranspositionTable(3));
+  }
+}
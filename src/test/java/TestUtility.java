@@ -1,6 +1,9 @@
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -8,8 +11,11 @@ import game.deck.DeckType;
 import game.deck.IDeck;
 import game.deck.TypeDeck;
 import game.deck.card.Card;
+import game.deck.card.CardSet;
 import player.IPlayer;
 import player.TstPlayer;
+import utility.BluesTable;
+import utility.NoBluesTable;
 import utility.Utility;
 
 public class TestUtility {
@@ -74,6 +80,18 @@ public class TestUtility {
             List.of(Z.sevenDash, Z.sixBolt, Z.fourBlue, Z.threeDash)));
   }
 
+  @Test
+  public void testNoBluesTable() {
+    NoBluesTable table = NoBluesTable.get();
+    long hand = CardSet.mask(List.of(Z.fourBolt, Z.threeDrop, Z.sixHex, Z.fiveDash));
+    Assert.assertEquals(new CardSet(table.completers(hand)),
+            CardSet.of(List.of(Z.twoBlue, Z.twoCross, Z.twoHeart, Z.twoStar, Z.sevenBlue,
+            Z.sevenCross, Z.sevenHeart, Z.sevenStar)));
+    Assert.assertTrue(table.isNoBlues(CardSet.bit(Z.twoHeart), hand));
+    Assert.assertFalse(table.isNoBlues(CardSet.bit(Z.twoDash), hand));
+    Assert.assertEquals(table.completers(CardSet.mask(Z.fourCards.subList(0, 3))), 0L);
+  }
+
   @Test
   public void testBluesPoints() {
     Assert.assertThrows(IllegalArgumentException.class, () -> Utility.bluesPoints(Z.fourCards));
@@ -92,6 +110,30 @@ public class TestUtility {
     }
   }
 
+  @Test
+  public void testBluesTable() throws IOException {
+    BluesTable table = BluesTable.get();
+    Assert.assertFalse(table.isBlues(CardSet.mask(Z.fourCards)));
+    Assert.assertEquals(table.code(CardSet.mask(Z.bluesHands.get(18))), BluesTable.PERFECT);
+    Assert.assertThrows(IllegalArgumentException.class,
+            () -> table.points(CardSet.mask(Z.disjoint1B4R)));
+
+    Path file = Files.createTempFile("blues", ".table");
+    try {
+      table.write(file);
+      BluesTable mapped = BluesTable.load(file);
+      for (List<Card> hand : Z.bluesHands) {
+        long mask = CardSet.mask(hand);
+        Assert.assertEquals(mapped.points(mask), Utility.bluesPoints(hand));
+      }
+      for (List<Card> hand : Z.notBluesHands) {
+        Assert.assertFalse(mapped.isBlues(CardSet.mask(hand)));
+      }
+    } finally {
+      Files.delete(file);
+    }
+  }
+
   @Test
   public void testPoints() {
     Assert.assertThrows(IllegalArgumentException.class, () -> Utility.points(List.of()));
@@ -106,6 +148,11 @@ public class TestUtility {
     Assert.assertEquals(0, Utility.points(Z.disjoint5A));
     Assert.assertEquals(17, Utility.points(Z.disjoint1B1R1A1R1B));
     Assert.assertEquals(8, Utility.points(Z.joint5B));
+
+    Assert.assertThrows(IllegalArgumentException.class, () -> Utility.points(new CardSet()));
+    Assert.assertThrows(IllegalArgumentException.class, () -> Utility.points(new Card[3]));
+    Assert.assertEquals(22, Utility.points(CardSet.of(Z.blues4R1B)));
+    Assert.assertEquals(17, Utility.points(Z.disjoint1B1R1A1R1B.toArray(new Card[0])));
   }
 
   @Test
@@ -145,6 +192,14 @@ public class TestUtility {
     Assert.assertEquals(13, sixDashTrumps);
   }
 
+  @Test
+  public void testBestCardIndex() {
+    Assert.assertThrows(IllegalArgumentException.class, () -> Utility.bestCardIndex(List.of()));
+    Assert.assertEquals(Utility.bestCardIndex(List.of(Z.sevenStar, Z.oneDash, Z.sevenBlue)), 2);
+    Assert.assertEquals(Utility.bestCardIndex(List.of(Z.twoHex, Z.twoDrop, Z.threeDash)), 1);
+    Assert.assertEquals(Utility.bestCardIndex(List.of(Z.oneBlue, Z.twoBlue, Z.oneBlue)), 0);
+  }
+
   @Test
   public void testSortHandByRank() {
     Assert.assertEquals(List.of(Z.oneBlue, Z.oneDash, Z.oneDrop, Z.oneHeart),
@@ -155,6 +210,11 @@ public class TestUtility {
             Utility.sortHandByRank(List.of(Z.sevenBolt, Z.sixDash, Z.fourHex, Z.fiveDash, Z.threeDash)));
     Assert.assertEquals(Z.disjoint2R1A2R,
             Utility.sortHandByRank(List.of(Z.fiveHeart, Z.fourCross, Z.fourStar, Z.fourHeart, Z.fourBlue)));
+
+    List<Card> sorted = Utility.sortHandByRank(List.of(Z.oneDash, Z.oneBlue));
+    Assert.assertFalse(sorted.contains(null));
+    sorted.add(Z.twoBlue); // callers may change the sorted list
+    Assert.assertEquals(sorted, List.of(Z.oneBlue, Z.oneDash, Z.twoBlue));
   }
 
   @Test
@@ -170,6 +230,12 @@ public class TestUtility {
     Assert.assertTrue(Utility.consecutive(Z.joint3R1B1R));
     Assert.assertTrue(Utility.consecutive(Z.joint5B));
     Assert.assertTrue(Utility.consecutive(Z.blues4R1B));
+
+    Assert.assertFalse(Utility.consecutive(Z.fourCards));
+    Assert.assertFalse(Utility.consecutive(CardSet.of(Z.disjoint5A)));
+    Assert.assertFalse(Utility.consecutive(Z.disjoint3A2R.toArray(new Card[0])));
+    Assert.assertTrue(Utility.consecutive(CardSet.of(Z.joint5B)));
+    Assert.assertTrue(Utility.consecutive(Z.joint2R3B.toArray(new Card[0])));
   }
 
   @Test
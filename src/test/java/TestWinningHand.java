@@ -3,6 +3,7 @@ import org.testng.annotations.Test;
 
 import java.util.List;
 
+import game.deck.card.CardSet;
 import player.strategy.WinningHand;
 
 public class TestWinningHand {
@@ -141,6 +142,27 @@ public class TestWinningHand {
             List.of(Z.oneDrop, Z.oneBolt, Z.twoBolt, Z.threeBolt, Z.threeCross));
   }
 
+  @Test
+  public void testMaskIndexes() {
+    int hand4 = WinningHand.uMask(Z.hand4);
+    Assert.assertEquals(WinningHand.uMask(CardSet.of(Z.hand4)), hand4);
+    Assert.assertEquals(WinningHand.cardsAwayFrom(WinningHand.B23_A4_B56, hand4), 0);
+    Assert.assertEquals(WinningHand.cardsAwayFromClosestTo(hand4), 0);
+    Assert.assertEquals(WinningHand.closestToMask(hand4), 1L << WinningHand.B23_A4_B56.ordinal());
+
+    int hand10 = WinningHand.uMask(Z.hand10);
+    Assert.assertEquals(WinningHand.neededMask(WinningHand.A14_R5, hand10),
+            WinningHand.A14_R5.mask() & ~hand10);
+    Assert.assertEquals(Integer.bitCount(WinningHand.neededMask(WinningHand.A14_R5, hand10)), 1);
+    for (WinningHand wh : WinningHand.values()) {
+      Assert.assertEquals(Integer.bitCount(wh.mask()), 5);
+      Assert.assertEquals(WinningHand.cardsAwayFrom(wh, hand10),
+              WinningHand.cardsAwayFrom(wh, Z.hand10));
+    }
+    Assert.assertEquals(WinningHand.closestToMask(0), 0L);
+    Assert.assertEquals(WinningHand.cardsAwayFromClosestTo(0), 5);
+  }
+
   @Test
   public void testClosestTo() {
     System.out.println(WinningHand.closestTo(Z.hand1));
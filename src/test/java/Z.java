@@ -16,69 +16,69 @@ public class Z {
    * All cards in a standard 56 card deck.
    */
   // Blue 1 - 7
-  public static Card oneBlue = new Card(SCard.BLUE_1);
-  public static Card twoBlue = new Card(SCard.BLUE_2);
-  public static Card threeBlue = new Card(SCard.BLUE_3);
-  public static Card fourBlue = new Card(SCard.BLUE_4);
-  public static Card fiveBlue = new Card(SCard.BLUE_5);
-  public static Card sixBlue = new Card(SCard.BLUE_6);
-  public static Card sevenBlue = new Card(SCard.BLUE_7);
+  public static Card oneBlue = Card.of(SCard.BLUE_1);
+  public static Card twoBlue = Card.of(SCard.BLUE_2);
+  public static Card threeBlue = Card.of(SCard.BLUE_3);
+  public static Card fourBlue = Card.of(SCard.BLUE_4);
+  public static Card fiveBlue = Card.of(SCard.BLUE_5);
+  public static Card sixBlue = Card.of(SCard.BLUE_6);
+  public static Card sevenBlue = Card.of(SCard.BLUE_7);
   // Dash 1 - 7
-  public static Card oneDash = new Card(SCard.DASH_1);
-  public static Card twoDash = new Card(SCard.DASH_2);
-  public static Card threeDash = new Card(SCard.DASH_3);
-  public static Card fourDash = new Card(SCard.DASH_4);
-  public static Card fiveDash = new Card(SCard.DASH_5);
-  public static Card sixDash = new Card(SCard.DASH_6);
-  public static Card sevenDash = new Card(SCard.DASH_7);
+  public static Card oneDash = Card.of(SCard.DASH_1);
+  public static Card twoDash = Card.of(SCard.DASH_2);
+  public static Card threeDash = Card.of(SCard.DASH_3);
+  public static Card fourDash = Card.of(SCard.DASH_4);
+  public static Card fiveDash = Card.of(SCard.DASH_5);
+  public static Card sixDash = Card.of(SCard.DASH_6);
+  public static Card sevenDash = Card.of(SCard.DASH_7);
   // Drop 1 - 7
-  public static Card oneDrop = new Card(SCard.DROP_1);
-  public static Card twoDrop = new Card(SCard.DROP_2);
-  public static Card threeDrop = new Card(SCard.DROP_3);
-  public static Card fourDrop = new Card(SCard.DROP_4);
-  public static Card fiveDrop = new Card(SCard.DROP_5);
-  public static Card sixDrop = new Card(SCard.DROP_6);
-  public static Card sevenDrop = new Card(SCard.DROP_7);
+  public static Card oneDrop = Card.of(SCard.DROP_1);
+  public static Card twoDrop = Card.of(SCard.DROP_2);
+  public static Card threeDrop = Card.of(SCard.DROP_3);
+  public static Card fourDrop = Card.of(SCard.DROP_4);
+  public static Card fiveDrop = Card.of(SCard.DROP_5);
+  public static Card sixDrop = Card.of(SCard.DROP_6);
+  public static Card sevenDrop = Card.of(SCard.DROP_7);
   // Hex 1 - 7
-  public static Card oneHex = new Card(SCard.HEX_1);
-  public static Card twoHex = new Card(SCard.HEX_2);
-  public static Card threeHex = new Card(SCard.HEX_3);
-  public static Card fourHex = new Card(SCard.HEX_4);
-  public static Card fiveHex = new Card(SCard.HEX_5);
-  public static Card sixHex = new Card(SCard.HEX_6);
-  public static Card sevenHex = new Card(SCard.HEX_7);
+  public static Card oneHex = Card.of(SCard.HEX_1);
+  public static Card twoHex = Card.of(SCard.HEX_2);
+  public static Card threeHex = Card.of(SCard.HEX_3);
+  public static Card fourHex = Card.of(SCard.HEX_4);
+  public static Card fiveHex = Card.of(SCard.HEX_5);
+  public static Card sixHex = Card.of(SCard.HEX_6);
+  public static Card sevenHex = Card.of(SCard.HEX_7);
   // Bolt 1 - 7
-  public static Card oneBolt = new Card(SCard.BOLT_1);
-  public static Card twoBolt = new Card(SCard.BOLT_2);
-  public static Card threeBolt = new Card(SCard.BOLT_3);
-  public static Card fourBolt = new Card(SCard.BOLT_4);
-  public static Card fiveBolt = new Card(SCard.BOLT_5);
-  public static Card sixBolt = new Card(SCard.BOLT_6);
-  public static Card sevenBolt = new Card(SCard.BOLT_7);
+  public static Card oneBolt = Card.of(SCard.BOLT_1);
+  public static Card twoBolt = Card.of(SCard.BOLT_2);
+  public static Card threeBolt = Card.of(SCard.BOLT_3);
+  public static Card fourBolt = Card.of(SCard.BOLT_4);
+  public static Card fiveBolt = Card.of(SCard.BOLT_5);
+  public static Card sixBolt = Card.of(SCard.BOLT_6);
+  public static Card sevenBolt = Card.of(SCard.BOLT_7);
   // Cross 1 - 7
-  public static Card oneCross = new Card(SCard.CROSS_1);
-  public static Card twoCross = new Card(SCard.CROSS_2);
-  public static Card threeCross = new Card(SCard.CROSS_3);
-  public static Card fourCross = new Card(SCard.CROSS_4);
-  public static Card fiveCross = new Card(SCard.CROSS_5);
-  public static Card sixCross = new Card(SCard.CROSS_6);
-  public static Card sevenCross = new Card(SCard.CROSS_7);
+  public static Card oneCross = Card.of(SCard.CROSS_1);
+  public static Card twoCross = Card.of(SCard.CROSS_2);
+  public static Card threeCross = Card.of(SCard.CROSS_3);
+  public static Card fourCross = Card.of(SCard.CROSS_4);
+  public static Card fiveCross = Card.of(SCard.CROSS_5);
+  public static Card sixCross = Card.of(SCard.CROSS_6);
+  public static Card sevenCross = Card.of(SCard.CROSS_7);
   // Heart 1 - 7
-  public static Card oneHeart = new Card(SCard.HEART_1);
-  public static Card twoHeart = new Card(SCard.HEART_2);
-  public static Card threeHeart = new Card(SCard.HEART_3);
-  public static Card fourHeart = new Card(SCard.HEART_4);
-  public static Card fiveHeart = new Card(SCard.HEART_5);
-  public static Card sixHeart = new Card(SCard.HEART_6);
-  public static Card sevenHeart = new Card(SCard.HEART_7);
+  public static Card oneHeart = Card.of(SCard.HEART_1);
+  public static Card twoHeart = Card.of(SCard.HEART_2);
+  public static Card threeHeart = Card.of(SCard.HEART_3);
+  public static Card fourHeart = Card.of(SCard.HEART_4);
+  public static Card fiveHeart = Card.of(SCard.HEART_5);
+  public static Card sixHeart = Card.of(SCard.HEART_6);
+  public static Card sevenHeart = Card.of(SCard.HEART_7);
   // Star 1 - 7
-  public static Card oneStar = new Card(SCard.STAR_1);
-  public static Card twoStar = new Card(SCard.STAR_2);
-  public static Card threeStar = new Card(SCard.STAR_3);
-  public static Card fourStar = new Card(SCard.STAR_4);
-  public static Card fiveStar = new Card(SCard.STAR_5);
-  public static Card sixStar = new Card(SCard.STAR_6);
-  public static Card sevenStar = new Card(SCard.STAR_7);
+  public static Card oneStar = Card.of(SCard.STAR_1);
+  public static Card twoStar = Card.of(SCard.STAR_2);
+  public static Card threeStar = Card.of(SCard.STAR_3);
+  public static Card fourStar = Card.of(SCard.STAR_4);
+  public static Card fiveStar = Card.of(SCard.STAR_5);
+  public static Card sixStar = Card.of(SCard.STAR_6);
+  public static Card sevenStar = Card.of(SCard.STAR_7);
   // List of four cards:
   public static List<Card> fourCards = List.of(oneBlue, oneDash, oneDrop, oneHex);
   // List of all cards: